@@ -7,10 +7,11 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import com.dialog.global.http.OutboundHttpProperties;
 import com.dialog.googleauth.domain.GoogleAuthDTO;
 
 @SpringBootApplication
-@EnableConfigurationProperties(GoogleAuthDTO.class)
+@EnableConfigurationProperties({ GoogleAuthDTO.class, OutboundHttpProperties.class })
 @ComponentScan(basePackages = {"com.dialog", "com.dialog.exception"})
 @EntityScan(basePackages = "com.dialog")
 @EnableJpaRepositories(basePackages = "com.dialog")
@@ -16,6 +16,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,7 +33,8 @@ import lombok.NoArgsConstructor;
 public class ActionItem {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_item_seq_gen")
+	@SequenceGenerator(name = "action_item_seq_gen", sequenceName = "action_item_seq", allocationSize = 50)
 	private Long id;
 
 	// 어느 회의 결과에 속하는지 (N:1)
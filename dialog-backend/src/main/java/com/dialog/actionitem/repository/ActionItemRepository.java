@@ -1,9 +1,28 @@
 package com.dialog.actionitem.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dialog.actionitem.domain.ActionItem;
+import com.dialog.user.domain.MeetUser;
 
 public interface ActionItemRepository extends JpaRepository<ActionItem, Long> {
 
+	// 회의의 액션아이템 중 주어진 담당자에게 배정된 것 ([actionItemId, assigneeUserId])
+	@Query("SELECT a.id, a.assignee.id FROM ActionItem a "
+			+ "WHERE a.meetingResult.meeting.id = :meetingId AND a.assignee.id IN :userIds")
+	List<Object[]> findAssigneeRowsByMeetingId(@Param("meetingId") Long meetingId,
+			@Param("userIds") Collection<Long> userIds);
+
+	// 벌크 UPDATE 는 @UpdateTimestamp 가 동작하지 않으므로 updatedAt 을 직접 전달
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE ActionItem a SET a.assignee = :assignee, a.updatedAt = :now WHERE a.id IN :ids")
+	int updateAssignee(@Param("ids") Collection<Long> ids, @Param("assignee") MeetUser assignee,
+			@Param("now") LocalDateTime now);
 }
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,16 +19,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.dialog.calendarevent.domain.CalendarBulkCreateRequest;
+import com.dialog.calendarevent.domain.CalendarBulkCreateResult;
 import com.dialog.calendarevent.domain.CalendarCreateRequest;
 import com.dialog.calendarevent.domain.CalendarEventResponse;
 import com.dialog.calendarevent.domain.EventCompletionRequest;
 import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
 import com.dialog.calendarevent.service.CalendarEventService;
-import com.dialog.token.service.SocialTokenService;
+import com.dialog.token.service.SocialTokenCache;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
 
 @Log4j2
 @RestController
@@ -36,7 +40,7 @@ import lombok.extern.log4j.Log4j2;
 public class CalendarEventController {
 
 	private final CalendarEventService calendarEventService;
-	private final SocialTokenService tokenManagerService;
+	private final SocialTokenCache tokenManagerService;
 
 	@GetMapping("/calendar/events")
 	public ResponseEntity<List<CalendarEventResponse>> getEvents(Principal principal, // ResponseEntity<?> ->
@@ -53,6 +57,22 @@ public class CalendarEventController {
 		return ResponseEntity.ok(events);
 	}
 
+	// 기간 내 일정 스트리밍 조회 (Accept: application/x-ndjson)
+	// 로컬 일정을 먼저 보내고, Google 캘린더 일정은 캘린더별 조회가 끝나는 대로 이어서 한 줄씩 내려보냄
+	@GetMapping(value = "/calendar/events/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<Flux<CalendarEventResponse>> streamEvents(Principal principal,
+			@RequestParam(name = "startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(name = "endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		Flux<CalendarEventResponse> events = calendarEventService.streamEventsByDateRange(principal.getName(),
+				startDate, endDate);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(events);
+	}
+
 	@PostMapping("/calendar/events")
 	public ResponseEntity<GoogleEventResponseDTO> createEvent(Principal principal,
 			@RequestBody @Valid CalendarCreateRequest request) {
@@ -79,6 +99,27 @@ public class CalendarEventController {
 		return ResponseEntity.ok(response);
 	}
 
+	// 일정 일괄 등록 (회의 액션 아이템 → 캘린더). Google 배치 요청으로 보내고 건별 성공/실패를 요청 순서대로 반환
+	@PostMapping("/calendar/events/bulk")
+	public ResponseEntity<List<CalendarBulkCreateResult>> createEvents(Principal principal,
+			@RequestBody @Valid CalendarBulkCreateRequest request) {
+
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		String userEmail = principal.getName();
+		String accessToken = tokenManagerService.getToken(userEmail, "google");
+
+		String calendarId = request.getCalendarId();
+		if (calendarId == null || calendarId.isBlank()) {
+			calendarId = "primary";
+		}
+		List<CalendarBulkCreateResult> results = calendarEventService.createCalendarEvents(userEmail, calendarId,
+				accessToken, request.getEvents());
+		return ResponseEntity.ok(results);
+	}
+
 	@PutMapping("/calendar/events/{id}")
 	public ResponseEntity<GoogleEventResponseDTO> updateEvent(Principal principal, @PathVariable("id") String eventId,
 			@RequestBody @Valid CalendarCreateRequest request) {
@@ -0,0 +1,18 @@
+package com.dialog.calendarevent.domain;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CalendarBulkCreateRequest {
+
+	// 일정을 등록할 캘린더 ID (비어 있으면 "primary")
+	private String calendarId;
+
+	@NotEmpty(message = "events는 비어 있을 수 없습니다.")
+	private List<GoogleEventRequestDTO> events;
+}
@@ -0,0 +1,51 @@
+package com.dialog.calendarevent.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록 결과 한 건 (요청 events 의 index 번째)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CalendarBulkCreateResult {
+
+	private int index;
+
+	// Google 에 생성됨 (로컬 사본 저장 여부와 무관). 재시도 시 success 인 항목은 다시 보내지 않음
+	private boolean success;
+
+	private String googleEventId;
+
+	// 로컬 CalendarEvent ID
+	private Long eventId;
+
+	// 실패 시 Google 응답 상태 (배치 요청 자체가 실패했으면 0)
+	private Integer status;
+
+	private String error;
+
+	// Google 에는 생성됐지만 로컬 사본 저장에 실패했으면 false (미러 동기화로 조회에는 나타남)
+	private Boolean localSaved;
+
+	// 요청이 시간 초과 등으로 끝나 Google 에 생성됐는지 알 수 없음. 그대로 다시 보내면 중복될 수 있음
+	private Boolean unknown;
+
+	public static CalendarBulkCreateResult success(int index, String googleEventId, Long eventId) {
+		return new CalendarBulkCreateResult(index, true, googleEventId, eventId, null, null, null, null);
+	}
+
+	public static CalendarBulkCreateResult localFailure(int index, String googleEventId, String error) {
+		return new CalendarBulkCreateResult(index, true, googleEventId, null, null, error, false, null);
+	}
+
+	public static CalendarBulkCreateResult failure(int index, int status, String error) {
+		return new CalendarBulkCreateResult(index, false, null, null, status, error, null, null);
+	}
+
+	public static CalendarBulkCreateResult unknown(int index, String error) {
+		return new CalendarBulkCreateResult(index, false, null, null, 0, error, null, true);
+	}
+}
@@ -21,7 +21,8 @@ import lombok.NoArgsConstructor;
 public class CalendarEvent {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_event_seq_gen")
+	@SequenceGenerator(name = "calendar_event_seq_gen", sequenceName = "calendar_event_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -59,4 +59,11 @@ public class CalendarEventResponse {
 				.time(entity.getEventTime()).eventType(entity.getEventType().name()).isImportant(entity.isImportant())
 				.isCompleted(entity.isCompleted()).sourceId(sourceId).googleEventId(entity.getGoogleEventId()).createdAt(entity.getCreatedAt()).build();
 	}
+
+	// Google 캘린더 미러 이벤트 (GoogleCalendarApiClient 변환 결과와 같은 모양, 우리 DB ID 없음)
+	public static CalendarEventResponse from(GoogleEventMirror mirror) {
+		return CalendarEventResponse.builder().title(mirror.getTitle()).eventDate(mirror.getEventDate().toString())
+				.time(mirror.getEventTime()).eventType("MEETING").isImportant(false).sourceId(mirror.getGoogleEventId())
+				.googleEventId(mirror.getGoogleEventId()).status(mirror.getStatus()).build();
+	}
 }
@@ -0,0 +1,35 @@
+package com.dialog.calendarevent.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// calendarList.list 응답 (사용자가 구독 중인 캘린더 목록)
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+@NoArgsConstructor
+public class GoogleCalendarListDTO {
+
+	private List<Item> items;
+
+	@Getter
+	@Setter
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	@NoArgsConstructor
+	public static class Item {
+
+		private String id;
+
+		private boolean primary;
+
+		// 캘린더 UI 에서 체크된(보이는) 캘린더
+		private boolean selected;
+
+		private boolean hidden;
+	}
+}
@@ -0,0 +1,40 @@
+package com.dialog.calendarevent.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 캘린더별 Google 증분 동기화 위치. syncToken 이 없으면 그 캘린더의 다음 동기화는 전체 동기화입니다.
+ */
+@Entity
+@Table(name = "google_calendar_sync_cursor", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_google_calendar_sync_cursor_user_calendar", columnNames = { "user_id", "calendar_id" })
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoogleCalendarSyncCursor {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "calendar_id", nullable = false)
+	private String calendarId;
+
+	@Column(name = "sync_token", length = 1000)
+	private String syncToken;
+
+	public GoogleCalendarSyncCursor(Long userId, String calendarId) {
+		this.userId = userId;
+		this.calendarId = calendarId;
+	}
+
+	public void advance(String syncToken) {
+		this.syncToken = syncToken;
+	}
+}
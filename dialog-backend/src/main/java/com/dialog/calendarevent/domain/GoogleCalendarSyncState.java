@@ -0,0 +1,42 @@
+package com.dialog.calendarevent.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Google 캘린더 동기화 상태. 캘린더별 syncToken 은 GoogleCalendarSyncCursor 에 둡니다.
+ */
+@Entity
+@Table(name = "google_calendar_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoogleCalendarSyncState {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "last_synced_at")
+	private LocalDateTime lastSyncedAt;
+
+	// 토큰 만료/연동 해제로 동기화하지 못한 상태 (조회 시 재연동 안내)
+	@Column(name = "auth_failed", nullable = false)
+	private boolean authFailed;
+
+	public GoogleCalendarSyncState(Long userId) {
+		this.userId = userId;
+	}
+
+	public void synced(LocalDateTime now) {
+		this.lastSyncedAt = now;
+		this.authFailed = false;
+	}
+
+	public void authFailed() {
+		this.authFailed = true;
+	}
+}
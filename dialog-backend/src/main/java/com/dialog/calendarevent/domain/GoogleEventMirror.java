@@ -0,0 +1,73 @@
+package com.dialog.calendarevent.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자가 표시 중인 Google 캘린더들의 이벤트 로컬 사본 (GoogleCalendarSyncService 가 캘린더별 syncToken 증분 동기화로 갱신).
+ * 일정 조회는 Google API 대신 이 테이블을 읽습니다. 취소(cancelled)된 이벤트는 행을 지웁니다.
+ * 초대받은 이벤트는 여러 캘린더에 같은 ID 로 있을 수 있으므로 캘린더마다 행을 둡니다.
+ */
+@Entity
+@Table(name = "google_event_mirror", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_google_event_mirror_user_event", columnNames = { "user_id", "calendar_id",
+				"google_event_id" })
+}, indexes = {
+		@Index(name = "idx_google_event_mirror_user_date", columnList = "user_id, event_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoogleEventMirror {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	// calendarList 의 캘린더 ID (기본 캘린더는 "primary")
+	@Column(name = "calendar_id", nullable = false)
+	private String calendarId;
+
+	@Column(name = "google_event_id", nullable = false)
+	private String googleEventId;
+
+	@Column(length = 1000)
+	private String title;
+
+	// 시작 날짜 (시간 일정은 이벤트에 적힌 오프셋 기준 날짜)
+	@Column(name = "event_date", nullable = false)
+	private LocalDate eventDate;
+
+	// 시작 시각 (종일 일정은 null)
+	@Column(name = "event_time")
+	private LocalTime eventTime;
+
+	@Column(length = 20)
+	private String status;
+
+	// 마지막으로 Google 응답에서 본 시각. 전체 재동기화 후 이보다 오래된 행은 Google 에서 사라진 이벤트
+	@Column(name = "synced_at", nullable = false)
+	private LocalDateTime syncedAt;
+
+	public GoogleEventMirror(Long userId, String calendarId, String googleEventId) {
+		this.userId = userId;
+		this.calendarId = calendarId;
+		this.googleEventId = googleEventId;
+	}
+
+	public void apply(String title, LocalDate eventDate, LocalTime eventTime, String status, LocalDateTime syncedAt) {
+		this.title = title;
+		this.eventDate = eventDate;
+		this.eventTime = eventTime;
+		this.status = status;
+		this.syncedAt = syncedAt;
+	}
+}
@@ -35,6 +35,11 @@ public class GoogleEventResponseDTO {
     @JsonProperty("items")
 	private List<GoogleEventResponseDTO> items;
 
+	// 목록 응답: 다음 페이지 토큰, 마지막 페이지에만 오는 증분 동기화 토큰
+	private String nextPageToken;
+
+	private String nextSyncToken;
+
 	public List<GoogleEventResponseDTO> getItems() {
         return items;
     }
@@ -0,0 +1,25 @@
+package com.dialog.calendarevent.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.calendarevent.domain.GoogleCalendarSyncCursor;
+
+public interface GoogleCalendarSyncCursorRepository extends JpaRepository<GoogleCalendarSyncCursor, Long> {
+
+	List<GoogleCalendarSyncCursor> findByUserId(Long userId);
+
+	Optional<GoogleCalendarSyncCursor> findByUserIdAndCalendarId(Long userId, String calendarId);
+
+	// 목록에서 빠진(선택 해제/구독 취소) 캘린더의 동기화 위치 삭제
+	@Modifying
+	@Query("DELETE FROM GoogleCalendarSyncCursor c WHERE c.userId = :userId AND c.calendarId NOT IN :calendarIds")
+	int deleteByUserIdAndCalendarIdNotIn(@Param("userId") Long userId,
+			@Param("calendarIds") Collection<String> calendarIds);
+}
@@ -0,0 +1,8 @@
+package com.dialog.calendarevent.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dialog.calendarevent.domain.GoogleCalendarSyncState;
+
+public interface GoogleCalendarSyncStateRepository extends JpaRepository<GoogleCalendarSyncState, Long> {
+}
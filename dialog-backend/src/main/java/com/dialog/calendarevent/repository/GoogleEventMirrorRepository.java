@@ -0,0 +1,34 @@
+package com.dialog.calendarevent.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.calendarevent.domain.GoogleEventMirror;
+
+public interface GoogleEventMirrorRepository extends JpaRepository<GoogleEventMirror, Long> {
+
+	List<GoogleEventMirror> findByUserIdAndEventDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+	List<GoogleEventMirror> findByUserIdAndCalendarIdAndGoogleEventIdIn(Long userId, String calendarId,
+			Collection<String> googleEventIds);
+
+	// 전체 재동기화에서 보이지 않은 이벤트 삭제
+	@Modifying
+	@Query("DELETE FROM GoogleEventMirror e WHERE e.userId = :userId AND e.calendarId = :calendarId "
+			+ "AND e.syncedAt < :before")
+	int deleteNotSyncedSince(@Param("userId") Long userId, @Param("calendarId") String calendarId,
+			@Param("before") LocalDateTime before);
+
+	// 목록에서 빠진(선택 해제/구독 취소) 캘린더의 이벤트 삭제
+	@Modifying
+	@Query("DELETE FROM GoogleEventMirror e WHERE e.userId = :userId AND e.calendarId NOT IN :calendarIds")
+	int deleteByUserIdAndCalendarIdNotIn(@Param("userId") Long userId,
+			@Param("calendarIds") Collection<String> calendarIds);
+}
@@ -0,0 +1,36 @@
+package com.dialog.calendarevent.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 일괄 등록 시 Todo/CalendarEvent 저장 전용 컴포넌트.
+ *
+ * 두 엔티티 모두 pooled 시퀀스로 ID를 미리 받으므로 한 트랜잭션 안의 INSERT 가 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다
+ * (order_inserts 로 task → calendar_event 순으로 정렬됨). 한 번에 CalendarEventService.MAX_BULK_EVENTS 건까지라 중간 flush 는 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CalendarEventBulkWriter {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Transactional
+	public void insertAll(List<CalendarEventService.LocalEntry> entries) {
+		for (CalendarEventService.LocalEntry entry : entries) {
+			if (entry.todo() != null) {
+				entityManager.persist(entry.todo());
+			}
+			entityManager.persist(entry.event());
+		}
+		entityManager.flush();
+		log.debug("일정 {}건 배치 저장", entries.size());
+	}
+}
@@ -9,9 +9,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import com.dialog.calendarevent.domain.CalendarBulkCreateResult;
 import com.dialog.calendarevent.domain.CalendarEvent;
 import com.dialog.calendarevent.domain.CalendarEventResponse;
 import com.dialog.calendarevent.domain.EventType;
@@ -25,13 +29,14 @@ import com.dialog.meeting.domain.Status;
 import com.dialog.meeting.repository.MeetingRepository;
 import com.dialog.todo.domain.Todo;
 import com.dialog.todo.repository.TodoRepository;
-import com.dialog.token.service.SocialTokenService;
+import com.dialog.token.service.SocialTokenCache;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.repository.MeetUserRepository;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Service
 @RequiredArgsConstructor // final 필드를 위한 생성자 주입
@@ -39,12 +44,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CalendarEventService {
 
+	public static final int MAX_BULK_EVENTS = 200;
+
+	/** 로컬에 저장할 일정 한 건. todo 는 종일 일정(TASK)일 때만 */
+	record LocalEntry(Todo todo, CalendarEvent event) {
+	}
+
 	private final CalendarEventRepository calendarEventRepository;
-	private final SocialTokenService tokenManagerService;
+	private final SocialTokenCache tokenManagerService;
 	private final GoogleCalendarApiClient googleCalendarApiClient;
 	private final MeetUserRepository meetUserRepository;
 	private final MeetingRepository meetingRepository;
 	private final TodoRepository todoRepository;
+	private final GoogleCalendarSyncService googleCalendarSyncService;
+	private final CalendarEventBulkWriter calendarEventBulkWriter;
 
 	public List<CalendarEventResponse> getEventsByDateRange(String userEmail, LocalDate startDate, LocalDate endDate) {
 
@@ -53,7 +66,6 @@ public class CalendarEventService {
 	            .orElseThrow(() -> new ResourceNotFoundException("MeetUser를 찾을 수 없습니다: " + userEmail));
 
 	    Long userId = meetUser.getId();
-	    String accessToken = tokenManagerService.getToken(userEmail, "google");
 
 	    // 로컬 DB 조회 (Task 및 로컬 이벤트)
 	    // List는 나중에 구글 이벤트를 추가해야 하므로 수정 가능한 ArrayList로 감싸는 것이 안전합니다.
@@ -63,6 +75,14 @@ public class CalendarEventService {
 	            .map(CalendarEventResponse::from)
 	            .collect(Collectors.toList());
 
+	    // 미러가 켜져 있으면 Google 을 기다리지 않고 로컬 미러에서 병합 (갱신은 백그라운드 동기화)
+	    if (googleCalendarSyncService.isEnabled()) {
+	        mergeGoogleEvents(responseEvents, googleCalendarSyncService.getMirroredEvents(userId, startDate, endDate));
+	        return responseEvents;
+	    }
+
+	    String accessToken = tokenManagerService.getToken(userEmail, "google");
+
 	    // 토큰이 없으면 로컬 데이터만 반환
 	    if (accessToken == null || accessToken.isEmpty()) {
 	        log.warn("Google AccessToken이 없어 로컬 데이터만 반환합니다.");
@@ -70,33 +90,10 @@ public class CalendarEventService {
 	    }
 
 	    try {
-	        // 구글 캘린더 API 호출
-	        List<CalendarEventResponse> googleEvents = googleCalendarApiClient.getEvents(accessToken, "primary",
-	                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
-	        
-	        // 로컬 DB에 이미 저장된 구글 이벤트 ID를 매핑 (중복 방지용)
-	        Map<String, CalendarEventResponse> localGoogleMap = responseEvents.stream()
-	                .filter(e -> e.getGoogleEventId() != null)
-	                .collect(Collectors.toMap(CalendarEventResponse::getGoogleEventId, e -> e, (oldValue, newValue) -> oldValue));
-
-	        // 구글 이벤트 병합 및 필터링
-	        for (CalendarEventResponse gEvent : googleEvents) {
-	            
-	            // 이미 로컬 DB에 존재하는 이벤트는 건너뜀 (로컬 데이터 우선)
-	            if (localGoogleMap.containsKey(gEvent.getGoogleEventId())) {
-	                continue;
-	            }
-
-	            // 삭제된(cancelled) 이벤트 필터링 (좀비 데이터 방지 핵심)
-	            // DTO에 'private String status;' 필드가 있어야 동작합니다.
-	            if (gEvent.getStatus() != null && "cancelled".equalsIgnoreCase(gEvent.getStatus())) {
-	                continue;
-	            }
-	            
-	            // 검증 통과된 구글 전용 일정만 리스트에 추가
-	            responseEvents.add(gEvent); 
-	        }
-	        
+	        // 구글 캘린더 API 호출 (표시 중인 캘린더 전체를 동시에 조회)
+	        List<CalendarEventResponse> googleEvents = fetchGoogleEvents(userEmail, accessToken, startDate, endDate)
+	                .collectList().block();
+	        mergeGoogleEvents(responseEvents, googleEvents);
 	        return responseEvents;
 
 	    } catch (Exception e) {
@@ -104,6 +101,7 @@ public class CalendarEventService {
 
 	        // 토큰 만료 관련 에러 처리
 	        if (errorMessage.contains("invalid_grant") || errorMessage.contains("토큰 갱신 실패") || errorMessage.contains("401")) {
+	            tokenManagerService.evict(userEmail, "google");
 	            throw new GoogleOAuthException("Google 토큰이 만료되었거나 무효화되었습니다. 재연동이 필요합니다.");
 	        }
 	        
@@ -113,65 +111,99 @@ public class CalendarEventService {
 	    }
 	}
 
+	/**
+	 * getEventsByDateRange 의 스트리밍 버전. 로컬 일정을 먼저 내보내고, Google 일정은 캘린더별 조회가 끝나는 대로
+	 * 시작 시간 순으로 이어서 내보냅니다 (로컬에 이미 있는 이벤트와 취소된 이벤트는 제외).
+	 * DB 조회와 토큰 확인은 호출 시점에 끝내고, 반환된 Flux 는 Google 호출만 합니다.
+	 */
+	public Flux<CalendarEventResponse> streamEventsByDateRange(String userEmail, LocalDate startDate, LocalDate endDate) {
+	    MeetUser meetUser = meetUserRepository.findByEmail(userEmail)
+	            .orElseThrow(() -> new ResourceNotFoundException("MeetUser를 찾을 수 없습니다: " + userEmail));
+	    Long userId = meetUser.getId();
+
+	    List<CalendarEventResponse> localEvents = calendarEventRepository
+	            .findByUserIdAndEventDateBetween(userId, startDate, endDate).stream()
+	            .map(CalendarEventResponse::from)
+	            .collect(Collectors.toList());
+
+	    if (googleCalendarSyncService.isEnabled()) {
+	        List<CalendarEventResponse> merged = new ArrayList<>(localEvents);
+	        mergeGoogleEvents(merged, googleCalendarSyncService.getMirroredEvents(userId, startDate, endDate));
+	        return Flux.fromIterable(merged);
+	    }
+
+	    String accessToken = tokenManagerService.getToken(userEmail, "google");
+	    if (accessToken == null || accessToken.isEmpty()) {
+	        return Flux.fromIterable(localEvents);
+	    }
+
+	    Set<String> seen = ConcurrentHashMap.newKeySet();
+	    for (CalendarEventResponse local : localEvents) {
+	        if (local.getGoogleEventId() != null) {
+	            seen.add(local.getGoogleEventId());
+	        }
+	    }
+	    Flux<CalendarEventResponse> googleEvents = fetchGoogleEvents(userEmail, accessToken, startDate, endDate)
+	            .filter(e -> !"cancelled".equalsIgnoreCase(e.getStatus()))
+	            .filter(e -> e.getGoogleEventId() == null || seen.add(e.getGoogleEventId()));
+	    return Flux.concat(Flux.fromIterable(localEvents), googleEvents);
+	}
+
+	// 표시 중인 캘린더 목록을 받아 캘린더별로 동시에 조회
+	private Flux<CalendarEventResponse> fetchGoogleEvents(String userEmail, String accessToken, LocalDate startDate,
+			LocalDate endDate) {
+	    return googleCalendarApiClient.listCalendarIdsAsync(accessToken)
+	            .flatMapMany(calendarIds -> googleCalendarApiClient.streamEvents(userEmail, accessToken, calendarIds,
+	                    startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()));
+	}
+
+	private void mergeGoogleEvents(List<CalendarEventResponse> responseEvents, List<CalendarEventResponse> googleEvents) {
+	    // 로컬 DB에 이미 저장된 구글 이벤트 ID를 매핑 (중복 방지용)
+	    Map<String, CalendarEventResponse> localGoogleMap = responseEvents.stream()
+	            .filter(e -> e.getGoogleEventId() != null)
+	            .collect(Collectors.toMap(CalendarEventResponse::getGoogleEventId, e -> e, (oldValue, newValue) -> oldValue));
+
+	    // 구글 이벤트 병합 및 필터링
+	    for (CalendarEventResponse gEvent : googleEvents) {
+	        
+	        // 이미 로컬 DB에 존재하는 이벤트는 건너뜀 (로컬 데이터 우선)
+	        if (localGoogleMap.containsKey(gEvent.getGoogleEventId())) {
+	            continue;
+	        }
+
+	        // 삭제된(cancelled) 이벤트 필터링 (좀비 데이터 방지 핵심)
+	        // 미러는 동기화 때 이미 지우므로 직접 조회 경로에서만 걸림
+	        if (gEvent.getStatus() != null && "cancelled".equalsIgnoreCase(gEvent.getStatus())) {
+	            continue;
+	        }
+	        
+	        // 검증 통과된 구글 전용 일정만 리스트에 추가 (여러 캘린더에 함께 걸린 이벤트는 한 번만)
+	        responseEvents.add(gEvent); 
+	        if (gEvent.getGoogleEventId() != null) {
+	            localGoogleMap.put(gEvent.getGoogleEventId(), gEvent);
+	        }
+	    }
+	}
+
 	@Transactional
 	public GoogleEventResponseDTO createCalendarEvent(String principalName, String provider, String calendarId,
 			String accessToken, GoogleEventRequestDTO eventData) {
 
-		GoogleEventResponseDTO responseFromGoogle = googleCalendarApiClient.createEvent(accessToken, calendarId,
-				eventData);
+		GoogleEventResponseDTO responseFromGoogle = googleCalendarApiClient.createEvent(principalName, accessToken,
+				calendarId, eventData);
 
 		try {
 			MeetUser user = meetUserRepository.findByEmail(principalName)
 					.orElseThrow(() -> new IllegalArgumentException("DB 저장 실패: 사용자를 찾을 수 없습니다: " + principalName));
 
-			LocalDate eventDate;
-			LocalTime eventTime = null;
-			EventType type = EventType.TASK; // 기본값 TASK
-
-			// 제목 처리 (null 방지)
-			String title = eventData.getSummary();
-			if (title == null || title.trim().isEmpty()) {
-				title = "(제목 없음)";
-			}
-
-			if (eventData.getStart().getDate() != null) {
-				// Case A: 종일 일정 (TASK)
-				eventDate = LocalDate.parse(eventData.getStart().getDate());
-				type = EventType.TASK;
-			} else if (eventData.getStart().getDateTime() != null) {
-				// Case B: 시간 일정 (MEETING)
-				String dateTimeStr = eventData.getStart().getDateTime();
-				ZonedDateTime zdt;
-				try {
-					zdt = ZonedDateTime.parse(dateTimeStr, DateTimeFormatter.ISO_DATE_TIME);
-				} catch (Exception e) {
-					LocalDateTime ldt = LocalDateTime.parse(dateTimeStr);
-					zdt = ldt.atZone(java.time.ZoneId.systemDefault());
-				}
-				eventDate = zdt.toLocalDate();
-				eventTime = zdt.toLocalTime();
-				type = EventType.MEETING;
-			} else {
-				eventDate = LocalDate.now();
-			}
-
-			Todo savedTodo = null;
-			if (type == EventType.TASK) {
-				Todo newTodo = Todo.builder().title(title).description(eventData.getDescription()) // 구글 설명 -> Todo 설명
-						.dueDate(eventDate) // 날짜 -> 마감일
-						.user(user).build();
-
-				savedTodo = todoRepository.save(newTodo); // Todo 저장
+			LocalEntry entry = toLocalEntry(user, eventData, responseFromGoogle.getId());
+			if (entry.todo() != null) {
+				Todo savedTodo = todoRepository.save(entry.todo()); // Todo 저장
 				log.info("연관 Todo 생성 완료: ID={}", savedTodo.getId());
 			}
 
-			// CalendarEvent 생성 (Todo 객체 연결)
-			CalendarEvent newLocalEvent = CalendarEvent.builder().userId(user.getId()).title(title).eventDate(eventDate)
-					.eventTime(eventTime).googleEventId(responseFromGoogle.getId()).eventType(type).isImportant(false)
-					.task(savedTodo)
-					.build();
-
-			calendarEventRepository.save(newLocalEvent);
+			calendarEventRepository.save(entry.event());
+			googleCalendarSyncService.requestSync(user.getId());
 			log.info("로컬 DB(CalendarEvent) 저장 성공 (Google ID: {})", responseFromGoogle.getId());
 
 		} catch (Exception e) {
@@ -181,6 +213,128 @@ public class CalendarEventService {
 		return responseFromGoogle;
 	}
 
+	/**
+	 * 일정 여러 건 일괄 등록 (회의 액션 아이템 → 캘린더).
+	 * Google 에는 배치 요청으로 보내고, 성공한 일정의 Todo/CalendarEvent 는 한 트랜잭션에서 INSERT 배치로 저장합니다.
+	 * 결과는 요청 순서대로 건별 성공/실패입니다. Google 호출 중에는 트랜잭션을 잡지 않습니다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<CalendarBulkCreateResult> createCalendarEvents(String principalName, String calendarId,
+			String accessToken, List<GoogleEventRequestDTO> events) {
+		if (events == null || events.isEmpty()) {
+			throw new IllegalArgumentException("등록할 일정이 없습니다.");
+		}
+		if (events.size() > MAX_BULK_EVENTS) {
+			throw new IllegalArgumentException("일정은 한 번에 " + MAX_BULK_EVENTS + "건까지 등록할 수 있습니다.");
+		}
+		MeetUser user = meetUserRepository.findByEmail(principalName)
+				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + principalName));
+
+		CalendarBulkCreateResult[] results = new CalendarBulkCreateResult[events.size()];
+		List<Integer> sendIndexes = new ArrayList<>();
+		List<GoogleEventRequestDTO> sendEvents = new ArrayList<>();
+		for (int i = 0; i < events.size(); i++) {
+			GoogleEventRequestDTO eventData = events.get(i);
+			if (eventData == null || eventData.getStart() == null
+					|| (eventData.getStart().getDate() == null && eventData.getStart().getDateTime() == null)) {
+				results[i] = CalendarBulkCreateResult.failure(i, 400, "시작 날짜가 없습니다.");
+				continue;
+			}
+			sendIndexes.add(i);
+			sendEvents.add(eventData);
+		}
+
+		List<GoogleCalendarApiClient.BatchItemResult> sent = sendEvents.isEmpty() ? List.of()
+				: googleCalendarApiClient.createEvents(principalName, accessToken, calendarId, sendEvents);
+
+		List<Integer> createdIndexes = new ArrayList<>();
+		List<LocalEntry> entries = new ArrayList<>();
+		for (int k = 0; k < sent.size(); k++) {
+			int index = sendIndexes.get(k);
+			GoogleCalendarApiClient.BatchItemResult result = sent.get(k);
+			if (result.unknown()) {
+				results[index] = CalendarBulkCreateResult.unknown(index, result.error());
+				continue;
+			}
+			if (!result.isSuccess()) {
+				results[index] = CalendarBulkCreateResult.failure(index, result.status(), result.error());
+				continue;
+			}
+			createdIndexes.add(index);
+			entries.add(toLocalEntry(user, events.get(index), result.event().getId()));
+		}
+
+		boolean localSaved = true;
+		if (!entries.isEmpty()) {
+			try {
+				calendarEventBulkWriter.insertAll(entries);
+			} catch (RuntimeException e) {
+				// Google 에는 이미 생성됨. 예외로 끝내면 클라이언트가 전체를 다시 보내 중복되므로 건별 결과로 알림
+				// (미러 동기화가 켜져 있으면 다음 동기화 때 조회에는 나타남)
+				log.error("일괄 등록 로컬 DB 저장 실패 - user: {}, {}건", principalName, entries.size(), e);
+				localSaved = false;
+			}
+			googleCalendarSyncService.requestSync(user.getId());
+		}
+		for (int k = 0; k < entries.size(); k++) {
+			int index = createdIndexes.get(k);
+			CalendarEvent event = entries.get(k).event();
+			results[index] = localSaved
+					? CalendarBulkCreateResult.success(index, event.getGoogleEventId(), event.getId())
+					: CalendarBulkCreateResult.localFailure(index, event.getGoogleEventId(), "로컬 DB 저장 실패");
+		}
+		log.info("캘린더 일괄 등록 - user: {}, 요청 {}건, 성공 {}건", principalName, events.size(), entries.size());
+		return List.of(results);
+	}
+
+	// Google 에 생성된 일정의 로컬 사본. 종일 일정은 Todo 를 함께 만들어 연결
+	private LocalEntry toLocalEntry(MeetUser user, GoogleEventRequestDTO eventData, String googleEventId) {
+		LocalDate eventDate;
+		LocalTime eventTime = null;
+		EventType type = EventType.TASK; // 기본값 TASK
+
+		// 제목 처리 (null 방지)
+		String title = eventData.getSummary();
+		if (title == null || title.trim().isEmpty()) {
+			title = "(제목 없음)";
+		}
+
+		if (eventData.getStart().getDate() != null) {
+			// Case A: 종일 일정 (TASK)
+			eventDate = LocalDate.parse(eventData.getStart().getDate());
+			type = EventType.TASK;
+		} else if (eventData.getStart().getDateTime() != null) {
+			// Case B: 시간 일정 (MEETING)
+			String dateTimeStr = eventData.getStart().getDateTime();
+			ZonedDateTime zdt;
+			try {
+				zdt = ZonedDateTime.parse(dateTimeStr, DateTimeFormatter.ISO_DATE_TIME);
+			} catch (Exception e) {
+				LocalDateTime ldt = LocalDateTime.parse(dateTimeStr);
+				zdt = ldt.atZone(java.time.ZoneId.systemDefault());
+			}
+			eventDate = zdt.toLocalDate();
+			eventTime = zdt.toLocalTime();
+			type = EventType.MEETING;
+		} else {
+			eventDate = LocalDate.now();
+		}
+
+		Todo newTodo = null;
+		if (type == EventType.TASK) {
+			newTodo = Todo.builder().title(title).description(eventData.getDescription()) // 구글 설명 -> Todo 설명
+					.dueDate(eventDate) // 날짜 -> 마감일
+					.user(user).build();
+		}
+
+		// CalendarEvent 생성 (Todo 객체 연결)
+		CalendarEvent newLocalEvent = CalendarEvent.builder().userId(user.getId()).title(title).eventDate(eventDate)
+				.eventTime(eventTime).googleEventId(googleEventId).eventType(type).isImportant(false)
+				.task(newTodo)
+				.build();
+		return new LocalEntry(newTodo, newLocalEvent);
+	}
+
 	@Transactional
 	public GoogleEventResponseDTO updateCalendarEvent(String userEmail, String provider, String calendarId,
 			String eventId, GoogleEventRequestDTO eventData) {
@@ -193,7 +347,8 @@ public class CalendarEventService {
 
 		GoogleEventResponseDTO responseFromGoogle;
 		try {
-			responseFromGoogle = googleCalendarApiClient.patchEvent(accessToken, calendarId, eventId, eventData);
+			responseFromGoogle = googleCalendarApiClient.patchEvent(userEmail, accessToken, calendarId, eventId,
+					eventData);
 		} catch (Exception e) {
 			if (e.getMessage() != null && e.getMessage().contains("invalid_grant")) {
 				throw new GoogleOAuthException("Google 토큰이 만료되었습니다. 재연동이 필요합니다.");
@@ -205,6 +360,7 @@ public class CalendarEventService {
 		MeetUser user = meetUserRepository.findByEmail(userEmail)
 				.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userEmail));
 
+		googleCalendarSyncService.requestSync(user.getId());
 		CalendarEvent localEvent = calendarEventRepository.findByGoogleEventIdAndUserId(eventId, user.getId())
 				.orElseThrow(() -> new ResourceNotFoundException("로컬 이벤트를 찾을 수 없습니다: " + eventId));
 
@@ -244,7 +400,7 @@ public class CalendarEventService {
 	    // 구글 API 삭제 요청
 	    if (localEvent.getGoogleEventId() != null && accessToken != null) {
 	        try {
-	            googleCalendarApiClient.deleteEvent(accessToken, "primary", localEvent.getGoogleEventId());
+	            googleCalendarApiClient.deleteEvent(userEmail, accessToken, "primary", localEvent.getGoogleEventId());
 	        } catch (Exception e) {
 	            // 에러 메시지 분석
 	            String errorMsg = (e.getMessage() != null) ? e.getMessage() : "";
@@ -265,6 +421,9 @@ public class CalendarEventService {
 
 	    // 로컬 DB 삭제 
 	    calendarEventRepository.delete(localEvent);
+	    if (localEvent.getGoogleEventId() != null) {
+	        googleCalendarSyncService.requestSync(user.getId());
+	    }
 	    log.info("로컬 이벤트 삭제 완료: {}", eventId);
 	}
 
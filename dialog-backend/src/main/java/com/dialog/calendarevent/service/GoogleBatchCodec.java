@@ -0,0 +1,110 @@
+package com.dialog.calendarevent.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google API 배치 요청(multipart/mixed) 인코딩/디코딩.
+ *
+ * 요청 파트 하나가 HTTP 요청 하나이고(Content-Type: application/http), 바깥 요청의 Authorization 헤더를 모든 파트가 함께 씁니다.
+ * 응답 파트는 요청 순서와 다르게 올 수 있으므로 Content-ID(&lt;item-N&gt; → &lt;response-item-N&gt;)로 요청 위치를 찾습니다.
+ */
+final class GoogleBatchCodec {
+
+	/** 배치 안의 요청 하나. body 는 JSON 바이트 (없으면 null) */
+	record Part(String method, String path, byte[] body) {
+	}
+
+	/** 배치 안의 응답 하나 */
+	record PartResponse(int status, String body) {
+
+		boolean isSuccess() {
+			return status >= 200 && status < 300;
+		}
+	}
+
+	private static final String CRLF = "\r\n";
+	private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?", Pattern.CASE_INSENSITIVE);
+	private static final Pattern CONTENT_ID = Pattern.compile("(?im)^content-id:\\s*<?(?:response-)?item-(\\d+)>?\\s*$");
+	private static final Pattern STATUS_LINE = Pattern.compile("(?m)^HTTP/\\d(?:\\.\\d)?\\s+(\\d{3})");
+
+	private GoogleBatchCodec() {
+	}
+
+	static String newBoundary() {
+		return "batch_" + UUID.randomUUID().toString().replace("-", "");
+	}
+
+	static String contentType(String boundary) {
+		return "multipart/mixed; boundary=" + boundary;
+	}
+
+	static byte[] encode(String boundary, List<Part> parts) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (int i = 0; i < parts.size(); i++) {
+			Part part = parts.get(i);
+			StringBuilder head = new StringBuilder();
+			head.append("--").append(boundary).append(CRLF)
+					.append("Content-Type: application/http").append(CRLF)
+					.append("Content-ID: <item-").append(i).append('>').append(CRLF)
+					.append(CRLF)
+					.append(part.method()).append(' ').append(part.path()).append(" HTTP/1.1").append(CRLF);
+			if (part.body() != null) {
+				head.append("Content-Type: application/json; charset=UTF-8").append(CRLF)
+						.append("Content-Length: ").append(part.body().length).append(CRLF);
+			}
+			head.append(CRLF);
+			out.writeBytes(head.toString().getBytes(StandardCharsets.UTF_8));
+			if (part.body() != null) {
+				out.writeBytes(part.body());
+			}
+			out.writeBytes(CRLF.getBytes(StandardCharsets.UTF_8));
+		}
+		out.writeBytes(("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8));
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param contentType 바깥 응답의 Content-Type (boundary 포함)
+	 * @return 요청 위치 → 응답. Content-ID 가 없거나 알 수 없는 파트는 빠짐
+	 */
+	static Map<Integer, PartResponse> decode(String contentType, byte[] body) {
+		String boundary = boundary(contentType);
+		String text = new String(body, StandardCharsets.UTF_8).replace("\r\n", "\n");
+		Map<Integer, PartResponse> responses = new HashMap<>();
+		for (String chunk : text.split("(?m)^--" + Pattern.quote(boundary) + "(?:--)?[ \\t]*$")) {
+			// 파트 헤더 / 안쪽 HTTP 응답 (상태 줄 + 헤더) / 본문
+			int headerEnd = chunk.indexOf("\n\n");
+			if (headerEnd < 0) {
+				continue;
+			}
+			Matcher id = CONTENT_ID.matcher(chunk.substring(0, headerEnd));
+			if (!id.find()) {
+				continue;
+			}
+			String inner = chunk.substring(headerEnd + 2);
+			Matcher status = STATUS_LINE.matcher(inner);
+			if (!status.find()) {
+				continue;
+			}
+			int innerHeaderEnd = inner.indexOf("\n\n", status.end());
+			String innerBody = innerHeaderEnd < 0 ? "" : inner.substring(innerHeaderEnd + 2).strip();
+			responses.put(Integer.parseInt(id.group(1)), new PartResponse(Integer.parseInt(status.group(1)), innerBody));
+		}
+		return responses;
+	}
+
+	private static String boundary(String contentType) {
+		Matcher matcher = contentType != null ? BOUNDARY.matcher(contentType) : null;
+		if (matcher == null || !matcher.find()) {
+			throw new IllegalStateException("배치 응답에 boundary 가 없습니다: " + contentType);
+		}
+		return matcher.group(1);
+	}
+}
@@ -2,6 +2,7 @@ package com.dialog.calendarevent.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -10,24 +11,34 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.dialog.calendarevent.domain.CalendarEventResponse;
 import com.dialog.calendarevent.domain.EventDateTimeDTO;
 import com.dialog.calendarevent.domain.EventType;
+import com.dialog.calendarevent.domain.GoogleCalendarListDTO;
 import com.dialog.calendarevent.domain.GoogleEventRequestDTO;
 import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
 import com.dialog.exception.GoogleOAuthException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.http.MediaType;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,103 +48,365 @@ public class GoogleCalendarApiClient {
 
 	private final WebClient webClient;
 	private final String googleCalendarUrl;
+	private final String googleCalendarListUrl;
+	private final String googleBatchUrl;
+	private final GoogleCalendarResponseCache responseCache;
+	private final ObjectMapper objectMapper;
+	private final Duration timeout;
+	private final Duration deadline;
+	private final int maxPages;
+	private final int batchSize;
+	private static final int MAX_BATCH_SIZE = 50;
 	private static final DateTimeFormatter ISO_OFFSET_DATE_TIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+	// 날짜 → 시간 순 (종일 일정은 그 날 맨 앞)
+	private static final Comparator<CalendarEventResponse> START_ORDER = Comparator
+			.comparing(CalendarEventResponse::getEventDate, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparing(CalendarEventResponse::getTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+	// 이벤트 목록 한 페이지
+	private record EventPage(boolean notModified, String etag, List<CalendarEventResponse> events,
+			String nextPageToken, long bytes) {
+
+		static final EventPage NOT_MODIFIED = new EventPage(true, null, List.of(), null, 0);
+	}
+
 	public GoogleCalendarApiClient(WebClient webClient, 
-								  @Value("${google.api.calendar-url}") String googleCalendarUrl) {
+								  @Value("${google.api.calendar-url}") String googleCalendarUrl,
+								  @Value("${google.api.calendar-list-url:https://www.googleapis.com/calendar/v3/users/me/calendarList}") String googleCalendarListUrl,
+								  GoogleCalendarResponseCache responseCache, ObjectMapper objectMapper,
+								  @Value("${google.api.timeout:10s}") Duration timeout,
+								  @Value("${google.api.deadline:15s}") Duration deadline,
+								  @Value("${google.api.max-pages:20}") int maxPages,
+								  @Value("${google.api.batch-url:https://www.googleapis.com/batch/calendar/v3}") String googleBatchUrl,
+								  @Value("${google.api.batch-size:50}") int batchSize) {
 		this.webClient = webClient;
 		this.googleCalendarUrl = googleCalendarUrl;
+		this.googleCalendarListUrl = googleCalendarListUrl;
+		this.responseCache = responseCache;
+		this.objectMapper = objectMapper;
+		this.timeout = timeout;
+		this.deadline = deadline;
+		this.maxPages = Math.max(1, maxPages);
+		this.googleBatchUrl = googleBatchUrl;
+		// Google Calendar 배치 한 번에 최대 50건
+		this.batchSize = Math.min(Math.max(1, batchSize), MAX_BATCH_SIZE);
 	}
 
-	public List<CalendarEventResponse> getEvents(String accessToken, String calendarId, LocalDateTime timeMin,
-			LocalDateTime timeMax) {
+	/**
+	 * 기간 내 이벤트 조회 (동기). getEventsAsync 를 deadline 까지 기다립니다.
+	 * @param userKey 캐시/무효화 단위 사용자 (이메일). null 이면 캐시하지 않음
+	 */
+	public List<CalendarEventResponse> getEvents(String userKey, String accessToken, String calendarId,
+			LocalDateTime timeMin, LocalDateTime timeMax) {
+		try {
+			return getEventsAsync(userKey, accessToken, calendarId, timeMin, timeMax).block(deadline);
+		} catch (Exception e) {
+			log.error("Google API 통신 중 예외 발생", e);
 
-		// 1. Google API가 요구하는 ISO 8601 UTC 형식으로 변환
-		// Timezone을 시스템 기본값으로 설정하고 UTC로 변환하여 API 요청 파라미터를 만듭니다.
+			if (e instanceof GoogleOAuthException) {
+				throw (GoogleOAuthException) e; // 이미 GoogleOAuthException이면 그대로 던짐
+			}
+			throw new GoogleOAuthException("Google API 통신 중 예외 발생: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 한 캘린더의 기간 내 이벤트 전체 (모든 페이지, 시작 시간 순).
+	 * 같은 사용자/캘린더/기간의 응답은 GoogleCalendarResponseCache 에서 재사용하고,
+	 * ttl 이 지났으면 저장된 ETag 로 재검증합니다 (304 면 본문을 받지도 파싱하지도 않음).
+	 * 페이지는 앞 페이지의 nextPageToken 이 있어야 요청할 수 있으므로 차례로 받고, 요청마다 timeout 을 둡니다.
+	 * @return 401/403 이면 GoogleOAuthException, 그 외 실패는 RuntimeException(시간 초과 포함) 으로 끝나는 Mono
+	 */
+	public Mono<List<CalendarEventResponse>> getEventsAsync(String userKey, String accessToken, String calendarId,
+			LocalDateTime timeMin, LocalDateTime timeMax) {
+
+		// Google API가 요구하는 ISO 8601 UTC 형식으로 변환
 		String timeMinStr = timeMin.atZone(ZoneId.systemDefault()).toInstant().atOffset(java.time.ZoneOffset.UTC)
 				.format(DateTimeFormatter.ISO_INSTANT);
 		String timeMaxStr = timeMax.atZone(ZoneId.systemDefault()).toInstant().atOffset(java.time.ZoneOffset.UTC)
 				.format(DateTimeFormatter.ISO_INSTANT);
 
-		try {
-			// 2. WebClient를 사용하여 요청 구성 및 실행
-			GoogleEventResponseDTO eventsContainer = webClient.get().uri(this.googleCalendarUrl, uriBuilder -> uriBuilder
+		GoogleCalendarResponseCache.Key cacheKey = responseCache.key(userKey, calendarId, timeMinStr, timeMaxStr);
+		GoogleCalendarResponseCache.Entry cached = responseCache.lookup(cacheKey);
+		if (cached != null && responseCache.isFresh(cached)) {
+			return Mono.fromSupplier(() -> responseCache.freshHit(cached));
+		}
+		String ifNoneMatch = cached != null ? cached.etag() : null;
+
+		return fetchPage(accessToken, calendarId, timeMinStr, timeMaxStr, null, ifNoneMatch).flatMap(first -> {
+			if (first.notModified() && cached != null) {
+				return Mono.just(responseCache.revalidated(cacheKey, cached));
+			}
+			return Mono.just(first)
+					.expand(page -> page.nextPageToken() == null ? Mono.empty()
+							: fetchPage(accessToken, calendarId, timeMinStr, timeMaxStr, page.nextPageToken(), null))
+					.take(maxPages)
+					.collectList()
+					.map(pages -> {
+						List<CalendarEventResponse> events = new ArrayList<>();
+						long bytes = 0;
+						for (EventPage page : pages) {
+							events.addAll(page.events());
+							bytes += page.bytes();
+						}
+						// ETag 는 첫 페이지 기준이므로 한 페이지로 끝난 결과만 재검증 대상으로 저장
+						String etag = pages.size() == 1 ? first.etag() : null;
+						return responseCache.store(cacheKey, etag, events, bytes);
+					});
+		});
+	}
+
+	/**
+	 * 여러 캘린더를 동시에 조회해 시작 시간 순으로 합친 스트림. 전체 조회에 deadline 을 둡니다.
+	 * 캘린더별 결과는 이미 시작 시간 순이므로 mergeComparing 으로 정렬을 유지한 채 합칩니다.
+	 * 한 캘린더가 실패하면 인증 오류가 아닌 한 그 캘린더만 빼고 계속합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	public Flux<CalendarEventResponse> streamEvents(String userKey, String accessToken, List<String> calendarIds,
+			LocalDateTime timeMin, LocalDateTime timeMax) {
+		Flux<CalendarEventResponse>[] sources = new Flux[calendarIds.size()];
+		for (int i = 0; i < calendarIds.size(); i++) {
+			String calendarId = calendarIds.get(i);
+			sources[i] = getEventsAsync(userKey, accessToken, calendarId, timeMin, timeMax)
+					.onErrorResume(e -> !(e instanceof GoogleOAuthException), e -> {
+						log.warn("Google 캘린더 조회 실패 - 제외하고 계속: {} ({})", calendarId, e.getMessage());
+						return Mono.just(Collections.emptyList());
+					})
+					.flatMapMany(Flux::fromIterable);
+		}
+		// 같은 Mono 를 첫 항목/이후 항목 제한에 함께 써서 항목 간격이 아닌 전체 시간을 제한
+		Mono<Long> overall = Mono.delay(deadline).cache();
+		return Flux.mergeComparing(START_ORDER, sources).timeout(overall, item -> overall);
+	}
+
+	/** 사용자가 캘린더 화면에 표시 중인(selected, 숨기지 않은) 캘린더 ID. primary 가 맨 앞, 목록을 못 받으면 primary 만 */
+	public Mono<List<String>> listCalendarIdsAsync(String accessToken) {
+		return fetchCalendarIds(accessToken)
+				.onErrorResume(e -> !(e instanceof GoogleOAuthException), e -> {
+					log.warn("Google 캘린더 목록을 가져오지 못해 primary 만 조회합니다. ({})", e.getMessage());
+					return Mono.just(List.of("primary"));
+				});
+	}
+
+	/**
+	 * listCalendarIdsAsync 와 같은 목록을 동기로 조회. 목록을 못 받으면 primary 로 대신하지 않고 예외를 던집니다
+	 * (미러 동기화가 빠진 캘린더로 오인해 지우지 않도록).
+	 */
+	public List<String> listCalendarIds(String accessToken) {
+		return fetchCalendarIds(accessToken).block();
+	}
+
+	private Mono<List<String>> fetchCalendarIds(String accessToken) {
+		return webClient.get().uri(this.googleCalendarListUrl, uriBuilder -> uriBuilder
+				.queryParam("minAccessRole", "reader").queryParam("maxResults", 250).build())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google 캘린더 목록 조회 실패. Status: {}", response.statusCode());
+					// 403 은 calendarlist 권한 없이 연동된 토큰일 수 있으므로 인증 오류로 보지 않음
+					if (response.statusCode().value() == 401) {
+						return Mono.error(new GoogleOAuthException("Google 캘린더 목록 조회 중 오류 발생: " + response.statusCode()));
+					}
+					return Mono.error(new RuntimeException("Google 캘린더 목록 조회 중 오류 발생: " + response.statusCode()));
+				})
+				.bodyToMono(GoogleCalendarListDTO.class)
+				.timeout(timeout)
+				.map(calendarList -> {
+					List<String> ids = new ArrayList<>();
+					ids.add("primary");
+					if (calendarList.getItems() != null) {
+						for (GoogleCalendarListDTO.Item item : calendarList.getItems()) {
+							if (!item.isPrimary() && item.isSelected() && !item.isHidden()) {
+								ids.add(item.getId());
+							}
+						}
+					}
+					return ids;
+				})
+				.defaultIfEmpty(List.of("primary"));
+	}
+
+	// 이벤트 목록 한 페이지. 304 면 notModified
+	private Mono<EventPage> fetchPage(String accessToken, String calendarId, String timeMinStr, String timeMaxStr,
+			String pageToken, String ifNoneMatch) {
+		return webClient.get().uri(this.googleCalendarUrl, uriBuilder -> {
 					// API 요구사항에 맞는 쿼리 파라미터 추가
-					.queryParam("timeMin", timeMinStr).queryParam("timeMax", timeMaxStr)
-					.queryParam("singleEvents", true) // 반복 일정을 개별 이벤트로 확장
-					.queryParam("orderBy", "startTime") // 시작 시간 순으로 정렬
-					.build(calendarId)) // 경로 변수 {calendarId} 설정
+					uriBuilder.queryParam("timeMin", timeMinStr).queryParam("timeMax", timeMaxStr)
+							.queryParam("singleEvents", true) // 반복 일정을 개별 이벤트로 확장
+							.queryParam("orderBy", "startTime") // 시작 시간 순으로 정렬
+							.queryParam("maxResults", 250);
+					if (pageToken != null) {
+						uriBuilder.queryParam("pageToken", "{pageToken}");
+						return uriBuilder.build(calendarId, pageToken);
+					}
+					return uriBuilder.build(calendarId); // 경로 변수 {calendarId} 설정
+				})
+				// Authorization: Bearer [accessToken] 헤더 설정 (+ 캐시된 ETag 로 조건부 요청)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+				.headers(headers -> {
+					if (ifNoneMatch != null) {
+						headers.setIfNoneMatch(ifNoneMatch);
+					}
+				})
+				// 본문은 크기를 재기 위해 바이트로 받아 직접 파싱
+				.exchangeToMono(clientResponse -> {
+					if (clientResponse.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+						return clientResponse.releaseBody().thenReturn(EventPage.NOT_MODIFIED);
+					}
+					if (clientResponse.statusCode().isError()) {
+						log.error("Google Calendar API 호출 실패. Status: {}", clientResponse.statusCode());
+						return clientResponse.releaseBody().then(Mono.error(
+								authAwareError("Google Calendar API 호출 중 오류 발생", clientResponse.statusCode())));
+					}
+					String etag = clientResponse.headers().asHttpHeaders().getETag();
+					return clientResponse.bodyToMono(byte[].class).defaultIfEmpty(new byte[0])
+							.map(body -> toPage(etag, body));
+				})
+				.timeout(timeout);
+	}
 
-					// 3. Authorization: Bearer [accessToken] 헤더 설정
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+	private EventPage toPage(String etag, byte[] body) {
+		if (body.length == 0) {
+			return new EventPage(false, etag, Collections.emptyList(), null, 0);
+		}
+		GoogleEventResponseDTO eventsContainer;
+		try {
+			eventsContainer = objectMapper.readValue(body, GoogleEventResponseDTO.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Google Calendar 응답을 읽지 못했습니다.", e);
+		}
+		if (eventsContainer == null || eventsContainer.getItems() == null) {
+			return new EventPage(false, etag, Collections.emptyList(), null, body.length);
+		}
+		List<CalendarEventResponse> events = eventsContainer.getItems().stream()
+				.map(this::convertToCalendarEventDTO).collect(Collectors.toList());
+		return new EventPage(false, etag, events, eventsContainer.getNextPageToken(), body.length);
+	}
+
+	// 인증 오류(401/403)만 재연동 대상으로 구분
+	private RuntimeException authAwareError(String message, HttpStatusCode status) {
+		if (status.equals(HttpStatus.UNAUTHORIZED) || status.equals(HttpStatus.FORBIDDEN)) {
+			return new GoogleOAuthException(message + ": " + status);
+		}
+		return new RuntimeException(message + ": " + status);
+	}
 
-					// 4. API 호출 및 응답 처리
+	/**
+	 * 증분 동기화용 이벤트 목록 한 페이지 (반복 일정은 개별 이벤트로 확장).
+	 * syncToken 이 없으면 fullSyncFrom 이후 전체, 있으면 그 토큰 이후 바뀐 이벤트만 (취소된 이벤트 포함).
+	 * 마지막 페이지에만 nextSyncToken 이 들어 있습니다.
+	 * @throws SyncTokenExpiredException 410 Gone - syncToken 이 만료되어 전체 재동기화가 필요함
+	 */
+	public GoogleEventResponseDTO listChanges(String accessToken, String calendarId, String syncToken,
+			String pageToken, LocalDateTime fullSyncFrom) {
+		List<Object> uriVariables = new ArrayList<>();
+		uriVariables.add(calendarId);
+		try {
+			GoogleEventResponseDTO page = webClient.get().uri(this.googleCalendarUrl, uriBuilder -> {
+				uriBuilder.queryParam("singleEvents", true).queryParam("maxResults", 250);
+				// 토큰은 URI 변수로 넘겨 인코딩되게 함
+				if (syncToken != null) {
+					uriBuilder.queryParam("syncToken", "{syncToken}");
+					uriVariables.add(syncToken);
+				} else {
+					uriBuilder.queryParam("timeMin", fullSyncFrom.atZone(ZoneId.systemDefault()).toInstant().toString());
+				}
+				if (pageToken != null) {
+					uriBuilder.queryParam("pageToken", "{pageToken}");
+					uriVariables.add(pageToken);
+				}
+				return uriBuilder.build(uriVariables.toArray());
+			})
+					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
 					.retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar API 호출 실패. Status: {}", response.statusCode());
-						// 오류 발생 시 사용자 정의 예외를 발생시킵니다.
-						// 이 단계에서 403, 401 오류 등을 잡아서 상위 레이어로 전달해야 합니다.
-						return Mono.error(
-								new GoogleOAuthException("Google Calendar API 호출 중 오류 발생: " + response.statusCode()));
+						if (response.statusCode().value() == HttpStatus.GONE.value()) {
+							return Mono.error(new SyncTokenExpiredException());
+						}
+						log.error("Google Calendar 증분 조회 실패. Status: {}", response.statusCode());
+						// 인증 오류가 아니면 다음 주기에 재시도
+						return Mono.error(authAwareError("Google Calendar API 증분 조회 중 오류 발생", response.statusCode()));
 					})
-					// 응답을 GoogleEventResponseDTO 컨테이너 객체로 파싱
-					.bodyToMono(GoogleEventResponseDTO.class).block(); // 동기적으로 결과 대기
+					.bodyToMono(GoogleEventResponseDTO.class).block(timeout);
 
-			// 5. 결과 검증 및 데이터 변환
-			if (eventsContainer == null || eventsContainer.getItems() == null) {
-				return Collections.emptyList();
+			if (page == null) {
+				throw new RuntimeException("Google Calendar 증분 조회 응답 본문이 비어있습니다.");
 			}
+			return page;
 
-			// items 리스트를 가져와 CalendarEventDTO로 최종 변환합니다.
-			// (주의: GoogleEventResponseDTO 클래스 내부에 List<GoogleEventItemDTO> items가 있다고 가정)
-			return eventsContainer.getItems().stream().map(this::convertToCalendarEventDTO)
-					.collect(Collectors.toList());
-
+		} catch (SyncTokenExpiredException | GoogleOAuthException e) {
+			throw e;
 		} catch (Exception e) {
-			log.error("Google API 통신 중 예외 발생", e);
-
-			if (e instanceof GoogleOAuthException) {
-				throw (GoogleOAuthException) e; // 이미 GoogleOAuthException이면 그대로 던짐
-			}
-			throw new GoogleOAuthException("Google API 통신 중 예외 발생: " + e.getMessage());
+			log.error("Google API 통신 중 증분 조회 예외 발생", e);
+			throw new RuntimeException("Google API 통신 중 예외 발생: " + e.getMessage(), e);
 		}
 	}
 
-	public GoogleEventResponseDTO createEvent(String accessToken, String calendarId, GoogleEventRequestDTO requestDTO) {
+	/** 배치 안 요청 하나의 결과. 성공이면 event, 실패면 status(배치 전체가 실패하면 0)와 error */
+	/** 배치 항목 결과. unknown 이면 응답을 받지 못해 생성 여부를 알 수 없음 (실패로 보고 다시 보내면 중복될 수 있음) */
+	public record BatchItemResult(GoogleEventResponseDTO event, int status, String error, boolean unknown) {
 
-		if (requestDTO == null) {
-			throw new IllegalArgumentException("Google Calendar 이벤트를 생성하기 위한 requestDTO가 null입니다. 상위 서비스 로직을 확인하세요.");
+		public BatchItemResult(GoogleEventResponseDTO event, int status, String error) {
+			this(event, status, error, false);
 		}
 
-		try {
-			GoogleEventResponseDTO responseBody = webClient.post() // POST 요청
-					.uri(this.googleCalendarUrl, calendarId) // 캘린더 ID를 경로 변수로 설정
+		static BatchItemResult unknownOutcome(String error) {
+			return new BatchItemResult(null, 0, error, true);
+		}
 
-					// 1. 헤더 설정: 인증 토큰 및 JSON 타입 명시
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
+		public boolean isSuccess() {
+			return event != null;
+		}
+	}
 
-					// 2. 요청 본문 설정: 일정 데이터를 JSON 형태로 보냅니다.
-					.bodyValue(requestDTO)
+	/** syncToken 만료 (410 Gone) */
+	public static class SyncTokenExpiredException extends RuntimeException {
 
-					// 3. API 호출 및 응답 처리
-					.retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar 이벤트 생성 실패. Status: {}", response.statusCode());
-						// [ 4. 수정 ] RuntimeException -> GoogleOAuthException
-						return Mono.error(
-								new GoogleOAuthException("Google Calendar API 생성 중 오류 발생: " + response.statusCode()));
-					}).bodyToMono(GoogleEventResponseDTO.class) // 4. 응답 JSON을 DTO로 파싱
-					.block(); // 동기적으로 결과 대기
-
-			if (responseBody == null) {
-				throw new GoogleOAuthException("Google Calendar 이벤트 생성 후 응답 본문이 비어있습니다.");
-			}
-			return responseBody;
+		public SyncTokenExpiredException() {
+			super("Google Calendar syncToken 이 만료되었습니다.");
+		}
+	}
 
+	public GoogleEventResponseDTO createEvent(String userKey, String accessToken, String calendarId,
+			GoogleEventRequestDTO requestDTO) {
+		try {
+			return createEventAsync(userKey, accessToken, calendarId, requestDTO).block();
+		} catch (IllegalArgumentException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("Google API 통신 중 일정 생성 예외 발생", e);
 			throw new GoogleOAuthException("일정 생성 API 통신 실패");
 		}
 	}
 
+	public Mono<GoogleEventResponseDTO> createEventAsync(String userKey, String accessToken, String calendarId,
+			GoogleEventRequestDTO requestDTO) {
+
+		if (requestDTO == null) {
+			throw new IllegalArgumentException("Google Calendar 이벤트를 생성하기 위한 requestDTO가 null입니다. 상위 서비스 로직을 확인하세요.");
+		}
+
+		return webClient.post() // POST 요청
+				.uri(this.googleCalendarUrl, calendarId) // 캘린더 ID를 경로 변수로 설정
+
+				// 1. 헤더 설정: 인증 토큰 및 JSON 타입 명시
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
+
+				// 2. 요청 본문 설정: 일정 데이터를 JSON 형태로 보냅니다.
+				.bodyValue(requestDTO)
+
+				// 3. API 호출 및 응답 처리
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar 이벤트 생성 실패. Status: {}", response.statusCode());
+					// [ 4. 수정 ] RuntimeException -> GoogleOAuthException
+					return Mono.error(
+							new GoogleOAuthException("Google Calendar API 생성 중 오류 발생: " + response.statusCode()));
+				}).bodyToMono(GoogleEventResponseDTO.class) // 4. 응답 JSON을 DTO로 파싱
+				.timeout(timeout)
+				.switchIfEmpty(Mono.error(() -> new GoogleOAuthException("Google Calendar 이벤트 생성 후 응답 본문이 비어있습니다.")))
+				// 실패/시간 초과여도 Google 쪽에 반영됐을 수 있으므로 항상 무효화. 요청 중에 시작된 조회 결과도 버려짐
+				.doFinally(signal -> responseCache.invalidateUser(userKey));
+	}
+
 	private CalendarEventResponse convertToCalendarEventDTO(GoogleEventResponseDTO googleEvent) {
 
 		EventDateTimeDTO startDateTimeDTO = (EventDateTimeDTO) googleEvent.getStart();
@@ -142,12 +415,15 @@ public class GoogleCalendarApiClient {
 		LocalDateTime start = parseDateTime(startDateTimeDTO, true); // 시작 시간 파싱
 
 		String eventDateStr = null;
+		LocalTime eventTime = null;
 		if (googleEvent.getStart().getDate() != null) {
 			// "YYYY-MM-DD" 형식의 문자열로 변환
 			eventDateStr = googleEvent.getStart().getDate().toString();
 		} else if (googleEvent.getStart().getDateTime() != null) {
 			eventDateStr = LocalDate
 					.parse(googleEvent.getStart().getDateTime().toString(), DateTimeFormatter.ISO_DATE_TIME).toString();
+			// 날짜와 같은 기준(이벤트에 적힌 오프셋)의 시작 시각. 여러 캘린더 병합 시 정렬 기준
+			eventTime = LocalTime.parse(googleEvent.getStart().getDateTime(), DateTimeFormatter.ISO_DATE_TIME);
 		}
 
 		return CalendarEventResponse.builder()
@@ -155,7 +431,7 @@ public class GoogleCalendarApiClient {
 				.userId(null)
 				.title(googleEvent.getSummary())
 				.eventDate(eventDateStr)
-				.time(null)
+				.time(eventTime)
 				.eventType("MEETING")
 				.isImportant(false)
 				.sourceId(googleEvent.getId())
@@ -202,59 +478,179 @@ public class GoogleCalendarApiClient {
 		return EventType.NORMAL; // dateTime 필드가 있으면 일반 일정 (NORMAL로 가정)
 	}
 
-	public GoogleEventResponseDTO patchEvent(String accessToken, String calendarId, String eventId,
-			GoogleEventRequestDTO eventData) {
+	/**
+	 * 여러 일정을 Google 배치 요청(multipart/mixed)으로 생성. batch-size(최대 50)건씩 나눠 차례로 보냅니다.
+	 * 결과는 요청 순서대로이며 요청별로 성공/실패가 따로 옵니다.
+	 * 한 배치가 오류 상태(4xx, 5xx)로 거절되면 그 배치의 요청만 실패로, 시간 초과/연결 오류로 응답을 못 받으면
+	 * unknown 으로 표시하고 다음 배치를 계속 보냅니다.
+	 * @throws GoogleOAuthException 배치 요청 자체가 401/403 인 경우 (재연동 필요)
+	 */
+	public List<BatchItemResult> createEvents(String userKey, String accessToken, String calendarId,
+			List<GoogleEventRequestDTO> events) {
+		String path = UriComponentsBuilder.fromUriString(this.googleCalendarUrl).buildAndExpand(calendarId).encode()
+				.toUri().getRawPath();
+		List<GoogleBatchCodec.Part> parts = new ArrayList<>(events.size());
+		for (GoogleEventRequestDTO event : events) {
+			try {
+				parts.add(new GoogleBatchCodec.Part("POST", path, objectMapper.writeValueAsBytes(event)));
+			} catch (IOException e) {
+				throw new IllegalArgumentException("일정 데이터를 JSON 으로 변환할 수 없습니다.", e);
+			}
+		}
 
-		if (eventData == null) {
-			throw new IllegalArgumentException("eventData가 null입니다.");
+		List<BatchItemResult> results = new ArrayList<>(parts.size());
+		try {
+			for (int from = 0; from < parts.size(); from += batchSize) {
+				List<GoogleBatchCodec.Part> chunk = parts.subList(from, Math.min(from + batchSize, parts.size()));
+				results.addAll(sendBatch(accessToken, chunk).block());
+			}
+		} finally {
+			// 실패한 배치도 일부는 Google 에 반영됐을 수 있으므로 항상 무효화
+			responseCache.invalidateUser(userKey);
 		}
+		return results;
+	}
 
-		//final String GOOGLE_EVENT_PATCH_URL = GOOGLE_CALENDAR_URL + "/{eventId}";
-		String patchUrl = this.googleCalendarUrl + "/{eventId}";
+	// 배치 하나 전송. 인증 오류만 예외로 올리고, Google 이 배치를 거절(오류 상태)했으면 파트 전체 실패,
+	// 시간 초과/연결 오류처럼 처리 여부를 모르면 파트 전체를 unknown 으로 바꿈
+	private Mono<List<BatchItemResult>> sendBatch(String accessToken, List<GoogleBatchCodec.Part> parts) {
+		String boundary = GoogleBatchCodec.newBoundary();
+		return webClient.post().uri(this.googleBatchUrl)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+				.header(HttpHeaders.CONTENT_TYPE, GoogleBatchCodec.contentType(boundary))
+				.bodyValue(GoogleBatchCodec.encode(boundary, parts))
+				.exchangeToMono(clientResponse -> {
+					if (clientResponse.statusCode().isError()) {
+						log.error("Google Calendar 배치 요청 실패. Status: {}", clientResponse.statusCode());
+						RuntimeException error = authAwareError("Google Calendar 배치 요청 중 오류 발생",
+								clientResponse.statusCode());
+						if (error instanceof GoogleOAuthException) {
+							return clientResponse.releaseBody().then(Mono.error(error));
+						}
+						return clientResponse.releaseBody().thenReturn(rejected(parts.size(), error.getMessage()));
+					}
+					String contentType = clientResponse.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+					return clientResponse.bodyToMono(byte[].class).defaultIfEmpty(new byte[0])
+							.map(body -> toBatchResults(parts.size(), GoogleBatchCodec.decode(contentType, body)));
+				})
+				.timeout(timeout)
+				.onErrorResume(e -> !(e instanceof GoogleOAuthException), e -> {
+					log.warn("Google Calendar 배치 {}건 결과 알 수 없음 ({})", parts.size(), e.getMessage());
+					List<BatchItemResult> unknown = new ArrayList<>(parts.size());
+					for (int i = 0; i < parts.size(); i++) {
+						unknown.add(BatchItemResult
+								.unknownOutcome("Google Calendar 배치 응답을 받지 못했습니다: " + e.getMessage()));
+					}
+					return Mono.just(unknown);
+				});
+	}
 
+	private List<BatchItemResult> rejected(int count, String error) {
+		List<BatchItemResult> failed = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			failed.add(new BatchItemResult(null, 0, error));
+		}
+		return failed;
+	}
+
+	private List<BatchItemResult> toBatchResults(int count, Map<Integer, GoogleBatchCodec.PartResponse> responses) {
+		List<BatchItemResult> results = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			GoogleBatchCodec.PartResponse response = responses.get(i);
+			if (response == null) {
+				results.add(BatchItemResult.unknownOutcome("배치 응답에 결과가 없습니다."));
+				continue;
+			}
+			if (!response.isSuccess()) {
+				results.add(new BatchItemResult(null, response.status(), errorMessage(response)));
+				continue;
+			}
+			try {
+				GoogleEventResponseDTO event = objectMapper.readValue(response.body(), GoogleEventResponseDTO.class);
+				results.add(event != null && event.getId() != null ? new BatchItemResult(event, response.status(), null)
+						: BatchItemResult.unknownOutcome("생성된 일정 ID가 없습니다."));
+			} catch (IOException e) {
+				// 성공 응답이므로 생성은 됐을 수 있음
+				results.add(BatchItemResult.unknownOutcome("응답을 읽지 못했습니다."));
+			}
+		}
+		return results;
+	}
+
+	// Google 오류 본문 {"error": {"message": ...}} 의 메시지. 없으면 상태 코드
+	private String errorMessage(GoogleBatchCodec.PartResponse response) {
 		try {
-			GoogleEventResponseDTO responseBody = webClient.patch().uri(patchUrl, calendarId, eventId)
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
-					.bodyValue(eventData).retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar 이벤트 수정(Patch) 실패. Status: {}", response.statusCode());
-						return Mono.error(new RuntimeException(
-								"Google Calendar API 수정(Patch) 중 오류 발생: " + response.statusCode()));
-					}).bodyToMono(GoogleEventResponseDTO.class).block(Duration.ofSeconds(5)); // 5초까지 기다렸다가 구글 서버가 응답
-																								// 안주면 에러발생시킴.
-
-			if (responseBody == null) {
-				throw new RuntimeException("Google Calendar 이벤트 수정 후 응답 본문이 비어있습니다.");
+			JsonNode message = objectMapper.readTree(response.body()).path("error").path("message");
+			if (message.isTextual()) {
+				return message.asText();
 			}
-			return responseBody;
+		} catch (IOException e) {
+			// 본문이 JSON 이 아니면 상태 코드만
+		}
+		return "Google Calendar API 오류: " + response.status();
+	}
 
+	public GoogleEventResponseDTO patchEvent(String userKey, String accessToken, String calendarId, String eventId,
+			GoogleEventRequestDTO eventData) {
+		try {
+			return patchEventAsync(userKey, accessToken, calendarId, eventId, eventData).block();
+		} catch (IllegalArgumentException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("Google API 통신 중 일정 수정(Patch) 예외 발생", e);
 			throw new RuntimeException("일정 수정(Patch) API 통신 실패", e);
 		}
 	}
 
-	public void deleteEvent(String accessToken, String calendarId, String eventId) {
-		//final String GOOGLE_EVENT_DELETE_URL = GOOGLE_CALENDAR_URL + "/{eventId}";
-		String deleteUrl = this.googleCalendarUrl + "/{eventId}";
-		try {
-			webClient.delete() // delete() 메서드 사용
-					.uri(deleteUrl, calendarId, eventId) // URL 변수 매핑
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken) // 헤더 설정
-					.retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar 이벤트 삭제(Delete) 실패. Status: {}", response.statusCode());
+	public Mono<GoogleEventResponseDTO> patchEventAsync(String userKey, String accessToken, String calendarId,
+			String eventId, GoogleEventRequestDTO eventData) {
 
-						if (response.statusCode().equals(HttpStatus.UNAUTHORIZED)
-								|| response.statusCode().equals(HttpStatus.FORBIDDEN)) {
-							return Mono.error(
-									new RuntimeException("Google API 오류(invalid_grant): " + response.statusCode()));
-						}
-						return Mono.error(new RuntimeException(
-								"Google Calendar API 삭제(Delete) 중 오류 발생: " + response.statusCode()));
-					}).bodyToMono(Void.class).block();
+		if (eventData == null) {
+			throw new IllegalArgumentException("eventData가 null입니다.");
+		}
+
+		//final String GOOGLE_EVENT_PATCH_URL = GOOGLE_CALENDAR_URL + "/{eventId}";
+		String patchUrl = this.googleCalendarUrl + "/{eventId}";
+
+		return webClient.patch().uri(patchUrl, calendarId, eventId)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(eventData).retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar 이벤트 수정(Patch) 실패. Status: {}", response.statusCode());
+					return Mono.error(new RuntimeException(
+							"Google Calendar API 수정(Patch) 중 오류 발생: " + response.statusCode()));
+				}).bodyToMono(GoogleEventResponseDTO.class)
+				.timeout(timeout) // 구글 서버가 응답을 안 주면 에러 발생
+				.switchIfEmpty(Mono.error(() -> new RuntimeException("Google Calendar 이벤트 수정 후 응답 본문이 비어있습니다.")))
+				.doFinally(signal -> responseCache.invalidateUser(userKey));
+	}
 
+	public void deleteEvent(String userKey, String accessToken, String calendarId, String eventId) {
+		try {
+			deleteEventAsync(userKey, accessToken, calendarId, eventId).block();
 		} catch (Exception e) {
 			log.error("Google API 통신 중 일정 삭제(Delete) 예외 발생", e);
 			throw new RuntimeException(e.getMessage(), e);
 		}
 	}
+
+	public Mono<Void> deleteEventAsync(String userKey, String accessToken, String calendarId, String eventId) {
+		//final String GOOGLE_EVENT_DELETE_URL = GOOGLE_CALENDAR_URL + "/{eventId}";
+		String deleteUrl = this.googleCalendarUrl + "/{eventId}";
+		return webClient.delete() // delete() 메서드 사용
+				.uri(deleteUrl, calendarId, eventId) // URL 변수 매핑
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken) // 헤더 설정
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar 이벤트 삭제(Delete) 실패. Status: {}", response.statusCode());
+
+					if (response.statusCode().equals(HttpStatus.UNAUTHORIZED)
+							|| response.statusCode().equals(HttpStatus.FORBIDDEN)) {
+						return Mono.error(
+								new RuntimeException("Google API 오류(invalid_grant): " + response.statusCode()));
+					}
+					return Mono.error(new RuntimeException(
+							"Google Calendar API 삭제(Delete) 중 오류 발생: " + response.statusCode()));
+				}).bodyToMono(Void.class)
+				.timeout(timeout)
+				.doFinally(signal -> responseCache.invalidateUser(userKey));
+	}
 }
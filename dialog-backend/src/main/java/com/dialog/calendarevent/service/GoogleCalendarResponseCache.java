@@ -0,0 +1,128 @@
+package com.dialog.calendarevent.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dialog.calendarevent.domain.CalendarEventResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * GoogleCalendarApiClient.getEvents 응답 캐시 (사용자 / 캘린더 / timeMin~timeMax 구간 단위).
+ *
+ * - ttl 이내 항목은 Google 호출 없이 그대로 반환
+ * - ttl 이 지난 항목은 retain 동안 보관해 두었다가 ETag 로 If-None-Match 재검증 (304 면 본문 파싱 없이 재사용)
+ * - 같은 사용자의 일정 생성/수정/삭제 시 사용자 버전을 올려 그 사용자의 항목을 모두 무효화.
+ *   키에 버전이 들어가므로 무효화 전에 시작된 조회가 뒤늦게 넣은 항목도 다시 쓰이지 않음
+ */
+@Component
+public class GoogleCalendarResponseCache {
+
+	record Key(String userKey, long version, String calendarId, String timeMin, String timeMax) {
+	}
+
+	record Entry(String etag, List<CalendarEventResponse> events, long bodyBytes, long storedAtNanos) {
+	}
+
+	private final boolean enabled;
+	private final long ttlNanos;
+	private final Cache<Key, Entry> entries;
+	private final Cache<String, Long> versions;
+	private final AtomicLong versionSequence = new AtomicLong();
+
+	private final LongAdder freshHits = new LongAdder();
+	private final LongAdder revalidatedHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder bytesSaved = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	public GoogleCalendarResponseCache(@Value("${google.calendar.cache.enabled:true}") boolean enabled,
+			@Value("${google.calendar.cache.ttl:30s}") Duration ttl,
+			@Value("${google.calendar.cache.retain:1h}") Duration retain,
+			@Value("${google.calendar.cache.max-size:5000}") long maxSize) {
+		this.enabled = enabled;
+		this.ttlNanos = ttl.toNanos();
+		this.entries = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(retain)
+				.build();
+		this.versions = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterAccess(retain.multipliedBy(2))
+				.build();
+	}
+
+	Key key(String userKey, String calendarId, String timeMin, String timeMax) {
+		long version = userKey != null ? versions.get(userKey, k -> versionSequence.incrementAndGet()) : 0L;
+		return new Key(userKey, version, calendarId, timeMin, timeMax);
+	}
+
+	// 재검증용으로 남아 있는 항목 포함. 꺼져 있거나 사용자를 모르면 null
+	Entry lookup(Key key) {
+		if (!enabled || key.userKey() == null) {
+			return null;
+		}
+		return entries.getIfPresent(key);
+	}
+
+	boolean isFresh(Entry entry) {
+		return System.nanoTime() - entry.storedAtNanos() < ttlNanos;
+	}
+
+	List<CalendarEventResponse> freshHit(Entry entry) {
+		freshHits.increment();
+		bytesSaved.add(entry.bodyBytes());
+		return new ArrayList<>(entry.events());
+	}
+
+	// 304: 본문을 받지 않았으므로 저장된 결과를 다시 ttl 동안 신선한 것으로 둠
+	List<CalendarEventResponse> revalidated(Key key, Entry entry) {
+		revalidatedHits.increment();
+		bytesSaved.add(entry.bodyBytes());
+		if (enabled) {
+			entries.put(key, new Entry(entry.etag(), entry.events(), entry.bodyBytes(), System.nanoTime()));
+		}
+		return new ArrayList<>(entry.events());
+	}
+
+	List<CalendarEventResponse> store(Key key, String etag, List<CalendarEventResponse> events, long bodyBytes) {
+		misses.increment();
+		if (enabled && key.userKey() != null) {
+			entries.put(key, new Entry(etag, List.copyOf(events), bodyBytes, System.nanoTime()));
+		}
+		return new ArrayList<>(events);
+	}
+
+	// 같은 사용자의 일정 변경 후 호출
+	public void invalidateUser(String userKey) {
+		if (userKey == null) {
+			return;
+		}
+		versions.put(userKey, versionSequence.incrementAndGet());
+		invalidations.increment();
+	}
+
+	public Map<String, Object> stats() {
+		long fresh = freshHits.sum();
+		long revalidated = revalidatedHits.sum();
+		long miss = misses.sum();
+		long total = fresh + revalidated + miss;
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("size", entries.estimatedSize());
+		result.put("freshHitCount", fresh);
+		result.put("revalidatedCount", revalidated);
+		result.put("missCount", miss);
+		result.put("hitRate", total == 0 ? 0.0 : (double) (fresh + revalidated) / total);
+		result.put("bytesSaved", bytesSaved.sum());
+		result.put("invalidationCount", invalidations.sum());
+		return result;
+	}
+}
@@ -0,0 +1,326 @@
+package com.dialog.calendarevent.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.calendarevent.domain.CalendarEventResponse;
+import com.dialog.calendarevent.domain.EventDateTimeDTO;
+import com.dialog.calendarevent.domain.GoogleCalendarSyncCursor;
+import com.dialog.calendarevent.domain.GoogleCalendarSyncState;
+import com.dialog.calendarevent.domain.GoogleEventMirror;
+import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
+import com.dialog.calendarevent.repository.GoogleCalendarSyncCursorRepository;
+import com.dialog.calendarevent.repository.GoogleCalendarSyncStateRepository;
+import com.dialog.calendarevent.repository.GoogleEventMirrorRepository;
+import com.dialog.exception.GoogleOAuthException;
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.token.service.SocialTokenCache;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google 캘린더 로컬 미러. 사용자가 표시 중인 캘린더(calendarList 의 selected, primary 포함)를 모두 미러링합니다.
+ *
+ * - 조회(getMirroredEvents)는 미러 테이블만 읽고 Google 을 기다리지 않습니다.
+ *   마지막 동기화가 min-interval 보다 오래됐으면 동기화를 예약만 하고 지금 가진 데이터를 반환합니다.
+ * - 주기 작업이 예약된 사용자의 캘린더 목록을 받아 캘린더마다 syncToken 증분 동기화로 갱신합니다.
+ *   페이지마다 별도 트랜잭션으로 반영하고, 마지막 페이지까지 반영한 뒤에만 그 캘린더의 새 syncToken 을 저장하므로
+ *   중간에 실패하면 이전 토큰부터 다시 받습니다 (반영은 멱등). 한 캘린더가 실패해도 나머지는 계속합니다.
+ * - 410 Gone(토큰 만료)이면 그 캘린더만 full-sync-window 이전부터 전체 재동기화하고, 이번에 보이지 않은 행을 지웁니다.
+ * - 목록에서 빠진 캘린더의 행은 지웁니다. 목록을 못 받으면 지난번 동기화한 캘린더만 갱신하고 지우지 않습니다.
+ * - 취소(cancelled)된 이벤트는 미러에서 지웁니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class GoogleCalendarSyncService {
+
+	private static final String PRIMARY = "primary";
+
+	private final GoogleCalendarApiClient googleCalendarApiClient;
+	private final SocialTokenCache tokenManagerService;
+	private final MeetUserRepository meetUserRepository;
+	private final GoogleEventMirrorRepository mirrorRepository;
+	private final GoogleCalendarSyncStateRepository syncStateRepository;
+	private final GoogleCalendarSyncCursorRepository syncCursorRepository;
+	private final TransactionTemplate jobTransaction;
+
+	private final boolean enabled;
+	private final Duration minInterval;
+	private final Duration fullSyncWindow;
+	private final int batchSize;
+	private final int maxPages;
+
+	private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+
+	public GoogleCalendarSyncService(GoogleCalendarApiClient googleCalendarApiClient,
+			SocialTokenCache tokenManagerService, MeetUserRepository meetUserRepository,
+			GoogleEventMirrorRepository mirrorRepository, GoogleCalendarSyncStateRepository syncStateRepository,
+			GoogleCalendarSyncCursorRepository syncCursorRepository, PlatformTransactionManager transactionManager,
+			@Value("${google.calendar.mirror.enabled:true}") boolean enabled,
+			@Value("${google.calendar.mirror.min-interval:1m}") Duration minInterval,
+			@Value("${google.calendar.mirror.full-sync-window:365d}") Duration fullSyncWindow,
+			@Value("${google.calendar.mirror.batch-size:20}") int batchSize,
+			@Value("${google.calendar.mirror.max-pages:100}") int maxPages) {
+		this.googleCalendarApiClient = googleCalendarApiClient;
+		this.tokenManagerService = tokenManagerService;
+		this.meetUserRepository = meetUserRepository;
+		this.mirrorRepository = mirrorRepository;
+		this.syncStateRepository = syncStateRepository;
+		this.syncCursorRepository = syncCursorRepository;
+		this.jobTransaction = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.minInterval = minInterval;
+		this.fullSyncWindow = fullSyncWindow;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxPages = Math.max(1, maxPages);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 미러에 있는 기간 내 Google 이벤트. 오래된 미러면 동기화를 예약합니다.
+	 * @throws GoogleOAuthException 마지막 동기화가 토큰 만료로 실패한 경우 (재연동 안내)
+	 */
+	public List<CalendarEventResponse> getMirroredEvents(Long userId, LocalDate startDate, LocalDate endDate) {
+		GoogleCalendarSyncState state = syncStateRepository.findById(userId).orElse(null);
+		if (state == null || state.getLastSyncedAt() == null
+				|| state.getLastSyncedAt().isBefore(LocalDateTime.now().minus(minInterval))) {
+			requestSync(userId);
+		}
+		if (state != null && state.isAuthFailed()) {
+			throw new GoogleOAuthException("Google 토큰이 만료되었거나 무효화되었습니다. 재연동이 필요합니다.");
+		}
+		List<CalendarEventResponse> events = new ArrayList<>();
+		for (GoogleEventMirror mirror : mirrorRepository.findByUserIdAndEventDateBetween(userId, startDate, endDate)) {
+			events.add(CalendarEventResponse.from(mirror));
+		}
+		return events;
+	}
+
+	// 동기화 예약 (일정 생성/수정/삭제 후에도 호출). 트랜잭션 안이면 커밋 후 대기열에 추가
+	public void requestSync(Long userId) {
+		if (!enabled || userId == null) {
+			return;
+		}
+		TransactionCallbacks.runAfterCommit(() -> pendingUsers.add(userId));
+	}
+
+	// 예약된 사용자를 한 명씩 동기화. Google 호출 중에는 트랜잭션을 잡지 않음
+	@Scheduled(fixedDelayString = "${google.calendar.mirror.sync-interval-ms:5000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void syncPending() {
+		int processed = 0;
+		for (Iterator<Long> it = pendingUsers.iterator(); it.hasNext() && processed < batchSize; processed++) {
+			Long userId = it.next();
+			it.remove();
+			try {
+				sync(userId);
+			} catch (GoogleOAuthException e) {
+				log.warn("Google 캘린더 동기화 인증 실패 - userId: {} ({})", userId, e.getMessage());
+				jobTransaction.executeWithoutResult(status -> state(userId).authFailed());
+			} catch (RuntimeException e) {
+				// 다음 조회 때 다시 예약됨
+				log.warn("Google 캘린더 동기화 실패 - userId: {} ({})", userId, e.getMessage());
+			}
+		}
+	}
+
+	private void sync(Long userId) {
+		MeetUser user = meetUserRepository.findById(userId).orElse(null);
+		if (user == null) {
+			return;
+		}
+		String accessToken;
+		try {
+			accessToken = tokenManagerService.getToken(user.getEmail(), "google");
+		} catch (RuntimeException e) {
+			String message = e.getMessage() != null ? e.getMessage() : "";
+			if (message.contains("invalid_grant") || message.contains("토큰 갱신 실패")) {
+				throw new GoogleOAuthException("Google 토큰이 만료되었거나 무효화되었습니다.");
+			}
+			throw e;
+		}
+		if (accessToken == null || accessToken.isEmpty()) {
+			return; // Google 연동 안 된 사용자
+		}
+
+		try {
+			Map<String, String> syncTokens = new HashMap<>();
+			for (GoogleCalendarSyncCursor cursor : syncCursorRepository.findByUserId(userId)) {
+				syncTokens.put(cursor.getCalendarId(), cursor.getSyncToken());
+			}
+			for (String calendarId : calendarIds(userId, accessToken, syncTokens)) {
+				try {
+					syncCalendar(userId, calendarId, accessToken, syncTokens.get(calendarId));
+				} catch (GoogleOAuthException e) {
+					throw e;
+				} catch (RuntimeException e) {
+					// 이 캘린더는 min-interval 뒤 다음 동기화 때 이전 토큰부터 다시 받음
+					log.warn("Google 캘린더 동기화 실패 - userId: {}, calendarId: {} ({})", userId, calendarId,
+							e.getMessage());
+				}
+			}
+			jobTransaction.executeWithoutResult(status -> state(userId).synced(LocalDateTime.now()));
+		} catch (GoogleOAuthException e) {
+			// 캐시된 토큰이 무효화됨 (연동 해제 등). 다음 조회는 저장된 토큰으로 다시 로드
+			tokenManagerService.evict(user.getEmail(), "google");
+			throw e;
+		}
+	}
+
+	// 동기화할 캘린더 ID. 목록에서 빠진 캘린더는 미러와 동기화 위치를 지움
+	private List<String> calendarIds(Long userId, String accessToken, Map<String, String> syncTokens) {
+		List<String> calendarIds;
+		try {
+			calendarIds = googleCalendarApiClient.listCalendarIds(accessToken);
+		} catch (GoogleOAuthException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			// 일시적인 실패로 캘린더가 빠진 것으로 보고 지우지 않도록 지난번 목록으로 진행
+			log.warn("Google 캘린더 목록 조회 실패 - userId: {}, 지난번 캘린더로 동기화 ({})", userId, e.getMessage());
+			Set<String> known = new LinkedHashSet<>();
+			known.add(PRIMARY);
+			known.addAll(syncTokens.keySet());
+			return new ArrayList<>(known);
+		}
+		jobTransaction.executeWithoutResult(status -> {
+			int removed = mirrorRepository.deleteByUserIdAndCalendarIdNotIn(userId, calendarIds);
+			syncCursorRepository.deleteByUserIdAndCalendarIdNotIn(userId, calendarIds);
+			if (removed > 0) {
+				log.info("목록에서 빠진 Google 캘린더 이벤트 제거 - userId: {}, {}건", userId, removed);
+			}
+		});
+		return calendarIds;
+	}
+
+	private void syncCalendar(Long userId, String calendarId, String accessToken, String syncToken) {
+		try {
+			pull(userId, calendarId, accessToken, syncToken);
+		} catch (GoogleCalendarApiClient.SyncTokenExpiredException e) {
+			log.info("Google 캘린더 syncToken 만료 - userId: {}, calendarId: {}, 전체 재동기화", userId, calendarId);
+			pull(userId, calendarId, accessToken, null);
+		}
+	}
+
+	// syncToken 이 null 이면 전체 동기화
+	private void pull(Long userId, String calendarId, String accessToken, String syncToken) {
+		boolean fullSync = syncToken == null;
+		LocalDateTime startedAt = LocalDateTime.now();
+		LocalDateTime fullSyncFrom = startedAt.minus(fullSyncWindow);
+		String pageToken = null;
+		int applied = 0;
+
+		for (int page = 0; page < maxPages; page++) {
+			GoogleEventResponseDTO result = googleCalendarApiClient.listChanges(accessToken, calendarId, syncToken,
+					pageToken, fullSyncFrom);
+			List<GoogleEventResponseDTO> items = result.getItems() != null ? result.getItems() : Collections.emptyList();
+			jobTransaction.executeWithoutResult(status -> apply(userId, calendarId, items, startedAt));
+			applied += items.size();
+
+			if (result.getNextPageToken() != null) {
+				pageToken = result.getNextPageToken();
+				continue;
+			}
+			String nextSyncToken = result.getNextSyncToken();
+			int changes = applied;
+			jobTransaction.executeWithoutResult(status -> {
+				int removed = fullSync ? mirrorRepository.deleteNotSyncedSince(userId, calendarId, startedAt) : 0;
+				cursor(userId, calendarId).advance(nextSyncToken);
+				log.info("Google 캘린더 {} 동기화 - userId: {}, calendarId: {}, 변경 {}건, 제거 {}건",
+						fullSync ? "전체" : "증분", userId, calendarId, changes, removed);
+			});
+			return;
+		}
+		throw new IllegalStateException("Google 캘린더 동기화 페이지가 너무 많습니다. (max-pages=" + maxPages + ")");
+	}
+
+	private void apply(Long userId, String calendarId, List<GoogleEventResponseDTO> items, LocalDateTime syncedAt) {
+		if (items.isEmpty()) {
+			return;
+		}
+		List<String> ids = new ArrayList<>(items.size());
+		for (GoogleEventResponseDTO item : items) {
+			ids.add(item.getId());
+		}
+		Map<String, GoogleEventMirror> existing = new HashMap<>();
+		for (GoogleEventMirror mirror : mirrorRepository.findByUserIdAndCalendarIdAndGoogleEventIdIn(userId, calendarId, ids)) {
+			existing.put(mirror.getGoogleEventId(), mirror);
+		}
+
+		for (GoogleEventResponseDTO item : items) {
+			GoogleEventMirror mirror = existing.get(item.getId());
+			LocalDate eventDate = eventDate(item.getStart());
+			// 취소된 이벤트(증분 응답에는 id/status 만 올 수 있음)는 미러에서 제거
+			if ("cancelled".equalsIgnoreCase(item.getStatus()) || eventDate == null) {
+				if (mirror != null) {
+					mirrorRepository.delete(mirror);
+					existing.remove(item.getId());
+				}
+				continue;
+			}
+			if (mirror == null) {
+				mirror = new GoogleEventMirror(userId, calendarId, item.getId());
+				existing.put(item.getId(), mirror);
+			}
+			mirror.apply(item.getSummary(), eventDate, eventTime(item.getStart()), item.getStatus(), syncedAt);
+			mirrorRepository.save(mirror);
+		}
+	}
+
+	private GoogleCalendarSyncState state(Long userId) {
+		return syncStateRepository.findById(userId)
+				.orElseGet(() -> syncStateRepository.save(new GoogleCalendarSyncState(userId)));
+	}
+
+	private GoogleCalendarSyncCursor cursor(Long userId, String calendarId) {
+		return syncCursorRepository.findByUserIdAndCalendarId(userId, calendarId)
+				.orElseGet(() -> syncCursorRepository.save(new GoogleCalendarSyncCursor(userId, calendarId)));
+	}
+
+	// 종일 일정은 date, 시간 일정은 dateTime 의 날짜 부분
+	private LocalDate eventDate(EventDateTimeDTO start) {
+		if (start == null) {
+			return null;
+		}
+		if (start.getDate() != null) {
+			return LocalDate.parse(start.getDate());
+		}
+		if (start.getDateTime() != null) {
+			return LocalDate.parse(start.getDateTime(), DateTimeFormatter.ISO_DATE_TIME);
+		}
+		return null;
+	}
+
+	// 종일 일정은 null
+	private LocalTime eventTime(EventDateTimeDTO start) {
+		if (start == null || start.getDateTime() == null) {
+			return null;
+		}
+		return LocalTime.parse(start.getDateTime(), DateTimeFormatter.ISO_DATE_TIME);
+	}
+}
@@ -9,6 +9,8 @@ import org.springframework.security.oauth2.client.web.DefaultOAuth2Authorization
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestResolver;
 import org.springframework.web.client.RestTemplate;  // HTTP 통신용 클라이언트
 
+import com.dialog.global.http.OutboundHttpClients;
+
 @Configuration
 public class AppConfig {
 	@Bean
@@ -31,10 +33,10 @@ public class AppConfig {
 	}
 	
 	// HTTP 통신용 클라이언트
-	// Python FastAPI(포트 8000)와 통신하여 챗봇 요청 중계
+	// Python FastAPI(포트 8000)와 통신하여 챗봇 요청 중계 (outbound.http.clients.fastapi 풀/정책 사용)
 	@Bean
-	public RestTemplate restTemplate() {
-	    return new RestTemplate();
+	public RestTemplate restTemplate(OutboundHttpClients outboundHttpClients) {
+	    return outboundHttpClients.restTemplate("fastapi");
 	}
 	
 }
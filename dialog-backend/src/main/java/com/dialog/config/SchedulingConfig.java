@@ -0,0 +1,10 @@
+package com.dialog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (실시간 발화 버퍼 주기적 저장 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
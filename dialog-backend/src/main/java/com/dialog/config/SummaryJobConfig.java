@@ -0,0 +1,33 @@
+package com.dialog.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class SummaryJobConfig {
+
+	/**
+	 * AI 요약 작업 전용 스레드 풀. 동시에 실행되는 요약 수와 대기 큐 크기를 제한하여
+	 * 요청이 몰려도 AI 서버와 DB 커넥션 풀이 한꺼번에 고갈되지 않도록 합니다.
+	 * 큐까지 가득 차면 작업 제출이 거절(TaskRejectedException)됩니다.
+	 */
+	@Bean(name = "summaryJobExecutor", destroyMethod = "shutdown")
+	public ThreadPoolTaskExecutor summaryJobExecutor(
+			@Value("${summary.job.pool-size:4}") int poolSize,
+			@Value("${summary.job.queue-capacity:50}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("summary-job-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+}
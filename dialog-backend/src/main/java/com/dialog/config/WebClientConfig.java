@@ -4,14 +4,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.dialog.global.http.OutboundHttpClients;
+
 @Configuration
 public class WebClientConfig {
 	/**
 	 * WebClient 인스턴스를 Spring Bean으로 등록합니다. GoogleCalendarApiClient를 포함한 모든 API 호출에
-	 * 사용됩니다.
+	 * 사용됩니다. (outbound.http.clients.google 풀/정책 사용)
 	 */
 	@Bean
-	public WebClient webClient() {
-		return WebClient.builder().build();
+	public WebClient webClient(OutboundHttpClients outboundHttpClients) {
+		return outboundHttpClients.webClient("google");
 	}
 }
@@ -0,0 +1,8 @@
+package com.dialog.exception;
+
+// 외부 호출 거부 (대상 서버 회로 차단 중이거나 동시 호출 한도 초과). 요청은 전송되지 않음
+public class OutboundRejectedException extends RuntimeException {
+    public OutboundRejectedException(String message) {
+        super(message);
+    }
+}
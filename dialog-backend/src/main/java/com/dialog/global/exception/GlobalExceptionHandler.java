@@ -14,6 +14,7 @@ import com.dialog.exception.InactiveUserException;
 import com.dialog.exception.InvalidJwtTokenException;
 import com.dialog.exception.InvalidPasswordException;
 import com.dialog.exception.OAuthUserNotFoundException;
+import com.dialog.exception.OutboundRejectedException;
 import com.dialog.exception.RefreshTokenException;
 import com.dialog.exception.ResourceNotFoundException;
 import com.dialog.exception.SocialUserInfoException;
@@ -73,6 +74,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
     }
     
+    // 외부 서버 호출 거부 (회로 차단 / 동시 호출 한도 초과) - 잠시 후 재시도 가능 (503)
+    @ExceptionHandler(OutboundRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleOutboundRejected(OutboundRejectedException e) {
+        log.warn(" Outbound Rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", "Service Unavailable", "message", "외부 서비스가 혼잡합니다. 잠시 후 다시 시도해주세요."));
+    }
+
     // 5. 그 외 서버 에러 (500)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleException(Exception e) {
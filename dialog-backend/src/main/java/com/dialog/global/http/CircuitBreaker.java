@@ -0,0 +1,129 @@
+package com.dialog.global.http;
+
+/**
+ * 호출 결과 기반 회로 차단기 (최근 N 번 결과의 실패 비율).
+ *
+ * CLOSED: 모두 통과. 실패 비율이 임계치를 넘으면 OPEN
+ * OPEN: open-duration 동안 모두 거부. 지나면 HALF_OPEN
+ * HALF_OPEN: half-open-calls 번만 통과시켜 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+final class CircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final boolean enabled;
+	private final int minimumCalls;
+	private final int failureRateThreshold;
+	private final long openNanos;
+	private final int halfOpenCalls;
+
+	// 최근 결과 원형 버퍼 (true = 실패)
+	private final boolean[] window;
+	private int next;
+	private int size;
+	private int failures;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	CircuitBreaker(OutboundHttpProperties.BreakerSettings settings) {
+		this.enabled = settings.isEnabled();
+		this.window = new boolean[Math.max(1, settings.getWindowSize())];
+		this.minimumCalls = Math.min(Math.max(1, settings.getMinimumCalls()), window.length);
+		this.failureRateThreshold = settings.getFailureRateThreshold();
+		this.openNanos = settings.getOpenDuration().toNanos();
+		this.halfOpenCalls = Math.max(1, settings.getHalfOpenCalls());
+	}
+
+	// 통과시키면 true. true 를 받은 호출은 반드시 onResult 또는 onIgnored 로 끝내야 함
+	synchronized boolean tryAcquire() {
+		if (!enabled) {
+			return true;
+		}
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAt < openNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			halfOpenPermits = 0;
+			halfOpenSuccesses = 0;
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits >= halfOpenCalls) {
+				return false;
+			}
+			halfOpenPermits++;
+		}
+		return true;
+	}
+
+	synchronized void onResult(boolean failure) {
+		if (!enabled) {
+			return;
+		}
+		switch (state) {
+		case HALF_OPEN:
+			if (failure) {
+				open();
+			} else if (++halfOpenSuccesses >= halfOpenCalls) {
+				close();
+			}
+			break;
+		case CLOSED:
+			record(failure);
+			if (size >= minimumCalls && failures * 100 >= failureRateThreshold * size) {
+				open();
+			}
+			break;
+		default:
+			// OPEN 중에 끝난 이전 호출 결과는 무시
+		}
+	}
+
+	// 통과했지만 결과를 판단할 수 없이 끝난 호출 (시험 호출 자리만 돌려줌)
+	synchronized void onIgnored() {
+		if (enabled && state == State.HALF_OPEN && halfOpenPermits > 0) {
+			halfOpenPermits--;
+		}
+	}
+
+	synchronized State state() {
+		// 표시용. open-duration 이 지났으면 다음 호출 때 HALF_OPEN 이 됨
+		return state;
+	}
+
+	synchronized double failureRate() {
+		return size == 0 ? 0.0 : (double) failures / size;
+	}
+
+	private void record(boolean failure) {
+		if (size == window.length) {
+			if (window[next]) {
+				failures--;
+			}
+		} else {
+			size++;
+		}
+		window[next] = failure;
+		if (failure) {
+			failures++;
+		}
+		next = (next + 1) % window.length;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = System.nanoTime();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		next = 0;
+		size = 0;
+		failures = 0;
+	}
+}
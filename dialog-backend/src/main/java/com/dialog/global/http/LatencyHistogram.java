@@ -0,0 +1,77 @@
+package com.dialog.global.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 히스토그램 (고정 구간, ms). 백분위수는 해당 구간의 상한으로 근사합니다.
+ */
+final class LatencyHistogram {
+
+	private static final long[] BOUNDS_MS = { 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000,
+			120_000 };
+
+	private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sumMicros = new LongAdder();
+	private final LongAccumulator maxMicros = new LongAccumulator(Long::max, 0);
+
+	LatencyHistogram() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	void record(long nanos) {
+		long micros = nanos / 1_000;
+		long millis = micros / 1_000;
+		int i = 0;
+		while (i < BOUNDS_MS.length && millis > BOUNDS_MS[i]) {
+			i++;
+		}
+		buckets[i].increment();
+		count.increment();
+		sumMicros.add(micros);
+		maxMicros.accumulate(micros);
+	}
+
+	Map<String, Object> snapshot() {
+		long[] counts = new long[buckets.length];
+		long total = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			counts[i] = buckets[i].sum();
+			total += counts[i];
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("count", total);
+		result.put("meanMs", total == 0 ? 0.0 : sumMicros.sum() / 1_000.0 / total);
+		result.put("maxMs", maxMicros.get() / 1_000.0);
+		result.put("p50Ms", percentile(counts, total, 0.50));
+		result.put("p95Ms", percentile(counts, total, 0.95));
+		result.put("p99Ms", percentile(counts, total, 0.99));
+		Map<String, Long> histogram = new LinkedHashMap<>();
+		for (int i = 0; i < counts.length; i++) {
+			histogram.put(i < BOUNDS_MS.length ? "le" + BOUNDS_MS[i] : "gt" + BOUNDS_MS[BOUNDS_MS.length - 1], counts[i]);
+		}
+		result.put("bucketsMs", histogram);
+		return result;
+	}
+
+	// 마지막 구간(상한 없음)에 걸리면 최댓값
+	private double percentile(long[] counts, long total, double quantile) {
+		if (total == 0) {
+			return 0.0;
+		}
+		long rank = (long) Math.ceil(quantile * total);
+		long seen = 0;
+		for (int i = 0; i < BOUNDS_MS.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return BOUNDS_MS[i];
+			}
+		}
+		return maxMicros.get() / 1_000.0;
+	}
+}
@@ -0,0 +1,256 @@
+package com.dialog.global.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import com.dialog.exception.OutboundRejectedException;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 외부 호출 대상 하나(fastapi, google ...)의 호출 정책과 통계.
+ *
+ * 시도마다: 벌크헤드(동시 호출 수) → 회로 차단기 → 호출 → 응답 시간/결과 기록.
+ * 5xx/429 와 네트워크 오류를 실패로 보고, 4xx 는 대상 서버가 정상 응답한 것으로 봅니다.
+ * 재시도는 멱등 메서드(GET/HEAD/PUT/DELETE/OPTIONS)만 하고, 연결 자체가 안 된 경우(요청 미전송)는 POST 도 재시도합니다.
+ * 재시도 대기는 지수 증가 + jitter 이며, deadline 을 넘기게 되면 더 시도하지 않습니다.
+ * 벌크헤드 자리는 응답 헤더를 받으면 돌려줍니다 (본문 읽기는 호출한 쪽에서 진행).
+ */
+@Slf4j
+public class OutboundClient {
+
+	private static final Set<HttpMethod> IDEMPOTENT = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT,
+			HttpMethod.DELETE, HttpMethod.OPTIONS);
+
+	private final String name;
+	private final OutboundHttpProperties.Destination settings;
+	private final Semaphore bulkhead;
+	private final CircuitBreaker circuitBreaker;
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder bulkheadRejections = new LongAdder();
+	private final LongAdder circuitRejections = new LongAdder();
+
+	OutboundClient(String name, OutboundHttpProperties.Destination settings) {
+		this.name = name;
+		this.settings = settings;
+		this.bulkhead = new Semaphore(Math.max(1, settings.getMaxConcurrentCalls()));
+		this.circuitBreaker = new CircuitBreaker(settings.getCircuitBreaker());
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	OutboundHttpProperties.Destination getSettings() {
+		return settings;
+	}
+
+	/** RestTemplate 용 (호출 스레드에서 벌크헤드 자리를 bulkhead-max-wait 까지 기다림) */
+	public ClientHttpRequestInterceptor interceptor() {
+		return (request, body, execution) -> {
+			long deadlineAt = System.nanoTime() + settings.getDeadline().toNanos();
+			boolean idempotent = IDEMPOTENT.contains(request.getMethod());
+			for (int attempt = 1;; attempt++) {
+				Permit permit = acquire(settings.getBulkheadMaxWait());
+				ClientHttpResponse response;
+				try {
+					response = execution.execute(request, body);
+				} catch (IOException | RuntimeException e) {
+					permit.release(true);
+					Duration backoff = backoff(attempt);
+					if (!canRetry(attempt, deadlineAt, backoff, idempotent || isConnectFailure(e))) {
+						throw e;
+					}
+					log.warn("[{}] {} {} 실패, {}ms 후 재시도 ({}/{}): {}", name, request.getMethod(), request.getURI(),
+							backoff.toMillis(), attempt, settings.getRetry().getMaxAttempts(), e.getMessage());
+					sleep(backoff);
+					continue;
+				}
+				boolean failed = isFailure(response.getStatusCode());
+				permit.release(failed);
+				Duration backoff = backoff(attempt);
+				if (failed && canRetry(attempt, deadlineAt, backoff, idempotent)) {
+					log.warn("[{}] {} {} 응답 {}, {}ms 후 재시도 ({}/{})", name, request.getMethod(), request.getURI(),
+							response.getStatusCode(), backoff.toMillis(), attempt, settings.getRetry().getMaxAttempts());
+					response.close();
+					sleep(backoff);
+					continue;
+				}
+				return response;
+			}
+		};
+	}
+
+	/** WebClient 용 (이벤트 루프를 막지 않도록 벌크헤드는 기다리지 않고 바로 거부). 전체에 deadline 적용 */
+	public ExchangeFilterFunction filter() {
+		return (request, next) -> {
+			boolean idempotent = IDEMPOTENT.contains(request.method());
+			int maxAttempts = Math.max(1, settings.getRetry().getMaxAttempts());
+			AtomicInteger attempts = new AtomicInteger();
+			Mono<ClientResponse> attempt = Mono.defer(() -> {
+				int current = attempts.incrementAndGet();
+				Permit permit = acquire(Duration.ZERO);
+				return next.exchange(request)
+						.doOnCancel(permit::cancel)
+						.doOnError(e -> permit.release(true))
+						.flatMap(response -> {
+							boolean failed = isFailure(response.statusCode());
+							permit.release(failed);
+							if (failed && idempotent && current < maxAttempts) {
+								return response.releaseBody()
+										.then(Mono.error(new RetryableStatusException(response.statusCode())));
+							}
+							return Mono.just(response);
+						});
+			});
+			OutboundHttpProperties.RetrySettings retry = settings.getRetry();
+			return attempt
+					.retryWhen(Retry.backoff(maxAttempts - 1, retry.getInitialBackoff())
+							.maxBackoff(retry.getMaxBackoff())
+							.jitter(Math.min(Math.max(retry.getJitter(), 0.0), 1.0))
+							.filter(e -> e instanceof RetryableStatusException
+									|| (!(e instanceof OutboundRejectedException) && (idempotent || isConnectFailure(e))))
+							.doBeforeRetry(signal -> {
+								retries.increment();
+								log.warn("[{}] {} {} 재시도 ({}): {}", name, request.method(), request.url(),
+										signal.totalRetries() + 1, signal.failure().getMessage());
+							})
+							.onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+					.timeout(settings.getDeadline());
+		};
+	}
+
+	public Map<String, Object> stats() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("calls", calls.sum());
+		result.put("failures", failures.sum());
+		result.put("retries", retries.sum());
+		result.put("inFlight", Math.max(1, settings.getMaxConcurrentCalls()) - bulkhead.availablePermits());
+		result.put("bulkheadRejections", bulkheadRejections.sum());
+		result.put("circuitState", circuitBreaker.state().name());
+		result.put("circuitFailureRate", circuitBreaker.failureRate());
+		result.put("circuitRejections", circuitRejections.sum());
+		result.put("latency", latency.snapshot());
+		return result;
+	}
+
+	// 벌크헤드 → 회로 차단기 순서로 자리 확보. 거부되면 요청을 보내지 않음
+	private Permit acquire(Duration maxWait) {
+		boolean acquired;
+		try {
+			acquired = maxWait.isZero() ? bulkhead.tryAcquire()
+					: bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			bulkheadRejections.increment();
+			throw new OutboundRejectedException("[" + name + "] 동시 호출 한도를 초과했습니다.");
+		}
+		if (!circuitBreaker.tryAcquire()) {
+			bulkhead.release();
+			circuitRejections.increment();
+			throw new OutboundRejectedException("[" + name + "] 대상 서버 오류가 많아 잠시 호출을 막았습니다.");
+		}
+		return new Permit();
+	}
+
+	private boolean canRetry(int attempt, long deadlineAt, Duration backoff, boolean retryable) {
+		return retryable && attempt < settings.getRetry().getMaxAttempts()
+				&& System.nanoTime() + backoff.toNanos() < deadlineAt;
+	}
+
+	// initial * 2^(attempt-1), max-backoff 상한, ±jitter
+	private Duration backoff(int attempt) {
+		OutboundHttpProperties.RetrySettings retry = settings.getRetry();
+		long base = retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20);
+		base = Math.min(base, retry.getMaxBackoff().toMillis());
+		double jitter = Math.min(Math.max(retry.getJitter(), 0.0), 1.0);
+		double factor = 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+		return Duration.ofMillis(Math.max(0, Math.round(base * factor)));
+	}
+
+	private void sleep(Duration backoff) throws InterruptedIOException {
+		try {
+			Thread.sleep(backoff.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("재시도 대기 중 인터럽트");
+		}
+		retries.increment();
+	}
+
+	private static boolean isFailure(HttpStatusCode status) {
+		return status.is5xxServerError() || status.value() == 429;
+	}
+
+	private static boolean isConnectFailure(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof ConnectException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 확보한 자리 하나. 결과 기록과 반환은 한 번만
+	private class Permit {
+
+		private final long startedAt = System.nanoTime();
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		void release(boolean failure) {
+			if (!released.compareAndSet(false, true)) {
+				return;
+			}
+			latency.record(System.nanoTime() - startedAt);
+			calls.increment();
+			if (failure) {
+				failures.increment();
+			}
+			circuitBreaker.onResult(failure);
+			bulkhead.release();
+		}
+
+		// 호출한 쪽이 취소 (deadline 초과, 구독 해제). 대상 서버 상태와 무관하므로 결과로 세지 않음
+		void cancel() {
+			if (!released.compareAndSet(false, true)) {
+				return;
+			}
+			circuitBreaker.onIgnored();
+			bulkhead.release();
+		}
+	}
+
+	private static class RetryableStatusException extends RuntimeException {
+
+		RetryableStatusException(HttpStatusCode status) {
+			super("재시도 대상 응답: " + status, null, false, false);
+		}
+	}
+}
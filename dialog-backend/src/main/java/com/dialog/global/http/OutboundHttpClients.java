@@ -0,0 +1,88 @@
+package com.dialog.global.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 HTTP 호출 대상별 클라이언트 모음 (fastapi, google ...).
+ *
+ * 대상마다 Reactor Netty 커넥션 풀(크기/keep-alive/수명)과 연결·응답 timeout 을 따로 두고,
+ * RestTemplate 과 WebClient 모두 그 풀 위에서 OutboundClient 정책(deadline, 재시도, 회로 차단, 벌크헤드)을 거칩니다.
+ * 한 대상이 느려져도 그 대상의 풀과 벌크헤드만 차므로 다른 대상 호출과 서블릿 스레드 전체가 묶이지 않습니다.
+ */
+@Component
+public class OutboundHttpClients implements DisposableBean {
+
+	private final OutboundHttpProperties properties;
+	private final Map<String, OutboundClient> clients = new ConcurrentHashMap<>();
+	private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+	private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+	public OutboundHttpClients(OutboundHttpProperties properties) {
+		this.properties = properties;
+		properties.getClients().keySet().forEach(this::client);
+	}
+
+	public OutboundClient client(String name) {
+		return clients.computeIfAbsent(name, n -> new OutboundClient(n,
+				properties.getClients().getOrDefault(n, new OutboundHttpProperties.Destination())));
+	}
+
+	public RestTemplate restTemplate(String name) {
+		ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory(httpClient(name));
+		requestFactory.setReadTimeout(client(name).getSettings().getReadTimeout());
+		RestTemplate restTemplate = new RestTemplate(requestFactory);
+		restTemplate.getInterceptors().add(client(name).interceptor());
+		return restTemplate;
+	}
+
+	public WebClient webClient(String name) {
+		return WebClient.builder()
+				.clientConnector(new ReactorClientHttpConnector(httpClient(name)))
+				.filter(client(name).filter())
+				.build();
+	}
+
+	// 대상별 호출 수/실패/재시도/거부, 회로 상태, 응답 시간 히스토그램
+	public Map<String, Object> stats() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		clients.keySet().stream().sorted().forEach(name -> result.put(name, clients.get(name).stats()));
+		return result;
+	}
+
+	@Override
+	public void destroy() {
+		providers.values().forEach(ConnectionProvider::dispose);
+	}
+
+	private HttpClient httpClient(String name) {
+		return httpClients.computeIfAbsent(name, n -> {
+			OutboundHttpProperties.Destination settings = client(n).getSettings();
+			ConnectionProvider provider = ConnectionProvider.builder("outbound-" + n)
+					.maxConnections(Math.max(1, settings.getMaxConnections()))
+					.pendingAcquireTimeout(settings.getPendingAcquireTimeout())
+					.maxIdleTime(settings.getMaxIdleTime())
+					.maxLifeTime(settings.getMaxLifeTime())
+					.evictInBackground(settings.getMaxIdleTime())
+					.build();
+			providers.put(n, provider);
+			return HttpClient.create(provider)
+					.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis())
+					.option(ChannelOption.SO_KEEPALIVE, true)
+					.keepAlive(true)
+					.responseTimeout(settings.getReadTimeout());
+		});
+	}
+}
@@ -0,0 +1,72 @@
+package com.dialog.global.http;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 HTTP 호출 대상별 설정 (outbound.http.clients.&lt;이름&gt;). 설정에 없는 이름은 기본값으로 만듭니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+	private Map<String, Destination> clients = new LinkedHashMap<>();
+
+	@Getter
+	@Setter
+	public static class Destination {
+
+		// 커넥션 풀
+		private int maxConnections = 50;
+		private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+		// keep-alive 커넥션을 놀려 둘 수 있는 시간 / 커넥션 최대 수명
+		private Duration maxIdleTime = Duration.ofSeconds(30);
+		private Duration maxLifeTime = Duration.ofMinutes(5);
+
+		private Duration connectTimeout = Duration.ofSeconds(3);
+		// 시도 한 번의 응답 대기 한도
+		private Duration readTimeout = Duration.ofSeconds(30);
+		// 재시도를 포함한 호출 전체 한도
+		private Duration deadline = Duration.ofSeconds(60);
+
+		// 벌크헤드: 동시 호출 수와 자리가 날 때까지 기다리는 시간 (WebClient 는 기다리지 않음)
+		private int maxConcurrentCalls = 50;
+		private Duration bulkheadMaxWait = Duration.ZERO;
+
+		private RetrySettings retry = new RetrySettings();
+		private BreakerSettings circuitBreaker = new BreakerSettings();
+	}
+
+	@Getter
+	@Setter
+	public static class RetrySettings {
+
+		// 첫 시도 포함. 1 이면 재시도 안 함
+		private int maxAttempts = 3;
+		private Duration initialBackoff = Duration.ofMillis(200);
+		private Duration maxBackoff = Duration.ofSeconds(2);
+		// 대기 시간을 ±jitter 비율만큼 무작위로 흔듦 (0~1)
+		private double jitter = 0.5;
+	}
+
+	@Getter
+	@Setter
+	public static class BreakerSettings {
+
+		private boolean enabled = true;
+		// 최근 window-size 번 중 실패 비율이 failure-rate-threshold(%) 이상이면 open
+		private int windowSize = 20;
+		private int minimumCalls = 10;
+		private int failureRateThreshold = 50;
+		// open 유지 시간. 지나면 half-open 으로 half-open-calls 번 시험 호출
+		private Duration openDuration = Duration.ofSeconds(30);
+		private int halfOpenCalls = 2;
+	}
+}
@@ -0,0 +1,42 @@
+package com.dialog.global.utill;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 커밋/롤백 이후에 실행할 작업 등록.
+ * 캐시 무효화, 백그라운드 작업 예약처럼 커밋된 데이터를 기준으로 해야 하는 후처리에 사용합니다.
+ */
+public final class TransactionCallbacks {
+
+	private TransactionCallbacks() {
+	}
+
+	// 트랜잭션 안이면 커밋 직후 실행 (롤백되면 실행 안 함), 밖이면 바로 실행
+	public static void runAfterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	// 트랜잭션 안이면 롤백 직후 실행. 밖이면 되돌릴 것이 없으므로 아무것도 하지 않음
+	public static void runAfterRollback(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_ROLLED_BACK) {
+						action.run();
+					}
+				}
+			});
+		}
+	}
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -35,7 +36,8 @@ import lombok.NoArgsConstructor;
 public class MeetingResultKeyword {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_result_keyword_seq_gen")
+    @SequenceGenerator(name = "meeting_result_keyword_seq_gen", sequenceName = "meeting_result_keyword_seq", allocationSize = 50)
     private Long id;
 
     // MeetingResult (1) : (M) MeetingResultKeyword
@@ -1,21 +1,37 @@
 package com.dialog.keyword.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.keyword.domain.Keyword;
 
+import jakarta.persistence.LockModeType;
+
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 	// 이름으로 키워드 찾기 (MeetingService에서 사용 중)
 	Optional<Keyword> findByName(String name);
+
+	// 여러 키워드를 IN 쿼리 한 번으로 조회 (KeywordResolver에서 사용)
+	@Query("SELECT k FROM Keyword k WHERE k.name IN :names")
+	List<Keyword> findAllByNameIn(@Param("names") Collection<String> names);
+
+	// INSERT IGNORE 직후 재조회용 잠금 읽기 (FOR SHARE). 일반 조회는 트랜잭션 스냅샷을 읽어
+	// 다른 트랜잭션이 방금 커밋한 키워드를 보지 못하므로(REPEATABLE READ) 최신 커밋 행을 읽음
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT k FROM Keyword k WHERE k.name IN :names")
+	List<Keyword> findAllByNameInForShare(@Param("names") Collection<String> names);
 	
 	// MeetingResultKeyword 테이블에 자신의 ID가 없는 Keyword를 찾아서 삭제합니다.
     @Modifying
     @Transactional
     @Query("DELETE FROM Keyword k WHERE NOT EXISTS (SELECT 1 FROM MeetingResultKeyword mrk WHERE mrk.keyword = k)")
     void deleteOrphanKeywords();
-}
\ No newline at end of file
+}
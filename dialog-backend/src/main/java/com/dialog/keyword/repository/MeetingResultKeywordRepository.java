@@ -1,8 +1,14 @@
 package com.dialog.keyword.repository;
 
 import com.dialog.keyword.domain.MeetingResultKeyword;
+
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface MeetingResultKeywordRepository extends JpaRepository<MeetingResultKeyword, Long> {
@@ -11,4 +17,10 @@ public interface MeetingResultKeywordRepository extends JpaRepository<MeetingRes
     @Modifying
     @Transactional
     void deleteByMeetingResultId(Long meetingResultId);
-}
\ No newline at end of file
+
+    // 여러 회의의 키워드를 한 번에 조회 (목록 화면용, [meetingId, keywordName, source])
+    @Query("SELECT r.meeting.id, k.name, mrk.source FROM MeetingResultKeyword mrk "
+            + "JOIN mrk.meetingResult r JOIN mrk.keyword k "
+            + "WHERE r.meeting.id IN :meetingIds ORDER BY mrk.id")
+    List<Object[]> findKeywordsByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+}
@@ -0,0 +1,174 @@
+package com.dialog.keyword.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.keyword.domain.Keyword;
+import com.dialog.keyword.repository.KeywordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키워드 이름 목록을 한 번에 Keyword 엔티티로 변환하는 서비스.
+ * 
+ * 1) 이름 정규화(trim, 빈 값/중복 제거)
+ * 2) 캐시(name → id)에 있는 키워드는 DB 조회 없이 참조(프록시)로 반환
+ * 3) 나머지는 IN 쿼리 한 번으로 조회
+ * 4) 없는 키워드는 INSERT IGNORE 배치 한 번으로 생성 후 잠금 읽기(FOR SHARE)로 다시 IN 조회
+ *    (동시에 같은 키워드를 만드는 경우 keyword.name UNIQUE 제약으로 한쪽만 들어가고, 재조회로 양쪽 모두 같은 ID를 얻음)
+ * 5) 새로 얻은 name → id 는 커밋 후에만 캐시에 넣음
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class KeywordResolver {
+
+	private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO keyword (name, created_at) VALUES (?, ?)";
+
+	private final KeywordRepository keywordRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final Cache<String, Long> nameToIdCache;
+
+	public KeywordResolver(KeywordRepository keywordRepository, JdbcTemplate jdbcTemplate,
+			@Value("${keyword.cache.max-size:10000}") long maxSize,
+			@Value("${keyword.cache.expire-after-access:6h}") Duration expireAfterAccess) {
+		this.keywordRepository = keywordRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.nameToIdCache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterAccess(expireAfterAccess)
+				.build();
+	}
+
+	// 키워드 이름 정규화 (앞뒤 공백 제거, 빈 값은 null)
+	public static String normalize(String name) {
+		if (name == null) {
+			return null;
+		}
+		String trimmed = name.trim();
+		return trimmed.isEmpty() ? null : trimmed;
+	}
+
+	// 이름 목록 → (정규화된 이름 → Keyword) 맵. 입력 순서를 유지합니다.
+	@Transactional
+	public Map<String, Keyword> resolveAll(Collection<String> rawNames) {
+		Set<String> names = new LinkedHashSet<>();
+		if (rawNames != null) {
+			for (String raw : rawNames) {
+				String name = normalize(raw);
+				if (name != null) {
+					names.add(name);
+				}
+			}
+		}
+		if (names.isEmpty()) {
+			return new LinkedHashMap<>();
+		}
+
+		Map<String, Keyword> resolved = new LinkedHashMap<>();
+		List<String> misses = new ArrayList<>();
+
+		// 1. 캐시 히트: DB 조회 없이 참조만 생성 (연관관계 FK 설정에는 ID만 필요)
+		for (String name : names) {
+			Long cachedId = nameToIdCache.getIfPresent(name);
+			if (cachedId != null) {
+				resolved.put(name, keywordRepository.getReferenceById(cachedId));
+			} else {
+				misses.add(name);
+			}
+		}
+
+		if (!misses.isEmpty()) {
+			// 2. 캐시 미스: IN 쿼리 한 번
+			Map<String, Keyword> found = fetchByNames(misses);
+
+			// 3. DB에도 없는 키워드: 배치 INSERT 한 번 후 잠금 읽기로 재조회
+			List<String> missing = misses.stream().filter(n -> match(found, n) == null).toList();
+			if (!missing.isEmpty()) {
+				insertIgnoringDuplicates(missing);
+				for (Keyword keyword : keywordRepository.findAllByNameInForShare(missing)) {
+					found.put(keyword.getName(), keyword);
+				}
+			}
+
+			Map<String, Long> newIds = new LinkedHashMap<>();
+			for (String name : misses) {
+				Keyword keyword = match(found, name);
+				if (keyword == null) {
+					throw new IllegalStateException("키워드를 생성하거나 조회할 수 없습니다: " + name);
+				}
+				newIds.put(name, keyword.getId());
+				resolved.put(name, keyword);
+			}
+			// 이번 트랜잭션에서 만든 키워드는 롤백되면 사라지므로 커밋된 뒤에만 캐시에 넣음
+			TransactionCallbacks.runAfterCommit(() -> nameToIdCache.putAll(newIds));
+			TransactionCallbacks.runAfterRollback(() -> nameToIdCache.invalidateAll(newIds.keySet()));
+		}
+
+		// 입력 순서대로 반환
+		Map<String, Keyword> ordered = new LinkedHashMap<>();
+		for (String name : names) {
+			ordered.put(name, resolved.get(name));
+		}
+		return ordered;
+	}
+
+	// 고아 키워드 삭제 시 캐시에 남은 ID가 삭제된 행을 가리키지 않도록 함께 비웁니다.
+	@Transactional
+	public void deleteOrphanKeywords() {
+		keywordRepository.deleteOrphanKeywords();
+		nameToIdCache.invalidateAll();
+	}
+
+	public void evictAll() {
+		nameToIdCache.invalidateAll();
+	}
+
+	private Map<String, Keyword> fetchByNames(List<String> names) {
+		Map<String, Keyword> result = new LinkedHashMap<>();
+		for (Keyword keyword : keywordRepository.findAllByNameIn(names)) {
+			result.put(keyword.getName(), keyword);
+		}
+		return result;
+	}
+
+	// MySQL 기본 collation은 대소문자를 구분하지 않으므로 ("AI" = "ai"), 정확히 일치하는 이름이 없으면 대소문자 무시 비교
+	private Keyword match(Map<String, Keyword> found, String name) {
+		Keyword exact = found.get(name);
+		if (exact != null) {
+			return exact;
+		}
+		for (Map.Entry<String, Keyword> entry : found.entrySet()) {
+			if (entry.getKey().equalsIgnoreCase(name)) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	private void insertIgnoringDuplicates(List<String> names) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> batchArgs = new ArrayList<>(names.size());
+		for (String name : names) {
+			batchArgs.add(new Object[] { name, now });
+		}
+		jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, batchArgs);
+		log.debug("신규 키워드 {}건 배치 INSERT", names.size());
+	}
+}
@@ -1,11 +1,11 @@
 package com.dialog.meeting.controller;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,13 +17,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.dialog.meeting.domain.MeetingCreateRequestDto;
 import com.dialog.meeting.domain.MeetingCreateResponseDto;
 import com.dialog.meeting.domain.MeetingFinishRequestDto;
 import com.dialog.meeting.domain.MeetingUpdateResultDto;
+import com.dialog.meeting.domain.SummaryJob;
+import com.dialog.meeting.domain.SummaryJobResponseDto;
 import com.dialog.meeting.service.MeetingService;
-import com.dialog.meetingresult.domain.MeetingResult;
+import com.dialog.meeting.service.SummaryJobService;
 import com.dialog.security.oauth2.CustomOAuth2User;
 import com.dialog.user.service.CustomUserDetails;
 
@@ -37,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MeetingController {
 
 	private final MeetingService meetingService;
+	private final SummaryJobService summaryJobService;
 
 	// 새 회의 생성
 	@PostMapping
@@ -93,6 +97,21 @@ public class MeetingController {
 		}
 	}
 
+	// 회의 시작 (상태를 RECORDING 으로 전환, 이후 실시간 발화 전송 가능)
+	@PostMapping("/{meetingId}/start")
+	public ResponseEntity<?> startMeeting(@PathVariable("meetingId") Long meetingId) {
+		try {
+			meetingService.startMeeting(meetingId);
+			return ResponseEntity.ok().build();
+		} catch (IllegalArgumentException e) {
+			log.error("회의 시작 실패 - 회의를 찾을 수 없음: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (IllegalStateException e) {
+			log.error("회의 시작 실패 - 상태 오류: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+		}
+	}
+
 	@PostMapping("/{meetingId}/finish")
 	public ResponseEntity<?> finishMeeting(@PathVariable("meetingId") Long meetingId,
 			@RequestBody MeetingFinishRequestDto requestDto) {
@@ -136,45 +155,57 @@ public class MeetingController {
 		}
 	}
 	
-	// AI 요약 생성 요청
+	// AI 요약 생성 요청 (비동기 작업으로 등록 후 즉시 202 반환)
     // POST /api/meetings/summarize?meetingId={id}
     @PostMapping("/summarize")
     public ResponseEntity<?> generateSummary(@RequestParam("meetingId") Long meetingId) {
         try {
             log.info("AI 요약 생성 요청 - meetingId: {}", meetingId);
-            
-            // 1. 서비스가 반환한 결과 받기 (반환 타입 변경됨)
-            MeetingResult result = meetingService.generateAISummary(meetingId);
-            
-            // 2. 프론트엔드가 기대하는 JSON 구조 생성 ("data.summary.purpose" 형태로 접근함)
-            Map<String, Object> summaryData = new HashMap<>();
-            summaryData.put("purpose", result.getPurpose());
-            summaryData.put("agenda", result.getAgenda());
-            summaryData.put("overallSummary", result.getSummary()); // DB 컬럼명은 summary지만 프론트엔드 변수명 확인 필요
-            summaryData.put("importance", result.getImportance());
-
-            // 키워드 리스트 추출 (키워드 엔티티 -> 문자열 리스트)
-            List<String> keywords = result.getKeywords().stream()
-                .map(k -> k.getKeyword().getName())
-                .collect(Collectors.toList());
-            summaryData.put("keywords", keywords);
-
-            // 3. 최종 응답 맵핑
+
+            SummaryJob job = summaryJobService.submit(meetingId);
+
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("summary", summaryData); // 여기가 중요! 프론트에서 data.summary 로 접근함
-            
-            return ResponseEntity.ok(response);
+            response.put("jobId", job.getJobId());
+            response.put("status", job.getStatus());
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
 
         } catch (IllegalArgumentException e) {
             log.error("요약 생성 실패 (잘못된 요청): {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (TaskRejectedException e) {
+            log.warn("요약 작업 큐 포화 - meetingId: {}", meetingId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("요약 요청이 많습니다. 잠시 후 다시 시도해주세요.");
         } catch (Exception e) {
             log.error("요약 생성 중 서버 오류", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("서버 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    // AI 요약 작업 상태 조회 (폴링)
+    // GET /api/meetings/summarize/jobs/{jobId}
+    @GetMapping("/summarize/jobs/{jobId}")
+    public ResponseEntity<SummaryJobResponseDto> getSummaryJob(@PathVariable("jobId") String jobId) {
+        try {
+            return ResponseEntity.ok(new SummaryJobResponseDto(summaryJobService.getJob(jobId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // AI 요약 작업 진행 상황 구독 (SSE, 완료/실패 시 서버가 스트림 종료)
+    // GET /api/meetings/summarize/jobs/{jobId}/events
+    @GetMapping(value = "/summarize/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeSummaryJob(@PathVariable("jobId") String jobId) {
+        try {
+            return ResponseEntity.ok(summaryJobService.subscribe(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
     
     // 전체 액션 아이템 생성 요청 (generate-all-actions 추가)
     @PostMapping("/generate-all-actions")
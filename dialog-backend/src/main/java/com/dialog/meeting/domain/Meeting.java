@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,6 +23,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -35,7 +37,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "meeting")
+@Table(name = "meeting", indexes = {
+		@Index(name = "idx_meeting_host_user_id", columnList = "host_user_id, id"),
+		@Index(name = "idx_meeting_scheduled_at", columnList = "scheduled_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -88,9 +93,16 @@ public class Meeting {
 	@Column(name = "highlight_keywords")
 	private String highlightKeywords;
 
+	// 실시간 수신에서 저장까지 끝난 클라이언트 순번 (중복 판별 기준). 발화 순서 키는 편집으로 바뀌므로 따로 둠
+	// 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 MeetingRepository.advanceLiveSequence 로만 갱신
+	@Column(name = "live_sequence_up_to", insertable = false, updatable = false)
+	private Long liveSequenceUpTo;
+
 	// --- 연관 관계 ---
 
+	// 여러 회의의 참가자를 순회할 때 회의마다 SELECT 하지 않고 IN 으로 묶어서 로딩
 	@OneToMany(mappedBy = "meeting", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+	@BatchSize(size = 100)
 	@Builder.Default // 빌더 패턴 사용 시 초기화 유지
 	private List<Participant> participants = new ArrayList<>();
 
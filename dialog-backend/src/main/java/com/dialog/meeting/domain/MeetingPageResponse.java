@@ -0,0 +1,17 @@
+package com.dialog.meeting.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서 기반 회의 목록 응답
+// nextCursor 를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회 (hasNext 가 false 면 null)
+@Getter
+@AllArgsConstructor
+public class MeetingPageResponse {
+
+	private List<MeetingSummaryDto> items;
+	private Long nextCursor;
+	private boolean hasNext;
+}
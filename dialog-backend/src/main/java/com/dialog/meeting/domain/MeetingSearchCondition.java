@@ -0,0 +1,18 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 회의 목록 필터 (null 인 항목은 조건에서 제외)
+@Getter
+@Builder
+public class MeetingSearchCondition {
+
+	private Status status;
+	private Long hostUserId;
+	private LocalDate from;		// scheduledAt >= from 00:00
+	private LocalDate to;		// scheduledAt < (to + 1일) 00:00
+	private String title;		// 부분 일치
+}
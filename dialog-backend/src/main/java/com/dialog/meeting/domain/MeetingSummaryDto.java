@@ -0,0 +1,46 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dialog.meeting.domain.MeetingCreateResponseDto.KeywordDto;
+import com.dialog.meetingresult.domain.ImportanceLevel;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 회의 목록 한 줄 (목록 화면에 필요한 컬럼만 프로젝션으로 조회)
+// 필드명은 기존 MeetingCreateResponseDto 와 맞춰 프론트 렌더링 코드를 그대로 사용
+@Getter
+@Setter
+@NoArgsConstructor
+public class MeetingSummaryDto {
+
+	private Long meetingId;
+	private String title;
+	private Status status;
+	private LocalDateTime scheduledAt;
+	private String authorName;
+	private String importance;			// AI 분석 중요도 (결과 없으면 null)
+
+	@JsonProperty("isImportant")
+	private boolean isImportant;		// 사용자가 지정한 중요 표시
+
+	private List<String> participants = new ArrayList<>();
+	private List<KeywordDto> keywords = new ArrayList<>();
+
+	// JPQL 생성자 프로젝션용
+	public MeetingSummaryDto(Long meetingId, String title, Status status, LocalDateTime scheduledAt,
+			String authorName, boolean isImportant, ImportanceLevel importance) {
+		this.meetingId = meetingId;
+		this.title = title;
+		this.status = status;
+		this.scheduledAt = scheduledAt;
+		this.authorName = authorName;
+		this.isImportant = isImportant;
+		this.importance = (importance != null) ? importance.name() : null;
+	}
+}
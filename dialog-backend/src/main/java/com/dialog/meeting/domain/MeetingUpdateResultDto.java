@@ -72,7 +72,8 @@ public class MeetingUpdateResultDto {
 		private String text;
 		private Long startTime;
 		private Long endTime;
-		private Integer sequenceOrder;
+		private Long sequenceOrder; // 생략하면 기존 발화는 순서 유지, 신규 발화는 afterId 뒤(없으면 맨 뒤)
+		private Long afterId; // 신규 발화 위치 (이 발화 바로 뒤)
 		// 삭제 여부를 받기 위한 필드 추가
 		private Boolean isDeleted;
 	}
@@ -0,0 +1,52 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+// AI 요약 비동기 작업 상태 (메모리 보관, DB 저장 안 함)
+@Getter
+public class SummaryJob {
+
+	private final String jobId;
+	private final Long meetingId;
+	private final LocalDateTime createdAt;
+
+	private volatile SummaryJobStatus status = SummaryJobStatus.PENDING;
+	private volatile Map<String, Object> summary;
+	private volatile String error;
+	private volatile LocalDateTime updatedAt;
+
+	// 진행 상황을 SSE로 구독 중인 클라이언트들
+	private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+	public SummaryJob(Long meetingId) {
+		this.jobId = UUID.randomUUID().toString();
+		this.meetingId = meetingId;
+		this.createdAt = LocalDateTime.now();
+		this.updatedAt = this.createdAt;
+	}
+
+	public void start() {
+		this.status = SummaryJobStatus.RUNNING;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void complete(Map<String, Object> summary) {
+		this.summary = summary;
+		this.status = SummaryJobStatus.COMPLETED;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void fail(String error) {
+		this.error = error;
+		this.status = SummaryJobStatus.FAILED;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
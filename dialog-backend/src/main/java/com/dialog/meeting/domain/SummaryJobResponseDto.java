@@ -0,0 +1,32 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SummaryJobResponseDto {
+
+	private String jobId;
+	private Long meetingId;
+	private SummaryJobStatus status;
+	private boolean success;			// COMPLETED 일 때 true (기존 동기 응답과 같은 키)
+	private Map<String, Object> summary; // COMPLETED 일 때만 채워짐 (purpose, agenda, overallSummary, importance, keywords)
+	private String error;				// FAILED 일 때 사유
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+
+	public SummaryJobResponseDto(SummaryJob job) {
+		this.jobId = job.getJobId();
+		this.meetingId = job.getMeetingId();
+		this.status = job.getStatus();
+		this.success = job.getStatus() == SummaryJobStatus.COMPLETED;
+		this.summary = job.getSummary();
+		this.error = job.getError();
+		this.createdAt = job.getCreatedAt();
+		this.updatedAt = job.getUpdatedAt();
+	}
+}
@@ -0,0 +1,13 @@
+package com.dialog.meeting.domain;
+
+public enum SummaryJobStatus {
+
+	PENDING,	// 실행 대기 (큐)
+	RUNNING,	// AI 서버 호출 중
+	COMPLETED,	// 요약 저장 완료
+	FAILED;		// 실패
+
+	public boolean isFinished() {
+		return this == COMPLETED || this == FAILED;
+	}
+}
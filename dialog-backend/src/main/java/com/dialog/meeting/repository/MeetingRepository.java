@@ -2,16 +2,20 @@ package com.dialog.meeting.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.Status;
 import com.dialog.user.domain.MeetUser;
 
-public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+public interface MeetingRepository extends JpaRepository<Meeting, Long>, MeetingRepositoryCustom {
 
 	void deleteByHostUser(MeetUser user);
 	
@@ -31,5 +35,42 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 	long countYesterdayCreatedMeetings(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
 	List<Meeting> findAllByScheduledAtBetween(LocalDateTime startDateTime, LocalDateTime endDateTime);	
-	
-}
\ No newline at end of file
+
+	// 상태만 조회 (실시간 발화 수신 시 RECORDING 여부 확인용)
+	@Query("SELECT m.status FROM Meeting m WHERE m.id = :meetingId")
+	Optional<Status> findStatusById(@Param("meetingId") Long meetingId);
+
+	// 실시간 수신에서 저장된 가장 큰 클라이언트 순번 (없으면 null)
+	@Query("SELECT m.liveSequenceUpTo FROM Meeting m WHERE m.id = :meetingId")
+	Long findLiveSequenceUpToById(@Param("meetingId") Long meetingId);
+
+	// 저장된 클라이언트 순번을 앞으로만 갱신 (엔티티 매핑은 읽기 전용이라 네이티브 UPDATE)
+	@Modifying
+	@Query(value = "UPDATE meeting SET live_sequence_up_to = :sequence WHERE id = :meetingId "
+			+ "AND (live_sequence_up_to IS NULL OR live_sequence_up_to < :sequence)", nativeQuery = true)
+	int advanceLiveSequence(@Param("meetingId") Long meetingId, @Param("sequence") Long sequence);
+
+	// 회의 상세 (MeetingDetailLoader 1단계)
+	// 호스트/녹음/결과(1:1)와 참가자(1:N)를 한 번에 조회
+	// recording, meetingResult 는 mappedBy 쪽 1:1 이라 지연 로딩이 되지 않으므로 반드시 함께 fetch
+	@Query("SELECT m FROM Meeting m JOIN FETCH m.hostUser "
+			+ "LEFT JOIN FETCH m.recording LEFT JOIN FETCH m.meetingResult LEFT JOIN FETCH m.participants "
+			+ "WHERE m.id = :meetingId")
+	Optional<Meeting> findDetailById(@Param("meetingId") Long meetingId);
+
+	// ---- 검색 색인 (SearchIndexer / SearchService) ----
+
+	// [id, hostUserId, title, summary] 한 행. 회의가 없으면 빈 목록
+	@Query("SELECT m.id, h.id, m.title, r.summary FROM Meeting m LEFT JOIN m.hostUser h LEFT JOIN m.meetingResult r "
+			+ "WHERE m.id IN :meetingIds")
+	List<Object[]> findSearchSources(@Param("meetingIds") Collection<Long> meetingIds);
+
+	@Query("SELECT m.id FROM Meeting m")
+	List<Long> findAllIds();
+
+	// since 이후 회의/결과/발화 중 하나라도 바뀐 회의 (재시작 시 색인 따라잡기용)
+	@Query("SELECT m.id FROM Meeting m LEFT JOIN m.meetingResult r "
+			+ "WHERE m.updatedAt > :since OR r.updatedAt > :since "
+			+ "OR EXISTS (SELECT 1 FROM Transcript t WHERE t.meeting = m AND (t.updatedAt > :since OR t.createdAt > :since))")
+	List<Long> findIdsChangedSince(@Param("since") LocalDateTime since);
+}
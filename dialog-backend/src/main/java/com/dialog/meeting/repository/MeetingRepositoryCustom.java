@@ -0,0 +1,17 @@
+package com.dialog.meeting.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import com.dialog.meeting.domain.MeetingSummaryDto;
+import com.dialog.meeting.domain.Status;
+
+// 조건에 따라 쿼리 모양이 달라지는 조회 (MeetingRepositoryImpl 에서 Criteria 로 구현)
+public interface MeetingRepositoryCustom {
+
+	// 회의 목록 (키셋 페이지네이션). null 인 조건은 WHERE 에 넣지 않음
+	List<MeetingSummaryDto> findSummaryPage(Long cursor, Status status, Long hostUserId, LocalDateTime from,
+			LocalDateTime to, String title, Pageable pageable);
+}
@@ -0,0 +1,85 @@
+package com.dialog.meeting.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingSummaryDto;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meetingresult.domain.MeetingResult;
+import com.dialog.user.domain.MeetUser;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
+
+	// LIKE 이스케이프 문자. MySQL 문자열에서 특별한 의미가 없는 문자를 사용 (백슬래시는 문자열 이스케이프와 겹침)
+	private static final char LIKE_ESCAPE = '!';
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// OFFSET 없이 "id < cursor" 로 이어서 조회하므로 몇 번째 페이지든 인덱스 범위 스캔 한 번으로 끝남
+	// 주어진 조건만 WHERE 에 넣어 조건 조합마다 맞는 인덱스(host_user_id, id / scheduled_at)를 고를 수 있게 함
+	// 엔티티가 아닌 DTO 로 바로 조회 (영속성 컨텍스트/지연 로딩 없음), 페이지 크기는 Pageable 로 제한
+	@Override
+	public List<MeetingSummaryDto> findSummaryPage(Long cursor, Status status, Long hostUserId, LocalDateTime from,
+			LocalDateTime to, String title, Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<MeetingSummaryDto> query = cb.createQuery(MeetingSummaryDto.class);
+		Root<Meeting> m = query.from(Meeting.class);
+		Join<Meeting, MeetUser> h = m.join("hostUser");
+		Join<Meeting, MeetingResult> r = m.join("meetingResult", JoinType.LEFT);
+
+		query.select(cb.construct(MeetingSummaryDto.class, m.get("id"), m.get("title"), m.get("status"),
+				m.get("scheduledAt"), h.get("name"), m.get("isImportant"), r.get("importance")));
+
+		List<Predicate> where = new ArrayList<>();
+		if (cursor != null) {
+			where.add(cb.lessThan(m.get("id"), cursor));
+		}
+		if (status != null) {
+			where.add(cb.equal(m.get("status"), status));
+		}
+		if (hostUserId != null) {
+			where.add(cb.equal(h.get("id"), hostUserId));
+		}
+		if (from != null) {
+			where.add(cb.greaterThanOrEqualTo(m.get("scheduledAt"), from));
+		}
+		if (to != null) {
+			where.add(cb.lessThan(m.get("scheduledAt"), to));
+		}
+		if (title != null) {
+			where.add(cb.like(m.get("title"), "%" + escapeLike(title) + "%", LIKE_ESCAPE));
+		}
+		query.where(where.toArray(Predicate[]::new));
+		query.orderBy(cb.desc(m.get("id")));
+
+		return entityManager.createQuery(query)
+				.setMaxResults(pageable.getPageSize())
+				.getResultList();
+	}
+
+	// 사용자가 입력한 % _ 를 와일드카드가 아닌 글자로 검색
+	static String escapeLike(String value) {
+		StringBuilder escaped = new StringBuilder(value.length());
+		for (char c : value.toCharArray()) {
+			if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+				escaped.append(LIKE_ESCAPE);
+			}
+			escaped.append(c);
+		}
+		return escaped.toString();
+	}
+}
@@ -0,0 +1,94 @@
+package com.dialog.meeting.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.meeting.domain.MeetingCreateResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회의 상세(MeetingCreateResponseDto) 인프로세스 캐시.
+ * 키는 (회의 ID, 버전) 이며, 회의가 바뀌면 버전을 올려 이전 항목을 더 이상 찾을 수 없게 만듭니다.
+ * 그래서 "변경 트랜잭션 도중에 옛 데이터를 읽어 캐시에 넣은" 요청이 있어도 커밋 이후에는 그 항목이 사용되지 않습니다.
+ * 크기/TTL 제한과 축출은 Caffeine(W-TinyLFU)에 맡깁니다.
+ */
+@Slf4j
+@Component
+public class MeetingDetailCache {
+
+	private record Key(Long meetingId, long version) {
+	}
+
+	// 버전 발급기. 한 번 쓴 번호는 재사용하지 않으므로 버전 맵에서 항목이 빠져도 옛 캐시와 겹치지 않음
+	private final AtomicLong versionSequence = new AtomicLong();
+
+	private final Cache<Key, MeetingCreateResponseDto> details;
+	private final Cache<Long, Long> versions;
+
+	public MeetingDetailCache(@Value("${meeting.detail-cache.max-size:1000}") long maxSize,
+			@Value("${meeting.detail-cache.ttl:10m}") Duration ttl) {
+		this.details = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		// 버전은 상세 캐시보다 오래 유지 (TTL 동안 살아 있는 항목의 버전이 먼저 사라지지 않도록)
+		this.versions = Caffeine.newBuilder()
+				.maximumSize(maxSize * 4)
+				.expireAfterAccess(ttl.multipliedBy(2))
+				.build();
+	}
+
+	// 캐시에 있으면 반환, 없으면 loader 로 만들어 저장
+	public MeetingCreateResponseDto get(Long meetingId, Supplier<MeetingCreateResponseDto> loader) {
+		return details.get(new Key(meetingId, currentVersion(meetingId)), key -> loader.get());
+	}
+
+	// 회의 변경 시 호출. 지금 즉시, 그리고 트랜잭션 커밋 직후에 한 번 더 버전을 올림
+	public void invalidate(Long meetingId) {
+		bump(meetingId);
+		TransactionCallbacks.runAfterCommit(() -> bump(meetingId));
+	}
+
+	// 대량 삭제 등 영향 범위를 특정하기 어려운 경우
+	public void invalidateAll() {
+		details.invalidateAll();
+		versions.invalidateAll();
+	}
+
+	public Map<String, Object> stats() {
+		CacheStats stats = details.stats();
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("size", details.estimatedSize());
+		result.put("hitCount", stats.hitCount());
+		result.put("missCount", stats.missCount());
+		result.put("hitRate", stats.hitRate());
+		result.put("evictionCount", stats.evictionCount());
+		result.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000.0);
+		return result;
+	}
+
+	private long currentVersion(Long meetingId) {
+		return versions.get(meetingId, id -> versionSequence.incrementAndGet());
+	}
+
+	private void bump(Long meetingId) {
+		Long previous = versions.getIfPresent(meetingId);
+		versions.put(meetingId, versionSequence.incrementAndGet());
+		if (previous != null) {
+			details.invalidate(new Key(meetingId, previous));
+		}
+		log.debug("회의 상세 캐시 무효화 - meetingId: {}", meetingId);
+	}
+}
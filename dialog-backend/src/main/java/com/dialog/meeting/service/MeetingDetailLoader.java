@@ -0,0 +1,44 @@
+package com.dialog.meeting.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingCreateResponseDto;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.meetingresult.domain.MeetingResult;
+import com.dialog.meetingresult.repository.MeetingResultRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회의 상세(MeetingCreateResponseDto) 조회 전용 로더.
+ * DTO 생성자가 건드리는 연관관계를 미리 fetch join 으로 채워 두어, 키워드/액션 아이템 개수와 무관하게
+ * 결과가 있으면 3회, 없으면 1회의 SELECT 로 끝납니다. (MeetingDetailQueryCountTest 에서 횟수 고정)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingDetailLoader {
+
+	public static final int QUERIES_WITH_RESULT = 3;
+	public static final int QUERIES_WITHOUT_RESULT = 1;
+
+	private final MeetingRepository meetingRepository;
+	private final MeetingResultRepository meetingResultRepository;
+
+	public MeetingCreateResponseDto load(Long meetingId) {
+		// 1. 회의 + 호스트 + 녹음 + 결과 + 참가자
+		Meeting meeting = meetingRepository.findDetailById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+
+		MeetingResult result = meeting.getMeetingResult();
+		if (result != null) {
+			// 2, 3. 같은 영속성 컨텍스트의 MeetingResult 인스턴스에 컬렉션이 채워짐
+			meetingResultRepository.fetchKeywords(result.getId());
+			meetingResultRepository.fetchActionItems(result.getId());
+		}
+
+		return new MeetingCreateResponseDto(meeting);
+	}
+}
@@ -7,13 +7,16 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
@@ -25,14 +28,18 @@ import com.dialog.calendarevent.repository.CalendarEventRepository;
 import com.dialog.keyword.domain.Keyword;
 import com.dialog.keyword.domain.KeywordSource;
 import com.dialog.keyword.domain.MeetingResultKeyword;
-import com.dialog.keyword.repository.KeywordRepository;
 import com.dialog.keyword.repository.MeetingResultKeywordRepository;
+import com.dialog.keyword.service.KeywordResolver;
 import com.dialog.meeting.domain.AISummaryResponse;
 import com.dialog.meeting.domain.Meeting;
 import com.dialog.meeting.domain.MeetingCreateRequestDto;
 import com.dialog.meeting.domain.MeetingCreateResponseDto;
 import com.dialog.meeting.domain.MeetingFinishRequestDto;
+import com.dialog.meeting.domain.MeetingPageResponse;
+import com.dialog.meeting.domain.MeetingSearchCondition;
+import com.dialog.meeting.domain.MeetingSummaryDto;
 import com.dialog.meeting.domain.MeetingUpdateResultDto;
+import com.dialog.meeting.domain.Status;
 import com.dialog.meeting.repository.MeetingRepository;
 import com.dialog.meetingresult.domain.ImportanceLevel;
 import com.dialog.meetingresult.domain.MeetingResult;
@@ -41,10 +48,17 @@ import com.dialog.participant.domain.Participant;
 import com.dialog.participant.repository.ParticipantRepository;
 import com.dialog.recording.domain.Recording;
 import com.dialog.recording.repository.RecordingRepository;
+import com.dialog.search.service.SearchIndexer;
 import com.dialog.transcript.domain.Transcript;
 import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.transcript.service.LiveTranscriptBuffer;
+import com.dialog.transcript.service.TranscriptArchiveService;
+import com.dialog.transcript.service.TranscriptBulkWriter;
+import com.dialog.transcript.service.TranscriptOrderService;
+import com.dialog.transcript.service.TranscriptTimelineCache;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.repository.MeetUserRepository;
+import com.dialog.user.service.UserNameResolver;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,14 +69,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MeetingService {
 
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final MeetingRepository meetingRepository;
 	private final MeetingResultRepository meetingResultRepository;
 	private final MeetingResultKeywordRepository meetingResultKeywordRepository;
 	private final MeetUserRepository meetUserRepository;
 	private final ParticipantRepository participantRepository;
-	private final KeywordRepository keywordRepository;
+	private final UserNameResolver userNameResolver;
+	private final KeywordResolver keywordResolver;
 	private final RecordingRepository recordingRepository;
 	private final TranscriptRepository transcriptRepository;
+	private final TranscriptBulkWriter transcriptBulkWriter;
+	private final TranscriptArchiveService transcriptArchiveService;
+	private final TranscriptTimelineCache transcriptTimelineCache;
+	private final TranscriptOrderService transcriptOrderService;
+	private final LiveTranscriptBuffer liveTranscriptBuffer;
+	private final MeetingDetailLoader meetingDetailLoader;
+	private final MeetingDetailCache meetingDetailCache;
+	private final SearchIndexer searchIndexer;
 	private final CalendarEventRepository calendarEventRepository;
 	private final ActionItemRepository actionItemRepository;
 
@@ -95,6 +120,7 @@ public class MeetingService {
 				.scheduledAt(scheduledAt).hostUser(hostUser).highlightKeywords(highlightKeywords).build();
 
 		Meeting savedMeeting = meetingRepository.save(newMeeting);
+		searchIndexer.markDirty(savedMeeting.getId());
 
 		// 참석자 저장
 		List<Participant> participantEntities = new ArrayList<>();
@@ -128,19 +154,60 @@ public class MeetingService {
 
 	// 2. 회의 단건 조회
 	public MeetingCreateResponseDto findById(Long meetingId) {
-		Meeting meeting = meetingRepository.findById(meetingId)
-				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+		// 캐시 미스일 때만 연관관계를 고정된 쿼리 수로 채워 DTO 생성 (N+1 방지)
+		return meetingDetailCache.get(meetingId, () -> meetingDetailLoader.load(meetingId));
+	}
+
+	// 3. 전체 회의 목록 조회 (키셋 페이지네이션)
+	// 본문 1회 + 참가자 1회 + 키워드 1회, 페이지 크기와 무관하게 쿼리 3번으로 고정
+	public MeetingPageResponse getMeetingPage(MeetingSearchCondition condition, Long cursor, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+		LocalDateTime from = (condition.getFrom() != null) ? condition.getFrom().atStartOfDay() : null;
+		LocalDateTime to = (condition.getTo() != null) ? condition.getTo().plusDays(1).atStartOfDay() : null;
+		String title = (condition.getTitle() != null && !condition.getTitle().isBlank()) ? condition.getTitle().trim()
+				: null;
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<MeetingSummaryDto> rows = meetingRepository.findSummaryPage(cursor, condition.getStatus(),
+				condition.getHostUserId(), from, to, title, PageRequest.of(0, pageSize + 1));
+
+		boolean hasNext = rows.size() > pageSize;
+		List<MeetingSummaryDto> items = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+		if (items.isEmpty()) {
+			return new MeetingPageResponse(items, null, false);
+		}
 
-		// 생성자 하나로 모든 데이터 매핑 처리
-		return new MeetingCreateResponseDto(meeting);
+		Map<Long, MeetingSummaryDto> byId = new HashMap<>();
+		items.forEach(item -> byId.put(item.getMeetingId(), item));
+
+		for (Object[] row : participantRepository.findNamesByMeetingIds(byId.keySet())) {
+			byId.get((Long) row[0]).getParticipants().add((String) row[1]);
+		}
+		for (Object[] row : meetingResultKeywordRepository.findKeywordsByMeetingIds(byId.keySet())) {
+			byId.get((Long) row[0]).getKeywords()
+					.add(new MeetingCreateResponseDto.KeywordDto((String) row[1], ((KeywordSource) row[2]).name()));
+		}
+
+		Long nextCursor = hasNext ? items.get(items.size() - 1).getMeetingId() : null;
+		return new MeetingPageResponse(items, nextCursor, hasNext);
 	}
 
-	// 3. 전체 회의 조회
-	public List<MeetingCreateResponseDto> getAllMeetings() {
-		List<Meeting> meetings = meetingRepository.findAll();
+	// 회의 시작 (녹음 시작, 실시간 발화 수신 가능 상태로 전환)
+	@Transactional
+	public void startMeeting(Long meetingId) {
+		Meeting meeting = meetingRepository.findById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다. ID: " + meetingId));
 
-		// 생성자 사용
-		return meetings.stream().map(MeetingCreateResponseDto::new).collect(Collectors.toList());
+		if (meeting.getStatus() == Status.RECORDING) {
+			return; // 재시도 허용
+		}
+		if (meeting.getStatus() != Status.SCHEDULED) {
+			throw new IllegalStateException("시작할 수 없는 회의 상태입니다: " + meeting.getStatus());
+		}
+
+		meeting.startRecording();
+		meetingDetailCache.invalidate(meetingId);
 	}
 
 	// 4. 회의 종료 처리 (상태 변경, 녹음 및 스크립트 저장)
@@ -149,6 +216,14 @@ public class MeetingService {
 		Meeting meeting = meetingRepository.findById(meetingId)
 				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다. ID: " + meetingId));
 
+		meetingDetailCache.invalidate(meetingId);
+		searchIndexer.markDirty(meetingId);
+		transcriptTimelineCache.invalidate(meetingId);
+
+		// 실시간 수신(RECORDING) 중이던 회의는 버퍼에 남은 발화를 먼저 저장하고 수신을 닫음
+		boolean liveIngestion = meeting.getStatus() == Status.RECORDING;
+		Long persistedUpTo = liveIngestion ? liveTranscriptBuffer.seal(meetingId) : null;
+
 		meeting.complete();
 
 		// 녹음 파일 정보 저장
@@ -162,18 +237,27 @@ public class MeetingService {
 			}
 		}
 
-		// 스크립트 저장 (기존 데이터 삭제 후 재저장)
+		// 스크립트 저장
+		// - 실시간 수신: 이미 저장된 순서 이후의 발화만 추가 (기존 발화는 그대로 봉인)
+		// - 그 외: 기존 데이터 삭제 후 재저장
 		if (requestDto.getTranscripts() != null && !requestDto.getTranscripts().isEmpty()) {
-			if (transcriptRepository.existsByMeetingId(meetingId)) {
-				transcriptRepository.deleteByMeetingId(meetingId);
-			}
 			List<Transcript> transcripts = requestDto.getTranscripts().stream()
+					.filter(t -> !liveIngestion || persistedUpTo == null
+							|| (t.getSequenceOrder() != null && t.getSequenceOrder() > persistedUpTo))
 					.map(t -> Transcript.builder().meeting(meeting).speakerId(t.getSpeakerId())
 							.speakerName(t.getSpeakerName()).speakerLabel(t.getSpeakerLabel()).text(t.getText())
 							.startTime(t.getStartTime()).endTime(t.getEndTime()).sequenceOrder(t.getSequenceOrder())
 							.isDeleted(false).build())
 					.collect(Collectors.toList());
-			transcriptRepository.saveAll(transcripts);
+			if (liveIngestion) {
+				transcriptBulkWriter.insertAll(transcripts);
+			} else {
+				// 다시 종료하는 경우 이전에 압축 보관된 발화도 함께 교체
+				transcriptArchiveService.delete(meetingId);
+				transcriptBulkWriter.replaceAll(meetingId, transcripts);
+			}
+			// 클라이언트 순번(0, 1, 2...)으로 저장된 키를 간격을 둔 키로 다시 매김
+			transcriptOrderService.scheduleRebalance(meetingId);
 		}
 		meetingRepository.save(meeting);
 	}
@@ -184,6 +268,10 @@ public class MeetingService {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
 
+        meetingDetailCache.invalidate(meetingId);
+        searchIndexer.markDirty(meetingId);
+        transcriptTimelineCache.invalidate(meetingId);
+
         // 1. 기본 정보 업데이트
         meeting.updateInfo(updateDto.getTitle(), null);
 
@@ -272,15 +360,20 @@ public class MeetingService {
         if (updateDto.getKeywords() != null) {
             meetingResult.getKeywords().clear();
             meetingResultKeywordRepository.flush();
-            
-            Set<String> processedKeywords = new HashSet<>();
+
+            // 키워드 일괄 조회/생성 (IN 쿼리 + 배치 INSERT, 캐시 히트 시 DB 미조회)
+            Map<String, Keyword> keywordMap = keywordResolver.resolveAll(
+                    updateDto.getKeywords().stream().map(MeetingUpdateResultDto.KeywordDto::getText).toList());
+
+            Set<Long> processedKeywordIds = new HashSet<>();
 
             for (MeetingUpdateResultDto.KeywordDto kDto : updateDto.getKeywords()) {
-                String kName = kDto.getText().trim();
-                if (processedKeywords.contains(kName)) continue;
+                String kName = KeywordResolver.normalize(kDto.getText());
+                if (kName == null) continue;
 
-                Keyword keyword = keywordRepository.findByName(kName)
-                        .orElseGet(() -> keywordRepository.save(Keyword.builder().name(kName).build()));
+                Keyword keyword = keywordMap.get(kName);
+                // 대소문자만 다른 키워드 등 같은 Keyword로 귀결되는 중복은 건너뜀 (uq_result_keyword)
+                if (!processedKeywordIds.add(keyword.getId())) continue;
 
                 KeywordSource sourceEnum = KeywordSource.USER;
                 if ("AI".equalsIgnoreCase(kDto.getSource())) sourceEnum = KeywordSource.AI;
@@ -292,7 +385,6 @@ public class MeetingService {
                         .build();
                 
                 meetingResult.getKeywords().add(mrk);
-                processedKeywords.add(kName);
             }
         }
 
@@ -304,11 +396,15 @@ public class MeetingService {
             meetingResultRepository.saveAndFlush(meetingResult); // 부모 먼저 저장하여 관계 정리
             
             List<ActionItem> newActionItems = new ArrayList<>();
+
+            // 담당자 이름은 항목마다 조회하지 않고 한 번에 해석 (캐시 + IN 쿼리 1회)
+            Map<String, MeetUser> assignees = userNameResolver.resolveAll(
+                    updateDto.getActionItems().stream().map(MeetingUpdateResultDto.ActionItemDto::getAssignee).toList());
             
             for (MeetingUpdateResultDto.ActionItemDto itemDto : updateDto.getActionItems()) {
                 MeetUser assignee = null;
                 if (itemDto.getAssignee() != null && !itemDto.getAssignee().isEmpty()) {
-                    assignee = meetUserRepository.findByName(itemDto.getAssignee()).orElse(null);
+                    assignee = assignees.get(itemDto.getAssignee().trim());
                 }
                 
                 LocalDateTime dueDateTime = null;
@@ -340,19 +436,28 @@ public class MeetingService {
         // [발화 로그(Transcript) 처리] - Soft Delete (0/1) + ID/순서 보존
         // ------------------------------------------------------------
         if (updateDto.getTranscripts() != null) {
-            List<Transcript> currentTranscripts = meeting.getTranscripts();
-            
+            // 전체 목록 기준으로 수정/삭제하므로, 보관된 회의는 먼저 보관을 해제해 모든 발화를 행으로 되돌림
+            transcriptArchiveService.unpack(meetingId);
+
             // (1) 요청 데이터(DTO)를 ID 기준으로 맵핑 (빠른 검색용)
             Map<Long, MeetingUpdateResultDto.TranscriptDto> incomingMap = new HashMap<>();
             List<MeetingUpdateResultDto.TranscriptDto> newItemsDto = new ArrayList<>();
+            List<TranscriptOrderService.Placement> newPlacements = new ArrayList<>();
 
             for (MeetingUpdateResultDto.TranscriptDto tDto : updateDto.getTranscripts()) {
                 if (tDto.getId() != null) {
                     incomingMap.put(tDto.getId(), tDto);
                 } else {
                     newItemsDto.add(tDto); // ID 없는 건 신규 추가
+                    if (tDto.getSequenceOrder() == null) {
+                        newPlacements.add(new TranscriptOrderService.Placement(tDto.getAfterId(), null));
+                    }
                 }
             }
+            // 순서 키 할당은 발화 목록을 불러오기 전에 (재정렬이 일어나면 행을 직접 갱신하므로)
+            TranscriptOrderService.Allocation allocation = transcriptOrderService.allocate(meetingId, newPlacements);
+            Iterator<Long> newKeys = allocation.keys().iterator();
+            List<Transcript> currentTranscripts = meeting.getTranscripts();
 
             // (2) 기존 리스트 순회 -> 수정하거나 삭제
             // removeIf를 사용하여 리스트에서 직접 제거 (DB Delete)
@@ -376,7 +481,10 @@ public class MeetingService {
                 // 값 변경 (Dirty Checking)
                 t.updateText(dto.getText());
                 t.updateSpeaker(tSpeakerId, dto.getSpeakerName());
-                t.updateSequenceOrder(dto.getSequenceOrder());
+                // 요청 안에서 재정렬됐으면 클라이언트가 가진 키는 이전 기준이므로 무시
+                if (dto.getSequenceOrder() != null && !allocation.rebalanced()) {
+                    t.updateSequenceOrder(dto.getSequenceOrder());
+                }
 
                 // Soft Delete 상태 변경
                 if (Boolean.TRUE.equals(dto.getIsDeleted())) {
@@ -405,22 +513,24 @@ public class MeetingService {
                         .text(tDto.getText())
                         .startTime(tDto.getStartTime() != null ? tDto.getStartTime() : 0L)
                         .endTime(tDto.getEndTime() != null ? tDto.getEndTime() : 0L)
-                        .sequenceOrder(tDto.getSequenceOrder())
+                        .sequenceOrder(tDto.getSequenceOrder() != null ? tDto.getSequenceOrder() : newKeys.next())
                         .isDeleted(Boolean.TRUE.equals(tDto.getIsDeleted()))
                         .build();
                 
                 currentTranscripts.add(newTranscript);
             }
+            transcriptOrderService.scheduleRebalance(meetingId);
         }
     }
 
-	// AI 요약 생성 요청
-	@Transactional
-	public MeetingResult generateAISummary(Long meetingId) {
-		Meeting meeting = meetingRepository.findById(meetingId)
-				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+	// AI 요약 생성 (1단계) - 요청 데이터 구성
+	// 짧은 읽기 트랜잭션에서 발화만 꺼내 평범한 Map으로 반환 (AI 호출 동안 DB 커넥션을 잡지 않기 위함)
+	public Map<String, Object> buildSummaryRequest(Long meetingId) {
+		if (!meetingRepository.existsById(meetingId)) {
+			throw new IllegalArgumentException("회의를 찾을 수 없습니다.");
+		}
 
-		List<Transcript> transcripts = transcriptRepository.findByMeetingIdOrderBySequenceOrder(meetingId);
+		List<Transcript> transcripts = transcriptArchiveService.readMerged(meetingId);
 		if (transcripts.isEmpty()) {
 			throw new IllegalArgumentException("요약할 대화 내용이 없습니다.");
 		}
@@ -437,73 +547,88 @@ public class MeetingService {
 		}).collect(Collectors.toList());
 
 		requestPayload.put("transcripts", transcriptList);
+		return requestPayload;
+	}
 
+	// AI 요약 생성 (2단계) - FastAPI 호출
+	// 트랜잭션 없이 실행되므로 LLM 응답을 기다리는 수십 초 동안 Hikari 커넥션을 점유하지 않습니다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public AISummaryResponse.AISummaryData requestAISummary(Map<String, Object> requestPayload) {
 		String pythonEndpoint = fastApiBaseUrl + "/summary/generate";
 
+		AISummaryResponse aiResponse;
 		try {
 			// DTO로 응답 받기
-			AISummaryResponse aiResponse = restTemplate.postForObject(pythonEndpoint, requestPayload,
-					AISummaryResponse.class);
+			aiResponse = restTemplate.postForObject(pythonEndpoint, requestPayload, AISummaryResponse.class);
+		} catch (Exception e) {
+			log.error("AI 서버 통신 중 오류 발생: {}", e.getMessage());
+			throw new RuntimeException("AI 요약 생성에 실패했습니다.", e);
+		}
 
-			if (aiResponse != null && aiResponse.isSuccess() && aiResponse.getSummary() != null) {
-				// DTO 데이터 추출
-				AISummaryResponse.AISummaryData data = aiResponse.getSummary();
+		if (aiResponse == null || !aiResponse.isSuccess() || aiResponse.getSummary() == null) {
+			log.error("AI 응답이 비어있거나 실패했습니다: {}", aiResponse);
+			throw new RuntimeException("AI 요약 생성 실패: 응답 없음");
+		}
+		return aiResponse.getSummary();
+	}
 
-				MeetingResult meetingResult = meeting.getMeetingResult();
-				if (meetingResult == null) {
-					meetingResult = MeetingResult.builder().meeting(meeting).build();
-					meetingResult = meetingResultRepository.save(meetingResult);
-				}
+	// AI 요약 생성 (3단계) - 결과 저장
+	// 짧은 쓰기 트랜잭션. 프론트엔드가 기대하는 summary 구조("data.summary.purpose" 등)를 반환합니다.
+	@Transactional
+	public Map<String, Object> applyAISummary(Long meetingId, AISummaryResponse.AISummaryData data) {
+		Meeting meeting = meetingRepository.findById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
 
-				// 중요도 설정
-				ImportanceLevel level = (data.getImportance() != null) ? data.getImportance() : ImportanceLevel.MEDIUM;
-
-				meetingResult.updateSummaryInfo(data.getPurpose(), data.getAgenda(), data.getOverallSummary(), level,
-						"");
-
-				// 키워드 저장 로직 (중복 방지 강화)
-				List<String> aiKeywords = data.getKeywords();
-				if (aiKeywords != null) {
-					// 1. 현재 DB에 저장된 키워드 이름들을 Set으로 추출 (빠른 검색 및 중복 방지)
-					Set<String> existingNames = new HashSet<>();
-					if (meetingResult.getKeywords() != null) {
-						meetingResult.getKeywords()
-								.forEach(mrk -> existingNames.add(mrk.getKeyword().getName().trim()));
-					}
-
-					for (String kName : aiKeywords) {
-						String normalizedName = kName.trim(); // 공백 제거
-
-						// 2. 이미 존재하는 키워드라면 저장하지 않고 건너뜀 (DB 에러 방지)
-						if (existingNames.contains(normalizedName)) {
-							continue;
-						}
-
-						// 3. 키워드 엔티티 조회 또는 생성
-						Keyword keyword = keywordRepository.findByName(normalizedName).orElseGet(
-								() -> keywordRepository.save(Keyword.builder().name(normalizedName).build()));
-
-						// 4. 연결 엔티티 생성
-						MeetingResultKeyword mrk = MeetingResultKeyword.builder().meetingResult(meetingResult)
-								.keyword(keyword).source(KeywordSource.AI).build();
-
-						// 5. 리스트에 추가하고, Set에도 추가하여(AI가 중복 단어를 보낸 경우) 방지
-						meetingResult.getKeywords().add(mrk);
-						existingNames.add(normalizedName);
-					}
-				}
+		meetingDetailCache.invalidate(meetingId);
+		searchIndexer.markDirty(meetingId);
+
+		MeetingResult meetingResult = meeting.getMeetingResult();
+		if (meetingResult == null) {
+			meetingResult = MeetingResult.builder().meeting(meeting).build();
+			meetingResult = meetingResultRepository.save(meetingResult);
+		}
 
-				return meetingResultRepository.save(meetingResult);
+		// 중요도 설정
+		ImportanceLevel level = (data.getImportance() != null) ? data.getImportance() : ImportanceLevel.MEDIUM;
 
-			} else {
-				log.error("AI 응답이 비어있거나 실패했습니다: {}", aiResponse);
-				throw new RuntimeException("AI 요약 생성 실패: 응답 없음");
+		meetingResult.updateSummaryInfo(data.getPurpose(), data.getAgenda(), data.getOverallSummary(), level, "");
+
+		// 키워드 저장 로직 (중복 방지 강화)
+		List<String> aiKeywordNames = new ArrayList<>();
+		List<String> aiKeywords = data.getKeywords();
+		if (aiKeywords != null) {
+			// 1. 현재 DB에 저장된 키워드 ID들을 Set으로 추출 (빠른 검색 및 중복 방지)
+			Set<Long> existingIds = new HashSet<>();
+			if (meetingResult.getKeywords() != null) {
+				meetingResult.getKeywords().forEach(mrk -> existingIds.add(mrk.getKeyword().getId()));
+			}
+
+			// 2. 키워드 엔티티 일괄 조회 또는 생성 (키워드 수와 무관하게 최대 3회 쿼리)
+			Map<String, Keyword> keywordMap = keywordResolver.resolveAll(aiKeywords);
+			aiKeywordNames.addAll(keywordMap.keySet());
+
+			for (Keyword keyword : keywordMap.values()) {
+				// 3. 이미 연결된 키워드라면 저장하지 않고 건너뜀 (DB 에러 방지)
+				if (!existingIds.add(keyword.getId())) {
+					continue;
+				}
+
+				// 4. 연결 엔티티 생성
+				MeetingResultKeyword mrk = MeetingResultKeyword.builder().meetingResult(meetingResult)
+						.keyword(keyword).source(KeywordSource.AI).build();
+				meetingResult.getKeywords().add(mrk);
 			}
-		} catch (Exception e) {
-			log.error("AI 서버 통신 중 오류 발생: {}", e.getMessage());
-			e.printStackTrace();
-			throw new RuntimeException("AI 요약 생성에 실패했습니다.");
 		}
+
+		meetingResultRepository.save(meetingResult);
+
+		Map<String, Object> summaryData = new HashMap<>();
+		summaryData.put("purpose", meetingResult.getPurpose());
+		summaryData.put("agenda", meetingResult.getAgenda());
+		summaryData.put("overallSummary", meetingResult.getSummary());
+		summaryData.put("importance", meetingResult.getImportance());
+		summaryData.put("keywords", aiKeywordNames);
+		return summaryData;
 	}
 
 	// AI 액션 아이템 생성 요청
@@ -520,6 +645,9 @@ public class MeetingService {
 			if (aiResponse != null) {
 				// 응답 구조: { "actions": [ ... ] } 가정
 				List<Map<String, Object>> actions = (List<Map<String, Object>>) aiResponse.get("actions");
+				if (actions != null) {
+					attachAssigneeUserIds(actions);
+				}
 
 				return Map.of("success", true, "actions", actions != null ? actions : new ArrayList<>());
 			} else {
@@ -531,6 +659,24 @@ public class MeetingService {
 		}
 	}
 
+	// AI가 추천한 담당자 이름(assignee)을 사용자 ID로 해석해 assigneeUserId로 덧붙임 (찾지 못하면 null)
+	private void attachAssigneeUserIds(List<Map<String, Object>> actions) {
+		List<String> names = new ArrayList<>();
+		for (Map<String, Object> action : actions) {
+			if (action != null && action.get("assignee") instanceof String name) {
+				names.add(name);
+			}
+		}
+		Map<String, Long> userIds = userNameResolver.resolveIds(names);
+		for (Map<String, Object> action : actions) {
+			if (action == null) {
+				continue;
+			}
+			Long userId = action.get("assignee") instanceof String name ? userIds.get(name.trim()) : null;
+			action.put("assigneeUserId", userId);
+		}
+	}
+
 	private String mapToEnumString(String input) {
 		if (input == null)
 			return "MEDIUM";
@@ -0,0 +1,147 @@
+package com.dialog.meeting.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.dialog.meeting.domain.AISummaryResponse;
+import com.dialog.meeting.domain.SummaryJob;
+import com.dialog.meeting.domain.SummaryJobResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 요약을 백그라운드 작업으로 실행하고 상태를 보관하는 서비스.
+ * 요청 스레드는 작업 ID만 받아 즉시 반환되며, 클라이언트는 폴링 또는 SSE로 결과를 받습니다.
+ */
+@Service
+@Slf4j
+public class SummaryJobService {
+
+	private final MeetingService meetingService;
+	private final ThreadPoolTaskExecutor summaryJobExecutor;
+	private final long sseTimeoutMillis;
+
+	// jobId → 작업 (마지막 조회 후 일정 시간이 지나면 자동 제거)
+	private final Cache<String, SummaryJob> jobs;
+
+	// meetingId → 진행 중인 jobId (같은 회의에 대한 중복 실행 방지)
+	private final Map<Long, String> activeJobs = new ConcurrentHashMap<>();
+
+	public SummaryJobService(MeetingService meetingService,
+			@Qualifier("summaryJobExecutor") ThreadPoolTaskExecutor summaryJobExecutor,
+			@Value("${summary.job.retention:30m}") Duration retention,
+			@Value("${summary.job.sse-timeout:5m}") Duration sseTimeout) {
+		this.meetingService = meetingService;
+		this.summaryJobExecutor = summaryJobExecutor;
+		this.sseTimeoutMillis = sseTimeout.toMillis();
+		this.jobs = Caffeine.newBuilder()
+				.expireAfterAccess(retention)
+				.build();
+	}
+
+	// 요약 작업 제출. 이미 진행 중인 작업이 있으면 그 작업을 그대로 반환
+	public SummaryJob submit(Long meetingId) {
+		// 회의/대화 내용 검증은 요청 스레드에서 먼저 수행 (잘못된 요청은 바로 400)
+		Map<String, Object> requestPayload = meetingService.buildSummaryRequest(meetingId);
+
+		SummaryJob newJob = new SummaryJob(meetingId);
+		String activeJobId = activeJobs.computeIfAbsent(meetingId, id -> {
+			jobs.put(newJob.getJobId(), newJob);
+			return newJob.getJobId();
+		});
+
+		SummaryJob activeJob = jobs.getIfPresent(activeJobId);
+		if (activeJob != null && activeJob != newJob) {
+			log.info("진행 중인 요약 작업 재사용 - meetingId: {}, jobId: {}", meetingId, activeJobId);
+			return activeJob;
+		}
+
+		try {
+			summaryJobExecutor.execute(() -> run(newJob, requestPayload));
+		} catch (TaskRejectedException e) {
+			activeJobs.remove(meetingId, newJob.getJobId());
+			jobs.invalidate(newJob.getJobId());
+			throw e;
+		}
+
+		log.info("요약 작업 등록 - meetingId: {}, jobId: {}", meetingId, newJob.getJobId());
+		return newJob;
+	}
+
+	// 작업 조회 (없거나 만료되면 IllegalArgumentException)
+	public SummaryJob getJob(String jobId) {
+		SummaryJob job = jobs.getIfPresent(jobId);
+		if (job == null) {
+			throw new IllegalArgumentException("요약 작업을 찾을 수 없습니다.");
+		}
+		return job;
+	}
+
+	// SSE 구독. 현재 상태를 즉시 보내고, 이미 끝난 작업이면 바로 스트림을 닫음
+	public SseEmitter subscribe(String jobId) {
+		SummaryJob job = getJob(jobId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+
+		job.getEmitters().add(emitter);
+		emitter.onCompletion(() -> job.getEmitters().remove(emitter));
+		emitter.onTimeout(() -> job.getEmitters().remove(emitter));
+		emitter.onError(e -> job.getEmitters().remove(emitter));
+
+		// 구독 직전에 작업이 끝났을 수 있으므로 등록 후 상태를 한 번 더 전송
+		send(job, emitter);
+		return emitter;
+	}
+
+	private void run(SummaryJob job, Map<String, Object> requestPayload) {
+		Long meetingId = job.getMeetingId();
+		try {
+			job.start();
+			publish(job);
+
+			// AI 서버 호출은 트랜잭션 밖에서, 결과 저장만 짧은 트랜잭션으로 처리
+			AISummaryResponse.AISummaryData data = meetingService.requestAISummary(requestPayload);
+			Map<String, Object> summary = meetingService.applyAISummary(meetingId, data);
+
+			job.complete(summary);
+			log.info("요약 작업 완료 - meetingId: {}, jobId: {}", meetingId, job.getJobId());
+		} catch (Exception e) {
+			log.error("요약 작업 실패 - meetingId: {}, jobId: {}", meetingId, job.getJobId(), e);
+			job.fail(e.getMessage() != null ? e.getMessage() : "요약 생성 중 오류가 발생했습니다.");
+		} finally {
+			activeJobs.remove(meetingId, job.getJobId());
+			publish(job);
+		}
+	}
+
+	private void publish(SummaryJob job) {
+		for (SseEmitter emitter : job.getEmitters()) {
+			send(job, emitter);
+		}
+	}
+
+	private void send(SummaryJob job, SseEmitter emitter) {
+		try {
+			emitter.send(SseEmitter.event()
+					.name("status")
+					.data(new SummaryJobResponseDto(job)));
+			if (job.getStatus().isFinished()) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트가 연결을 끊은 경우
+			job.getEmitters().remove(emitter);
+			emitter.completeWithError(e);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -68,11 +69,13 @@ public class MeetingResult {
 
 	// ActionItem은 결과에 종속됨 (Result 삭제 시 함께 삭제)
 	@OneToMany(mappedBy = "meetingResult", cascade = CascadeType.ALL, orphanRemoval = true)
+	@BatchSize(size = 100)
 	@Builder.Default
 	private List<ActionItem> actionItems = new ArrayList<>();
 
 	// MeetingResultKeyword(연결+출처)
 	@OneToMany(mappedBy = "meetingResult", cascade = CascadeType.ALL, orphanRemoval = true)
+	@BatchSize(size = 100)
     @Builder.Default
     private List<MeetingResultKeyword> keywords = new ArrayList<>();
 
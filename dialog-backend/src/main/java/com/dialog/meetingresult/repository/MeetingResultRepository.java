@@ -3,6 +3,8 @@ package com.dialog.meetingresult.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dialog.meetingresult.domain.MeetingResult;
 
@@ -12,4 +14,13 @@ public interface MeetingResultRepository extends JpaRepository<MeetingResult, Lo
 
 	// Meeting ID로 결과 삭제
 	void deleteByMeetingId(Long meetingId);
+
+	// 키워드 컬렉션 + 키워드 이름 초기화 (MeetingDetailLoader 2단계)
+	// 두 List 컬렉션을 한 쿼리로 fetch 하면 MultipleBagFetchException 이므로 컬렉션마다 쿼리를 나눔
+	@Query("SELECT r FROM MeetingResult r LEFT JOIN FETCH r.keywords mrk LEFT JOIN FETCH mrk.keyword WHERE r.id = :resultId")
+	Optional<MeetingResult> fetchKeywords(@Param("resultId") Long resultId);
+
+	// 액션 아이템 컬렉션 + 담당자 초기화 (MeetingDetailLoader 3단계)
+	@Query("SELECT r FROM MeetingResult r LEFT JOIN FETCH r.actionItems a LEFT JOIN FETCH a.assignee WHERE r.id = :resultId")
+	Optional<MeetingResult> fetchActionItems(@Param("resultId") Long resultId);
 }
\ No newline at end of file
@@ -2,14 +2,34 @@ package com.dialog.participant.repository;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.dialog.participant.domain.Participant;
-import com.dialog.user.domain.MeetUser;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
     List<Participant> findByMeetingId(Long meetingId);
 
-    void deleteBySpeakerId(String speakerId);    
-    void deleteByMeetingId(Long meetingId);
-}
\ No newline at end of file
+    // 여러 회의의 참가자 이름을 한 번에 조회 (목록 화면용, [meetingId, name])
+    @Query("SELECT p.meeting.id, p.name FROM Participant p WHERE p.meeting.id IN :meetingIds ORDER BY p.id")
+    List<Object[]> findNamesByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+
+    // 파생 delete는 행마다 조회 후 삭제하므로 DELETE 한 번으로 처리
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Participant p WHERE p.speakerId = :speakerId")
+    int deleteBySpeakerId(@Param("speakerId") String speakerId);
+
+    // 화자 일괄 변경용 (meeting_id, speaker_id 는 uq_meeting_speaker 로 유일)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Participant p SET p.name = :name WHERE p.meeting.id = :meetingId AND p.speakerId = :speakerId")
+    int updateNameBySpeakerId(@Param("meetingId") Long meetingId, @Param("speakerId") String speakerId,
+            @Param("name") String name);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Participant p WHERE p.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+}
@@ -1,7 +1,15 @@
 package com.dialog.recording.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,9 +21,22 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.dialog.recording.domain.RecordingCreateRequestDto;
+import com.dialog.recording.domain.RecordingPeaksResponseDto;
 import com.dialog.recording.domain.RecordingResponseDto;
 import com.dialog.recording.domain.RecordingUpdateRequestDto;
+import com.dialog.recording.domain.RecordingUploadCompleteRequestDto;
+import com.dialog.recording.domain.RecordingUploadInitRequestDto;
+import com.dialog.recording.domain.RecordingUploadStatusDto;
+import com.dialog.recording.service.RecordingAudioStreamer;
+import com.dialog.recording.service.RecordingPeaksStore;
 import com.dialog.recording.service.RecordingService;
+import com.dialog.recording.service.RecordingStreamLimiter;
+import com.dialog.recording.service.RecordingUploadService;
+import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.user.service.CustomUserDetails;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +48,9 @@ import lombok.extern.slf4j.Slf4j;
 public class RecordingController {
 
 	private final RecordingService recordingService;
+	private final RecordingUploadService recordingUploadService;
+	private final RecordingAudioStreamer recordingAudioStreamer;
+	private final RecordingStreamLimiter recordingStreamLimiter;
 
 	// 녹음 파일 정보 저장 (Meeting과 연결) POST /api/recordings?meetingId=1
 	@PostMapping
@@ -69,6 +93,116 @@ public class RecordingController {
 		}
 	}
 
+	// 서버에 업로드된 녹음 파일 GET /api/recordings/1/audio (Range/If-Range 지원, 탐색 재생용)
+	// 사용자별 동시 스트림 수를 넘으면 429
+	@GetMapping("/{recordingId}/audio")
+	public void getAudio(@PathVariable("recordingId") Long recordingId, Authentication authentication,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		Long userId = currentUserId(authentication);
+		if (userId == null) {
+			response.sendError(HttpStatus.UNAUTHORIZED.value());
+			return;
+		}
+		RecordingAudioStreamer.AudioFile file;
+		try {
+			file = recordingService.getAudioFile(recordingId);
+		} catch (IllegalArgumentException e) {
+			log.error("녹음 파일 조회 실패: {}", e.getMessage());
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+		if (!recordingStreamLimiter.tryAcquire(userId)) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+			response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+			return;
+		}
+		try {
+			// 전송은 stream() 안에서 끝나므로 자리는 그 뒤에 반환
+			recordingAudioStreamer.stream(file, request, response);
+		} finally {
+			recordingStreamLimiter.release(userId);
+		}
+	}
+
+	// 파형 피크 GET /api/recordings/1/peaks?resolution=1024 (버킷당 샘플 수, 가까운 저장 단계로 맞춤)
+	@GetMapping("/{recordingId}/peaks")
+	public ResponseEntity<RecordingPeaksResponseDto> getPeaks(@PathVariable("recordingId") Long recordingId,
+			@RequestParam(value = "resolution", defaultValue = "" + RecordingPeaksStore.DEFAULT_RESOLUTION) int resolution) {
+		try {
+			RecordingPeaksResponseDto response = recordingService.getPeaks(recordingId, resolution);
+			return ResponseEntity.ok().cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate()).body(response);
+		} catch (IllegalArgumentException e) {
+			log.error("파형 피크 조회 실패: {}", e.getMessage());
+			return ResponseEntity.notFound().build();
+		} catch (IllegalStateException e) {
+			log.warn("파형 피크 없음: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		} catch (UncheckedIOException e) {
+			log.error("파형 피크 읽기 실패: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	// 녹음 파일 업로드 시작 POST /api/recordings/uploads?meetingId=1
+	@PostMapping("/uploads")
+	public ResponseEntity<RecordingUploadStatusDto> initUpload(@RequestParam("meetingId") Long meetingId,
+			@RequestBody RecordingUploadInitRequestDto requestDto) {
+		try {
+			return ResponseEntity.status(HttpStatus.CREATED).body(recordingUploadService.init(meetingId, requestDto));
+		} catch (IllegalArgumentException e) {
+			log.error("녹음 업로드 시작 실패: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+		}
+	}
+
+	// 업로드 상태 (끊긴 뒤 이어 보낼 위치) GET /api/recordings/uploads/{uploadId}
+	@GetMapping("/uploads/{uploadId}")
+	public ResponseEntity<RecordingUploadStatusDto> getUpload(@PathVariable("uploadId") String uploadId) {
+		try {
+			return ResponseEntity.ok(recordingUploadService.getStatus(uploadId));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.notFound().build();
+		}
+	}
+
+	// 조각 업로드 PUT /api/recordings/uploads/{uploadId}?offset=0 (본문: application/octet-stream)
+	// offset 이 맞지 않으면 409 와 함께 현재 상태를 돌려주므로 receivedBytes 부터 다시 보내면 됨
+	@PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public ResponseEntity<RecordingUploadStatusDto> uploadChunk(@PathVariable("uploadId") String uploadId,
+			@RequestParam("offset") long offset, HttpServletRequest request) {
+		try {
+			return ResponseEntity.ok(recordingUploadService.writeChunk(uploadId, offset, request.getContentLengthLong(),
+					request.getInputStream()));
+		} catch (IllegalStateException e) {
+			log.warn("녹음 조각 거부: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(recordingUploadService.getStatus(uploadId));
+		} catch (IllegalArgumentException e) {
+			log.error("녹음 조각 업로드 실패: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+		} catch (IOException | UncheckedIOException e) {
+			log.error("녹음 조각 저장 실패: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	// 업로드 완료 POST /api/recordings/uploads/{uploadId}/complete
+	@PostMapping("/uploads/{uploadId}/complete")
+	public ResponseEntity<RecordingResponseDto> completeUpload(@PathVariable("uploadId") String uploadId,
+			@RequestBody(required = false) RecordingUploadCompleteRequestDto requestDto) {
+		try {
+			return ResponseEntity.ok(recordingUploadService.complete(uploadId, requestDto));
+		} catch (IllegalArgumentException e) {
+			log.error("녹음 업로드 완료 실패: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+		} catch (IllegalStateException e) {
+			log.warn("녹음 업로드 완료 거부: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		} catch (UncheckedIOException e) {
+			log.error("녹음 업로드 완료 처리 실패: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
 	// 녹음 파일 정보 업데이트 PUT /api/recordings/1
 	@PutMapping("/{recordingId}")
 	public ResponseEntity<RecordingResponseDto> updateRecording(@PathVariable("recordingId") Long recordingId,
@@ -93,4 +227,19 @@ public class RecordingController {
 			return ResponseEntity.notFound().build();
 		}
 	}
-}
\ No newline at end of file
+
+	// 인증 주체 타입별로 사용자 ID 추출 (소셜/일반 가입)
+	private Long currentUserId(Authentication authentication) {
+		if (authentication == null) {
+			return null;
+		}
+		Object principal = authentication.getPrincipal();
+		if (principal instanceof CustomOAuth2User) {
+			return ((CustomOAuth2User) principal).getMeetuser().getId();
+		}
+		if (principal instanceof CustomUserDetails) {
+			return ((CustomUserDetails) principal).getId();
+		}
+		return null;
+	}
+}
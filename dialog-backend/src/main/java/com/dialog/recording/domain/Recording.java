@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "recording")
+@Table(name = "recording", indexes = {
+    // 같은 내용 파일의 참조 수 (RecordingBlobStore GC)
+    @Index(name = "idx_recording_audio_checksum", columnList = "audio_checksum")
+})
 @Getter 
 @NoArgsConstructor(access = AccessLevel.PROTECTED) 
 @AllArgsConstructor 
@@ -50,6 +54,14 @@ public class Recording {
     
     @Column(name = "duration_seconds")
     private Integer durationSeconds;
+
+    // 서버에 업로드된 파일의 저장소 기준 상대 경로 (RecordingFileStorage). 외부 URL만 있는 녹음은 null
+    @Column(name = "storage_path", length = 500)
+    private String storagePath;
+
+    // 업로드된 파일의 SHA-256 (hex)
+    @Column(name = "audio_checksum", length = 64)
+    private String audioChecksum;
     
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -83,6 +95,12 @@ public class Recording {
         }
     }
 
+    /** 서버 저장소에 올라온 파일 연결 */
+    public void attachStoredFile(String storagePath, String checksum) {
+        this.storagePath = storagePath;
+        this.audioChecksum = checksum;
+    }
+
     /** 오디오 파일 존재 여부 */
     public boolean hasAudioFile() {
         return this.audioFileUrl != null && !this.audioFileUrl.isBlank();
@@ -0,0 +1,73 @@
+package com.dialog.recording.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용(SHA-256) 기준으로 한 번만 저장하는 녹음 파일 (RecordingBlobStore 참고).
+ *
+ * 참조 수는 따로 세지 않고 같은 audio_checksum 을 가진 Recording 행 수로 봅니다.
+ * (회의 삭제 cascade 등 Recording 이 지워지는 경로가 여러 곳이라 카운터를 두면 어긋나기 쉬움)
+ * 행 잠금은 "참조 추가"와 "참조 0 인 파일 삭제(GC)", 보관/복원을 직렬화하는 용도입니다.
+ * 행은 동시에 같은 내용이 올라와도 한 번만 생기도록 INSERT IGNORE 로 만듭니다.
+ */
+@Entity
+@Table(name = "recording_blob", indexes = {
+		@Index(name = "idx_recording_blob_tier_accessed", columnList = "tier, last_accessed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecordingBlob {
+
+	@Id
+	@Column(name = "sha256", length = 64)
+	private String sha256;
+
+	// 원본 크기
+	@Column(name = "size", nullable = false)
+	private long size;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "tier", nullable = false, length = 20)
+	private RecordingBlobTier tier;
+
+	// 압축 보관본 크기 (HOT 이면 null)
+	@Column(name = "archived_size")
+	private Long archivedSize;
+
+	@Column(name = "last_accessed_at", nullable = false)
+	private LocalDateTime lastAccessedAt;
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private LocalDateTime createdAt;
+
+	// 참조가 없어진 뒤 GC 유예 시간의 기준
+	@UpdateTimestamp
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public void archived(long archivedSize) {
+		this.tier = RecordingBlobTier.ARCHIVED;
+		this.archivedSize = archivedSize;
+	}
+
+	public void rehydrated(LocalDateTime now) {
+		this.tier = RecordingBlobTier.HOT;
+		this.archivedSize = null;
+		this.lastAccessedAt = now;
+	}
+}
@@ -0,0 +1,8 @@
+package com.dialog.recording.domain;
+
+public enum RecordingBlobTier {
+
+	HOT,        // 원본 그대로 (바로 스트리밍)
+	ARCHIVED    // 압축 보관 (접근 시 HOT 으로 복원)
+
+}
@@ -0,0 +1,30 @@
+package com.dialog.recording.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 파형 피크 한 해상도.
+ * peaks 는 [min0, max0, min1, max1, ...] 8비트 부호 있는 값(-127~127)이며 JSON 에서는 base64 문자열로 내려갑니다.
+ * 버킷 i 의 시작 시각(초) = i * samplesPerBucket / sampleRate
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecordingPeaksResponseDto {
+
+	private int sampleRate;
+	private long frames;            // 전체 샘플(프레임) 수
+	private int samplesPerBucket;
+	private int bucketCount;
+	private byte[] peaks;
+
+	public RecordingPeaksResponseDto(int sampleRate, long frames, int samplesPerBucket, int bucketCount, byte[] peaks) {
+		this.sampleRate = sampleRate;
+		this.frames = frames;
+		this.samplesPerBucket = samplesPerBucket;
+		this.bucketCount = bucketCount;
+		this.peaks = peaks;
+	}
+}
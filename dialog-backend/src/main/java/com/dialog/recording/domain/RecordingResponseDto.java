@@ -17,6 +17,7 @@ public class RecordingResponseDto {
 	private Long audioFileSize;
 	private String audioFormat;
 	private Integer durationSeconds;
+	private String audioChecksum;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 
@@ -31,6 +32,7 @@ public class RecordingResponseDto {
 		this.audioFileSize = recording.getAudioFileSize();
 		this.audioFormat = recording.getAudioFormat();
 		this.durationSeconds = recording.getDurationSeconds();
+		this.audioChecksum = recording.getAudioChecksum();
 		this.createdAt = recording.getCreatedAt();
 		this.updatedAt = recording.getUpdatedAt();
 	}
@@ -0,0 +1,81 @@
+package com.dialog.recording.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이어받기 가능한 녹음 파일 업로드 세션 (RecordingUploadService 참고).
+ *
+ * receivedBytes 는 앞에서부터 빠짐없이 디스크에 기록(force)된 바이트 수로, 클라이언트가 끊긴 뒤 이어 보낼 위치입니다.
+ * 회의 삭제를 막지 않도록 meeting 에 FK 를 걸지 않고, 남은 세션은 주기 작업에서 정리합니다.
+ */
+@Entity
+@Table(name = "recording_upload", indexes = {
+		@Index(name = "idx_recording_upload_status_updated", columnList = "status, updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecordingUpload {
+
+	@Id
+	@Column(name = "id", length = 36)
+	private String id;
+
+	@Column(name = "meeting_id", nullable = false)
+	private Long meetingId;
+
+	@Column(name = "total_size", nullable = false)
+	private long totalSize;
+
+	@Column(name = "received_bytes", nullable = false)
+	private long receivedBytes;
+
+	@Column(name = "audio_format", length = 20)
+	private String audioFormat;
+
+	// 헤더에서 길이를 읽을 수 없는 형식일 때 사용할 클라이언트 측 길이
+	@Column(name = "reported_duration_seconds")
+	private Integer reportedDurationSeconds;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private RecordingUploadStatus status;
+
+	// Recording 에 반영한 파일의 SHA-256 (반영 전에는 null). 완료 재요청 시 이 업로드의 결과인지 확인
+	@Column(name = "checksum", length = 64)
+	private String checksum;
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private LocalDateTime createdAt;
+
+	@UpdateTimestamp
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public RecordingUpload(String id, Long meetingId, long totalSize, String audioFormat, Integer reportedDurationSeconds) {
+		this.id = id;
+		this.meetingId = meetingId;
+		this.totalSize = totalSize;
+		this.audioFormat = audioFormat;
+		this.reportedDurationSeconds = reportedDurationSeconds;
+		this.status = RecordingUploadStatus.UPLOADING;
+	}
+
+	public boolean isComplete() {
+		return receivedBytes >= totalSize;
+	}
+}
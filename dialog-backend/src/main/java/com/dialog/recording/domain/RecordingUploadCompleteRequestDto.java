@@ -0,0 +1,14 @@
+package com.dialog.recording.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecordingUploadCompleteRequestDto {
+
+    // 클라이언트가 계산한 SHA-256 (hex). 보내면 서버 계산 값과 비교해 다르면 거부
+    private String sha256;
+}
@@ -0,0 +1,17 @@
+package com.dialog.recording.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecordingUploadInitRequestDto {
+
+    private Long totalSize;         // 전체 파일 크기 (바이트)
+
+    private String audioFormat;     // 예: wav
+
+    private Integer durationSeconds; // 헤더로 길이를 알 수 없는 형식일 때만 사용
+}
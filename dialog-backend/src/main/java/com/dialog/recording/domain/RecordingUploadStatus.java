@@ -0,0 +1,9 @@
+package com.dialog.recording.domain;
+
+public enum RecordingUploadStatus {
+
+	UPLOADING,
+	COMPLETED,
+	FAILED // 완료 처리 중 Recording 반영 실패. 업로드 파일이 남지 않으므로 새 업로드로 다시 보내야 함
+
+}
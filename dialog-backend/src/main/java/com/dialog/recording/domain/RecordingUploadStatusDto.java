@@ -0,0 +1,27 @@
+package com.dialog.recording.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecordingUploadStatusDto {
+
+	private String uploadId;
+	private Long meetingId;
+	private long totalSize;
+	private long receivedBytes;  // 다음 조각의 offset
+	private int chunkSize;       // 권장 조각 크기
+	private RecordingUploadStatus status;
+
+	public RecordingUploadStatusDto(RecordingUpload upload, int chunkSize) {
+		this.uploadId = upload.getId();
+		this.meetingId = upload.getMeetingId();
+		this.totalSize = upload.getTotalSize();
+		this.receivedBytes = upload.getReceivedBytes();
+		this.chunkSize = chunkSize;
+		this.status = upload.getStatus();
+	}
+}
@@ -0,0 +1,44 @@
+package com.dialog.recording.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.recording.domain.RecordingBlob;
+import com.dialog.recording.domain.RecordingBlobTier;
+
+import jakarta.persistence.LockModeType;
+
+public interface RecordingBlobRepository extends JpaRepository<RecordingBlob, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RecordingBlob b WHERE b.sha256 = :sha256")
+    Optional<RecordingBlob> findForUpdate(@Param("sha256") String sha256);
+
+    // 마지막 접근 시각 갱신 (스트리밍 요청마다 쓰지 않도록 호출 측에서 간격을 둠)
+    @Modifying
+    @Query("UPDATE RecordingBlob b SET b.lastAccessedAt = :now WHERE b.sha256 = :sha256")
+    int touch(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // 참조가 빠졌을 때 GC 유예 시간을 지금부터 다시 셈
+    @Modifying
+    @Query("UPDATE RecordingBlob b SET b.updatedAt = :now WHERE b.sha256 = :sha256")
+    int markReleased(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    // 참조가 끊긴 뒤 유예 시간이 지난 파일 (GC 대상, 잠근 뒤 다시 확인)
+    @Query("SELECT b.sha256 FROM RecordingBlob b WHERE b.updatedAt < :before "
+            + "AND NOT EXISTS (SELECT 1 FROM Recording r WHERE r.audioChecksum = b.sha256)")
+    List<String> findUnreferenced(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 오래 접근하지 않은 원본 (압축 보관 대상)
+    @Query("SELECT b.sha256 FROM RecordingBlob b WHERE b.tier = :tier AND b.lastAccessedAt < :before")
+    List<String> findIdle(@Param("tier") RecordingBlobTier tier, @Param("before") LocalDateTime before,
+            Pageable pageable);
+}
@@ -19,4 +19,7 @@ public interface RecordingRepository extends JpaRepository<Recording, Long> {
     
 	// Meeting ID로 Recording 삭제
     void deleteByMeetingId(Long meetingId);
+
+	// 같은 내용의 파일을 가리키는 녹음 수 (RecordingBlobStore 참조 수)
+    long countByAudioChecksum(String audioChecksum);
 }
\ No newline at end of file
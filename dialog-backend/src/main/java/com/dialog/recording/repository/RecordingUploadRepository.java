@@ -0,0 +1,39 @@
+package com.dialog.recording.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.recording.domain.RecordingUpload;
+import com.dialog.recording.domain.RecordingUploadStatus;
+
+public interface RecordingUploadRepository extends JpaRepository<RecordingUpload, String> {
+
+    // 받은 위치는 앞으로만 이동 (같은 조각을 동시에 다시 보내도 되돌아가지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecordingUpload u SET u.receivedBytes = :receivedBytes, u.updatedAt = :now "
+            + "WHERE u.id = :id AND u.status = :status AND u.receivedBytes < :receivedBytes")
+    int advance(@Param("id") String id, @Param("receivedBytes") long receivedBytes,
+            @Param("status") RecordingUploadStatus status, @Param("now") LocalDateTime now);
+
+    // 완료 처리 선점 (동시에 두 번 완료 요청이 와도 한쪽만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecordingUpload u SET u.status = :to, u.updatedAt = :now WHERE u.id = :id AND u.status = :from")
+    int changeStatus(@Param("id") String id, @Param("from") RecordingUploadStatus from,
+            @Param("to") RecordingUploadStatus to, @Param("now") LocalDateTime now);
+
+    // Recording 반영과 같은 트랜잭션에서 기록
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecordingUpload u SET u.checksum = :checksum, u.updatedAt = :now WHERE u.id = :id")
+    int recordChecksum(@Param("id") String id, @Param("checksum") String checksum, @Param("now") LocalDateTime now);
+
+    // 정리 대상: 오래 멈춘 세션, 완료된 세션, 회의가 삭제된 세션
+    @Query("SELECT u.id FROM RecordingUpload u WHERE u.updatedAt < :before "
+            + "OR NOT EXISTS (SELECT 1 FROM Meeting m WHERE m.id = u.meetingId)")
+    List<String> findExpiredIds(@Param("before") LocalDateTime before, Pageable pageable);
+}
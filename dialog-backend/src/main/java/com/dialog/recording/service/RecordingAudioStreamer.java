@@ -0,0 +1,217 @@
+package com.dialog.recording.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 녹음 파일을 HTTP Range(RFC 7233) 요청에 맞게 내려줍니다.
+ *
+ * - 조건부 요청: If-None-Match / If-Modified-Since → 304, If-Range 가 현재 ETag(강한 비교) 또는
+ *   Last-Modified 와 맞을 때만 Range 를 적용하고 아니면 전체(200)를 보냄
+ * - 단일 구간/전체: 요청 스레드에서 FileChannel.transferTo 로 응답 스트림에 복사.
+ *   대상이 서블릿 OutputStream 이라 커널 zero-copy 는 아니고 작은 버퍼 단위로 복사되지만, 파일 전체를 힙에 올리지는 않음.
+ *   stream() 이 반환되면 전송이 끝난 것이므로 호출자는 동시 스트림 자리 등을 반환 직후 풀어도 됨
+ * - 여러 구간: multipart/byteranges 로 구간마다 같은 방식으로 복사
+ */
+@Component
+public class RecordingAudioStreamer {
+
+	/** 내려줄 파일. etag 는 따옴표를 포함한 값 (체크섬이 없는 파일은 W/ 약한 ETag) */
+	public record AudioFile(Path path, String contentType, String etag) {
+	}
+
+	// 구간 [start, end] (end 포함)
+	private record Region(long start, long end) {
+
+		long length() {
+			return end - start + 1;
+		}
+	}
+
+	public void stream(AudioFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		long length = Files.size(file.path());
+		long lastModified = Files.getLastModifiedTime(file.path()).toMillis() / 1000 * 1000; // HTTP 날짜는 초 단위
+		boolean head = "HEAD".equals(request.getMethod());
+
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		response.setHeader(HttpHeaders.ETAG, file.etag());
+		response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+		if (notModified(file.etag(), lastModified, request)) {
+			response.setStatus(HttpStatus.NOT_MODIFIED.value());
+			return;
+		}
+
+		List<Region> regions = null;
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader != null && ifRangeMatches(file.etag(), lastModified, request)) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(rangeHeader);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of(); // 형식이 잘못된 Range 는 무시하고 전체 전송
+			}
+			if (!ranges.isEmpty()) {
+				regions = toRegions(ranges, length);
+				if (regions == null) {
+					response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					return;
+				}
+			}
+		}
+
+		if (regions == null || regions.size() == 1) {
+			Region region = regions == null ? new Region(0, length - 1) : regions.get(0);
+			if (regions != null) {
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE,
+						"bytes " + region.start() + "-" + region.end() + "/" + length);
+			}
+			response.setContentType(file.contentType());
+			response.setContentLengthLong(length == 0 ? 0 : region.length());
+			if (!head && length > 0) {
+				sendRegion(file.path(), region, response);
+			}
+			return;
+		}
+
+		// 여러 구간: multipart/byteranges
+		String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+		List<byte[]> partHeaders = new ArrayList<>(regions.size());
+		long contentLength = 0;
+		for (Region region : regions) {
+			byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+					+ HttpHeaders.CONTENT_TYPE + ": " + file.contentType() + "\r\n"
+					+ HttpHeaders.CONTENT_RANGE + ": bytes " + region.start() + "-" + region.end() + "/" + length
+					+ "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+			partHeaders.add(partHeader);
+			contentLength += partHeader.length + region.length();
+		}
+		byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+		contentLength += closing.length;
+
+		response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+		response.setContentType("multipart/byteranges; boundary=" + boundary);
+		response.setContentLengthLong(contentLength);
+		if (head) {
+			return;
+		}
+		OutputStream out = response.getOutputStream();
+		WritableByteChannel target = Channels.newChannel(out);
+		try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+			for (int i = 0; i < regions.size(); i++) {
+				out.write(partHeaders.get(i));
+				transfer(channel, regions.get(i), target);
+			}
+		}
+		out.write(closing);
+	}
+
+	// GET 조건부 요청: If-None-Match 가 있으면 그것만 보고, 없을 때만 If-Modified-Since 사용
+	private boolean notModified(String etag, long lastModified, HttpServletRequest request) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.equals("*") || opaque(tag).equals(opaque(etag))) {
+					return true; // 약한 비교
+				}
+			}
+			return false;
+		}
+		long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+		return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+	}
+
+	// If-Range 가 없으면 true. ETag 는 강한 비교(W/ 는 항상 불일치), 날짜는 Last-Modified 와 정확히 같아야 함
+	private boolean ifRangeMatches(String etag, long lastModified, HttpServletRequest request) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		ifRange = ifRange.trim();
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return !etag.startsWith("W/") && ifRange.equals(etag);
+		}
+		return dateHeader(request, HttpHeaders.IF_RANGE) == lastModified;
+	}
+
+	// 범위를 벗어난 구간은 버리고, 남는 구간이 없으면 null (416)
+	private List<Region> toRegions(List<HttpRange> ranges, long length) {
+		List<Region> regions = new ArrayList<>(ranges.size());
+		long total = 0;
+		for (HttpRange range : ranges) {
+			long start;
+			long end;
+			try {
+				start = range.getRangeStart(length);
+				end = range.getRangeEnd(length);
+			} catch (IllegalArgumentException e) {
+				continue; // 파일 크기 밖에서 시작하는 구간
+			}
+			if (start > end) {
+				continue;
+			}
+			regions.add(new Region(start, end));
+			total += end - start + 1;
+		}
+		if (regions.isEmpty()) {
+			return null;
+		}
+		// 겹치는 구간을 잔뜩 보내 파일보다 큰 응답을 만드는 요청은 전체 전송으로 대체
+		if (regions.size() > 1 && total > length) {
+			return List.of(new Region(0, length - 1));
+		}
+		return regions;
+	}
+
+	private void sendRegion(Path path, Region region, HttpServletResponse response) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			transfer(channel, region, Channels.newChannel(response.getOutputStream()));
+		}
+	}
+
+	private void transfer(FileChannel channel, Region region, WritableByteChannel target) throws IOException {
+		long position = region.start();
+		long end = region.end() + 1;
+		while (position < end) {
+			long sent = channel.transferTo(position, end - position, target);
+			if (sent <= 0) {
+				throw new IOException("녹음 파일 전송이 중단되었습니다.");
+			}
+			position += sent;
+		}
+	}
+
+	private static String opaque(String tag) {
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+
+	private static long dateHeader(HttpServletRequest request, String name) {
+		try {
+			return request.getDateHeader(name);
+		} catch (IllegalArgumentException e) {
+			return -1; // 날짜 형식이 아님
+		}
+	}
+}
@@ -0,0 +1,267 @@
+package com.dialog.recording.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.recording.domain.RecordingBlob;
+import com.dialog.recording.domain.RecordingBlobTier;
+import com.dialog.recording.repository.RecordingBlobRepository;
+import com.dialog.recording.repository.RecordingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SHA-256 기준 중복 제거 녹음 저장소.
+ *
+ * - 경로: blobs/{앞 2자리}/{sha256} (원본), archive/{앞 2자리}/{sha256}.gz (압축 보관), 피크 사이드카는 원본 옆에 유지
+ * - 같은 내용이 다시 올라오면 새 파일을 버리고 기존 파일을 가리킴 (회의 재종료, 여러 기기에서 같은 파일 업로드)
+ * - 참조 수 = 같은 체크섬을 가진 Recording 행 수. 참조가 0 이 된 뒤 유예 시간이 지나면 주기 작업이 파일과 행을 삭제
+ * - 수명 주기: archive-after 동안 접근이 없던 원본은 gzip 보관 계층으로 옮기고, 재생/조회 시 원본으로 복원
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RecordingBlobStore {
+
+	private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO recording_blob "
+			+ "(sha256, size, tier, last_accessed_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+	// 스트리밍 요청마다 접근 시각을 쓰지 않도록 이 간격이 지났을 때만 갱신
+	private static final Duration TOUCH_INTERVAL = Duration.ofDays(1);
+
+	private final RecordingBlobRepository blobRepository;
+	private final RecordingRepository recordingRepository;
+	private final RecordingFileStorage storage;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate jobTransaction;
+
+	private final Duration gcGrace;
+	private final Duration archiveAfter;
+	private final int batchSize;
+
+	public RecordingBlobStore(RecordingBlobRepository blobRepository, RecordingRepository recordingRepository,
+			RecordingFileStorage storage, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			@Value("${recording.blob.gc-grace:1h}") Duration gcGrace,
+			@Value("${recording.lifecycle.archive-after:30d}") Duration archiveAfter,
+			@Value("${recording.lifecycle.batch-size:20}") int batchSize) {
+		this.blobRepository = blobRepository;
+		this.recordingRepository = recordingRepository;
+		this.storage = storage;
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobTransaction = new TransactionTemplate(transactionManager);
+		// adopt 롤백 후 정리처럼 끝난 트랜잭션의 후처리에서도 쓰므로 항상 새 트랜잭션
+		this.jobTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		this.gcGrace = gcGrace;
+		this.archiveAfter = archiveAfter;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	public static String storagePath(String sha256) {
+		return "blobs/" + sha256.substring(0, 2) + "/" + sha256;
+	}
+
+	/**
+	 * 업로드 파일을 내용 기준 저장소에 넣고 상대 경로를 반환. 같은 내용이 이미 있으면 업로드 파일은 옮기지 않음
+	 * (남은 업로드 파일은 호출 측이 커밋 후 삭제). 블롭 행 잠금은 호출 측 트랜잭션이 끝날 때까지 유지되어
+	 * 그 사이 GC 가 이 파일을 지우지 못합니다. 호출 측이 롤백하면 새로 만든 행은 사라지므로 옮긴 파일도 지웁니다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public String adopt(String uploadId, String sha256, long size) throws IOException {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(INSERT_IGNORE_SQL, sha256, size, RecordingBlobTier.HOT.name(), Timestamp.valueOf(now),
+				Timestamp.valueOf(now), Timestamp.valueOf(now));
+		RecordingBlob blob = blobRepository.findForUpdate(sha256)
+				.orElseThrow(() -> new IllegalStateException("녹음 저장소 행을 만들지 못했습니다. sha256=" + sha256));
+
+		Path hot = hotPath(sha256);
+		if (blob.getTier() == RecordingBlobTier.HOT && !Files.exists(hot)) {
+			storage.moveUpload(uploadId, hot);
+			TransactionCallbacks.runAfterRollback(() -> discardOrphan(sha256));
+		} else {
+			log.info("녹음 중복 제거 - sha256: {} ({}), 기존 파일 사용", sha256, blob.getTier());
+		}
+		return storagePath(sha256);
+	}
+
+	/** 스트리밍할 원본 경로. 보관 계층에 있으면 원본으로 복원한 뒤 반환 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Path open(String sha256) {
+		RecordingBlob blob = blobRepository.findById(sha256).orElse(null);
+		if (blob == null || blob.getTier() == RecordingBlobTier.HOT) {
+			if (blob != null && blob.getLastAccessedAt().isBefore(LocalDateTime.now().minus(TOUCH_INTERVAL))) {
+				jobTransaction.executeWithoutResult(status -> blobRepository.touch(sha256, LocalDateTime.now()));
+			}
+			return hotPath(sha256);
+		}
+		// 압축 해제는 잠금 없이 임시 파일로 하고, 행은 이름을 바꾸는 동안만 잠금.
+		// 동시에 여러 요청이 오면 각자 풀 수 있지만 먼저 잠근 요청만 옮기고 나머지는 임시 파일을 버림
+		Path hot = hotPath(sha256);
+		Path temp = hot.resolveSibling(hot.getFileName() + "." + UUID.randomUUID() + ".tmp");
+		try {
+			try {
+				Files.createDirectories(hot.getParent());
+				try (InputStream in = new GZIPInputStream(Files.newInputStream(archivePath(sha256)), 64 * 1024)) {
+					Files.copy(in, temp);
+				}
+			} catch (IOException e) {
+				// 푸는 사이 다른 요청이 복원을 마치고 보관 파일을 지웠으면 그 원본을 씀
+				if (Files.exists(hot)) {
+					return hot;
+				}
+				throw new UncheckedIOException("보관된 녹음 파일을 복원하지 못했습니다.", e);
+			}
+			boolean restored = jobTransaction.execute(status -> rehydrate(sha256, temp));
+			if (restored) {
+				storage.deleteFile(archivePath(sha256));
+			}
+		} finally {
+			storage.deleteFile(temp);
+		}
+		return hot;
+	}
+
+	public Path hotPath(String sha256) {
+		return storage.resolve(storagePath(sha256));
+	}
+
+	// Recording 이 이 파일을 더 이상 가리키지 않을 때 호출. GC 유예 시간을 지금부터 셈
+	@Transactional
+	public void release(String sha256) {
+		if (sha256 != null) {
+			blobRepository.markReleased(sha256, LocalDateTime.now());
+		}
+	}
+
+	// 참조 없는 파일 삭제 후, 오래 접근하지 않은 원본을 압축 보관. 파일 작업 중에는 트랜잭션을 잡지 않음
+	@Scheduled(fixedDelayString = "${recording.lifecycle.interval-ms:3600000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void runLifecycle() {
+		LocalDateTime now = LocalDateTime.now();
+		for (String sha256 : blobRepository.findUnreferenced(now.minus(gcGrace), PageRequest.of(0, batchSize))) {
+			try {
+				jobTransaction.executeWithoutResult(status -> collect(sha256));
+			} catch (RuntimeException e) {
+				log.warn("녹음 파일 GC 실패 - sha256: {} ({})", sha256, e.getMessage());
+			}
+		}
+		LocalDateTime idleBefore = now.minus(archiveAfter);
+		for (String sha256 : blobRepository.findIdle(RecordingBlobTier.HOT, idleBefore, PageRequest.of(0, batchSize))) {
+			try {
+				archive(sha256, idleBefore);
+			} catch (IOException | RuntimeException e) {
+				log.warn("녹음 파일 보관 실패 - sha256: {} ({})", sha256, e.getMessage());
+			}
+		}
+	}
+
+	// 잠근 뒤 참조가 정말 없을 때만 파일과 행 삭제 (파일을 먼저 지워야 커밋 직후 같은 내용이 올라와도 빈 경로를 가리키지 않음)
+	private void collect(String sha256) {
+		RecordingBlob blob = blobRepository.findForUpdate(sha256).orElse(null);
+		if (blob == null || recordingRepository.countByAudioChecksum(sha256) > 0) {
+			return;
+		}
+		Path hot = hotPath(sha256);
+		storage.deleteFile(hot);
+		storage.deleteFile(RecordingFileStorage.peaksPath(hot));
+		storage.deleteFile(archivePath(sha256));
+		blobRepository.delete(blob);
+		log.info("참조 없는 녹음 파일 삭제 - sha256: {}, {} bytes", sha256, blob.getSize());
+	}
+
+	// 압축은 잠금 없이 만든 뒤, 그 사이 접근이 없었을 때만 계층을 바꾸고 원본 삭제
+	private void archive(String sha256, LocalDateTime idleBefore) throws IOException {
+		Path hot = hotPath(sha256);
+		if (!Files.exists(hot)) {
+			return;
+		}
+		long size = Files.size(hot);
+		Path target = archivePath(sha256);
+		Files.createDirectories(target.getParent());
+		Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+		try {
+			try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+				Files.copy(hot, out);
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		long archivedSize = Files.size(target);
+
+		boolean switched = jobTransaction.execute(status -> {
+			RecordingBlob blob = blobRepository.findForUpdate(sha256).orElse(null);
+			if (blob == null || blob.getTier() != RecordingBlobTier.HOT || !blob.getLastAccessedAt().isBefore(idleBefore)) {
+				return false;
+			}
+			blob.archived(archivedSize);
+			return true;
+		});
+		if (switched) {
+			storage.deleteFile(hot);
+			log.info("녹음 파일 압축 보관 - sha256: {}, {} → {} bytes", sha256, size, archivedSize);
+		} else {
+			storage.deleteFile(target);
+		}
+	}
+
+	// 미리 풀어 둔 임시 파일을 원본 자리로 옮기고 계층 변경. 잠금 동안에는 이름 바꾸기만 함
+	private boolean rehydrate(String sha256, Path temp) {
+		RecordingBlob blob = blobRepository.findForUpdate(sha256)
+				.orElseThrow(() -> new IllegalArgumentException("녹음 파일을 찾을 수 없습니다."));
+		if (blob.getTier() == RecordingBlobTier.HOT) {
+			return false; // 푸는 동안 다른 요청이 복원함
+		}
+		try {
+			Files.move(temp, hotPath(sha256), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException("보관된 녹음 파일을 복원하지 못했습니다.", e);
+		}
+		blob.rehydrated(LocalDateTime.now());
+		log.info("녹음 파일 복원 - sha256: {}, {} bytes", sha256, blob.getSize());
+		return true;
+	}
+
+	// adopt 가 롤백된 뒤 옮겨 둔 파일 정리. 없는 키를 FOR UPDATE 로 읽으면 (REPEATABLE READ 갭 잠금)
+	// 삭제하는 동안 같은 내용의 INSERT 가 기다리므로, 다른 업로드가 지워질 파일을 가리키지 않음
+	private void discardOrphan(String sha256) {
+		try {
+			jobTransaction.executeWithoutResult(status -> {
+				if (blobRepository.findForUpdate(sha256).isPresent()) {
+					return; // 그 사이 다른 업로드가 같은 내용을 넣어 이 파일을 씀
+				}
+				Path hot = hotPath(sha256);
+				storage.deleteFile(hot);
+				storage.deleteFile(RecordingFileStorage.peaksPath(hot));
+				log.info("롤백된 녹음 파일 삭제 - sha256: {}", sha256);
+			});
+		} catch (RuntimeException e) {
+			log.warn("롤백된 녹음 파일 정리 실패 - sha256: {} ({})", sha256, e.getMessage());
+		}
+	}
+
+	private Path archivePath(String sha256) {
+		return storage.resolve("archive/" + sha256.substring(0, 2) + "/" + sha256 + ".gz");
+	}
+}
@@ -0,0 +1,155 @@
+package com.dialog.recording.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 녹음 파일 로컬 저장소.
+ *
+ * - 업로드 중인 파일: {dir}/uploads/{uploadId}.part 에 조각마다 지정 위치(offset)로 바로 씀 (힙에 모으지 않음)
+ * - 완료된 파일: 내용 기준 경로로 옮기고(RecordingBlobStore), DB 에는 dir 기준 상대 경로만 저장
+ * - 파형 피크 사이드카: 녹음 파일 옆 {파일}.peaks (RecordingPeaksStore)
+ */
+@Slf4j
+@Component
+public class RecordingFileStorage {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** 조각 기록 결과. interrupted 면 클라이언트 연결이 끊겨 written 바이트까지만 기록됨 */
+	public record WriteResult(long written, boolean interrupted, boolean overflow) {
+	}
+
+	private final Path baseDir;
+
+	public RecordingFileStorage(@Value("${recording.storage.dir:./data/recordings}") String baseDir) {
+		this.baseDir = Path.of(baseDir).toAbsolutePath().normalize();
+	}
+
+	/**
+	 * 업로드 파일의 offset 위치부터 최대 maxBytes 만큼 기록하고 디스크에 반영(force)합니다.
+	 * maxBytes 를 넘는 데이터가 더 있으면 overflow 로 표시하고 넘친 부분은 쓰지 않습니다.
+	 */
+	public WriteResult write(String uploadId, long offset, InputStream in, long maxBytes) throws IOException {
+		Path part = partPath(uploadId);
+		Files.createDirectories(part.getParent());
+		ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		ReadableByteChannel source = Channels.newChannel(in);
+		long written = 0;
+		boolean interrupted = false;
+		boolean overflow = false;
+
+		try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			while (true) {
+				buffer.clear();
+				if (maxBytes - written < buffer.capacity()) {
+					buffer.limit((int) Math.max(1, maxBytes - written)); // 한도에 닿으면 1바이트만 읽어 남은 데이터가 있는지 확인
+				}
+				int read;
+				try {
+					read = source.read(buffer);
+				} catch (IOException e) {
+					interrupted = true; // 요청 본문을 읽다 끊김 → 받은 데까지만 반영
+					break;
+				}
+				if (read < 0) {
+					break;
+				}
+				if (written >= maxBytes) {
+					overflow = read > 0;
+					break;
+				}
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					written += channel.write(buffer, offset + written);
+				}
+			}
+			channel.force(false);
+		}
+		return new WriteResult(written, interrupted, overflow);
+	}
+
+	/** 업로드 파일 전체의 SHA-256 (hex) */
+	public String sha256(String uploadId) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(partPath(uploadId), StandardOpenOption.READ)) {
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/** 업로드 파일 헤더로 계산한 재생 길이(초). 알 수 없으면 null */
+	public Integer durationSeconds(String uploadId) throws IOException {
+		try (FileChannel channel = FileChannel.open(partPath(uploadId), StandardOpenOption.READ)) {
+			return WavHeaderReader.durationSeconds(channel);
+		}
+	}
+
+	public long uploadedSize(String uploadId) throws IOException {
+		Path part = partPath(uploadId);
+		return Files.exists(part) ? Files.size(part) : 0L;
+	}
+
+	/** 업로드 파일을 target 으로 옮김 */
+	public void moveUpload(String uploadId, Path target) throws IOException {
+		Files.createDirectories(target.getParent());
+		Files.move(partPath(uploadId), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/** 녹음 파일의 파형 피크 사이드카 경로 */
+	public static Path peaksPath(Path audio) {
+		return audio.resolveSibling(audio.getFileName() + ".peaks");
+	}
+
+	/** 상대 경로 → 실제 경로 (저장소 밖을 가리키면 거부) */
+	public Path resolve(String storagePath) {
+		Path path = baseDir.resolve(storagePath).normalize();
+		if (!path.startsWith(baseDir)) {
+			throw new IllegalArgumentException("잘못된 저장 경로입니다: " + storagePath);
+		}
+		return path;
+	}
+
+	public void deleteUpload(String uploadId) {
+		deleteFile(partPath(uploadId));
+	}
+
+	// 없는 파일은 무시하고, 실패는 로그만 남김
+	public void deleteFile(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("녹음 파일 삭제 실패 - {} ({})", path, e.getMessage());
+		}
+	}
+
+	private Path partPath(String uploadId) {
+		return baseDir.resolve("uploads").resolve(uploadId + ".part");
+	}
+}
@@ -0,0 +1,117 @@
+package com.dialog.recording.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dialog.recording.domain.RecordingPeaksResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 녹음 파일 옆에 두는 파형 피크 사이드카({파일}.peaks) 생성/조회 (형식은 WaveformPeaks 참고).
+ * 업로드 완료 시 만들고, 그 전에 올라온 파일은 처음 조회할 때 만듭니다.
+ */
+@Slf4j
+@Component
+public class RecordingPeaksStore {
+
+	public static final int DEFAULT_RESOLUTION = 1024;
+
+	private final int[] resolutions;
+
+	public RecordingPeaksStore(@Value("${recording.peaks.resolutions:256,1024,4096}") int[] resolutions) {
+		this.resolutions = Arrays.stream(resolutions).filter(r -> r > 0).sorted().distinct().toArray();
+	}
+
+	/** @return WAV PCM 이 아니라 만들 수 없으면 false */
+	public boolean generate(Path audio) throws IOException {
+		long startedAt = System.currentTimeMillis();
+		Path target = RecordingFileStorage.peaksPath(audio);
+		Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+		try (FileChannel channel = FileChannel.open(audio, StandardOpenOption.READ)) {
+			WavHeaderReader.WavInfo info = WavHeaderReader.read(channel);
+			if (info == null || !WaveformPeaks.supports(info)) {
+				return false;
+			}
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+				WaveformPeaks.write(channel, info, resolutions, out);
+			}
+			// 동시에 만들어도 완성된 파일만 보이도록 임시 파일에서 한 번에 교체
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		log.info("파형 피크 생성 - {} ({} bytes, {}ms)", audio.getFileName(), Files.size(target),
+				System.currentTimeMillis() - startedAt);
+		return true;
+	}
+
+	/**
+	 * 요청한 해상도 이상인 가장 촘촘한 단계(없으면 가장 성긴 단계)의 피크. 사이드카가 없으면 만들어서 읽습니다.
+	 * @return 피크를 만들 수 없는 형식이면 null
+	 */
+	public RecordingPeaksResponseDto read(Path audio, int resolution) throws IOException {
+		Path sidecar = RecordingFileStorage.peaksPath(audio);
+		if (!Files.exists(sidecar) && !generate(audio)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(sidecar, StandardOpenOption.READ)) {
+			ByteBuffer header = readFully(channel, 0, WaveformPeaks.HEADER_SIZE);
+			byte[] magic = new byte[4];
+			header.get(magic);
+			if (!Arrays.equals(magic, WaveformPeaks.MAGIC) || header.get() != WaveformPeaks.VERSION) {
+				throw new IOException("파형 피크 파일 형식이 아닙니다: " + sidecar);
+			}
+			int levelCount = header.get() & 0xFF;
+			header.getShort();
+			int sampleRate = header.getInt();
+			long frames = header.getLong();
+
+			ByteBuffer table = readFully(channel, WaveformPeaks.HEADER_SIZE, levelCount * 8);
+			int chosen = -1;
+			long offset = WaveformPeaks.HEADER_SIZE + levelCount * 8L;
+			long chosenOffset = 0;
+			int chosenSamples = 0;
+			int chosenBuckets = 0;
+			for (int i = 0; i < levelCount; i++) {
+				int samplesPerBucket = table.getInt();
+				int bucketCount = table.getInt();
+				// 단계는 촘촘한 순으로 저장됨: 요청 이상인 첫 단계에서 멈추고, 없으면 마지막(가장 성긴) 단계
+				if (chosen < 0 || chosenSamples < resolution) {
+					chosen = i;
+					chosenOffset = offset;
+					chosenSamples = samplesPerBucket;
+					chosenBuckets = bucketCount;
+				}
+				offset += bucketCount * 2L;
+			}
+			if (chosen < 0) {
+				return null;
+			}
+			ByteBuffer peaks = readFully(channel, chosenOffset, chosenBuckets * 2);
+			return new RecordingPeaksResponseDto(sampleRate, frames, chosenSamples, chosenBuckets, peaks.array());
+		}
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("파형 피크 파일이 잘렸습니다.");
+			}
+		}
+		return buffer.flip();
+	}
+}
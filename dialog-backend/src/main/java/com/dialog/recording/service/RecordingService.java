@@ -1,12 +1,22 @@
 package com.dialog.recording.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.meeting.domain.Meeting;
 import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.meeting.service.MeetingDetailCache;
 import com.dialog.recording.domain.Recording;
 import com.dialog.recording.domain.RecordingCreateRequestDto;
+import com.dialog.recording.domain.RecordingPeaksResponseDto;
 import com.dialog.recording.domain.RecordingResponseDto;
 import com.dialog.recording.domain.RecordingUpdateRequestDto;
 import com.dialog.recording.repository.RecordingRepository;
@@ -20,6 +30,10 @@ public class RecordingService {
 
     private final RecordingRepository recordingRepository;
     private final MeetingRepository meetingRepository;
+    private final MeetingDetailCache meetingDetailCache;
+    private final RecordingFileStorage recordingFileStorage;
+    private final RecordingPeaksStore recordingPeaksStore;
+    private final RecordingBlobStore recordingBlobStore;
 
     // 녹음 파일 정보 저장 (Meeting과 연결)
     @Transactional
@@ -45,8 +59,9 @@ public class RecordingService {
         // 4. 저장
         Recording savedRecording = recordingRepository.save(recording);
 
-        // 5. Meeting 상태를 COMPLETED로 변경
+        // 5. Meeting 상태를 COMPLETED로 변경 (상세 캐시의 status 도 갱신되도록 무효화)
         meeting.complete();
+        meetingDetailCache.invalidate(meetingId);
 
         return new RecordingResponseDto(savedRecording);
     }
@@ -67,6 +82,60 @@ public class RecordingService {
         return new RecordingResponseDto(recording);
     }
 
+    // 서버에 업로드된 녹음 파일 (스트리밍용 경로/형식/ETag). 압축 보관된 파일이면 원본으로 복원
+    public RecordingAudioStreamer.AudioFile getAudioFile(Long recordingId) {
+        Recording recording = findStored(recordingId);
+        Path path = recordingBlobStore.open(recording.getAudioChecksum());
+        if (!Files.isReadable(path)) {
+            throw new IllegalArgumentException("녹음 파일을 찾을 수 없습니다.");
+        }
+        // 저장 경로에는 확장자가 없으므로 업로드 시 받은 형식으로 판단
+        String contentType = MediaTypeFactory.getMediaType("audio." + recording.getAudioFormat())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        return new RecordingAudioStreamer.AudioFile(path, contentType, etag(recording, path));
+    }
+
+    // 파형 피크 (사이드카가 없으면 이 자리에서 만들므로 DB 트랜잭션 밖에서 처리)
+    // 사이드카는 압축 보관 중에도 남아 있으므로, 없을 때만 원본을 복원해 만듦
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecordingPeaksResponseDto getPeaks(Long recordingId, int resolution) {
+        Path audio = recordingFileStorage.resolve(findStored(recordingId).getStoragePath());
+        if (!Files.exists(RecordingFileStorage.peaksPath(audio))) {
+            audio = getAudioFile(recordingId).path();
+        }
+        RecordingPeaksResponseDto peaks;
+        try {
+            peaks = recordingPeaksStore.read(audio, resolution);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파형 피크를 읽지 못했습니다.", e);
+        }
+        if (peaks == null) {
+            throw new IllegalStateException("파형을 만들 수 없는 오디오 형식입니다. (WAV PCM 만 지원)");
+        }
+        return peaks;
+    }
+
+    private Recording findStored(Long recordingId) {
+        Recording recording = recordingRepository.findById(recordingId)
+            .orElseThrow(() -> new IllegalArgumentException("녹음 파일을 찾을 수 없습니다."));
+        if (recording.getStoragePath() == null || recording.getAudioChecksum() == null) {
+            throw new IllegalArgumentException("서버에 업로드된 녹음 파일이 없습니다.");
+        }
+        return recording;
+    }
+
+    // 체크섬이 있으면 내용 기준 강한 ETag, 없으면 크기/수정 시각 기준 약한 ETag
+    private String etag(Recording recording, Path path) {
+        if (recording.getAudioChecksum() != null) {
+            return "\"" + recording.getAudioChecksum() + "\"";
+        }
+        try {
+            return "W/\"" + Files.size(path) + "-" + Files.getLastModifiedTime(path).toMillis() + "\"";
+        } catch (IOException e) {
+            throw new IllegalArgumentException("녹음 파일을 찾을 수 없습니다.");
+        }
+    }
+
     // 녹음 파일 정보 업데이트
     @Transactional
     public RecordingResponseDto updateRecording(Long recordingId, RecordingUpdateRequestDto requestDto) {
@@ -90,5 +159,7 @@ public class RecordingService {
             .orElseThrow(() -> new IllegalArgumentException("녹음 파일을 찾을 수 없습니다."));
 
         recordingRepository.delete(recording);
+        // 같은 파일을 가리키는 다른 녹음이 없으면 유예 시간 뒤 GC 가 파일 삭제
+        recordingBlobStore.release(recording.getAudioChecksum());
     }
 }
\ No newline at end of file
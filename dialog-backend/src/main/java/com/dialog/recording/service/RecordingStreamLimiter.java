@@ -0,0 +1,40 @@
+package com.dialog.recording.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 동시 녹음 스트리밍 수 제한.
+ * 재생 중 탐색(seek)할 때마다 Range 요청이 새로 열리므로, 한 사용자가 연결을 과도하게 점유하지 못하게 합니다.
+ * 사용 중인 사용자만 맵에 남고 수가 0이 되면 항목을 지웁니다.
+ */
+@Component
+public class RecordingStreamLimiter {
+
+	private final int maxPerUser;
+	private final ConcurrentMap<Long, Integer> active = new ConcurrentHashMap<>();
+
+	public RecordingStreamLimiter(@Value("${recording.stream.max-per-user:4}") int maxPerUser) {
+		this.maxPerUser = Math.max(1, maxPerUser);
+	}
+
+	public boolean tryAcquire(Long userId) {
+		boolean[] acquired = new boolean[1];
+		active.compute(userId, (key, count) -> {
+			int current = count != null ? count : 0;
+			if (current >= maxPerUser) {
+				return count;
+			}
+			acquired[0] = true;
+			return current + 1;
+		});
+		return acquired[0];
+	}
+
+	public void release(Long userId) {
+		active.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+	}
+}
@@ -0,0 +1,274 @@
+package com.dialog.recording.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.meeting.service.MeetingDetailCache;
+import com.dialog.recording.domain.Recording;
+import com.dialog.recording.domain.RecordingResponseDto;
+import com.dialog.recording.domain.RecordingUpload;
+import com.dialog.recording.domain.RecordingUploadCompleteRequestDto;
+import com.dialog.recording.domain.RecordingUploadInitRequestDto;
+import com.dialog.recording.domain.RecordingUploadStatus;
+import com.dialog.recording.domain.RecordingUploadStatusDto;
+import com.dialog.recording.repository.RecordingRepository;
+import com.dialog.recording.repository.RecordingUploadRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이어받기 가능한 녹음 파일 업로드 (init → PUT 조각 반복 → complete).
+ *
+ * - 조각은 offset 을 지정해 보내며, offset 은 지금까지 받은 위치(receivedBytes) 이하여야 합니다.
+ *   이미 받은 구간을 다시 보내면 같은 자리에 덮어쓰므로, 끊긴 뒤에는 상태 조회로 받은 위치를 확인해 그 뒤부터 보내면 됩니다.
+ * - 파일 기록 중에는 DB 트랜잭션/커넥션을 잡지 않고, 디스크 반영 후 받은 위치만 짧은 트랜잭션으로 올립니다.
+ * - complete 에서 SHA-256 과 WAV 헤더 기준 재생 길이를 계산하고, 파일을 내용 기준 저장소(RecordingBlobStore)에 넣어
+ *   Recording 에 반영합니다. 같은 내용이 이미 있으면 새 파일은 버립니다. 파형 피크 사이드카도 이때 만듭니다.
+ * - 반영에 실패하면 업로드 파일이 저장소로 옮겨졌는지 알 수 없으므로 세션을 FAILED 로 끝내고, 새 업로드로 다시 받습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RecordingUploadService {
+
+	private final RecordingUploadRepository uploadRepository;
+	private final RecordingRepository recordingRepository;
+	private final MeetingRepository meetingRepository;
+	private final MeetingDetailCache meetingDetailCache;
+	private final RecordingFileStorage storage;
+	private final RecordingPeaksStore peaksStore;
+	private final RecordingBlobStore blobStore;
+	private final TransactionTemplate writeTransaction;
+
+	private final long maxSize;
+	private final int chunkSize;
+	private final Duration expireAfter;
+
+	public RecordingUploadService(RecordingUploadRepository uploadRepository, RecordingRepository recordingRepository,
+			MeetingRepository meetingRepository, MeetingDetailCache meetingDetailCache, RecordingFileStorage storage,
+			RecordingPeaksStore peaksStore, RecordingBlobStore blobStore, PlatformTransactionManager transactionManager,
+			@Value("${recording.upload.max-size:2147483648}") long maxSize,
+			@Value("${recording.upload.chunk-size:8388608}") int chunkSize,
+			@Value("${recording.upload.expire-after:24h}") Duration expireAfter) {
+		this.uploadRepository = uploadRepository;
+		this.recordingRepository = recordingRepository;
+		this.meetingRepository = meetingRepository;
+		this.meetingDetailCache = meetingDetailCache;
+		this.storage = storage;
+		this.peaksStore = peaksStore;
+		this.blobStore = blobStore;
+		this.writeTransaction = new TransactionTemplate(transactionManager);
+		this.maxSize = maxSize;
+		this.chunkSize = chunkSize;
+		this.expireAfter = expireAfter;
+	}
+
+	@Transactional
+	public RecordingUploadStatusDto init(Long meetingId, RecordingUploadInitRequestDto requestDto) {
+		if (!meetingRepository.existsById(meetingId)) {
+			throw new IllegalArgumentException("회의를 찾을 수 없습니다.");
+		}
+		Long totalSize = requestDto.getTotalSize();
+		if (totalSize == null || totalSize <= 0) {
+			throw new IllegalArgumentException("파일 크기(totalSize)가 필요합니다.");
+		}
+		if (totalSize > maxSize) {
+			throw new IllegalArgumentException("녹음 파일은 최대 " + maxSize + " 바이트까지 업로드할 수 있습니다.");
+		}
+		RecordingUpload upload = new RecordingUpload(UUID.randomUUID().toString(), meetingId, totalSize,
+				requestDto.getAudioFormat(), requestDto.getDurationSeconds());
+		uploadRepository.save(upload);
+		return new RecordingUploadStatusDto(upload, chunkSize);
+	}
+
+	public RecordingUploadStatusDto getStatus(String uploadId) {
+		return new RecordingUploadStatusDto(find(uploadId), chunkSize);
+	}
+
+	/**
+	 * offset 위치부터 본문을 기록하고 받은 위치를 갱신합니다.
+	 * @param contentLength 본문 길이 (모르면 -1)
+	 * @throws IllegalStateException offset 이 받은 위치보다 뒤이거나 이미 완료된 업로드 (상태 조회 후 이어 보내기)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public RecordingUploadStatusDto writeChunk(String uploadId, long offset, long contentLength, InputStream body) {
+		RecordingUpload upload = find(uploadId);
+		if (upload.getStatus() == RecordingUploadStatus.FAILED) {
+			throw new IllegalStateException("실패한 업로드입니다. 새 업로드로 다시 보내주세요.");
+		}
+		if (upload.getStatus() != RecordingUploadStatus.UPLOADING) {
+			throw new IllegalStateException("이미 완료된 업로드입니다.");
+		}
+		if (offset < 0 || offset > upload.getReceivedBytes()) {
+			throw new IllegalStateException("offset 은 " + upload.getReceivedBytes() + " 이하여야 합니다.");
+		}
+		long remaining = upload.getTotalSize() - offset;
+		if (contentLength > remaining) {
+			throw new IllegalArgumentException("조각이 파일 크기를 넘습니다. (남은 크기: " + remaining + ")");
+		}
+
+		RecordingFileStorage.WriteResult result;
+		try {
+			result = storage.write(uploadId, offset, body, contentLength >= 0 ? contentLength : remaining);
+		} catch (IOException e) {
+			throw new UncheckedIOException("녹음 파일 조각을 저장하지 못했습니다.", e);
+		}
+		long received = offset + result.written();
+		writeTransaction.executeWithoutResult(status -> uploadRepository.advance(uploadId, received,
+				RecordingUploadStatus.UPLOADING, LocalDateTime.now()));
+		if (result.interrupted()) {
+			log.info("녹음 업로드 중단 - uploadId: {}, {}/{} bytes", uploadId, received, upload.getTotalSize());
+		}
+		if (result.overflow()) {
+			throw new IllegalArgumentException("조각이 파일 크기를 넘습니다. " + received + " 바이트까지만 저장했습니다.");
+		}
+		return getStatus(uploadId);
+	}
+
+	/**
+	 * 모든 바이트를 받은 업로드를 완료합니다. 체크섬/재생 길이를 계산해 회의의 Recording 을 만들거나 갱신합니다.
+	 * 이미 완료된 업로드에 다시 요청하면, 회의의 Recording 이 아직 이 업로드의 파일일 때만 그 결과를 반환합니다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public RecordingResponseDto complete(String uploadId, RecordingUploadCompleteRequestDto requestDto) {
+		RecordingUpload upload = find(uploadId);
+		if (upload.getStatus() == RecordingUploadStatus.FAILED) {
+			throw new IllegalStateException("녹음 반영에 실패한 업로드입니다. 새 업로드로 다시 보내주세요.");
+		}
+		if (upload.getStatus() == RecordingUploadStatus.COMPLETED) {
+			return completedResult(upload);
+		}
+		if (!upload.isComplete()) {
+			throw new IllegalStateException("아직 받지 못한 구간이 있습니다. (" + upload.getReceivedBytes() + "/"
+					+ upload.getTotalSize() + ")");
+		}
+		// 완료 처리 선점: 이후 들어오는 조각은 거부됨
+		int claimed = writeTransaction.execute(status -> uploadRepository.changeStatus(uploadId,
+				RecordingUploadStatus.UPLOADING, RecordingUploadStatus.COMPLETED, LocalDateTime.now()));
+		if (claimed == 0) {
+			throw new IllegalStateException("이미 완료 처리 중인 업로드입니다.");
+		}
+
+		String checksum;
+		Integer duration;
+		try {
+			checksum = storage.sha256(uploadId);
+			String expected = requestDto != null ? requestDto.getSha256() : null;
+			if (expected != null && !expected.equalsIgnoreCase(checksum)) {
+				reopen(uploadId);
+				throw new IllegalArgumentException("체크섬이 일치하지 않습니다. 파일을 처음부터 다시 보내주세요.");
+			}
+			duration = storage.durationSeconds(uploadId);
+		} catch (IOException e) {
+			reopen(uploadId);
+			throw new UncheckedIOException("녹음 파일을 완료 처리하지 못했습니다.", e);
+		}
+
+		Integer durationSeconds = duration != null ? duration : upload.getReportedDurationSeconds();
+		RecordingResponseDto response;
+		try {
+			response = writeTransaction.execute(status -> attach(upload, checksum, durationSeconds));
+		} catch (RuntimeException e) {
+			writeTransaction.executeWithoutResult(status -> uploadRepository.changeStatus(uploadId,
+					RecordingUploadStatus.COMPLETED, RecordingUploadStatus.FAILED, LocalDateTime.now()));
+			log.error("녹음 업로드 반영 실패 - uploadId: {} ({})", uploadId, e.getMessage());
+			throw e;
+		} finally {
+			// 같은 내용이 이미 있어 옮기지 않았거나, 반영에 실패한 업로드 파일
+			storage.deleteUpload(uploadId);
+		}
+
+		// 파형 피크는 실패해도 업로드는 완료 (조회 시 다시 만들어 봄). 중복 파일이면 이미 있는 사이드카 사용
+		Path audio = blobStore.hotPath(checksum);
+		try {
+			if (Files.exists(audio) && !Files.exists(RecordingFileStorage.peaksPath(audio))) {
+				peaksStore.generate(audio);
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("파형 피크 생성 실패 - uploadId: {} ({})", uploadId, e.getMessage());
+		}
+		return response;
+	}
+
+	// 회의의 Recording 을 만들거나 새 파일로 교체 (이전 파일은 참조가 모두 빠지면 GC 가 삭제)
+	private RecordingResponseDto attach(RecordingUpload upload, String checksum, Integer durationSeconds) {
+		// 벌크 UPDATE 는 영속성 컨텍스트를 비우므로 엔티티를 읽기 전에 먼저 기록 (롤백되면 함께 취소)
+		uploadRepository.recordChecksum(upload.getId(), checksum, LocalDateTime.now());
+		Meeting meeting = meetingRepository.findById(upload.getMeetingId())
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+		String storagePath;
+		try {
+			storagePath = blobStore.adopt(upload.getId(), checksum, upload.getTotalSize());
+		} catch (IOException e) {
+			throw new UncheckedIOException("녹음 파일을 저장소에 넣지 못했습니다.", e);
+		}
+		Recording recording = recordingRepository.findByMeetingId(meeting.getId())
+				.orElseGet(() -> recordingRepository.save(Recording.builder().meeting(meeting).build()));
+		if (recording.getAudioChecksum() != null && !recording.getAudioChecksum().equals(checksum)) {
+			blobStore.release(recording.getAudioChecksum());
+		}
+		recording.completeUpload("/api/recordings/" + recording.getId() + "/audio", upload.getTotalSize(),
+				upload.getAudioFormat(), durationSeconds);
+		recording.attachStoredFile(storagePath, checksum);
+		meetingDetailCache.invalidate(meeting.getId());
+
+		log.info("녹음 업로드 완료 - meetingId: {}, {} bytes, {}초, sha256: {}", meeting.getId(), upload.getTotalSize(),
+				durationSeconds, checksum);
+		return new RecordingResponseDto(recording);
+	}
+
+	// 완료된 업로드의 재요청. 반영 전(처리 중)이거나 그 뒤 다른 녹음으로 바뀌었으면 거부
+	private RecordingResponseDto completedResult(RecordingUpload upload) {
+		if (upload.getChecksum() == null) {
+			throw new IllegalStateException("완료 처리 중인 업로드입니다.");
+		}
+		Recording recording = recordingRepository.findByMeetingId(upload.getMeetingId())
+				.filter(r -> upload.getChecksum().equals(r.getAudioChecksum()))
+				.orElseThrow(() -> new IllegalStateException("이 업로드 이후 회의 녹음이 다른 파일로 바뀌었습니다."));
+		return new RecordingResponseDto(recording);
+	}
+
+	// 완료 처리 실패 시 다시 조각을 받을 수 있도록 되돌림
+	private void reopen(String uploadId) {
+		writeTransaction.executeWithoutResult(status -> uploadRepository.changeStatus(uploadId,
+				RecordingUploadStatus.COMPLETED, RecordingUploadStatus.UPLOADING, LocalDateTime.now()));
+	}
+
+	// 오래 멈춘 세션과 그 임시 파일 정리 (녹음/회의 삭제 후 남은 파일은 RecordingBlobStore GC 가 정리)
+	@Scheduled(fixedDelayString = "${recording.upload.cleanup-interval-ms:3600000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void cleanupExpired() {
+		List<String> expired = uploadRepository.findExpiredIds(LocalDateTime.now().minus(expireAfter),
+				PageRequest.of(0, 100));
+		for (String uploadId : expired) {
+			storage.deleteUpload(uploadId);
+			writeTransaction.executeWithoutResult(status -> uploadRepository.deleteById(uploadId));
+		}
+		if (!expired.isEmpty()) {
+			log.info("녹음 업로드 세션 {}건 정리", expired.size());
+		}
+	}
+
+	private RecordingUpload find(String uploadId) {
+		return uploadRepository.findById(uploadId)
+				.orElseThrow(() -> new IllegalArgumentException("업로드를 찾을 수 없습니다."));
+	}
+}
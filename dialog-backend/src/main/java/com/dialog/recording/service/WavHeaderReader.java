@@ -0,0 +1,114 @@
+package com.dialog.recording.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * WAV(RIFF) 헤더를 읽습니다. 파일 전체를 읽지 않고 청크 헤더만 건너뛰며 fmt / data 청크를 찾습니다.
+ *
+ * 브라우저 녹음기 등은 data 청크 크기를 0 또는 0xFFFFFFFF 로 남기는 경우가 있어,
+ * 그런 값이면 파일 끝까지를 오디오 데이터로 봅니다.
+ */
+final class WavHeaderReader {
+
+	static final int FORMAT_PCM = 1;
+	static final int FORMAT_FLOAT = 3;
+	private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+	private static final int MAX_CHUNKS = 64; // LIST/fact 등 부가 청크를 무한히 따라가지 않도록
+
+	/**
+	 * @param format     1: 정수 PCM, 3: float (EXTENSIBLE 은 하위 형식으로 바꿔 둠)
+	 * @param blockAlign 한 프레임(모든 채널의 샘플 1개씩) 바이트 수
+	 */
+	record WavInfo(int format, int channels, int sampleRate, long byteRate, int blockAlign, int bitsPerSample,
+			long dataOffset, long dataSize) {
+
+		long frames() {
+			return dataSize / blockAlign;
+		}
+
+		int durationSeconds() {
+			return (int) Math.round((double) dataSize / byteRate);
+		}
+	}
+
+	private WavHeaderReader() {
+	}
+
+	/** @return 재생 길이(초, 반올림). WAV 가 아니거나 헤더가 깨졌으면 null */
+	static Integer durationSeconds(FileChannel channel) throws IOException {
+		WavInfo info = read(channel);
+		return info != null ? info.durationSeconds() : null;
+	}
+
+	/** @return WAV 가 아니거나 헤더가 깨졌으면 null */
+	static WavInfo read(FileChannel channel) throws IOException {
+		long fileSize = channel.size();
+		ByteBuffer header = read(channel, 0, 12);
+		if (header == null || !tag(header, 0).equals("RIFF") || !tag(header, 8).equals("WAVE")) {
+			return null;
+		}
+
+		ByteBuffer fmt = null;
+		long position = 12;
+		for (int i = 0; i < MAX_CHUNKS && position + 8 <= fileSize; i++) {
+			ByteBuffer chunk = read(channel, position, 8);
+			String id = tag(chunk, 0);
+			long size = Integer.toUnsignedLong(chunk.getInt(4));
+			long body = position + 8;
+
+			if (id.equals("fmt ")) {
+				fmt = read(channel, body, (int) Math.min(size, 40));
+				if (fmt == null || size < 16) {
+					return null;
+				}
+			} else if (id.equals("data")) {
+				if (fmt == null) {
+					return null; // fmt 청크가 data 보다 뒤에 있는 파일은 지원하지 않음
+				}
+				long available = fileSize - body;
+				long dataSize = (size == 0 || size == 0xFFFFFFFFL || size > available) ? available : size;
+				return toInfo(fmt, body, dataSize);
+			}
+			position = body + size + (size & 1); // 청크는 2바이트 단위로 정렬
+		}
+		return null;
+	}
+
+	private static WavInfo toInfo(ByteBuffer fmt, long dataOffset, long dataSize) {
+		int format = Short.toUnsignedInt(fmt.getShort(0));
+		int channels = Short.toUnsignedInt(fmt.getShort(2));
+		int sampleRate = fmt.getInt(4);
+		long byteRate = Integer.toUnsignedLong(fmt.getInt(8));
+		int blockAlign = Short.toUnsignedInt(fmt.getShort(12));
+		int bitsPerSample = Short.toUnsignedInt(fmt.getShort(14));
+		if (format == FORMAT_EXTENSIBLE && fmt.limit() >= 26) {
+			format = Short.toUnsignedInt(fmt.getShort(24)); // SubFormat GUID 앞 2바이트
+		}
+		if (channels == 0 || byteRate == 0 || blockAlign == 0) {
+			return null;
+		}
+		return new WavInfo(format, channels, sampleRate, byteRate, blockAlign, bitsPerSample, dataOffset, dataSize);
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				return null;
+			}
+		}
+		return buffer.flip();
+	}
+
+	private static String tag(ByteBuffer buffer, int offset) {
+		char[] chars = new char[4];
+		for (int i = 0; i < 4; i++) {
+			chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+		}
+		return new String(chars);
+	}
+}
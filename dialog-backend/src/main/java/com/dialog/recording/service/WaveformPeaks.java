@@ -0,0 +1,179 @@
+package com.dialog.recording.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파형 표시용 min/max 피크 피라미드.
+ *
+ * WAV PCM 데이터를 한 번 순차로 읽으면서 해상도(버킷당 샘플 수)별로 버킷의 최소/최대값을 모읍니다.
+ * 여러 채널은 한 프레임 안에서 합쳐(min/max) 하나로 보고, 값은 -127~127 의 8비트로 저장합니다.
+ *
+ * 사이드카 파일 형식 (빅엔디언):
+ * <pre>
+ * "DLPK" | version(1) | levelCount(1) | reserved(2) | sampleRate(4) | frames(8)
+ * levelCount × [ samplesPerBucket(4) | bucketCount(4) ]
+ * levelCount × [ bucketCount × (min(1), max(1)) ]
+ * </pre>
+ */
+final class WaveformPeaks {
+
+	static final byte[] MAGIC = { 'D', 'L', 'P', 'K' };
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 20;
+
+	private static final int READ_BUFFER = 64 * 1024;
+
+	/** 한 해상도의 피크. peaks = [min0, max0, min1, max1, ...] */
+	record Level(int samplesPerBucket, int bucketCount, byte[] peaks) {
+	}
+
+	// 해상도 하나의 진행 중인 버킷과 결과
+	private static final class Accumulator {
+		private final int samplesPerBucket;
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private int count;
+		private float min = Float.MAX_VALUE;
+		private float max = -Float.MAX_VALUE;
+
+		private Accumulator(int samplesPerBucket) {
+			this.samplesPerBucket = samplesPerBucket;
+		}
+
+		private void add(float frameMin, float frameMax) {
+			if (frameMin < min) {
+				min = frameMin;
+			}
+			if (frameMax > max) {
+				max = frameMax;
+			}
+			if (++count == samplesPerBucket) {
+				flush();
+			}
+		}
+
+		private void flush() {
+			if (count == 0) {
+				return;
+			}
+			out.write(toByte(min));
+			out.write(toByte(max));
+			count = 0;
+			min = Float.MAX_VALUE;
+			max = -Float.MAX_VALUE;
+		}
+
+		private Level toLevel() {
+			flush();
+			byte[] peaks = out.toByteArray();
+			return new Level(samplesPerBucket, peaks.length / 2, peaks);
+		}
+	}
+
+	private WaveformPeaks() {
+	}
+
+	/** 지원하는 형식: 8/16/24/32비트 정수 PCM, 32비트 float */
+	static boolean supports(WavHeaderReader.WavInfo info) {
+		int bits = info.bitsPerSample();
+		if (info.format() == WavHeaderReader.FORMAT_FLOAT) {
+			return bits == 32 && info.blockAlign() == info.channels() * 4;
+		}
+		return info.format() == WavHeaderReader.FORMAT_PCM && (bits == 8 || bits == 16 || bits == 24 || bits == 32)
+				&& info.blockAlign() == info.channels() * (bits / 8);
+	}
+
+	/** data 청크를 한 번 읽어 해상도별 피크를 계산해 사이드카 형식으로 씀 */
+	static void write(FileChannel audio, WavHeaderReader.WavInfo info, int[] resolutions, OutputStream target)
+			throws IOException {
+		Accumulator[] levels = new Accumulator[resolutions.length];
+		for (int i = 0; i < resolutions.length; i++) {
+			levels[i] = new Accumulator(resolutions[i]);
+		}
+
+		int frameSize = info.blockAlign();
+		int sampleSize = info.bitsPerSample() / 8;
+		boolean floating = info.format() == WavHeaderReader.FORMAT_FLOAT;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER / frameSize * frameSize).order(ByteOrder.LITTLE_ENDIAN);
+		long position = info.dataOffset();
+		long end = info.dataOffset() + info.frames() * frameSize;
+		long frames = 0;
+
+		while (position < end) {
+			buffer.clear();
+			if (end - position < buffer.capacity()) {
+				buffer.limit((int) (end - position));
+			}
+			int read = audio.read(buffer, position);
+			if (read < 0) {
+				break;
+			}
+			position += read;
+			buffer.flip();
+			while (buffer.remaining() >= frameSize) {
+				float frameMin = Float.MAX_VALUE;
+				float frameMax = -Float.MAX_VALUE;
+				for (int c = 0; c < info.channels(); c++) {
+					float sample = floating ? buffer.getFloat() : sample(buffer, sampleSize);
+					if (sample < frameMin) {
+						frameMin = sample;
+					}
+					if (sample > frameMax) {
+						frameMax = sample;
+					}
+				}
+				for (Accumulator level : levels) {
+					level.add(frameMin, frameMax);
+				}
+				frames++;
+			}
+			// 프레임 경계에 걸친 나머지는 다음 읽기에서 다시 읽음
+			position -= buffer.remaining();
+		}
+
+		DataOutputStream out = new DataOutputStream(target);
+		out.write(MAGIC);
+		out.writeByte(VERSION);
+		out.writeByte(levels.length);
+		out.writeShort(0);
+		out.writeInt(info.sampleRate());
+		out.writeLong(frames);
+		Level[] results = new Level[levels.length];
+		for (int i = 0; i < levels.length; i++) {
+			results[i] = levels[i].toLevel();
+			out.writeInt(results[i].samplesPerBucket());
+			out.writeInt(results[i].bucketCount());
+		}
+		for (Level level : results) {
+			out.write(level.peaks());
+		}
+		out.flush();
+	}
+
+	// 정수 PCM 샘플 → -1.0 ~ 1.0 (8비트는 부호 없음)
+	private static float sample(ByteBuffer buffer, int sampleSize) {
+		switch (sampleSize) {
+		case 1:
+			return ((buffer.get() & 0xFF) - 128) / 128f;
+		case 2:
+			return buffer.getShort() / 32768f;
+		case 3:
+			int b0 = buffer.get() & 0xFF;
+			int b1 = buffer.get() & 0xFF;
+			int b2 = buffer.get(); // 부호 확장
+			return ((b2 << 16) | (b1 << 8) | b0) / 8388608f;
+		default:
+			return buffer.getInt() / 2147483648f;
+		}
+	}
+
+	private static int toByte(float value) {
+		float clamped = Math.max(-1f, Math.min(1f, value));
+		return Math.round(clamped * 127);
+	}
+}
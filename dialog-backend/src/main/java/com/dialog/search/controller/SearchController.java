@@ -0,0 +1,71 @@
+package com.dialog.search.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.search.domain.SearchDocType;
+import com.dialog.search.domain.SearchResponseDto;
+import com.dialog.search.service.SearchService;
+import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.user.service.CustomUserDetails;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+	private final SearchService searchService;
+
+	// 회의 간 통합 검색 (본인이 호스트인 회의만, 관리자는 전체)
+	// type: TRANSCRIPT / TITLE / SUMMARY (생략 시 전체)
+	@GetMapping
+	public ResponseEntity<?> search(@RequestParam("q") String query,
+			@RequestParam(value = "type", required = false) String type,
+			@RequestParam(value = "size", defaultValue = "" + SearchService.DEFAULT_SIZE) int size,
+			Authentication authentication) {
+
+		Long userId = currentUserId(authentication);
+		if (userId == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		boolean admin = authentication.getAuthorities().stream()
+				.anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+
+		try {
+			SearchDocType docType = (type == null || type.isBlank()) ? null : SearchDocType.valueOf(type.trim().toUpperCase());
+			SearchResponseDto response = searchService.search(query, userId, admin, docType, size);
+			return ResponseEntity.ok(response);
+		} catch (IllegalArgumentException e) {
+			log.warn("검색 요청 오류: {}", e.getMessage());
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (IllegalStateException e) {
+			log.warn("검색 불가: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+		}
+	}
+
+	// 인증 주체 타입별로 사용자 ID 추출 (소셜/일반 가입)
+	private Long currentUserId(Authentication authentication) {
+		if (authentication == null) {
+			return null;
+		}
+		Object principal = authentication.getPrincipal();
+		if (principal instanceof CustomOAuth2User) {
+			return ((CustomOAuth2User) principal).getMeetuser().getId();
+		}
+		if (principal instanceof CustomUserDetails) {
+			return ((CustomUserDetails) principal).getId();
+		}
+		log.warn("알 수 없는 인증 객체 타입: {}", principal.getClass());
+		return null;
+	}
+}
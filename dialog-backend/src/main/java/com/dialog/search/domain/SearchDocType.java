@@ -0,0 +1,19 @@
+package com.dialog.search.domain;
+
+// 검색 대상 문서 종류. boost 는 BM25 점수에 곱하는 가중치 (제목 > 요약 > 발화)
+public enum SearchDocType {
+
+	TRANSCRIPT(1.0f),	// 발화 한 건 (refId = transcript.id)
+	TITLE(2.0f),		// 회의 제목 (refId = meeting.id)
+	SUMMARY(1.3f);		// 회의 결과 요약 (refId = meeting.id)
+
+	private final float boost;
+
+	SearchDocType(float boost) {
+		this.boost = boost;
+	}
+
+	public float getBoost() {
+		return boost;
+	}
+}
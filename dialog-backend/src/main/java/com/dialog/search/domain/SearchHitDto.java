@@ -0,0 +1,21 @@
+package com.dialog.search.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 검색 결과 한 건
+@Getter
+@Setter
+@NoArgsConstructor
+public class SearchHitDto {
+
+	private Long meetingId;
+	private String meetingTitle;
+	private SearchDocType type;
+	private Long transcriptId;		// TRANSCRIPT 일 때만
+	private String speakerName;		// TRANSCRIPT 일 때만
+	private Long startTime;			// TRANSCRIPT 일 때만 (ms)
+	private String snippet;			// 일치 구간을 <mark> 로 감싼 HTML 이스케이프된 발췌문
+	private float score;
+}
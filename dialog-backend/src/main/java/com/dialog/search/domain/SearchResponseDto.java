@@ -0,0 +1,16 @@
+package com.dialog.search.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResponseDto {
+
+	private String query;
+	private int totalMatches;		// 접근 가능한 문서 중 한 단어라도 일치한 문서 수
+	private long tookMs;
+	private List<SearchHitDto> hits;
+}
@@ -0,0 +1,304 @@
+package com.dialog.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.dialog.search.domain.SearchDocType;
+
+/**
+ * 메모리 역색인 (토큰 → 문서 ID / 출현 횟수 목록) 과 BM25 점수 계산.
+ *
+ * - 문서 ID는 추가 순서대로 증가하는 int. 포스팅은 원시 int 배열이라 박싱 없이 순회합니다.
+ * - 회의가 다시 색인되면 기존 문서는 삭제 표시(live 비트 해제)만 하고 새 문서를 뒤에 추가합니다.
+ *   삭제된 문서가 전체의 1/3을 넘으면 compact()로 포스팅에서 제거하고 ID를 다시 매깁니다.
+ * - 읽기(검색)는 동시에, 쓰기(회의 교체/삭제)는 한 번에 하나씩 (ReentrantReadWriteLock)
+ */
+class InvertedIndex {
+
+	private static final float K1 = 1.2f;
+	private static final float B = 0.75f;
+	private static final int COMPACT_MIN_DOCS = 10_000;
+	private static final SearchDocType[] DOC_TYPES = SearchDocType.values();
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final Map<Long, int[]> docsByMeeting = new HashMap<>();
+	private final Map<Long, Long> hostByMeeting = new HashMap<>();
+
+	// 문서 ID로 접근하는 문서 정보
+	private long[] meetingIds = new long[1024];
+	private long[] hostUserIds = new long[1024];
+	private long[] refIds = new long[1024];
+	private byte[] types = new byte[1024];
+	private int[] lengths = new int[1024];
+	private final BitSet live = new BitSet();
+	private int maxDoc;
+	private int liveDocs;
+	private long totalLength;
+
+	// 점수가 매겨진 문서 (검색 결과)
+	record ScoredDoc(long meetingId, SearchDocType type, long refId, float score) {
+	}
+
+	record Result(int totalMatches, List<ScoredDoc> top) {
+	}
+
+	// 회의 한 건을 통째로 교체 (기존 문서 삭제 후 추가)
+	void replaceMeeting(MeetingSegment segment) {
+		lock.writeLock().lock();
+		try {
+			removeMeetingLocked(segment.meetingId());
+			int[] docIds = new int[segment.documents().size()];
+			int n = 0;
+			for (MeetingSegment.Document document : segment.documents()) {
+				docIds[n++] = addLocked(segment.meetingId(), segment.hostUserId(), document);
+			}
+			docsByMeeting.put(segment.meetingId(), docIds);
+			hostByMeeting.put(segment.meetingId(), segment.hostUserId());
+			compactIfNeededLocked();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void removeMeeting(long meetingId) {
+		lock.writeLock().lock();
+		try {
+			removeMeetingLocked(meetingId);
+			compactIfNeededLocked();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 호스트(사용자) 삭제 시 그 사용자의 회의를 모두 제거하고, 제거한 회의 ID를 반환
+	List<Long> removeHost(long hostUserId) {
+		lock.writeLock().lock();
+		try {
+			List<Long> removed = new ArrayList<>();
+			for (Map.Entry<Long, Long> entry : hostByMeeting.entrySet()) {
+				if (entry.getValue() == hostUserId) {
+					removed.add(entry.getKey());
+				}
+			}
+			for (Long meetingId : removed) {
+				removeMeetingLocked(meetingId);
+			}
+			compactIfNeededLocked();
+			return removed;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	List<Long> meetingIds() {
+		lock.readLock().lock();
+		try {
+			return new ArrayList<>(docsByMeeting.keySet());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int liveDocCount() {
+		lock.readLock().lock();
+		try {
+			return liveDocs;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * BM25 검색.
+	 *
+	 * @param terms      질의 토큰 (중복 제거된 상태)
+	 * @param hostUserId 이 사용자가 호스트인 회의만 (null 이면 전체 - 관리자)
+	 * @param type       문서 종류 필터 (null 이면 전체)
+	 * @param limit      반환할 상위 문서 수
+	 */
+	Result search(List<String> terms, Long hostUserId, SearchDocType type, int limit) {
+		lock.readLock().lock();
+		try {
+			if (terms.isEmpty() || liveDocs == 0) {
+				return new Result(0, List.of());
+			}
+			float avgLength = (float) totalLength / liveDocs;
+			float[] scores = new float[maxDoc];
+			int[] touched = new int[64];
+			int touchedCount = 0;
+
+			for (String term : terms) {
+				PostingList list = postings.get(term);
+				if (list == null) {
+					continue;
+				}
+				// df 에 삭제 표시된 문서가 섞여 있을 수 있으나 compact 전까지의 근사치로 충분
+				int df = Math.min(list.size, liveDocs);
+				float idf = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+				for (int i = 0; i < list.size; i++) {
+					int doc = list.docs[i];
+					if (!live.get(doc)
+							|| (hostUserId != null && hostUserIds[doc] != hostUserId)
+							|| (type != null && types[doc] != type.ordinal())) {
+						continue;
+					}
+					int tf = list.freqs[i];
+					float norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+					float boost = DOC_TYPES[types[doc]].getBoost();
+					if (scores[doc] == 0f) {
+						if (touchedCount == touched.length) {
+							touched = Arrays.copyOf(touched, touchedCount * 2);
+						}
+						touched[touchedCount++] = doc;
+					}
+					scores[doc] += boost * idf * tf * (K1 + 1) / (tf + norm);
+				}
+			}
+
+			// 상위 limit 건만 최소 힙으로 유지
+			PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+			for (int i = 0; i < touchedCount; i++) {
+				heap.offer(touched[i]);
+				if (heap.size() > limit) {
+					heap.poll();
+				}
+			}
+			List<ScoredDoc> top = new ArrayList<>(heap.size());
+			while (!heap.isEmpty()) {
+				int doc = heap.poll();
+				top.add(new ScoredDoc(meetingIds[doc], DOC_TYPES[types[doc]], refIds[doc], scores[doc]));
+			}
+			Collections.reverse(top);
+			return new Result(touchedCount, top);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private int addLocked(long meetingId, long hostUserId, MeetingSegment.Document document) {
+		int doc = maxDoc++;
+		ensureCapacity(maxDoc);
+		meetingIds[doc] = meetingId;
+		hostUserIds[doc] = hostUserId;
+		refIds[doc] = document.refId();
+		types[doc] = (byte) document.type().ordinal();
+		lengths[doc] = document.length();
+		live.set(doc);
+		liveDocs++;
+		totalLength += document.length();
+		for (Map.Entry<String, Integer> entry : document.termFrequencies().entrySet()) {
+			postings.computeIfAbsent(entry.getKey(), k -> new PostingList()).add(doc, entry.getValue());
+		}
+		return doc;
+	}
+
+	private void removeMeetingLocked(long meetingId) {
+		int[] docIds = docsByMeeting.remove(meetingId);
+		hostByMeeting.remove(meetingId);
+		if (docIds == null) {
+			return;
+		}
+		for (int doc : docIds) {
+			if (live.get(doc)) {
+				live.clear(doc);
+				liveDocs--;
+				totalLength -= lengths[doc];
+			}
+		}
+	}
+
+	// 삭제 표시된 문서를 포스팅에서 제거하고 살아있는 문서에 0부터 ID를 다시 매김 (순서 유지)
+	private void compactIfNeededLocked() {
+		int deleted = maxDoc - liveDocs;
+		if (maxDoc < COMPACT_MIN_DOCS || deleted * 3 < maxDoc) {
+			return;
+		}
+		int[] remap = new int[maxDoc];
+		int next = 0;
+		for (int doc = 0; doc < maxDoc; doc++) {
+			if (live.get(doc)) {
+				remap[doc] = next;
+				meetingIds[next] = meetingIds[doc];
+				hostUserIds[next] = hostUserIds[doc];
+				refIds[next] = refIds[doc];
+				types[next] = types[doc];
+				lengths[next] = lengths[doc];
+				next++;
+			} else {
+				remap[doc] = -1;
+			}
+		}
+
+		Iterator<PostingList> it = postings.values().iterator();
+		while (it.hasNext()) {
+			PostingList list = it.next();
+			list.retain(remap);
+			if (list.size == 0) {
+				it.remove();
+			}
+		}
+		for (Map.Entry<Long, int[]> entry : docsByMeeting.entrySet()) {
+			int[] docIds = entry.getValue();
+			for (int i = 0; i < docIds.length; i++) {
+				docIds[i] = remap[docIds[i]];
+			}
+		}
+
+		live.clear();
+		live.set(0, next);
+		maxDoc = next;
+	}
+
+	private void ensureCapacity(int size) {
+		if (size <= meetingIds.length) {
+			return;
+		}
+		int capacity = Math.max(size, meetingIds.length * 2);
+		meetingIds = Arrays.copyOf(meetingIds, capacity);
+		hostUserIds = Arrays.copyOf(hostUserIds, capacity);
+		refIds = Arrays.copyOf(refIds, capacity);
+		types = Arrays.copyOf(types, capacity);
+		lengths = Arrays.copyOf(lengths, capacity);
+	}
+
+	// 토큰 하나의 (문서 ID, 출현 횟수) 목록. 문서 ID 오름차순
+	private static final class PostingList {
+
+		private int[] docs = new int[4];
+		private int[] freqs = new int[4];
+		private int size;
+
+		void add(int doc, int freq) {
+			if (size == docs.length) {
+				docs = Arrays.copyOf(docs, size * 2);
+				freqs = Arrays.copyOf(freqs, size * 2);
+			}
+			docs[size] = doc;
+			freqs[size] = freq;
+			size++;
+		}
+
+		void retain(int[] remap) {
+			int next = 0;
+			for (int i = 0; i < size; i++) {
+				int mapped = remap[docs[i]];
+				if (mapped >= 0) {
+					docs[next] = mapped;
+					freqs[next] = freqs[i];
+					next++;
+				}
+			}
+			size = next;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.dialog.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 토크나이저.
+ *
+ * - 한글/한자 연속 구간은 2글자씩 겹쳐 자른 바이그램 ("회의록을" → 회의, 의록, 록을). 한 글자 구간은 그대로 사용
+ *   → 형태소 분석기 없이도 조사/어미가 붙은 형태("회의는", "회의에서")가 "회의"로 검색됨
+ * - 영문/숫자 연속 구간은 소문자 단어 하나로 사용
+ * - 그 외 문자(공백, 문장부호 등)는 구분자
+ *
+ * 색인과 질의에 같은 규칙을 적용해야 하므로 상태 없는 정적 메서드만 제공합니다.
+ */
+public final class KoreanBigramTokenizer {
+
+	// 비정상적으로 긴 영문/숫자 토큰(URL, 해시 등)은 잘라서 색인 크기를 제한
+	private static final int MAX_WORD_LENGTH = 40;
+
+	private KoreanBigramTokenizer() {
+	}
+
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+		int i = 0;
+		int length = normalized.length();
+		while (i < length) {
+			char c = normalized.charAt(i);
+			if (isCjk(c)) {
+				int start = i;
+				while (i < length && isCjk(normalized.charAt(i))) {
+					i++;
+				}
+				if (i - start == 1) {
+					tokens.add(normalized.substring(start, i));
+				} else {
+					for (int j = start; j + 1 < i; j++) {
+						tokens.add(normalized.substring(j, j + 2));
+					}
+				}
+			} else if (Character.isLetterOrDigit(c)) {
+				int start = i;
+				while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && !isCjk(normalized.charAt(i))) {
+					i++;
+				}
+				tokens.add(normalized.substring(start, Math.min(i, start + MAX_WORD_LENGTH)));
+			} else {
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	// 토큰 → 출현 횟수 (색인용)
+	public static Map<String, Integer> termFrequencies(List<String> tokens) {
+		Map<String, Integer> frequencies = new HashMap<>();
+		for (String token : tokens) {
+			frequencies.merge(token, 1, Integer::sum);
+		}
+		return frequencies;
+	}
+
+	// 한글 음절, 한글 자모, CJK 통합 한자
+	static boolean isCjk(char c) {
+		return (c >= '가' && c <= '힣')
+				|| (c >= 'ㄱ' && c <= 'ㆎ')
+				|| (c >= '一' && c <= '鿿');
+	}
+}
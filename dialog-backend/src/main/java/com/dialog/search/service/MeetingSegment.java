@@ -0,0 +1,13 @@
+package com.dialog.search.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.dialog.search.domain.SearchDocType;
+
+// 회의 한 건의 색인 단위 (제목 + 요약 + 발화들). 디스크에는 회의별 파일 하나로 저장됩니다.
+record MeetingSegment(long meetingId, long hostUserId, List<Document> documents) {
+
+	record Document(SearchDocType type, long refId, int length, Map<String, Integer> termFrequencies) {
+	}
+}
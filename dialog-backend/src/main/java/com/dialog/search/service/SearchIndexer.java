@@ -0,0 +1,232 @@
+package com.dialog.search.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.search.domain.SearchDocType;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.transcript.service.TranscriptArchiveService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 색인 갱신 담당.
+ *
+ * - 회의/발화/요약을 저장하는 서비스가 markDirty(meetingId)를 호출하면, 커밋 직후 해당 회의가 갱신 대기열에 들어갑니다.
+ * - 주기적으로(refresh-interval-ms) 대기열의 회의를 DB에서 다시 읽어 메모리 색인과 디스크 세그먼트를 통째로 교체합니다.
+ *   회의 단위로 교체하므로 추가/수정/삭제를 따로 구분하지 않고, DB에 없는 회의는 색인에서 지웁니다.
+ * - 시작 시 디스크 세그먼트를 읽어 메모리 색인을 복원하고, 마지막 checkpoint 이후 바뀐 회의만 다시 색인합니다.
+ *   (세그먼트가 없거나 형식 버전이 바뀌었으면 전체 회의를 배치 단위로 나눠 재색인)
+ */
+@Slf4j
+@Component
+public class SearchIndexer {
+
+	// 커밋 시각과 updated_at 기록 시각의 차이, 서버 간 시계 오차를 감안한 따라잡기 여유
+	private static final long CATCH_UP_MARGIN_MILLIS = 5 * 60 * 1000L;
+
+	private final MeetingRepository meetingRepository;
+	private final TranscriptRepository transcriptRepository;
+	private final TranscriptArchiveService transcriptArchiveService;
+	private final TransactionTemplate readTransaction;
+	private final Path indexDir;
+	private final int batchSize;
+
+	private final InvertedIndex index = new InvertedIndex();
+	private final Set<Long> dirtyMeetings = ConcurrentHashMap.newKeySet();
+	private final Set<Long> deletedHosts = ConcurrentHashMap.newKeySet();
+
+	private SearchSegmentStore store;
+	private volatile boolean ready;
+
+	public SearchIndexer(MeetingRepository meetingRepository, TranscriptRepository transcriptRepository,
+			TranscriptArchiveService transcriptArchiveService, PlatformTransactionManager transactionManager,
+			@Value("${search.index.dir:./data/search-index}") String indexDir,
+			@Value("${search.index.batch-size:200}") int batchSize) {
+		this.meetingRepository = meetingRepository;
+		this.transcriptRepository = transcriptRepository;
+		this.transcriptArchiveService = transcriptArchiveService;
+		this.readTransaction = new TransactionTemplate(transactionManager);
+		this.readTransaction.setReadOnly(true);
+		this.indexDir = Path.of(indexDir);
+		this.batchSize = batchSize;
+	}
+
+	// 회의 내용이 바뀌었을 때 호출 (트랜잭션 안이면 커밋 후에 대기열에 추가, 롤백되면 무시)
+	public void markDirty(Long meetingId) {
+		if (meetingId == null) {
+			return;
+		}
+		TransactionCallbacks.runAfterCommit(() -> dirtyMeetings.add(meetingId));
+	}
+
+	// 사용자 삭제로 그 사용자가 호스트인 회의가 한꺼번에 지워졌을 때 호출
+	public void markHostDeleted(Long hostUserId) {
+		if (hostUserId == null) {
+			return;
+		}
+		TransactionCallbacks.runAfterCommit(() -> deletedHosts.add(hostUserId));
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public int pendingCount() {
+		return dirtyMeetings.size();
+	}
+
+	InvertedIndex.Result search(List<String> terms, Long hostUserId, SearchDocType type, int limit) {
+		return index.search(terms, hostUserId, type, limit);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		try {
+			store = new SearchSegmentStore(indexDir);
+			Long checkpoint = store.readCheckpoint();
+
+			if (checkpoint == null) {
+				store.clear();
+				List<Long> all = meetingRepository.findAllIds();
+				dirtyMeetings.addAll(all);
+				log.info("검색 색인 없음 - 회의 {}건 전체 재색인 예약", all.size());
+			} else {
+				List<Long> broken = store.loadAll(index::replaceMeeting);
+				dirtyMeetings.addAll(broken);
+
+				// 서버가 내려가 있던 동안(또는 대기열이 유실된 채 종료된 동안) 바뀐 회의
+				LocalDateTime since = LocalDateTime.ofInstant(
+						Instant.ofEpochMilli(checkpoint - CATCH_UP_MARGIN_MILLIS), ZoneId.systemDefault());
+				dirtyMeetings.addAll(meetingRepository.findIdsChangedSince(since));
+
+				// 그 사이 삭제된 회의
+				Set<Long> existing = new HashSet<>(meetingRepository.findAllIds());
+				for (Long meetingId : index.meetingIds()) {
+					if (!existing.contains(meetingId)) {
+						dirtyMeetings.add(meetingId);
+					}
+				}
+				log.info("검색 색인 복원 - 문서 {}건, 재색인 대기 회의 {}건", index.liveDocCount(), dirtyMeetings.size());
+			}
+			ready = true;
+		} catch (IOException | RuntimeException e) {
+			log.error("검색 색인을 초기화하지 못했습니다. 검색이 비활성화됩니다.", e);
+		}
+	}
+
+	// 대기열의 회의를 다시 색인 (한 번에 batch-size 건까지)
+	@Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:1000}")
+	public void refresh() {
+		if (!ready) {
+			return;
+		}
+		long startedAt = System.currentTimeMillis();
+		boolean changed = false;
+		boolean failed = false;
+
+		for (Iterator<Long> it = deletedHosts.iterator(); it.hasNext();) {
+			Long hostUserId = it.next();
+			it.remove();
+			for (Long meetingId : index.removeHost(hostUserId)) {
+				failed |= !deleteSegment(meetingId);
+			}
+			changed = true;
+		}
+
+		List<Long> batch = new ArrayList<>(Math.min(batchSize, dirtyMeetings.size()));
+		for (Iterator<Long> it = dirtyMeetings.iterator(); it.hasNext() && batch.size() < batchSize;) {
+			batch.add(it.next());
+			it.remove();
+		}
+		for (Long meetingId : batch) {
+			try {
+				MeetingSegment segment = readTransaction.execute(status -> buildSegment(meetingId));
+				if (segment == null) {
+					index.removeMeeting(meetingId);
+					store.delete(meetingId);
+				} else {
+					store.write(segment);
+					index.replaceMeeting(segment);
+				}
+				changed = true;
+			} catch (IOException | RuntimeException e) {
+				log.warn("회의 {} 검색 색인 실패 - 다음 주기에 재시도: {}", meetingId, e.getMessage());
+				dirtyMeetings.add(meetingId);
+				failed = true;
+			}
+		}
+
+		// 대기열을 모두 비웠을 때만 checkpoint 를 이번 주기 시작 시각으로 올림
+		if (changed && !failed && dirtyMeetings.isEmpty()) {
+			try {
+				store.writeCheckpoint(startedAt);
+			} catch (IOException e) {
+				log.warn("검색 색인 checkpoint 저장 실패: {}", e.getMessage());
+			}
+		}
+	}
+
+	private MeetingSegment buildSegment(Long meetingId) {
+		List<Object[]> sources = meetingRepository.findSearchSources(List.of(meetingId));
+		if (sources.isEmpty()) {
+			return null;
+		}
+		Object[] meeting = sources.get(0);
+		long hostUserId = meeting[1] != null ? (Long) meeting[1] : -1L;
+
+		List<MeetingSegment.Document> documents = new ArrayList<>();
+		addDocument(documents, SearchDocType.TITLE, meetingId, (String) meeting[2]);
+		addDocument(documents, SearchDocType.SUMMARY, meetingId, (String) meeting[3]);
+		if (transcriptArchiveService.isArchived(meetingId)) {
+			for (Transcript transcript : transcriptArchiveService.readMerged(meetingId)) {
+				if (!transcript.isDeleted()) {
+					addDocument(documents, SearchDocType.TRANSCRIPT, transcript.getId(), transcript.getText());
+				}
+			}
+		} else {
+			for (Object[] transcript : transcriptRepository.findIndexRowsByMeetingId(meetingId)) {
+				addDocument(documents, SearchDocType.TRANSCRIPT, (Long) transcript[0], (String) transcript[1]);
+			}
+		}
+		return new MeetingSegment(meetingId, hostUserId, documents);
+	}
+
+	private void addDocument(List<MeetingSegment.Document> documents, SearchDocType type, long refId, String text) {
+		List<String> tokens = KoreanBigramTokenizer.tokenize(text);
+		if (!tokens.isEmpty()) {
+			documents.add(new MeetingSegment.Document(type, refId, tokens.size(),
+					KoreanBigramTokenizer.termFrequencies(tokens)));
+		}
+	}
+
+	private boolean deleteSegment(Long meetingId) {
+		try {
+			store.delete(meetingId);
+			return true;
+		} catch (IOException e) {
+			log.warn("회의 {} 검색 세그먼트 삭제 실패: {}", meetingId, e.getMessage());
+			return false;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.dialog.search.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+import com.dialog.search.domain.SearchDocType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 색인 세그먼트의 디스크 저장소.
+ *
+ * <pre>
+ * {dir}/manifest.properties      형식 버전 + 마지막으로 색인을 따라잡은 시각(checkpoint)
+ * {dir}/meetings/{meetingId}.seg 회의 한 건의 문서/토큰 빈도
+ * </pre>
+ *
+ * 회의 단위로 파일을 통째로 새로 쓰므로(임시 파일 → 원자적 rename) 병합(merge) 작업이 필요 없고,
+ * 쓰는 도중 중단되어도 이전 파일이 그대로 남습니다.
+ */
+@Slf4j
+class SearchSegmentStore {
+
+	// 세그먼트 형식이나 토크나이저 규칙이 바뀌면 올려서 재색인을 유도
+	static final int FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x44534547; // "DSEG"
+	private static final String MANIFEST = "manifest.properties";
+	private static final String SEGMENT_SUFFIX = ".seg";
+
+	private final Path root;
+	private final Path meetingsDir;
+
+	SearchSegmentStore(Path root) throws IOException {
+		this.root = root;
+		this.meetingsDir = root.resolve("meetings");
+		Files.createDirectories(meetingsDir);
+	}
+
+	// 저장된 형식 버전이 현재와 같을 때만 checkpoint(epoch ms) 반환. 없거나 다르면 null → 전체 재색인
+	Long readCheckpoint() {
+		Path manifest = root.resolve(MANIFEST);
+		if (!Files.exists(manifest)) {
+			return null;
+		}
+		Properties props = new Properties();
+		try (InputStream in = Files.newInputStream(manifest)) {
+			props.load(in);
+			if (Integer.parseInt(props.getProperty("formatVersion", "0")) != FORMAT_VERSION) {
+				return null;
+			}
+			return Long.parseLong(props.getProperty("checkpoint"));
+		} catch (IOException | RuntimeException e) {
+			log.warn("검색 색인 manifest 를 읽을 수 없어 전체 재색인합니다: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	void writeCheckpoint(long checkpoint) throws IOException {
+		Properties props = new Properties();
+		props.setProperty("formatVersion", String.valueOf(FORMAT_VERSION));
+		props.setProperty("checkpoint", String.valueOf(checkpoint));
+		Path tmp = root.resolve(MANIFEST + ".tmp");
+		try (OutputStream out = Files.newOutputStream(tmp)) {
+			props.store(out, "dialog search index");
+		}
+		Files.move(tmp, root.resolve(MANIFEST), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	void write(MeetingSegment segment) throws IOException {
+		Path target = segmentPath(segment.meetingId());
+		Path tmp = meetingsDir.resolve(segment.meetingId() + SEGMENT_SUFFIX + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(segment.meetingId());
+			out.writeLong(segment.hostUserId());
+			out.writeInt(segment.documents().size());
+			for (MeetingSegment.Document document : segment.documents()) {
+				out.writeByte(document.type().ordinal());
+				out.writeLong(document.refId());
+				out.writeInt(document.length());
+				out.writeInt(document.termFrequencies().size());
+				for (Map.Entry<String, Integer> entry : document.termFrequencies().entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue());
+				}
+			}
+		}
+		Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	void delete(long meetingId) throws IOException {
+		Files.deleteIfExists(segmentPath(meetingId));
+	}
+
+	// 모든 세그먼트를 읽어 consumer 에 전달. 읽지 못한 세그먼트는 삭제하고 그 회의 ID를 반환 (재색인 대상)
+	List<Long> loadAll(Consumer<MeetingSegment> consumer) throws IOException {
+		List<Long> broken = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(meetingsDir, "*" + SEGMENT_SUFFIX)) {
+			for (Path file : files) {
+				try {
+					consumer.accept(read(file));
+				} catch (IOException | RuntimeException e) {
+					log.warn("검색 세그먼트를 읽을 수 없어 재색인합니다: {} ({})", file.getFileName(), e.getMessage());
+					Long meetingId = parseMeetingId(file);
+					if (meetingId != null) {
+						broken.add(meetingId);
+					}
+					Files.deleteIfExists(file);
+				}
+			}
+		}
+		return broken;
+	}
+
+	// 형식 버전이 바뀌었을 때 기존 세그먼트를 모두 지움
+	void clear() throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(meetingsDir)) {
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	private MeetingSegment read(Path file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				throw new IOException("세그먼트 형식이 올바르지 않습니다.");
+			}
+			long meetingId = in.readLong();
+			long hostUserId = in.readLong();
+			int documentCount = in.readInt();
+			List<MeetingSegment.Document> documents = new ArrayList<>(documentCount);
+			for (int i = 0; i < documentCount; i++) {
+				SearchDocType type = SearchDocType.values()[in.readByte()];
+				long refId = in.readLong();
+				int length = in.readInt();
+				int termCount = in.readInt();
+				Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+				for (int j = 0; j < termCount; j++) {
+					termFrequencies.put(in.readUTF(), in.readInt());
+				}
+				documents.add(new MeetingSegment.Document(type, refId, length, termFrequencies));
+			}
+			return new MeetingSegment(meetingId, hostUserId, documents);
+		}
+	}
+
+	private Path segmentPath(long meetingId) {
+		return meetingsDir.resolve(meetingId + SEGMENT_SUFFIX);
+	}
+
+	private Long parseMeetingId(Path file) {
+		String name = file.getFileName().toString();
+		try {
+			return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.dialog.search.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.search.domain.SearchDocType;
+import com.dialog.search.domain.SearchHitDto;
+import com.dialog.search.domain.SearchResponseDto;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.transcript.service.TranscriptArchiveService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회의 간 통합 검색 (발화 / 회의 제목 / 요약).
+ *
+ * 점수 계산과 접근 제어(호스트 본인 회의만, 관리자는 전체)는 메모리 색인에서 처리하고,
+ * DB 는 상위 결과의 발췌문 원문을 가져올 때만 PK IN 조회 최대 두 번 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+	public static final int DEFAULT_SIZE = 20;
+	public static final int MAX_SIZE = 50;
+	private static final int MAX_QUERY_LENGTH = 200;
+	private static final int SNIPPET_LENGTH = 120;
+
+	private final SearchIndexer searchIndexer;
+	private final MeetingRepository meetingRepository;
+	private final TranscriptRepository transcriptRepository;
+	private final TranscriptArchiveService transcriptArchiveService;
+
+	/**
+	 * @param userId 요청 사용자 ID
+	 * @param admin  관리자면 모든 회의를 검색
+	 * @param type   문서 종류 필터 (null 이면 전체)
+	 */
+	public SearchResponseDto search(String query, Long userId, boolean admin, SearchDocType type, int size) {
+		if (query == null || query.isBlank()) {
+			throw new IllegalArgumentException("검색어를 입력해주세요.");
+		}
+		if (query.length() > MAX_QUERY_LENGTH) {
+			throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+		}
+		if (!searchIndexer.isReady()) {
+			throw new IllegalStateException("검색 색인을 준비하는 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+		long startedAt = System.nanoTime();
+
+		List<String> terms = new ArrayList<>(new LinkedHashSet<>(KoreanBigramTokenizer.tokenize(query)));
+		if (terms.isEmpty()) {
+			throw new IllegalArgumentException("검색할 수 있는 단어가 없습니다.");
+		}
+		int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+		InvertedIndex.Result result = searchIndexer.search(terms, admin ? null : userId, type, limit);
+
+		List<SearchHitDto> hits = toHits(result.top(), words(query), terms);
+		long tookMs = (System.nanoTime() - startedAt) / 1_000_000;
+		return new SearchResponseDto(query, result.totalMatches(), tookMs, hits);
+	}
+
+	// 상위 문서의 원문을 한 번에 읽어 발췌문 생성. 색인 갱신 전에 삭제된 문서는 결과에서 뺌
+	private List<SearchHitDto> toHits(List<InvertedIndex.ScoredDoc> top, List<String> words, List<String> terms) {
+		if (top.isEmpty()) {
+			return List.of();
+		}
+		Set<Long> meetingIds = new LinkedHashSet<>();
+		Set<Long> transcriptIds = new LinkedHashSet<>();
+		for (InvertedIndex.ScoredDoc doc : top) {
+			meetingIds.add(doc.meetingId());
+			if (doc.type() == SearchDocType.TRANSCRIPT) {
+				transcriptIds.add(doc.refId());
+			}
+		}
+
+		// [id, hostUserId, title, summary]
+		Map<Long, Object[]> meetings = new HashMap<>();
+		for (Object[] row : meetingRepository.findSearchSources(meetingIds)) {
+			meetings.put((Long) row[0], row);
+		}
+		// [id, text, speakerName, startTime]
+		Map<Long, Object[]> transcripts = new HashMap<>();
+		if (!transcriptIds.isEmpty()) {
+			for (Object[] row : transcriptRepository.findSnippetRowsByIds(transcriptIds)) {
+				transcripts.put((Long) row[0], row);
+			}
+			loadArchivedSnippetRows(top, transcripts);
+		}
+
+		List<SearchHitDto> hits = new ArrayList<>(top.size());
+		for (InvertedIndex.ScoredDoc doc : top) {
+			Object[] meeting = meetings.get(doc.meetingId());
+			if (meeting == null) {
+				continue;
+			}
+			SearchHitDto hit = new SearchHitDto();
+			hit.setMeetingId(doc.meetingId());
+			hit.setMeetingTitle((String) meeting[2]);
+			hit.setType(doc.type());
+			hit.setScore(doc.score());
+
+			String text;
+			switch (doc.type()) {
+			case TITLE:
+				text = (String) meeting[2];
+				break;
+			case SUMMARY:
+				text = (String) meeting[3];
+				break;
+			default:
+				Object[] transcript = transcripts.get(doc.refId());
+				if (transcript == null) {
+					continue;
+				}
+				text = (String) transcript[1];
+				hit.setTranscriptId(doc.refId());
+				hit.setSpeakerName((String) transcript[2]);
+				hit.setStartTime((Long) transcript[3]);
+			}
+			hit.setSnippet(SnippetHighlighter.highlight(text, words, terms, SNIPPET_LENGTH));
+			hits.add(hit);
+		}
+		return hits;
+	}
+
+	// 행이 없는 발화는 압축 보관된 회의의 것이므로 회의별로 한 번씩 풀어서 채움
+	private void loadArchivedSnippetRows(List<InvertedIndex.ScoredDoc> top, Map<Long, Object[]> transcripts) {
+		Map<Long, Set<Long>> missingByMeeting = new HashMap<>();
+		for (InvertedIndex.ScoredDoc doc : top) {
+			if (doc.type() == SearchDocType.TRANSCRIPT && !transcripts.containsKey(doc.refId())) {
+				missingByMeeting.computeIfAbsent(doc.meetingId(), k -> new HashSet<>()).add(doc.refId());
+			}
+		}
+		for (Map.Entry<Long, Set<Long>> entry : missingByMeeting.entrySet()) {
+			for (Transcript t : transcriptArchiveService.readMerged(entry.getKey())) {
+				if (entry.getValue().contains(t.getId()) && !t.isDeleted()) {
+					transcripts.put(t.getId(), new Object[] { t.getId(), t.getText(), t.getSpeakerName(), t.getStartTime() });
+				}
+			}
+		}
+	}
+
+	// 발췌문 강조용 원래 단어 (공백/문장부호 기준)
+	private List<String> words(String query) {
+		List<String> words = new ArrayList<>();
+		for (String word : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+			if (!word.isEmpty()) {
+				words.add(word);
+			}
+		}
+		return words;
+	}
+}
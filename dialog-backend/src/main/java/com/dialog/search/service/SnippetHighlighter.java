@@ -0,0 +1,113 @@
+package com.dialog.search.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 검색 결과 발췌문 생성.
+ * 첫 일치 구간 주변 maxLength 글자만 잘라 HTML 이스케이프하고, 일치 구간을 &lt;mark&gt; 로 감쌉니다.
+ * 질의 단어가 그대로 나오지 않으면(바이그램 일부만 일치) 바이그램 토큰 단위로 표시합니다.
+ */
+final class SnippetHighlighter {
+
+	private static final String ELLIPSIS = "…";
+
+	private SnippetHighlighter() {
+	}
+
+	static String highlight(String text, List<String> words, List<String> terms, int maxLength) {
+		if (text == null || text.isEmpty()) {
+			return "";
+		}
+		List<int[]> ranges = findRanges(text, words);
+		if (ranges.isEmpty()) {
+			ranges = findRanges(text, terms);
+		}
+
+		int start = 0;
+		if (!ranges.isEmpty()) {
+			start = Math.max(0, ranges.get(0)[0] - maxLength / 4);
+		}
+		int end = Math.min(text.length(), start + maxLength);
+		if (end - start < maxLength) {
+			start = Math.max(0, end - maxLength);
+		}
+
+		StringBuilder sb = new StringBuilder(maxLength + 32);
+		if (start > 0) {
+			sb.append(ELLIPSIS);
+		}
+		int pos = start;
+		for (int[] range : ranges) {
+			int from = Math.max(range[0], start);
+			int to = Math.min(range[1], end);
+			if (from >= to || from < pos) {
+				continue;
+			}
+			escape(sb, text, pos, from);
+			sb.append("<mark>");
+			escape(sb, text, from, to);
+			sb.append("</mark>");
+			pos = to;
+		}
+		escape(sb, text, pos, end);
+		if (end < text.length()) {
+			sb.append(ELLIPSIS);
+		}
+		return sb.toString();
+	}
+
+	// 대소문자 무시로 모든 일치 구간을 찾아 시작 위치순으로 정렬 후 겹치는 구간 병합
+	private static List<int[]> findRanges(String text, List<String> needles) {
+		List<int[]> ranges = new ArrayList<>();
+		for (String needle : needles) {
+			int length = needle.length();
+			if (length == 0) {
+				continue;
+			}
+			for (int i = 0; i + length <= text.length(); i++) {
+				if (text.regionMatches(true, i, needle, 0, length)) {
+					ranges.add(new int[] { i, i + length });
+				}
+			}
+		}
+		ranges.sort(Comparator.comparingInt(r -> r[0]));
+
+		List<int[]> merged = new ArrayList<>();
+		for (int[] range : ranges) {
+			int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if (last != null && range[0] <= last[1]) {
+				last[1] = Math.max(last[1], range[1]);
+			} else {
+				merged.add(range);
+			}
+		}
+		return merged;
+	}
+
+	private static void escape(StringBuilder sb, String text, int from, int to) {
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '<':
+				sb.append("&lt;");
+				break;
+			case '>':
+				sb.append("&gt;");
+				break;
+			case '&':
+				sb.append("&amp;");
+				break;
+			case '"':
+				sb.append("&quot;");
+				break;
+			case '\'':
+				sb.append("&#39;");
+				break;
+			default:
+				sb.append(c);
+			}
+		}
+	}
+}
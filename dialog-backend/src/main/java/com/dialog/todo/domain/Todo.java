@@ -16,9 +16,10 @@ import lombok.*;
 @Builder
 public class Todo {
 
-    // 1. id (PK, BIGINT, AI)
+    // 1. id (PK, BIGINT) - pooled 시퀀스 (일괄 등록 시 INSERT 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq_gen")
+    @SequenceGenerator(name = "task_seq_gen", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     // 2. title (VARCHAR(500), NN)
@@ -0,0 +1,299 @@
+package com.dialog.token.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.dialog.global.http.OutboundHttpClients;
+import com.dialog.token.domain.UserSocialToken;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜(google, kakao ...) access token 메모리 캐시. SocialTokenService.getToken 앞에 둡니다.
+ *
+ * - 만료까지 min-remaining 이상 남은 토큰은 DB / 토큰 서버를 거치지 않고 바로 반환
+ * - 주기 작업이 refresh-ahead 안에 만료되는 토큰을 batch-size 씩 미리 갱신 (refresh_token grant) 하고 DB 에도 반영.
+ *   idle 동안 요청이 없던 사용자는 갱신하지 않고 캐시에서 내림
+ * - 같은 사용자/provider 의 로드와 갱신은 한 번만 실행하고, 동시에 들어온 요청은 그 결과를 같이 기다림 (single-flight)
+ * - refresh token 이 없거나 클라이언트 등록이 없는 provider 는 미리 갱신하지 않고 만료 시 SocialTokenService 로 다시 로드
+ */
+@Slf4j
+@Component
+public class SocialTokenCache {
+
+	record Key(String email, String provider) {
+	}
+
+	/** lastUsedNanos 는 요청에서 꺼내 쓸 때마다 갱신 (미리 갱신할 대상인지 판단) */
+	record Entry(String accessToken, LocalDateTime expiresAt, boolean refreshable, AtomicLong lastUsedNanos) {
+
+		boolean validAt(LocalDateTime time) {
+			return expiresAt.isAfter(time);
+		}
+	}
+
+	private final SocialTokenService socialTokenService;
+	private final MeetUserRepository meetUserRepository;
+	private final ClientRegistrationRepository clientRegistrationRepository;
+	private final RestTemplate restTemplate;
+	private final TransactionTemplate jobTransaction;
+
+	private final boolean enabled;
+	private final Duration refreshAhead;
+	private final Duration minRemaining;
+	private final Duration defaultLifetime;
+	private final long idleNanos;
+	private final int batchSize;
+
+	private final Cache<Key, Entry> entries;
+	private final Map<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder joined = new LongAdder();
+	private final LongAdder proactiveRefreshes = new LongAdder();
+	private final LongAdder refreshFailures = new LongAdder();
+
+	public SocialTokenCache(SocialTokenService socialTokenService, MeetUserRepository meetUserRepository,
+			ClientRegistrationRepository clientRegistrationRepository, OutboundHttpClients outboundHttpClients,
+			PlatformTransactionManager transactionManager,
+			@Value("${social.token.cache.enabled:true}") boolean enabled,
+			@Value("${social.token.cache.refresh-ahead:5m}") Duration refreshAhead,
+			@Value("${social.token.cache.min-remaining:60s}") Duration minRemaining,
+			@Value("${social.token.cache.default-lifetime:10m}") Duration defaultLifetime,
+			@Value("${social.token.cache.idle:2h}") Duration idle,
+			@Value("${social.token.cache.batch-size:50}") int batchSize,
+			@Value("${social.token.cache.max-size:10000}") long maxSize) {
+		this.socialTokenService = socialTokenService;
+		this.meetUserRepository = meetUserRepository;
+		this.clientRegistrationRepository = clientRegistrationRepository;
+		this.restTemplate = outboundHttpClients.restTemplate("oauth");
+		this.jobTransaction = new TransactionTemplate(transactionManager);
+		// 호출자가 readOnly 트랜잭션(일정 조회 등) 안이어도 갱신한 토큰은 별도로 커밋
+		this.jobTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.enabled = enabled;
+		this.refreshAhead = refreshAhead;
+		this.minRemaining = minRemaining;
+		this.defaultLifetime = defaultLifetime;
+		this.idleNanos = idle.toNanos();
+		this.batchSize = Math.max(1, batchSize);
+		this.entries = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.build();
+	}
+
+	/**
+	 * SocialTokenService.getToken 과 같은 계약 (연동 안 된 사용자는 null, 갱신 실패는 "토큰 갱신 실패" 메시지의 예외).
+	 */
+	public String getToken(String email, String provider) {
+		if (!enabled || email == null) {
+			return socialTokenService.getToken(email, provider);
+		}
+		Key key = new Key(email, provider);
+		Entry cached = entries.getIfPresent(key);
+		if (cached != null && cached.validAt(LocalDateTime.now().plus(minRemaining))) {
+			cached.lastUsedNanos().set(System.nanoTime());
+			hits.increment();
+			return cached.accessToken();
+		}
+		misses.increment();
+		Entry entry = singleFlight(key, () -> cached != null && cached.refreshable() ? refresh(key, cached) : load(key));
+		if (entry == null) {
+			return null;
+		}
+		entry.lastUsedNanos().set(System.nanoTime());
+		return entry.accessToken();
+	}
+
+	// 토큰이 무효화된 것이 확인된 경우 (Google 401 등). 다음 요청은 SocialTokenService 로 다시 로드
+	public void evict(String email, String provider) {
+		if (email != null) {
+			entries.invalidate(new Key(email, provider));
+		}
+	}
+
+	// refresh-ahead 안에 만료되는 토큰을 만료가 가까운 순서로 batch-size 만큼 미리 갱신
+	@Scheduled(fixedDelayString = "${social.token.cache.refresh-interval-ms:30000}")
+	public void refreshExpiring() {
+		if (!enabled) {
+			return;
+		}
+		LocalDateTime threshold = LocalDateTime.now().plus(refreshAhead);
+		long now = System.nanoTime();
+		List<Map.Entry<Key, Entry>> due = entries.asMap().entrySet().stream()
+				.filter(e -> !e.getValue().validAt(threshold))
+				.sorted(Comparator.comparing(e -> e.getValue().expiresAt()))
+				.limit(batchSize)
+				.toList();
+
+		for (Map.Entry<Key, Entry> item : due) {
+			Key key = item.getKey();
+			Entry current = item.getValue();
+			if (!current.refreshable() || now - current.lastUsedNanos().get() > idleNanos) {
+				entries.asMap().remove(key, current);
+				continue;
+			}
+			try {
+				singleFlight(key, () -> refresh(key, current));
+				proactiveRefreshes.increment();
+			} catch (RuntimeException e) {
+				// 다음 요청에서 SocialTokenService 경로로 다시 로드
+				refreshFailures.increment();
+				entries.asMap().remove(key, current);
+				log.warn("소셜 토큰 사전 갱신 실패 - {} / {} ({})", key.email(), key.provider(), e.getMessage());
+			}
+		}
+	}
+
+	public Map<String, Object> stats() {
+		long hit = hits.sum();
+		long miss = misses.sum();
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("size", entries.estimatedSize());
+		result.put("hitCount", hit);
+		result.put("missCount", miss);
+		result.put("hitRate", hit + miss == 0 ? 0.0 : (double) hit / (hit + miss));
+		result.put("joinedCount", joined.sum());
+		result.put("inFlight", inFlight.size());
+		result.put("proactiveRefreshCount", proactiveRefreshes.sum());
+		result.put("refreshFailureCount", refreshFailures.sum());
+		return result;
+	}
+
+	// 같은 키의 로드/갱신이 진행 중이면 그 결과를 기다림. 결과는 캐시에 반영 (null 이면 제거)
+	private Entry singleFlight(Key key, Supplier<Entry> loader) {
+		CompletableFuture<Entry> mine = new CompletableFuture<>();
+		CompletableFuture<Entry> running = inFlight.putIfAbsent(key, mine);
+		if (running != null) {
+			joined.increment();
+			try {
+				return running.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException cause ? cause : e;
+			}
+		}
+		try {
+			Entry entry = loader.get();
+			if (entry != null) {
+				entries.put(key, entry);
+			} else {
+				entries.invalidate(key);
+			}
+			mine.complete(entry);
+			return entry;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	// 기존 경로 (만료된 토큰 갱신 포함) 로 토큰을 받고, 만료 시각은 DB 에서 읽음
+	private Entry load(Key key) {
+		String accessToken = socialTokenService.getToken(key.email(), key.provider());
+		if (accessToken == null || accessToken.isEmpty()) {
+			return null;
+		}
+		UserSocialToken stored = storedToken(key);
+		LocalDateTime expiresAt = stored != null && stored.getExpiresAt() != null ? stored.getExpiresAt()
+				: LocalDateTime.now().plus(defaultLifetime);
+		boolean refreshable = stored != null && stored.getRefreshToken() != null
+				&& clientRegistrationRepository.findByRegistrationId(key.provider()) != null;
+		return new Entry(accessToken, expiresAt, refreshable, new AtomicLong(System.nanoTime()));
+	}
+
+	// refresh_token grant 로 새 access token 을 받아 DB 에 반영
+	private Entry refresh(Key key, Entry previous) {
+		ClientRegistration registration = clientRegistrationRepository.findByRegistrationId(key.provider());
+		UserSocialToken stored = storedToken(key);
+		if (registration == null || stored == null || stored.getRefreshToken() == null) {
+			return load(key);
+		}
+
+		MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+		form.add("grant_type", "refresh_token");
+		form.add("refresh_token", stored.getRefreshToken());
+		form.add("client_id", registration.getClientId());
+		if (registration.getClientSecret() != null && !registration.getClientSecret().isEmpty()) {
+			form.add("client_secret", registration.getClientSecret());
+		}
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+		Map<?, ?> body;
+		try {
+			body = restTemplate.postForObject(registration.getProviderDetails().getTokenUri(),
+					new HttpEntity<>(form, headers), Map.class);
+		} catch (HttpClientErrorException e) {
+			// invalid_grant 등: 기존 호출부가 메시지로 재연동 안내를 판단
+			throw new IllegalStateException("토큰 갱신 실패 (" + key.provider() + "): " + e.getResponseBodyAsString(), e);
+		} catch (RuntimeException e) {
+			// 토큰 서버 장애. 아직 만료 전이면 기존 토큰을 계속 사용
+			if (previous != null && previous.validAt(LocalDateTime.now())) {
+				log.warn("소셜 토큰 갱신 지연 - {} / {}, 기존 토큰 사용 ({})", key.email(), key.provider(), e.getMessage());
+				return previous;
+			}
+			throw e;
+		}
+		if (body == null || !(body.get("access_token") instanceof String accessToken)) {
+			throw new IllegalStateException("토큰 갱신 실패 (" + key.provider() + "): access_token 없음");
+		}
+		LocalDateTime expiresAt = body.get("expires_in") instanceof Number seconds
+				? LocalDateTime.now().plusSeconds(seconds.longValue())
+				: LocalDateTime.now().plus(defaultLifetime);
+		// 응답에 새 refresh token 이 없으면 기존 것을 유지 (Google 은 보통 내려주지 않음)
+		String refreshToken = body.get("refresh_token") instanceof String rotated ? rotated : stored.getRefreshToken();
+
+		jobTransaction.executeWithoutResult(status -> meetUserRepository.findByEmail(key.email())
+				.ifPresent(user -> user.updateSocialToken(key.provider(), accessToken, refreshToken, expiresAt)));
+		log.debug("소셜 토큰 갱신 - {} / {}, 만료 {}", key.email(), key.provider(), expiresAt);
+		AtomicLong lastUsed = previous != null ? previous.lastUsedNanos() : new AtomicLong(System.nanoTime());
+		return new Entry(accessToken, expiresAt, true, lastUsed);
+	}
+
+	private UserSocialToken storedToken(Key key) {
+		return jobTransaction.execute(status -> {
+			MeetUser user = meetUserRepository.findByEmail(key.email()).orElse(null);
+			if (user == null) {
+				return null;
+			}
+			for (UserSocialToken token : user.getSocialTokens()) {
+				if (key.provider().equals(token.getProvider())) {
+					return token;
+				}
+			}
+			return null;
+		});
+	}
+}
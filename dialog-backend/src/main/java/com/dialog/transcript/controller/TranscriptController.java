@@ -1,10 +1,19 @@
 package com.dialog.transcript.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.dialog.transcript.domain.LiveAppendResponseDto;
+import com.dialog.transcript.domain.SpeakerRemapRequestDto;
+import com.dialog.transcript.domain.SpeakerRemapResponseDto;
 import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+import com.dialog.transcript.domain.TranscriptPageResponse;
+import com.dialog.transcript.domain.TranscriptPatchRequestDto;
+import com.dialog.transcript.domain.TranscriptPatchResponseDto;
 import com.dialog.transcript.domain.TranscriptResponseDto;
+import com.dialog.transcript.service.LiveTranscriptBuffer;
 import com.dialog.transcript.service.TranscriptService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +26,7 @@ import java.util.List;
 public class TranscriptController {
 
     private final TranscriptService transcriptService;
+    private final LiveTranscriptBuffer liveTranscriptBuffer;
 
     // 단일 Transcript 저장
     @PostMapping
@@ -46,19 +56,64 @@ public class TranscriptController {
         }
     }
 
+    // 녹음 중 실시간 발화 추가 (sequenceOrder 기준 멱등, 같은 묶음 재전송 가능)
+    // POST /api/transcripts/meeting/{meetingId}/live
+    @PostMapping("/meeting/{meetingId}/live")
+    public ResponseEntity<?> appendLiveTranscripts(
+            @PathVariable("meetingId") Long meetingId,
+            @RequestBody List<TranscriptCreateRequestDto> requestDtos) {
+        try {
+            LiveAppendResponseDto response = liveTranscriptBuffer.append(meetingId, requestDtos);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("실시간 Transcript 추가 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("실시간 Transcript 추가 거부 - meetingId: {}, {}", meetingId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
     // Meeting ID로 Transcript 조회
+    // fromMs/toMs(재생 구간), cursor, limit 중 하나라도 있으면 해당 부분만 TranscriptPageResponse 로 반환
+    // 예: ?fromMs=3600000&toMs=3660000 → 1:00:00~1:01:00 에 걸친 발화, ?cursor=120:5531&limit=100 → 다음 100건
     @GetMapping("/meeting/{meetingId}")
-    public ResponseEntity<List<TranscriptResponseDto>> getTranscriptsByMeeting(
-            @PathVariable("meetingId") Long meetingId) {
+    public ResponseEntity<?> getTranscriptsByMeeting(
+            @PathVariable("meetingId") Long meetingId,
+            @RequestParam(value = "fromMs", required = false) Long fromMs,
+            @RequestParam(value = "toMs", required = false) Long toMs,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
         try {
+            if (fromMs != null || toMs != null || cursor != null || limit != null) {
+                TranscriptPageResponse page = transcriptService.getTranscriptPage(meetingId, fromMs, toMs, cursor, limit);
+                return ResponseEntity.ok(page);
+            }
             List<TranscriptResponseDto> responses = transcriptService.getTranscriptsByMeetingId(meetingId);
             return ResponseEntity.ok(responses);
+        } catch (IllegalArgumentException e) {
+            log.warn("Transcript 구간 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("Transcript 조회 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // Meeting ID로 Transcript 스트리밍 조회 (Accept: application/x-ndjson)
+    // 목록을 메모리에 모으지 않고 DB에서 읽는 대로 한 줄씩 내려보냄 (긴 회의 내보내기용)
+    @GetMapping(value = "/meeting/{meetingId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTranscriptsByMeeting(
+            @PathVariable("meetingId") Long meetingId) {
+        StreamingResponseBody body = out -> {
+            long count = transcriptService.exportTranscripts(meetingId, out);
+            log.debug("Transcript NDJSON 전송 완료 - meetingId: {}, {}건", meetingId, count);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     // 특정 화자의 발화만 조회
     @GetMapping("/meeting/{meetingId}/speaker/{speakerId}")
     public ResponseEntity<List<TranscriptResponseDto>> getTranscriptsBySpeaker(
@@ -109,18 +164,54 @@ public class TranscriptController {
         }
     }
     
+    // 발화 로그 변경분(delta) 적용
+    // PATCH /api/transcripts/meeting/{meetingId}  { "operations": [ { "op": "EDIT_TEXT", "id": 1, "text": "..." }, ... ] }
+    @PatchMapping("/meeting/{meetingId}")
+    public ResponseEntity<?> patchTranscripts(
+            @PathVariable("meetingId") Long meetingId,
+            @RequestBody TranscriptPatchRequestDto requestDto) {
+        try {
+            TranscriptPatchResponseDto response = transcriptService.applyPatch(meetingId, requestDto);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Transcript 변경분 적용 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // 화자 매핑 업데이트 (특정 화자 ID를 가진 모든 발화의 이름 변경)
     @PatchMapping("/meeting/{meetingId}/speaker")
-    public ResponseEntity<Void> updateSpeakerMapping(
+    public ResponseEntity<?> updateSpeakerMapping(
             @PathVariable("meetingId") Long meetingId,
             @RequestParam("speakerId") String speakerId,
             @RequestParam("newName") String newName) {
         try {
             transcriptService.updateSpeakerMapping(meetingId, speakerId, newName);
             return ResponseEntity.ok().build();
-        } catch (Exception e) {
+        } catch (IllegalArgumentException e) {
             log.error("화자 매핑 업데이트 실패: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("화자 매핑 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // 여러 화자 이름 일괄 변경 (발화 + 참석자 + 액션아이템 담당자를 한 트랜잭션으로)
+    // 변경 후 같은 이름의 화자가 둘 이상 생기면 409
+    @PutMapping("/meeting/{meetingId}/speakers")
+    public ResponseEntity<?> remapSpeakers(
+            @PathVariable("meetingId") Long meetingId,
+            @RequestBody SpeakerRemapRequestDto requestDto) {
+        try {
+            SpeakerRemapResponseDto response = transcriptService.remapSpeakers(meetingId, requestDto.getMappings());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("화자 일괄 변경 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("화자 일괄 변경 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
 }
@@ -0,0 +1,15 @@
+package com.dialog.transcript.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 실시간 발화 추가 결과
+@Getter
+@AllArgsConstructor
+public class LiveAppendResponseDto {
+
+	private int accepted;			// 새로 받은 발화 수
+	private int duplicates;			// 이미 받은 순서라 무시된 발화 수 (재전송)
+	private Long acceptedUpTo;	// 서버가 받은 가장 큰 sequenceOrder (다음 전송은 이보다 큰 값부터)
+	private Long persistedUpTo;	// 그 중 DB 저장까지 끝난 가장 큰 sequenceOrder
+}
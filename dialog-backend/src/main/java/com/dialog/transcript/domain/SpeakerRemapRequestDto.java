@@ -0,0 +1,18 @@
+package com.dialog.transcript.domain;
+
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 화자 일괄 변경 요청 (speakerId → 새 표시 이름). 예: {"mappings": {"Speaker 1": "가나디", "Speaker 2": "듀"}}
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class SpeakerRemapRequestDto {
+
+	private Map<String, String> mappings;
+}
@@ -0,0 +1,14 @@
+package com.dialog.transcript.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SpeakerRemapResponseDto {
+
+	private int transcriptsUpdated;		// 이름이 바뀐 발화 수
+	private int participantsUpdated;	// 이름이 바뀐 참석자 수
+	private int participantsCreated;	// 참석자 행이 없어 새로 추가한 화자 수
+	private int actionItemsReassigned;	// 담당자가 바뀐 액션아이템 수
+}
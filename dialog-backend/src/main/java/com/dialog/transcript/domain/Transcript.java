@@ -13,9 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,7 +26,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "transcript")
+@Table(name = "transcript", indexes = {
+        @Index(name = "idx_transcript_meeting_seq", columnList = "meeting_id, sequence_order"),
+        @Index(name = "idx_transcript_meeting_start", columnList = "meeting_id, start_time")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -32,7 +37,9 @@ import lombok.NoArgsConstructor;
 public class Transcript {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 Hibernate JDBC 배치 INSERT를 끄므로, pooled 시퀀스로 ID를 미리 할당받아 배치 저장
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transcript_seq_gen")
+    @SequenceGenerator(name = "transcript_seq_gen", sequenceName = "transcript_seq", allocationSize = 50)
     private Long id;
 
     /** 어떤 회의의 발화인지 (FK) */
@@ -65,9 +72,13 @@ public class Transcript {
     @Column(name = "end_time", nullable = false)
     private Long endTime;
 
-    /** 발화 순서 */
+    /**
+     * 발화 순서 키 (오름차순 정렬용, 연속일 필요 없음).
+     * 수집 시에는 클라이언트가 보낸 순번을 그대로 저장하고, 종료 후 TranscriptOrderService 가 간격(GAP)을 두고 다시 매겨
+     * 중간 삽입/이동 시 해당 행 하나만 바꾸면 되도록 함
+     */
     @Column(name = "sequence_order", nullable = false)
-    private Integer sequenceOrder;
+    private Long sequenceOrder;
 
     /** 삭제(숨김) 여부 : 프론트의 delete/undo 반영 */
     @Column(name = "is_deleted", nullable = false)
@@ -99,7 +110,7 @@ public class Transcript {
         this.speakerName = newSpeakerName;
     }
     
-    public void updateSequenceOrder(Integer sequenceOrder) {
+    public void updateSequenceOrder(Long sequenceOrder) {
         this.sequenceOrder = sequenceOrder;
     }
 
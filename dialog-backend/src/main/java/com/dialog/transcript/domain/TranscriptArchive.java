@@ -0,0 +1,75 @@
+package com.dialog.transcript.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 회의의 발화 전체를 압축해 한 행에 담은 보관본 (TranscriptArchiveService 참고).
+ *
+ * 보관된 회의의 transcript 테이블 행은 "오버레이"로 취급합니다.
+ * 같은 ID의 행이 있으면 보관본보다 우선하고, 주기적인 압축(compact) 때 보관본으로 다시 합쳐집니다.
+ * 회의 삭제 경로(deleteByHostUser 등)에 영향을 주지 않도록 meeting 에 FK 를 걸지 않습니다.
+ */
+@Entity
+@Table(name = "transcript_archive", indexes = {
+		// 발화 ID로 보관본을 찾을 때 (단건 수정 API 는 회의 ID 없이 발화 ID만 받음)
+		@Index(name = "idx_transcript_archive_id_range", columnList = "min_transcript_id, max_transcript_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TranscriptArchive {
+
+	@Id
+	@Column(name = "meeting_id")
+	private Long meetingId;
+
+	// 헤더 + 발화 ID 표 + 블록 오프셋 표 + deflate 블록들 (TranscriptArchiveCodec)
+	@Lob
+	@Column(name = "data", nullable = false, columnDefinition = "LONGBLOB")
+	private byte[] data;
+
+	@Column(name = "entry_count", nullable = false)
+	private int entryCount;
+
+	@Column(name = "min_transcript_id", nullable = false)
+	private Long minTranscriptId;
+
+	@Column(name = "max_transcript_id", nullable = false)
+	private Long maxTranscriptId;
+
+	// 압축 전 텍스트 바이트 수 (압축률 확인용)
+	@Column(name = "raw_size", nullable = false)
+	private long rawSize;
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private LocalDateTime createdAt;
+
+	@UpdateTimestamp
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public TranscriptArchive(Long meetingId) {
+		this.meetingId = meetingId;
+	}
+
+	public void replaceData(byte[] data, int entryCount, long minTranscriptId, long maxTranscriptId, long rawSize) {
+		this.data = data;
+		this.entryCount = entryCount;
+		this.minTranscriptId = minTranscriptId;
+		this.maxTranscriptId = maxTranscriptId;
+		this.rawSize = rawSize;
+	}
+}
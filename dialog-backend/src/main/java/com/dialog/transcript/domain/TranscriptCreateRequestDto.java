@@ -15,5 +15,5 @@ public class TranscriptCreateRequestDto {
     private String text;            // 발화 내용
     private Long startTime;         // 시작 시간 (ms)
     private Long endTime;           // 종료 시간 (ms)
-    private Integer sequenceOrder;  // 발화 순서
+    private Long sequenceOrder;  // 발화 순서
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.dialog.transcript.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 구간/커서 기반 발화 조회 응답
+// nextCursor("sequenceOrder:id")를 다음 요청의 cursor 파라미터로 넘기면 이어서 조회 (hasNext 가 false 면 null)
+@Getter
+@AllArgsConstructor
+public class TranscriptPageResponse {
+
+	private List<TranscriptResponseDto> items;
+	private String nextCursor;
+	private boolean hasNext;
+}
@@ -0,0 +1,12 @@
+package com.dialog.transcript.domain;
+
+// 발화 로그 변경 연산 종류 (PATCH /api/transcripts/meeting/{meetingId})
+public enum TranscriptPatchOp {
+
+	EDIT_TEXT,		// text
+	CHANGE_SPEAKER,	// speakerId, speakerName
+	REORDER,		// afterId/beforeId (해당 행만 이동) 또는 sequenceOrder
+	DELETE,			// 소프트 삭제
+	RESTORE,		// 소프트 삭제 복구
+	INSERT			// 신규 발화 (clientRef 로 생성된 ID 를 돌려받음, 위치는 afterId/beforeId/afterRef)
+}
@@ -0,0 +1,41 @@
+package com.dialog.transcript.domain;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 발화 로그 변경분(delta) 요청. 전체 목록 대신 바뀐 항목에 대한 연산만 전송
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TranscriptPatchRequestDto {
+
+	private List<Operation> operations;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@ToString
+	public static class Operation {
+		private TranscriptPatchOp op;
+		private Long id;				// INSERT 외 필수
+		private String clientRef;		// INSERT 시 클라이언트 임시 키
+		private String text;
+		private String speakerId;		// 식별자 ID (예: Speaker 1)
+		private String speakerName;		// 표시 이름 (예: 가나디)
+		private Long sequenceOrder;		// 순서 키를 직접 지정할 때 (생략하면 아래 위치 지정 또는 맨 뒤)
+		private Long afterId;			// INSERT/REORDER: 이 발화 바로 뒤에
+		private Long beforeId;			// INSERT/REORDER: 이 발화 바로 앞에
+		private String afterRef;		// INSERT: 같은 요청에서 먼저 추가한 발화(clientRef) 바로 뒤에
+		private Long startTime;
+		private Long endTime;
+		private Boolean isDeleted;		// INSERT 시 초기 삭제 여부
+	}
+}
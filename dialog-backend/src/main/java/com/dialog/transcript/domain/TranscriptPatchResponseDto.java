@@ -0,0 +1,14 @@
+package com.dialog.transcript.domain;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TranscriptPatchResponseDto {
+
+	private int applied;					// 반영된 연산 수
+	private Map<String, Long> insertedIds;	// clientRef → 생성된 Transcript ID
+}
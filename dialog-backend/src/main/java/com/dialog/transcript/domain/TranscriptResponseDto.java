@@ -21,7 +21,7 @@ public class TranscriptResponseDto {
     private String text;
     private Long startTime;
     private Long endTime;
-    private Integer sequenceOrder;
+    private Long sequenceOrder;
     private String timeLabel;  // 추가: 프론트 표시용
     
     @JsonProperty("isDeleted") 
@@ -0,0 +1,41 @@
+package com.dialog.transcript.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.meeting.domain.Status;
+import com.dialog.transcript.domain.TranscriptArchive;
+
+public interface TranscriptArchiveRepository extends JpaRepository<TranscriptArchive, Long> {
+
+    // 발화 ID가 ID 범위에 들어가는 보관본 (범위가 겹칠 수 있으므로 여러 건일 수 있음)
+    @Query("SELECT a FROM TranscriptArchive a WHERE a.minTranscriptId <= :transcriptId AND a.maxTranscriptId >= :transcriptId")
+    List<TranscriptArchive> findCandidatesByTranscriptId(@Param("transcriptId") Long transcriptId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TranscriptArchive a WHERE a.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+
+    // 오버레이(transcript 행)가 쌓인 보관본 → 다시 합칠 대상
+    @Query("SELECT a.meetingId FROM TranscriptArchive a "
+            + "WHERE EXISTS (SELECT 1 FROM Transcript t WHERE t.meeting.id = a.meetingId)")
+    List<Long> findMeetingIdsWithOverlay(Pageable pageable);
+
+    // 보관 대상: 종료 후 일정 시간이 지났고 아직 보관본이 없으며 발화 행이 있는 회의
+    @Query("SELECT m.id FROM Meeting m WHERE m.status = :status AND m.endedAt < :endedBefore "
+            + "AND NOT EXISTS (SELECT 1 FROM TranscriptArchive a WHERE a.meetingId = m.id) "
+            + "AND EXISTS (SELECT 1 FROM Transcript t WHERE t.meeting = m)")
+    List<Long> findArchivableMeetingIds(@Param("status") Status status, @Param("endedBefore") LocalDateTime endedBefore,
+            Pageable pageable);
+
+    // 회의가 삭제되어 남은 보관본 정리 (FK 가 없으므로 직접 삭제)
+    @Modifying
+    @Query("DELETE FROM TranscriptArchive a WHERE NOT EXISTS (SELECT 1 FROM Meeting m WHERE m.id = a.meetingId)")
+    int deleteOrphans();
+}
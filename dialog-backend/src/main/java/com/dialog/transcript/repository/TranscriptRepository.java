@@ -1,24 +1,151 @@
 package com.dialog.transcript.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import com.dialog.transcript.domain.Transcript;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
 
     // Meeting ID로 모든 Transcript 조회 (순서대로)
     @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId ORDER BY t.sequenceOrder ASC")
     List<Transcript> findByMeetingIdOrderBySequenceOrder(@Param("meetingId") Long meetingId);
+
+    // 보관(pack) 대상 오버레이 행을 잠그고 조회. 인코딩한 뒤 삭제할 때까지 다른 수정이 끼어들지 못하게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId ORDER BY t.sequenceOrder ASC")
+    List<Transcript> findByMeetingIdForUpdate(@Param("meetingId") Long meetingId);
+
+    // Meeting ID로 모든 Transcript 스트리밍 조회 (NDJSON 내보내기용)
+    // fetch size = Integer.MIN_VALUE 는 MySQL Connector/J 에서 행 단위 스트리밍을 켜는 값 (결과 전체를 메모리에 올리지 않음)
+    // 반드시 트랜잭션 안에서 사용하고, 사용 후 Stream 을 닫아야 함 (try-with-resources)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId ORDER BY t.sequenceOrder ASC")
+    Stream<Transcript> streamByMeetingId(@Param("meetingId") Long meetingId);
     
+    // ---- 구간/커서 조회 (오디오 재생 위치 동기화, 가상 스크롤) ----
+    // 커서는 (sequenceOrder, id) 이며 해당 발화 다음부터 조회. 첫 페이지는 afterSeq/afterId 에 최솟값 전달
+
+    // idx_transcript_meeting_seq 사용
+    @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId "
+            + "AND (t.sequenceOrder > :afterSeq OR (t.sequenceOrder = :afterSeq AND t.id > :afterId)) "
+            + "ORDER BY t.sequenceOrder ASC, t.id ASC")
+    List<Transcript> findPage(@Param("meetingId") Long meetingId, @Param("afterSeq") Long afterSeq,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    // [fromMs, toMs) 와 겹치는 발화. minStart 는 겹치는 발화의 가장 이른 시작 시각으로,
+    // idx_transcript_meeting_start 의 범위를 구간 근처로 좁히는 하한 (모르면 0)
+    @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId "
+            + "AND t.startTime >= :minStart AND t.startTime < :toMs AND t.endTime > :fromMs "
+            + "AND (t.sequenceOrder > :afterSeq OR (t.sequenceOrder = :afterSeq AND t.id > :afterId)) "
+            + "ORDER BY t.sequenceOrder ASC, t.id ASC")
+    List<Transcript> findWindowPage(@Param("meetingId") Long meetingId, @Param("minStart") Long minStart,
+            @Param("fromMs") Long fromMs, @Param("toMs") Long toMs, @Param("afterSeq") Long afterSeq,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    // 타임라인 캐시용 [startTime, endTime] (시작 시각 순)
+    @Query("SELECT t.startTime, t.endTime FROM Transcript t WHERE t.meeting.id = :meetingId ORDER BY t.startTime ASC, t.id ASC")
+    List<Object[]> findTimelineRows(@Param("meetingId") Long meetingId);
+
+    // 회의에 저장된 가장 큰 발화 순서 (맨 뒤 위치 키 계산용, 없으면 null)
+    @Query("SELECT MAX(t.sequenceOrder) FROM Transcript t WHERE t.meeting.id = :meetingId")
+    Long findMaxSequenceOrder(@Param("meetingId") Long meetingId);
+
+    // ---- 순서 키 계산 (TranscriptOrderService) : idx_transcript_meeting_seq 로 한 번씩 탐색 ----
+
+    @Query("SELECT t.sequenceOrder FROM Transcript t WHERE t.id = :id AND t.meeting.id = :meetingId")
+    Long findSequenceOrderById(@Param("meetingId") Long meetingId, @Param("id") Long id);
+
+    // key 바로 다음 순서 키 (없으면 null)
+    @Query("SELECT MIN(t.sequenceOrder) FROM Transcript t WHERE t.meeting.id = :meetingId AND t.sequenceOrder > :key")
+    Long findNextSequenceOrder(@Param("meetingId") Long meetingId, @Param("key") Long key);
+
+    // key 바로 앞 순서 키 (없으면 null)
+    @Query("SELECT MAX(t.sequenceOrder) FROM Transcript t WHERE t.meeting.id = :meetingId AND t.sequenceOrder < :key")
+    Long findPrevSequenceOrder(@Param("meetingId") Long meetingId, @Param("key") Long key);
+
+    // 재정렬용 [id, sequenceOrder] (순서대로)
+    @Query("SELECT t.id, t.sequenceOrder FROM Transcript t WHERE t.meeting.id = :meetingId ORDER BY t.sequenceOrder ASC, t.id ASC")
+    List<Object[]> findOrderRows(@Param("meetingId") Long meetingId);
+
+    // 회의의 발화 ID만 조회 (보관 모드에서 오버레이 행 판별용)
+    @Query("SELECT t.id FROM Transcript t WHERE t.meeting.id = :meetingId")
+    List<Long> findIdsByMeetingId(@Param("meetingId") Long meetingId);
+
     // Meeting ID로 Transcript 존재 여부 확인
     boolean existsByMeetingId(Long meetingId);
     
-    // Meeting ID로 Transcript 삭제
-    void deleteByMeetingId(Long meetingId);
+    // Meeting ID로 Transcript 삭제 (엔티티 로딩 없이 DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Transcript t WHERE t.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
     
     // 특정 화자의 발화만 조회
     @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId AND t.speakerId = :speakerId ORDER BY t.sequenceOrder ASC")
     List<Transcript> findByMeetingIdAndSpeakerId(@Param("meetingId") Long meetingId, @Param("speakerId") String speakerId);
-}
\ No newline at end of file
+
+    // ---- 변경분(delta) 적용용 단건 UPDATE (엔티티/컬렉션 로딩 없이 해당 행만 수정) ----
+    // 벌크 UPDATE 는 @UpdateTimestamp 가 동작하지 않으므로 updatedAt 을 직접 전달
+    // meetingId 조건으로 다른 회의의 발화를 건드리지 못하게 하며, 반환값 0 이면 대상 없음
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Transcript t SET t.text = :text, t.updatedAt = :now WHERE t.id = :id AND t.meeting.id = :meetingId")
+    int updateText(@Param("meetingId") Long meetingId, @Param("id") Long id, @Param("text") String text,
+            @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Transcript t SET t.speakerId = :speakerId, t.speakerName = :speakerName, t.updatedAt = :now "
+            + "WHERE t.id = :id AND t.meeting.id = :meetingId")
+    int updateSpeaker(@Param("meetingId") Long meetingId, @Param("id") Long id, @Param("speakerId") String speakerId,
+            @Param("speakerName") String speakerName, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Transcript t SET t.sequenceOrder = :sequenceOrder, t.updatedAt = :now "
+            + "WHERE t.id = :id AND t.meeting.id = :meetingId")
+    int updateSequenceOrder(@Param("meetingId") Long meetingId, @Param("id") Long id,
+            @Param("sequenceOrder") Long sequenceOrder, @Param("now") LocalDateTime now);
+
+    // 화자 일괄 변경: 한 화자의 모든 발화 이름을 UPDATE 한 번으로 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Transcript t SET t.speakerName = :speakerName, t.updatedAt = :now "
+            + "WHERE t.meeting.id = :meetingId AND t.speakerId = :speakerId")
+    int updateSpeakerNameBySpeakerId(@Param("meetingId") Long meetingId, @Param("speakerId") String speakerId,
+            @Param("speakerName") String speakerName, @Param("now") LocalDateTime now);
+
+    // 주어진 화자 ID 중 실제 발화가 있는 것
+    @Query("SELECT DISTINCT t.speakerId FROM Transcript t WHERE t.meeting.id = :meetingId AND t.speakerId IN :speakerIds")
+    List<String> findExistingSpeakerIds(@Param("meetingId") Long meetingId,
+            @Param("speakerIds") Collection<String> speakerIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Transcript t SET t.isDeleted = :deleted, t.updatedAt = :now WHERE t.id = :id AND t.meeting.id = :meetingId")
+    int updateDeleted(@Param("meetingId") Long meetingId, @Param("id") Long id, @Param("deleted") boolean deleted,
+            @Param("now") LocalDateTime now);
+
+    // ---- 검색 색인 (SearchIndexer / SearchService) ----
+
+    // 색인할 발화 [id, text] (삭제된 발화 제외)
+    @Query("SELECT t.id, t.text FROM Transcript t WHERE t.meeting.id = :meetingId AND t.isDeleted = false")
+    List<Object[]> findIndexRowsByMeetingId(@Param("meetingId") Long meetingId);
+
+    // 검색 결과 발췌용 [id, text, speakerName, startTime]
+    @Query("SELECT t.id, t.text, t.speakerName, t.startTime FROM Transcript t WHERE t.id IN :ids AND t.isDeleted = false")
+    List<Object[]> findSnippetRowsByIds(@Param("ids") Collection<Long> ids);
+}
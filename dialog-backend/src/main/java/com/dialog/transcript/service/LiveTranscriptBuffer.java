@@ -0,0 +1,333 @@
+package com.dialog.transcript.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.transcript.domain.LiveAppendResponseDto;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 녹음 중(RECORDING)인 회의의 실시간 발화를 회의별로 모아 두었다가 일정 개수 또는 일정 시간마다 한 번에 저장하는 버퍼.
+ *
+ * - 클라이언트는 sequenceOrder 오름차순으로 전송하고, 실패 시 같은 묶음을 그대로 재전송합니다.
+ *   이미 받은 순서 이하의 발화는 중복으로 보고 무시하므로 재전송해도 두 번 저장되지 않습니다.
+ *   저장된 순번은 발화 순서 키(편집 시 사이 값이 들어감)와 별도로 Meeting.liveSequenceUpTo 에 기록합니다.
+ * - 저장은 호출자와 분리된 별도 트랜잭션(REQUIRES_NEW)으로 수행하며, 실패하면 버퍼로 되돌려 다음 주기에 재시도합니다.
+ * - 서버가 비정상 종료되면 아직 저장되지 않은 최대 flush 간격 분량만 유실됩니다.
+ * - 종료(seal)한 트랜잭션이 롤백되면 버퍼를 되살려 녹음을 이어 받을 수 있게 합니다.
+ * - idle-timeout 동안 발화가 없던 버퍼(종료되지 않고 방치된 회의)는 비워 둔 상태에서 정리하고, 다시 들어오면 DB 기준으로 새로 엽니다.
+ */
+@Slf4j
+@Component
+public class LiveTranscriptBuffer {
+
+	private static final long NONE = -1L;
+
+	private final MeetingRepository meetingRepository;
+	private final TranscriptBulkWriter transcriptBulkWriter;
+	private final TranscriptTimelineCache transcriptTimelineCache;
+	private final TransactionTemplate flushTransaction;
+
+	private final int flushSize;
+	private final long flushIntervalMillis;
+	private final int maxBuffered;
+	private final long idleTimeoutMillis;
+
+	private final Map<Long, MeetingBuffer> buffers = new ConcurrentHashMap<>();
+
+	// 종료(seal)된 회의. 종료 직후 늦게 도착한 요청이 새 버퍼를 만들지 못하게 막음
+	private final Cache<Long, Boolean> sealedMeetings = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofHours(1))
+			.maximumSize(10_000)
+			.build();
+
+	public LiveTranscriptBuffer(MeetingRepository meetingRepository, TranscriptBulkWriter transcriptBulkWriter,
+			TranscriptTimelineCache transcriptTimelineCache, PlatformTransactionManager transactionManager,
+			@Value("${transcript.live.flush-size:50}") int flushSize,
+			@Value("${transcript.live.flush-interval-ms:2000}") long flushIntervalMillis,
+			@Value("${transcript.live.max-buffered:2000}") int maxBuffered,
+			@Value("${transcript.live.idle-timeout:30m}") Duration idleTimeout) {
+		this.meetingRepository = meetingRepository;
+		this.transcriptBulkWriter = transcriptBulkWriter;
+		this.transcriptTimelineCache = transcriptTimelineCache;
+		this.flushTransaction = new TransactionTemplate(transactionManager);
+		this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.flushSize = flushSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.maxBuffered = maxBuffered;
+		this.idleTimeoutMillis = idleTimeout.toMillis();
+	}
+
+	// 회의별 버퍼 상태 (pending/watermark 는 this 로 동기화, 저장은 flushLock 으로 한 번에 하나만)
+	private static final class MeetingBuffer {
+		private final Long meetingId;
+		private final TreeMap<Long, TranscriptCreateRequestDto> pending = new TreeMap<>();
+		private final ReentrantLock flushLock = new ReentrantLock();
+		private long acceptedUpTo;
+		private long persistedUpTo;
+		private long firstPendingAt;
+		private long lastAppendAt = System.currentTimeMillis();
+		private boolean closed;
+		private boolean evicted; // idle 정리로 buffers 에서 빠짐. 이 버퍼를 잡고 있던 요청은 새로 열어서 다시 시도
+
+		private MeetingBuffer(Long meetingId, long persistedUpTo) {
+			this.meetingId = meetingId;
+			this.acceptedUpTo = persistedUpTo;
+			this.persistedUpTo = persistedUpTo;
+		}
+	}
+
+	// 발화 묶음 추가. 버퍼가 flushSize 에 도달하면 요청 스레드에서 바로 저장
+	public LiveAppendResponseDto append(Long meetingId, List<TranscriptCreateRequestDto> chunks) {
+		MeetingBuffer buffer = open(meetingId);
+
+		List<TranscriptCreateRequestDto> ordered = new ArrayList<>(chunks);
+		for (TranscriptCreateRequestDto chunk : ordered) {
+			if (chunk.getSequenceOrder() == null || chunk.getText() == null) {
+				throw new IllegalArgumentException("sequenceOrder 와 text 값이 필요합니다.");
+			}
+		}
+		ordered.sort(Comparator.comparing(TranscriptCreateRequestDto::getSequenceOrder));
+
+		int accepted = 0;
+		int duplicates = 0;
+		boolean flushNow;
+		synchronized (buffer) {
+			if (buffer.evicted) {
+				return append(meetingId, chunks);
+			}
+			if (buffer.closed) {
+				throw new IllegalStateException("이미 종료된 회의입니다.");
+			}
+			if (buffer.pending.size() + ordered.size() > maxBuffered) {
+				throw new IllegalStateException("저장 대기 중인 발화가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+			}
+			for (TranscriptCreateRequestDto chunk : ordered) {
+				if (chunk.getSequenceOrder() <= buffer.acceptedUpTo) {
+					duplicates++;
+					continue;
+				}
+				buffer.pending.put(chunk.getSequenceOrder(), chunk);
+				buffer.acceptedUpTo = chunk.getSequenceOrder();
+				accepted++;
+			}
+			if (buffer.firstPendingAt == 0 && !buffer.pending.isEmpty()) {
+				buffer.firstPendingAt = System.currentTimeMillis();
+			}
+			buffer.lastAppendAt = System.currentTimeMillis();
+			flushNow = buffer.pending.size() >= flushSize;
+		}
+
+		if (flushNow) {
+			flush(buffer, false);
+		}
+
+		synchronized (buffer) {
+			return new LiveAppendResponseDto(accepted, duplicates, orNull(buffer.acceptedUpTo),
+					orNull(buffer.persistedUpTo));
+		}
+	}
+
+	/**
+	 * 회의 종료 시 호출. 남은 발화를 모두 저장하고 이후 추가를 막습니다.
+	 * 호출한 트랜잭션(회의 종료)이 롤백되면 녹음 중 상태로 남으므로 버퍼를 되살립니다. (저장한 발화는 별도 트랜잭션이라 유지)
+	 * 반환값은 DB에 저장된 가장 큰 sequenceOrder (저장된 발화가 없으면 null).
+	 */
+	public Long seal(Long meetingId) {
+		sealedMeetings.put(meetingId, Boolean.TRUE);
+
+		MeetingBuffer buffer = buffers.remove(meetingId);
+		if (buffer == null) {
+			// 서버 재시작 등으로 버퍼가 없는 경우 DB 기준
+			TransactionCallbacks.runAfterRollback(() -> sealedMeetings.invalidate(meetingId));
+			return meetingRepository.findLiveSequenceUpToById(meetingId);
+		}
+
+		synchronized (buffer) {
+			buffer.closed = true;
+		}
+		try {
+			flush(buffer, true);
+		} catch (RuntimeException e) {
+			// 저장 실패 시 버퍼를 되살려 종료 재시도 때 다시 저장되도록 함
+			reopen(meetingId, buffer);
+			throw e;
+		}
+		TransactionCallbacks.runAfterRollback(() -> reopen(meetingId, buffer));
+
+		synchronized (buffer) {
+			return orNull(buffer.persistedUpTo);
+		}
+	}
+
+	// 오래 머문 버퍼를 주기적으로 저장하고, idle-timeout 동안 발화가 없던 빈 버퍼는 정리
+	@Scheduled(fixedDelayString = "${transcript.live.flush-interval-ms:2000}")
+	public void flushDue() {
+		long now = System.currentTimeMillis();
+		for (MeetingBuffer buffer : buffers.values()) {
+			boolean due;
+			synchronized (buffer) {
+				due = buffer.firstPendingAt != 0 && now - buffer.firstPendingAt >= flushIntervalMillis;
+			}
+			if (due) {
+				flush(buffer, false);
+			}
+			evictIfIdle(buffer, now);
+		}
+	}
+
+	@PreDestroy
+	public void flushAll() {
+		for (MeetingBuffer buffer : buffers.values()) {
+			try {
+				flush(buffer, true);
+			} catch (RuntimeException e) {
+				log.error("종료 중 실시간 발화 저장 실패 - meetingId: {}", buffer.meetingId, e);
+			}
+		}
+	}
+
+	private void reopen(Long meetingId, MeetingBuffer buffer) {
+		synchronized (buffer) {
+			buffer.closed = false;
+		}
+		buffers.putIfAbsent(meetingId, buffer);
+		sealedMeetings.invalidate(meetingId);
+	}
+
+	// 저장 중이 아니고 남은 발화가 없을 때만 정리 (다시 열 때 DB 에 기록된 순번으로 중복 판별을 이어감)
+	private void evictIfIdle(MeetingBuffer buffer, long now) {
+		if (!buffer.flushLock.tryLock()) {
+			return;
+		}
+		try {
+			synchronized (buffer) {
+				if (buffer.closed || !buffer.pending.isEmpty() || now - buffer.lastAppendAt < idleTimeoutMillis) {
+					return;
+				}
+				buffer.evicted = true;
+				buffers.remove(buffer.meetingId, buffer);
+			}
+			log.debug("유휴 실시간 발화 버퍼 정리 - meetingId: {}", buffer.meetingId);
+		} finally {
+			buffer.flushLock.unlock();
+		}
+	}
+
+	private MeetingBuffer open(Long meetingId) {
+		if (sealedMeetings.getIfPresent(meetingId) != null) {
+			throw new IllegalStateException("이미 종료된 회의입니다.");
+		}
+
+		MeetingBuffer buffer = buffers.get(meetingId);
+		if (buffer != null) {
+			return buffer;
+		}
+
+		Status status = meetingRepository.findStatusById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+		if (status != Status.RECORDING) {
+			throw new IllegalStateException("녹음 중인 회의가 아닙니다. (현재 상태: " + status + ")");
+		}
+
+		// 이미 저장된 발화가 있으면 그 이후부터 받음 (서버 재시작 후 재전송 대비)
+		Long persisted = meetingRepository.findLiveSequenceUpToById(meetingId);
+		MeetingBuffer created = new MeetingBuffer(meetingId, persisted != null ? persisted : NONE);
+		MeetingBuffer existing = buffers.putIfAbsent(meetingId, created);
+		return existing != null ? existing : created;
+	}
+
+	private void flush(MeetingBuffer buffer, boolean waitForLock) {
+		if (waitForLock) {
+			buffer.flushLock.lock();
+		} else if (!buffer.flushLock.tryLock()) {
+			return; // 다른 스레드가 저장 중
+		}
+
+		try {
+			List<TranscriptCreateRequestDto> batch;
+			synchronized (buffer) {
+				if (buffer.pending.isEmpty()) {
+					return;
+				}
+				batch = new ArrayList<>(buffer.pending.values());
+				buffer.pending.clear();
+				buffer.firstPendingAt = 0;
+			}
+
+			try {
+				flushTransaction.executeWithoutResult(status -> {
+					transcriptBulkWriter.insertAll(toEntities(buffer.meetingId, batch));
+					meetingRepository.advanceLiveSequence(buffer.meetingId, batch.get(batch.size() - 1).getSequenceOrder());
+					transcriptTimelineCache.invalidate(buffer.meetingId);
+				});
+			} catch (RuntimeException e) {
+				synchronized (buffer) {
+					batch.forEach(chunk -> buffer.pending.putIfAbsent(chunk.getSequenceOrder(), chunk));
+					if (buffer.firstPendingAt == 0) {
+						buffer.firstPendingAt = System.currentTimeMillis();
+					}
+				}
+				log.error("실시간 발화 저장 실패, 다음 주기에 재시도 - meetingId: {}, {}건", buffer.meetingId, batch.size(), e);
+				if (waitForLock) {
+					throw e;
+				}
+				return;
+			}
+
+			synchronized (buffer) {
+				long last = batch.get(batch.size() - 1).getSequenceOrder();
+				buffer.persistedUpTo = Math.max(buffer.persistedUpTo, last);
+			}
+			log.debug("실시간 발화 저장 - meetingId: {}, {}건", buffer.meetingId, batch.size());
+		} finally {
+			buffer.flushLock.unlock();
+		}
+	}
+
+	private List<Transcript> toEntities(Long meetingId, List<TranscriptCreateRequestDto> batch) {
+		Meeting meeting = meetingRepository.getReferenceById(meetingId);
+		List<Transcript> transcripts = new ArrayList<>(batch.size());
+		for (TranscriptCreateRequestDto dto : batch) {
+			transcripts.add(Transcript.builder()
+					.meeting(meeting)
+					.speakerId(dto.getSpeakerId() != null ? dto.getSpeakerId() : "Unknown")
+					.speakerName(dto.getSpeakerName())
+					.speakerLabel(dto.getSpeakerLabel())
+					.text(dto.getText())
+					.startTime(dto.getStartTime() != null ? dto.getStartTime() : 0L)
+					.endTime(dto.getEndTime() != null ? dto.getEndTime() : 0L)
+					.sequenceOrder(dto.getSequenceOrder())
+					.isDeleted(false)
+					.build());
+		}
+		return transcripts;
+	}
+
+	private static Long orNull(long sequence) {
+		return sequence == NONE ? null : sequence;
+	}
+}
@@ -0,0 +1,250 @@
+package com.dialog.transcript.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.dialog.transcript.domain.Transcript;
+
+/**
+ * 발화 보관본(TranscriptArchive.data) 인코딩/디코딩.
+ *
+ * <pre>
+ * int   MAGIC, VERSION, entryCount, blockSize
+ * long  ids[entryCount]              발화 순서대로의 ID 표 (ID → 위치 조회용, 비압축)
+ * int   blockOffsets[blockCount + 1] 블록 시작 위치 (payload 기준)
+ * byte  payload                      blockSize 건씩 묶어 deflate 한 블록들
+ * </pre>
+ *
+ * 블록 단위로 압축하므로 발화 한 건을 읽을 때는 그 발화가 속한 블록 하나만 풀면 됩니다.
+ */
+final class TranscriptArchiveCodec {
+
+	private static final int MAGIC = 0x44545241; // "DTRA"
+	private static final int VERSION = 2; // 2: sequenceOrder long
+	private static final int HEADER_BYTES = 16;
+
+	private TranscriptArchiveCodec() {
+	}
+
+	// 인코딩 결과 (raw = 압축 전 레코드 바이트 수)
+	record Encoded(byte[] data, long rawSize) {
+	}
+
+	// transcripts 는 보관할 순서(sequenceOrder 순)로 정렬되어 있어야 함
+	static Encoded encode(List<Transcript> transcripts, int blockSize) {
+		int count = transcripts.size();
+		int blockCount = (count + blockSize - 1) / blockSize;
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		int[] blockOffsets = new int[blockCount + 1];
+		long rawSize = 0;
+
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			for (int block = 0; block < blockCount; block++) {
+				ByteArrayOutputStream raw = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream(raw);
+				int end = Math.min(count, (block + 1) * blockSize);
+				for (int i = block * blockSize; i < end; i++) {
+					writeRecord(out, transcripts.get(i));
+				}
+				byte[] rawBytes = raw.toByteArray();
+				rawSize += rawBytes.length;
+
+				blockOffsets[block] = payload.size();
+				deflater.reset();
+				deflater.setInput(rawBytes);
+				deflater.finish();
+				byte[] buffer = new byte[8192];
+				while (!deflater.finished()) {
+					int n = deflater.deflate(buffer);
+					payload.write(buffer, 0, n);
+				}
+			}
+			blockOffsets[blockCount] = payload.size();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deflater.end();
+		}
+
+		ByteBuffer data = ByteBuffer.allocate(HEADER_BYTES + count * 8 + (blockCount + 1) * 4 + payload.size());
+		data.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(blockSize);
+		for (Transcript transcript : transcripts) {
+			data.putLong(transcript.getId());
+		}
+		for (int offset : blockOffsets) {
+			data.putInt(offset);
+		}
+		data.put(payload.toByteArray());
+		return new Encoded(data.array(), rawSize);
+	}
+
+	// 전체 디코딩 (meeting 은 채우지 않음)
+	static List<Transcript> decodeAll(byte[] data) {
+		Header header = readHeader(data);
+		List<Transcript> result = new ArrayList<>(header.count);
+		for (int block = 0; block < header.blockCount(); block++) {
+			DataInputStream in = inflateBlock(data, header, block);
+			int entries = Math.min(header.blockSize, header.count - block * header.blockSize);
+			for (int i = 0; i < entries; i++) {
+				result.add(readRecord(in));
+			}
+		}
+		return result;
+	}
+
+	// 발화 한 건만 디코딩. 없으면 null
+	static Transcript decode(byte[] data, long transcriptId) {
+		Header header = readHeader(data);
+		int index = indexOf(data, header, transcriptId);
+		if (index < 0) {
+			return null;
+		}
+		int block = index / header.blockSize;
+		DataInputStream in = inflateBlock(data, header, block);
+		for (int i = block * header.blockSize; i < index; i++) {
+			readRecord(in);
+		}
+		return readRecord(in);
+	}
+
+	static boolean contains(byte[] data, long transcriptId) {
+		return indexOf(data, readHeader(data), transcriptId) >= 0;
+	}
+
+	private record Header(int count, int blockSize) {
+		int blockCount() {
+			return (count + blockSize - 1) / blockSize;
+		}
+
+		int idsOffset() {
+			return HEADER_BYTES;
+		}
+
+		int blockOffsetsOffset() {
+			return HEADER_BYTES + count * 8;
+		}
+
+		int payloadOffset() {
+			return blockOffsetsOffset() + (blockCount() + 1) * 4;
+		}
+	}
+
+	private static Header readHeader(byte[] data) {
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IllegalStateException("발화 보관본 형식이 올바르지 않습니다.");
+		}
+		return new Header(buffer.getInt(), buffer.getInt());
+	}
+
+	private static int indexOf(byte[] data, Header header, long transcriptId) {
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		for (int i = 0; i < header.count; i++) {
+			if (buffer.getLong(header.idsOffset() + i * 8) == transcriptId) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static DataInputStream inflateBlock(byte[] data, Header header, int block) {
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		int start = buffer.getInt(header.blockOffsetsOffset() + block * 4);
+		int end = buffer.getInt(header.blockOffsetsOffset() + (block + 1) * 4);
+
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data, header.payloadOffset() + start, end - start);
+			ByteArrayOutputStream out = new ByteArrayOutputStream((end - start) * 4);
+			byte[] chunk = new byte[8192];
+			while (!inflater.finished()) {
+				int n = inflater.inflate(chunk);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalStateException("발화 보관본 블록이 손상되었습니다.");
+				}
+				out.write(chunk, 0, n);
+			}
+			return new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("발화 보관본 블록이 손상되었습니다.", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static void writeRecord(DataOutputStream out, Transcript t) throws IOException {
+		out.writeLong(t.getId());
+		out.writeLong(t.getSequenceOrder() != null ? t.getSequenceOrder() : 0L);
+		out.writeLong(t.getStartTime() != null ? t.getStartTime() : 0L);
+		out.writeLong(t.getEndTime() != null ? t.getEndTime() : 0L);
+		out.writeBoolean(t.isDeleted());
+		out.writeUTF(t.getSpeakerId());
+		writeNullableString(out, t.getSpeakerName());
+		out.writeInt(t.getSpeakerLabel() != null ? t.getSpeakerLabel() : Integer.MIN_VALUE);
+		byte[] text = t.getText() != null ? t.getText().getBytes(StandardCharsets.UTF_8) : new byte[0];
+		out.writeInt(text.length);
+		out.write(text);
+		writeTime(out, t.getCreatedAt());
+		writeTime(out, t.getUpdatedAt());
+	}
+
+	private static Transcript readRecord(DataInputStream in) {
+		try {
+			Transcript.TranscriptBuilder builder = Transcript.builder()
+					.id(in.readLong())
+					.sequenceOrder(in.readLong())
+					.startTime(in.readLong())
+					.endTime(in.readLong())
+					.isDeleted(in.readBoolean())
+					.speakerId(in.readUTF())
+					.speakerName(readNullableString(in));
+			int label = in.readInt();
+			builder.speakerLabel(label != Integer.MIN_VALUE ? label : null);
+			byte[] text = new byte[in.readInt()];
+			in.readFully(text);
+			return builder.text(new String(text, StandardCharsets.UTF_8))
+					.createdAt(readTime(in))
+					.updatedAt(readTime(in))
+					.build();
+		} catch (IOException e) {
+			throw new IllegalStateException("발화 보관본 레코드가 손상되었습니다.", e);
+		}
+	}
+
+	private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	// LocalDateTime 을 UTC 기준 epoch ms 로 저장 (시간대 변환 없이 값만 왕복)
+	private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+		out.writeLong(time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE);
+	}
+
+	private static LocalDateTime readTime(DataInputStream in) throws IOException {
+		long millis = in.readLong();
+		return millis != Long.MIN_VALUE
+				? LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC)
+				: null;
+	}
+}
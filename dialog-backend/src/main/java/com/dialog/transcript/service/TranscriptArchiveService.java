@@ -0,0 +1,281 @@
+package com.dialog.transcript.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.domain.TranscriptArchive;
+import com.dialog.transcript.repository.TranscriptArchiveRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종료된(COMPLETED) 회의 발화의 압축 보관 모드.
+ *
+ * - pack: 발화 행 전체를 블록 압축한 보관본 한 행으로 옮기고 transcript 행은 삭제
+ * - 읽기(readMerged): 보관본 + 오버레이(남아 있는 transcript 행, 같은 ID면 행이 우선)를 합쳐 순서대로 반환
+ * - 단건 수정: materialize 로 해당 발화만 원래 ID 그대로 transcript 행에 되살린 뒤 기존 수정 로직을 그대로 사용
+ * - 회의 전체를 다시 쓰는 수정(결과 저장, 화자 일괄 변경, 물리 삭제): unpack 으로 보관을 해제한 뒤 처리
+ * - 주기 작업: 오버레이가 생긴 보관본은 다시 합치고(compact), enabled 면 오래된 종료 회의를 보관
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TranscriptArchiveService {
+
+	private static final String INSERT_SQL = "INSERT INTO transcript (id, meeting_id, speaker_id, speaker_name, speaker_label, "
+			+ "text, start_time, end_time, sequence_order, is_deleted, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final Comparator<Transcript> ARCHIVE_ORDER = Comparator
+			.comparing(Transcript::getSequenceOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparing(Transcript::getId);
+
+	private final TranscriptArchiveRepository archiveRepository;
+	private final TranscriptRepository transcriptRepository;
+	private final MeetingRepository meetingRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate jobTransaction;
+
+	private final boolean enabled;
+	private final Duration minAge;
+	private final int blockSize;
+	private final int batchSize;
+
+	public TranscriptArchiveService(TranscriptArchiveRepository archiveRepository,
+			TranscriptRepository transcriptRepository, MeetingRepository meetingRepository, JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			@Value("${transcript.archive.enabled:false}") boolean enabled,
+			@Value("${transcript.archive.min-age:7d}") Duration minAge,
+			@Value("${transcript.archive.block-size:64}") int blockSize,
+			@Value("${transcript.archive.batch-size:20}") int batchSize) {
+		this.archiveRepository = archiveRepository;
+		this.transcriptRepository = transcriptRepository;
+		this.meetingRepository = meetingRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobTransaction = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.minAge = minAge;
+		this.blockSize = Math.max(1, blockSize);
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	public boolean isArchived(Long meetingId) {
+		return archiveRepository.existsById(meetingId);
+	}
+
+	// 보관본 + 오버레이를 합친 회의 발화 전체 (sequenceOrder 순). 보관되지 않은 회의는 기존 조회와 동일
+	public List<Transcript> readMerged(Long meetingId) {
+		TranscriptArchive archive = archiveRepository.findById(meetingId).orElse(null);
+		List<Transcript> rows = transcriptRepository.findByMeetingIdOrderBySequenceOrder(meetingId);
+		if (archive == null) {
+			return rows;
+		}
+		return merge(meetingId, archive, rows);
+	}
+
+	// 보관본 + 오버레이를 합친 발화 ID → 순서 키 (순서 키 계산용, 엔티티를 영속성 컨텍스트에 올리지 않음)
+	public Map<Long, Long> readOrderKeys(Long meetingId) {
+		Map<Long, Long> keys = new HashMap<>();
+		archiveRepository.findById(meetingId).ifPresent(archive -> {
+			for (Transcript entry : TranscriptArchiveCodec.decodeAll(archive.getData())) {
+				keys.put(entry.getId(), entry.getSequenceOrder());
+			}
+		});
+		for (Object[] row : transcriptRepository.findOrderRows(meetingId)) {
+			keys.put((Long) row[0], (Long) row[1]);
+		}
+		keys.values().removeIf(Objects::isNull);
+		return keys;
+	}
+
+	// 보관(또는 오버레이를 보관본에 다시 합침). 종료된 회의만 가능
+	@Transactional
+	public int pack(Long meetingId) {
+		Meeting meeting = meetingRepository.findById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+		if (meeting.getStatus() != Status.COMPLETED) {
+			throw new IllegalStateException("종료된 회의만 보관할 수 있습니다. (현재 상태: " + meeting.getStatus() + ")");
+		}
+
+		TranscriptArchive archive = archiveRepository.findById(meetingId).orElse(null);
+		List<Transcript> rows = transcriptRepository.findByMeetingIdForUpdate(meetingId);
+		if (rows.isEmpty() && archive != null) {
+			return archive.getEntryCount(); // 합칠 오버레이 없음
+		}
+		List<Transcript> entries = archive != null ? merge(meetingId, archive, rows) : rows;
+		if (entries.isEmpty()) {
+			return 0;
+		}
+
+		TranscriptArchiveCodec.Encoded encoded = TranscriptArchiveCodec.encode(entries, blockSize);
+		long minId = entries.stream().mapToLong(Transcript::getId).min().getAsLong();
+		long maxId = entries.stream().mapToLong(Transcript::getId).max().getAsLong();
+		if (archive == null) {
+			archive = new TranscriptArchive(meetingId);
+		}
+		archive.replaceData(encoded.data(), entries.size(), minId, maxId, encoded.rawSize());
+		archiveRepository.save(archive);
+		// 읽은 오버레이 행만 삭제. 그 뒤에 materialize 로 생긴 행은 남아서 다음 읽기/압축 때 보관본보다 우선함
+		transcriptRepository.deleteAllByIdInBatch(rows.stream().map(Transcript::getId).toList());
+
+		log.info("발화 보관 - meetingId: {}, {}건, {} → {} bytes", meetingId, entries.size(), encoded.rawSize(),
+				encoded.data().length);
+		return entries.size();
+	}
+
+	// 보관 해제: 오버레이에 없는 발화를 모두 transcript 행으로 되살리고 보관본 삭제
+	@Transactional
+	public void unpack(Long meetingId) {
+		TranscriptArchive archive = archiveRepository.findById(meetingId).orElse(null);
+		if (archive == null) {
+			return;
+		}
+		Set<Long> overlayIds = overlayIds(meetingId);
+		List<Transcript> restore = new ArrayList<>();
+		for (Transcript entry : TranscriptArchiveCodec.decodeAll(archive.getData())) {
+			if (!overlayIds.contains(entry.getId())) {
+				restore.add(entry);
+			}
+		}
+		insertRows(meetingId, restore);
+		archiveRepository.delete(archive);
+		log.info("발화 보관 해제 - meetingId: {}, {}건 복원", meetingId, restore.size());
+	}
+
+	// 발화 한 건을 오버레이로 되살림 (이미 행이 있거나 보관본에 없으면 아무것도 하지 않음)
+	@Transactional
+	public void materialize(Long transcriptId) {
+		if (transcriptId == null || transcriptRepository.existsById(transcriptId)) {
+			return;
+		}
+		for (TranscriptArchive archive : archiveRepository.findCandidatesByTranscriptId(transcriptId)) {
+			Transcript entry = TranscriptArchiveCodec.decode(archive.getData(), transcriptId);
+			if (entry != null) {
+				insertRows(archive.getMeetingId(), List.of(entry));
+				return;
+			}
+		}
+	}
+
+	// 회의의 여러 발화를 오버레이로 되살림 (변경분 적용 전 호출)
+	@Transactional
+	public void materialize(Long meetingId, Collection<Long> transcriptIds) {
+		if (transcriptIds.isEmpty()) {
+			return;
+		}
+		TranscriptArchive archive = archiveRepository.findById(meetingId).orElse(null);
+		if (archive == null) {
+			return;
+		}
+		Set<Long> overlayIds = overlayIds(meetingId);
+		List<Transcript> restore = new ArrayList<>();
+		for (Long transcriptId : new HashSet<>(transcriptIds)) {
+			if (transcriptId != null && !overlayIds.contains(transcriptId)) {
+				Transcript entry = TranscriptArchiveCodec.decode(archive.getData(), transcriptId);
+				if (entry != null) {
+					restore.add(entry);
+				}
+			}
+		}
+		insertRows(meetingId, restore);
+	}
+
+	// 회의 발화 전체 삭제 시 보관본도 함께 삭제
+	@Transactional
+	public void delete(Long meetingId) {
+		archiveRepository.deleteByMeetingId(meetingId);
+	}
+
+	// 오버레이가 쌓인 보관본을 다시 합치고, 보관 모드가 켜져 있으면 오래된 종료 회의를 보관
+	// 회의마다 별도 트랜잭션(jobTransaction)으로 처리하므로 클래스 기본값(readOnly)에 묶이지 않게 함
+	@Scheduled(fixedDelayString = "${transcript.archive.interval-ms:60000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void runMaintenance() {
+		List<Long> targets = new ArrayList<>(
+				archiveRepository.findMeetingIdsWithOverlay(PageRequest.of(0, batchSize)));
+		if (enabled) {
+			targets.addAll(archiveRepository.findArchivableMeetingIds(Status.COMPLETED,
+					LocalDateTime.now().minus(minAge), PageRequest.of(0, batchSize)));
+		}
+		for (Long meetingId : targets) {
+			try {
+				jobTransaction.executeWithoutResult(status -> packInternal(meetingId));
+			} catch (RuntimeException e) {
+				log.warn("발화 보관/압축 실패 - meetingId: {} ({})", meetingId, e.getMessage());
+			}
+		}
+		jobTransaction.executeWithoutResult(status -> {
+			int removed = archiveRepository.deleteOrphans();
+			if (removed > 0) {
+				log.info("삭제된 회의의 발화 보관본 {}건 정리", removed);
+			}
+		});
+	}
+
+	// 스케줄러에서는 프록시를 거치지 않으므로 jobTransaction 안에서 호출. 그 사이 다시 열린(녹음 중 등) 회의는 건너뜀
+	private void packInternal(Long meetingId) {
+		Status status = meetingRepository.findStatusById(meetingId).orElse(null);
+		if (status == Status.COMPLETED) {
+			pack(meetingId);
+		}
+	}
+
+	private List<Transcript> merge(Long meetingId, TranscriptArchive archive, List<Transcript> rows) {
+		Meeting meeting = meetingRepository.getReferenceById(meetingId);
+		Map<Long, Transcript> merged = new LinkedHashMap<>();
+		for (Transcript entry : TranscriptArchiveCodec.decodeAll(archive.getData())) {
+			merged.put(entry.getId(), entry.toBuilder().meeting(meeting).build());
+		}
+		for (Transcript row : rows) {
+			merged.put(row.getId(), row);
+		}
+		List<Transcript> result = new ArrayList<>(merged.values());
+		result.sort(ARCHIVE_ORDER);
+		return result;
+	}
+
+	private Set<Long> overlayIds(Long meetingId) {
+		return new HashSet<>(transcriptRepository.findIdsByMeetingId(meetingId));
+	}
+
+	// 원래 ID를 유지해야 하므로 JPA persist 가 아닌 JDBC 배치 INSERT
+	private void insertRows(Long meetingId, List<Transcript> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		List<Object[]> batchArgs = new ArrayList<>(entries.size());
+		for (Transcript t : entries) {
+			batchArgs.add(new Object[] { t.getId(), meetingId, t.getSpeakerId(), t.getSpeakerName(), t.getSpeakerLabel(),
+					t.getText(), t.getStartTime(), t.getEndTime(), t.getSequenceOrder(), t.isDeleted(),
+					t.getCreatedAt() != null ? Timestamp.valueOf(t.getCreatedAt()) : null,
+					t.getUpdatedAt() != null ? Timestamp.valueOf(t.getUpdatedAt()) : null });
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+	}
+}
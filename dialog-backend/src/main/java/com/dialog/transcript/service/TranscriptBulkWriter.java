@@ -0,0 +1,84 @@
+package com.dialog.transcript.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.repository.TranscriptRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량 발화(Transcript) 저장 전용 컴포넌트.
+ * 
+ * - Transcript ID는 pooled 시퀀스로 미리 할당되므로 INSERT가 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+ *   (MySQL은 rewriteBatchedStatements=true 설정 시 배치 하나가 multi-row INSERT 한 문장으로 재작성됨)
+ * - 배치 크기만큼 쌓일 때마다 flush 후 detach 하여, 2시간 회의처럼 수천 건을 저장해도 영속성 컨텍스트가 커지지 않습니다.
+ * - 기존 발화 삭제는 엔티티를 로딩하지 않는 DELETE 한 문장으로 처리합니다.
+ */
+@Slf4j
+@Component
+public class TranscriptBulkWriter {
+
+	private final TranscriptRepository transcriptRepository;
+	private final int batchSize;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	public TranscriptBulkWriter(TranscriptRepository transcriptRepository,
+			@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+		this.transcriptRepository = transcriptRepository;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	// 회의의 기존 발화를 모두 지우고 새 발화로 교체 (회의 종료 시 사용)
+	@Transactional
+	public List<Transcript> replaceAll(Long meetingId, List<Transcript> transcripts) {
+		int deleted = transcriptRepository.deleteByMeetingId(meetingId);
+		if (deleted > 0) {
+			log.info("기존 발화 {}건 일괄 삭제 - meetingId: {}", deleted, meetingId);
+		}
+		return insertAll(transcripts);
+	}
+
+	// 새 발화 일괄 INSERT
+	@Transactional
+	public List<Transcript> insertAll(List<Transcript> transcripts) {
+		if (transcripts == null || transcripts.isEmpty()) {
+			return List.of();
+		}
+
+		List<Transcript> pending = new ArrayList<>(batchSize);
+		for (Transcript transcript : transcripts) {
+			entityManager.persist(transcript);
+			pending.add(transcript);
+
+			if (pending.size() >= batchSize) {
+				flushAndDetach(pending);
+			}
+		}
+		flushAndDetach(pending);
+
+		log.debug("발화 {}건 배치 저장 (batch size: {})", transcripts.size(), batchSize);
+		return transcripts;
+	}
+
+	// 쌓인 INSERT를 내보내고, 저장된 발화만 영속성 컨텍스트에서 분리 (Meeting 등 다른 엔티티는 유지)
+	private void flushAndDetach(List<Transcript> pending) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		entityManager.flush();
+		for (Transcript transcript : pending) {
+			entityManager.detach(transcript);
+		}
+		pending.clear();
+	}
+}
@@ -0,0 +1,265 @@
+package com.dialog.transcript.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발화 순서 키(sequenceOrder) 관리.
+ *
+ * - 키는 GAP 간격으로 매겨 두고, 중간 삽입/이동은 앞뒤 키 사이 값을 골라 해당 행 하나만 씁니다.
+ * - 사이에 남은 간격이 좁아지면 재정렬(rebalance)을 예약해 백그라운드에서 다시 GAP 간격으로 매깁니다.
+ *   간격이 아예 없으면 그 요청 안에서 바로 재정렬한 뒤 키를 고릅니다.
+ * - 실시간 수신은 클라이언트 순번(0, 1, 2...)을 그대로 키로 쓰므로 (뒤이어 올 발화와 순서가 맞아야 함),
+ *   재정렬은 종료된(COMPLETED) 회의에서만 합니다. 중복 판별은 키가 아닌 Meeting.liveSequenceUpTo 로 합니다.
+ * - 보관된 회의는 보관본 + 오버레이를 합친 키로 앞뒤를 찾고 새 키를 가진 행만 씁니다.
+ *   재정렬이 필요할 때만 보관을 해제합니다 (재정렬은 transcript 행 전체를 다시 매기므로).
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TranscriptOrderService {
+
+	public static final long GAP = 1024L;
+	// 새 키 사이 간격이 이보다 좁으면 백그라운드 재정렬 예약 (약 4번 더 반으로 나눌 수 있는 여유)
+	private static final long MIN_SPACING = 16L;
+
+	private static final String UPDATE_SQL = "UPDATE transcript SET sequence_order = ? WHERE id = ?";
+
+	/** 새 발화/이동 위치. afterId 뒤, beforeId 앞, 둘 다 null 이면 맨 뒤 */
+	public record Placement(Long afterId, Long beforeId) {
+
+		public static final Placement END = new Placement(null, null);
+	}
+
+	/** 할당 결과. rebalanced 면 이 요청 안에서 회의 전체 키가 다시 매겨졌으므로 클라이언트가 가진 키는 무효 */
+	public record Allocation(List<Long> keys, boolean rebalanced) {
+	}
+
+	// 키를 고를 구간 (lower, upper). null 은 열린 끝
+	private record Bounds(Long lower, Long upper) {
+	}
+
+	// 보관된 회의의 합친 순서 키 (보관본 안의 키는 쿼리로 찾을 수 없으므로 한 번 읽어 둠)
+	private record MergedKeys(Map<Long, Long> keysById, TreeSet<Long> keys) {
+
+		static MergedKeys of(Map<Long, Long> keysById) {
+			return new MergedKeys(keysById, new TreeSet<>(keysById.values()));
+		}
+	}
+
+	private final TranscriptRepository transcriptRepository;
+	private final MeetingRepository meetingRepository;
+	private final TranscriptArchiveService transcriptArchiveService;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate jobTransaction;
+	private final int batchSize;
+
+	private final Set<Long> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+	public TranscriptOrderService(TranscriptRepository transcriptRepository, MeetingRepository meetingRepository,
+			TranscriptArchiveService transcriptArchiveService, JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			@Value("${transcript.ordering.rebalance-batch-size:20}") int batchSize) {
+		this.transcriptRepository = transcriptRepository;
+		this.meetingRepository = meetingRepository;
+		this.transcriptArchiveService = transcriptArchiveService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.jobTransaction = new TransactionTemplate(transactionManager);
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * 위치마다 키를 하나씩 할당 (반환 순서 = placements 순서).
+	 * 같은 구간에 들어가는 위치들은 placements 에 나온 순서대로 오름차순 키를 받습니다.
+	 * 호출 측은 이 회의의 발화 엔티티를 영속성 컨텍스트에 들고 있지 않아야 합니다 (재정렬은 JDBC 로 직접 갱신).
+	 */
+	@Transactional
+	public Allocation allocate(Long meetingId, List<Placement> placements) {
+		if (placements.isEmpty()) {
+			return new Allocation(List.of(), false);
+		}
+		MergedKeys merged = transcriptArchiveService.isArchived(meetingId)
+				? MergedKeys.of(transcriptArchiveService.readOrderKeys(meetingId))
+				: null;
+		Map<Bounds, List<Integer>> groups = group(meetingId, merged, placements);
+		boolean rebalanced = false;
+		if (!fits(groups)) {
+			Status status = meetingRepository.findStatusById(meetingId).orElse(null);
+			if (status != Status.COMPLETED) {
+				throw new IllegalStateException("종료되지 않은 회의에서는 이 위치에 발화를 넣을 수 없습니다. 종료 후 다시 시도해주세요.");
+			}
+			// 재정렬은 transcript 행만 다시 매기므로 보관된 회의는 이때만 보관 해제
+			transcriptArchiveService.unpack(meetingId);
+			rebalance(meetingId);
+			rebalanced = true;
+			groups = group(meetingId, null, placements);
+			if (!fits(groups)) {
+				throw new IllegalStateException("발화 순서를 할당할 수 없습니다. 한 위치에 너무 많은 발화를 넣었습니다.");
+			}
+		}
+
+		Long[] keys = new Long[placements.size()];
+		boolean tight = false;
+		for (Map.Entry<Bounds, List<Integer>> group : groups.entrySet()) {
+			Bounds bounds = group.getKey();
+			List<Integer> indexes = group.getValue();
+			int count = indexes.size();
+			long step = step(bounds, count);
+			tight |= step < MIN_SPACING;
+			for (int i = 0; i < count; i++) {
+				long key;
+				if (bounds.lower() == null && bounds.upper() == null) {
+					key = (i + 1) * GAP;
+				} else if (bounds.lower() == null) {
+					key = bounds.upper() - (count - i) * step;
+				} else {
+					key = bounds.lower() + (i + 1) * step;
+				}
+				keys[indexes.get(i)] = key;
+			}
+		}
+		if (tight) {
+			scheduleRebalance(meetingId);
+		}
+		return new Allocation(List.of(keys), rebalanced);
+	}
+
+	// 재정렬 예약 (커밋 후 대기열에 추가, 롤백되면 무시)
+	public void scheduleRebalance(Long meetingId) {
+		if (meetingId == null) {
+			return;
+		}
+		TransactionCallbacks.runAfterCommit(() -> pendingRebalance.add(meetingId));
+	}
+
+	/**
+	 * 회의의 모든 발화를 현재 순서 그대로 GAP 간격 키로 다시 매김. 값이 바뀌는 행만 UPDATE 합니다.
+	 * @return 바뀐 행 수
+	 */
+	@Transactional
+	public int rebalance(Long meetingId) {
+		List<Object[]> rows = transcriptRepository.findOrderRows(meetingId);
+		List<Object[]> batchArgs = new ArrayList<>();
+		for (int i = 0; i < rows.size(); i++) {
+			long key = (i + 1) * GAP;
+			if (!Objects.equals(rows.get(i)[1], key)) {
+				batchArgs.add(new Object[] { key, rows.get(i)[0] });
+			}
+		}
+		if (!batchArgs.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+			log.info("발화 순서 재정렬 - meetingId: {}, {}/{}건", meetingId, batchArgs.size(), rows.size());
+		}
+		return batchArgs.size();
+	}
+
+	// 예약된 회의를 한 건씩 별도 트랜잭션으로 재정렬. 종료되지 않았거나 보관된 회의는 건너뜀
+	@Scheduled(fixedDelayString = "${transcript.ordering.rebalance-interval-ms:10000}")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void rebalancePending() {
+		int processed = 0;
+		for (Iterator<Long> it = pendingRebalance.iterator(); it.hasNext() && processed < batchSize; processed++) {
+			Long meetingId = it.next();
+			it.remove();
+			try {
+				jobTransaction.executeWithoutResult(status -> {
+					Status meetingStatus = meetingRepository.findStatusById(meetingId).orElse(null);
+					if (meetingStatus != Status.COMPLETED || transcriptArchiveService.isArchived(meetingId)) {
+						return;
+					}
+					rebalance(meetingId);
+				});
+			} catch (RuntimeException e) {
+				log.warn("발화 순서 재정렬 실패 - meetingId: {} ({})", meetingId, e.getMessage());
+			}
+		}
+	}
+
+	// 같은 구간(앞뒤 키가 같은)에 들어가는 위치끼리 묶음. afterId 뒤와 그 다음 발화의 beforeId 앞은 같은 구간
+	private Map<Bounds, List<Integer>> group(Long meetingId, MergedKeys merged, List<Placement> placements) {
+		Map<Placement, Bounds> resolved = new LinkedHashMap<>();
+		Map<Bounds, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < placements.size(); i++) {
+			Placement placement = placements.get(i) != null ? placements.get(i) : Placement.END;
+			Bounds bounds = resolved.computeIfAbsent(placement,
+					p -> merged != null ? bounds(merged, p) : bounds(meetingId, p));
+			groups.computeIfAbsent(bounds, b -> new ArrayList<>()).add(i);
+		}
+		return groups;
+	}
+
+	private Bounds bounds(Long meetingId, Placement placement) {
+		if (placement.afterId() != null) {
+			Long lower = requireKey(meetingId, placement.afterId());
+			return new Bounds(lower, transcriptRepository.findNextSequenceOrder(meetingId, lower));
+		}
+		if (placement.beforeId() != null) {
+			Long upper = requireKey(meetingId, placement.beforeId());
+			return new Bounds(transcriptRepository.findPrevSequenceOrder(meetingId, upper), upper);
+		}
+		return new Bounds(transcriptRepository.findMaxSequenceOrder(meetingId), null);
+	}
+
+	private Bounds bounds(MergedKeys merged, Placement placement) {
+		if (placement.afterId() != null) {
+			Long lower = checkKey(merged.keysById().get(placement.afterId()), placement.afterId());
+			return new Bounds(lower, merged.keys().higher(lower));
+		}
+		if (placement.beforeId() != null) {
+			Long upper = checkKey(merged.keysById().get(placement.beforeId()), placement.beforeId());
+			return new Bounds(merged.keys().lower(upper), upper);
+		}
+		return new Bounds(merged.keys().isEmpty() ? null : merged.keys().last(), null);
+	}
+
+	private Long requireKey(Long meetingId, Long transcriptId) {
+		return checkKey(transcriptRepository.findSequenceOrderById(meetingId, transcriptId), transcriptId);
+	}
+
+	private Long checkKey(Long key, Long transcriptId) {
+		if (key == null) {
+			throw new IllegalArgumentException("기준 발화를 찾을 수 없습니다. id=" + transcriptId);
+		}
+		return key;
+	}
+
+	private boolean fits(Map<Bounds, List<Integer>> groups) {
+		for (Map.Entry<Bounds, List<Integer>> group : groups.entrySet()) {
+			if (step(group.getKey(), group.getValue().size()) < 1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 한쪽이 열려 있으면 GAP 간격, 양쪽이 막혀 있으면 구간을 count + 1 등분
+	private long step(Bounds bounds, int count) {
+		if (bounds.lower() == null || bounds.upper() == null) {
+			return GAP;
+		}
+		return (bounds.upper() - bounds.lower()) / (count + 1);
+	}
+}
@@ -1,24 +1,85 @@
 package com.dialog.transcript.service;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.dialog.actionitem.repository.ActionItemRepository;
 import com.dialog.meeting.domain.Meeting;
 import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.meeting.service.MeetingDetailCache;
+import com.dialog.participant.domain.Participant;
+import com.dialog.participant.repository.ParticipantRepository;
+import com.dialog.search.service.SearchIndexer;
+import com.dialog.transcript.domain.SpeakerRemapResponseDto;
 import com.dialog.transcript.domain.Transcript;
 import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+import com.dialog.transcript.domain.TranscriptPageResponse;
+import com.dialog.transcript.domain.TranscriptPatchOp;
+import com.dialog.transcript.domain.TranscriptPatchRequestDto;
+import com.dialog.transcript.domain.TranscriptPatchResponseDto;
 import com.dialog.transcript.domain.TranscriptResponseDto;
 import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.service.UserNameResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TranscriptService {
 
+    // 화자 일괄 변경 요청 1회당 최대 화자 수
+    private static final int MAX_REMAP_SPEAKERS = 100;
+    // participant.name 컬럼 길이
+    private static final int MAX_SPEAKER_NAME_LENGTH = 100;
+    // 구간/커서 조회 기본 및 최대 건수
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TranscriptRepository transcriptRepository;
     private final MeetingRepository meetingRepository;
+    private final ParticipantRepository participantRepository;
+    private final TranscriptBulkWriter transcriptBulkWriter;
+    private final TranscriptArchiveService transcriptArchiveService;
+    private final TranscriptTimelineCache transcriptTimelineCache;
+    private final TranscriptOrderService transcriptOrderService;
+    private final SearchIndexer searchIndexer;
+    private final ActionItemRepository actionItemRepository;
+    private final UserNameResolver userNameResolver;
+    private final MeetingDetailCache meetingDetailCache;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 변경분(delta) 요청 1회당 최대 연산 수
+    @Value("${transcript.patch.max-operations:1000}")
+    private int maxPatchOperations;
+
+    // NDJSON 내보내기 시 출력 버퍼를 비우는 간격 (행 수)
+    @Value("${transcript.export.flush-interval:500}")
+    private int exportFlushInterval;
 
     // Transcript 저장 (단일)
     @Transactional
@@ -39,6 +100,8 @@ public class TranscriptService {
             .build();
 
         Transcript savedTranscript = transcriptRepository.save(transcript);
+        searchIndexer.markDirty(meetingId);
+        transcriptTimelineCache.invalidate(meetingId);
         return new TranscriptResponseDto(savedTranscript);
     }
 
@@ -62,7 +125,10 @@ public class TranscriptService {
                 .build())
             .collect(Collectors.toList());
 
-        List<Transcript> savedTranscripts = transcriptRepository.saveAll(transcripts);
+        List<Transcript> savedTranscripts = transcriptBulkWriter.insertAll(transcripts);
+        transcriptOrderService.scheduleRebalance(meetingId);
+        searchIndexer.markDirty(meetingId);
+        transcriptTimelineCache.invalidate(meetingId);
         
         return savedTranscripts.stream()
             .map(TranscriptResponseDto::new)
@@ -71,15 +137,315 @@ public class TranscriptService {
 
     // Meeting ID로 모든 Transcript 조회
     public List<TranscriptResponseDto> getTranscriptsByMeetingId(Long meetingId) {
-        List<Transcript> transcripts = transcriptRepository.findByMeetingIdOrderBySequenceOrder(meetingId);
+        List<Transcript> transcripts = transcriptArchiveService.readMerged(meetingId);
         
         return transcripts.stream()
             .map(TranscriptResponseDto::new)
             .collect(Collectors.toList());
     }
 
+    // 구간 또는 커서 기준으로 발화 일부만 조회 (긴 회의의 가상 스크롤 / 재생 위치 이동용)
+    // fromMs/toMs 가 있으면 [fromMs, toMs) 와 시간이 겹치는 발화, cursor 가 있으면 그 다음부터. 둘 다 sequenceOrder 순
+    public TranscriptPageResponse getTranscriptPage(Long meetingId, Long fromMs, Long toMs, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        boolean window = fromMs != null || toMs != null;
+        long from = fromMs != null ? fromMs : 0L;
+        long to = toMs != null ? toMs : Long.MAX_VALUE;
+        if (from < 0 || from >= to) {
+            throw new IllegalArgumentException("조회 구간이 올바르지 않습니다. (fromMs < toMs)");
+        }
+        long afterSeq = Long.MIN_VALUE;
+        long afterId = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException();
+                }
+                afterSeq = Long.parseLong(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다: " + cursor);
+            }
+        }
+
+        List<Transcript> rows;
+        if (transcriptArchiveService.isArchived(meetingId)) {
+            // 보관된 회의는 어차피 보관본 전체를 풀어야 하므로 메모리에서 거름
+            rows = filterPage(transcriptArchiveService.readMerged(meetingId), window, from, to, afterSeq, afterId, size + 1);
+        } else if (window) {
+            TranscriptTimelineCache.Timeline timeline = transcriptTimelineCache.get(meetingId);
+            Long minStart = timeline != null ? timeline.lowerStartBound(from, to) : Long.valueOf(0L);
+            rows = minStart == null ? List.of()
+                    : transcriptRepository.findWindowPage(meetingId, minStart, from, to, afterSeq, afterId,
+                            PageRequest.of(0, size + 1));
+        } else {
+            rows = transcriptRepository.findPage(meetingId, afterSeq, afterId, PageRequest.of(0, size + 1));
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Transcript> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Transcript last = page.get(page.size() - 1);
+            nextCursor = last.getSequenceOrder() + ":" + last.getId();
+        }
+        List<TranscriptResponseDto> items = page.stream()
+            .map(TranscriptResponseDto::new)
+            .collect(Collectors.toList());
+        return new TranscriptPageResponse(items, nextCursor, hasNext);
+    }
+
+    private List<Transcript> filterPage(List<Transcript> merged, boolean window, long from, long to,
+            long afterSeq, long afterId, int max) {
+        List<Transcript> result = new ArrayList<>();
+        for (Transcript t : merged) {
+            if (window && (t.getStartTime() >= to || t.getEndTime() <= from)) {
+                continue;
+            }
+            long seq = t.getSequenceOrder();
+            if (seq < afterSeq || (seq == afterSeq && t.getId() <= afterId)) {
+                continue;
+            }
+            result.add(t);
+            if (result.size() == max) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 발화 로그 변경분(delta) 적용
+    // 전체 목록을 불러오지 않고 연산마다 해당 행만 UPDATE, 신규 발화는 배치 INSERT
+    // 하나라도 실패하면 전체 롤백 (IllegalArgumentException → 400)
+    @Transactional
+    public TranscriptPatchResponseDto applyPatch(Long meetingId, TranscriptPatchRequestDto requestDto) {
+        List<TranscriptPatchRequestDto.Operation> operations = requestDto.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            return new TranscriptPatchResponseDto(0, Map.of());
+        }
+        if (operations.size() > maxPatchOperations) {
+            throw new IllegalArgumentException("한 번에 적용할 수 있는 변경은 최대 " + maxPatchOperations + "건입니다.");
+        }
+        if (!meetingRepository.existsById(meetingId)) {
+            throw new IllegalArgumentException("회의를 찾을 수 없습니다.");
+        }
+
+        // 보관된 회의면 수정 대상 발화를 먼저 오버레이 행으로 되살림
+        transcriptArchiveService.materialize(meetingId, operations.stream()
+            .filter(op -> op.getOp() != null && op.getOp() != TranscriptPatchOp.INSERT)
+            .map(TranscriptPatchRequestDto.Operation::getId)
+            .collect(Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, String> speakerIdsByName = null; // 화자 ID 보정이 필요할 때만 조회
+        List<Transcript> inserts = new ArrayList<>();
+        List<String> insertRefs = new ArrayList<>();
+        List<PendingInsert> positioned = new ArrayList<>(); // 순서 키를 지정하지 않은 신규 발화 (요청 내 순서대로)
+        boolean rawKeys = false;
+
+        for (TranscriptPatchRequestDto.Operation op : operations) {
+            if (op.getOp() == null) {
+                throw new IllegalArgumentException("연산 종류(op)가 없습니다.");
+            }
+
+            if (op.getSpeakerId() == null && op.getSpeakerName() != null && speakerIdsByName == null) {
+                speakerIdsByName = loadSpeakerIdsByName(meetingId);
+            }
+
+            int updated;
+            switch (op.getOp()) {
+            case EDIT_TEXT:
+                updated = transcriptRepository.updateText(meetingId, requireId(op), requireValue(op.getText(), "text"), now);
+                break;
+            case CHANGE_SPEAKER:
+                updated = transcriptRepository.updateSpeaker(meetingId, requireId(op),
+                        resolveSpeakerId(op, speakerIdsByName), op.getSpeakerName(), now);
+                break;
+            case REORDER:
+                Long key = op.getSequenceOrder();
+                if (key == null) {
+                    if (op.getAfterId() == null && op.getBeforeId() == null) {
+                        throw new IllegalArgumentException("REORDER 에는 afterId, beforeId, sequenceOrder 중 하나가 필요합니다.");
+                    }
+                    if (requireId(op).equals(op.getAfterId()) || requireId(op).equals(op.getBeforeId())) {
+                        throw new IllegalArgumentException("자기 자신을 기준으로 이동할 수 없습니다. id=" + op.getId());
+                    }
+                    key = transcriptOrderService.allocate(meetingId,
+                            List.of(new TranscriptOrderService.Placement(op.getAfterId(), op.getBeforeId()))).keys().get(0);
+                } else {
+                    rawKeys = true;
+                }
+                updated = transcriptRepository.updateSequenceOrder(meetingId, requireId(op), key, now);
+                break;
+            case DELETE:
+                updated = transcriptRepository.updateDeleted(meetingId, requireId(op), true, now);
+                break;
+            case RESTORE:
+                updated = transcriptRepository.updateDeleted(meetingId, requireId(op), false, now);
+                break;
+            case INSERT:
+                inserts.add(Transcript.builder()
+                        .meeting(meetingRepository.getReferenceById(meetingId))
+                        .speakerId(resolveSpeakerId(op, speakerIdsByName))
+                        .speakerName(op.getSpeakerName())
+                        .text(requireValue(op.getText(), "text"))
+                        .startTime(op.getStartTime() != null ? op.getStartTime() : 0L)
+                        .endTime(op.getEndTime() != null ? op.getEndTime() : 0L)
+                        .sequenceOrder(op.getSequenceOrder())
+                        .isDeleted(Boolean.TRUE.equals(op.getIsDeleted()))
+                        .build());
+                insertRefs.add(op.getClientRef());
+                if (op.getSequenceOrder() == null) {
+                    placeInsert(positioned, new PendingInsert(inserts.size() - 1, op));
+                } else {
+                    rawKeys = true;
+                }
+                updated = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 연산입니다: " + op.getOp());
+            }
+
+            if (updated == 0) {
+                throw new IllegalArgumentException("Transcript를 찾을 수 없습니다. id=" + op.getId());
+            }
+        }
+
+        // 위치 지정 신규 발화: 같은 구간끼리 모아 한 번에 키 할당 (구간이 가득 차면 그 자리에서 재정렬)
+        if (!positioned.isEmpty()) {
+            List<TranscriptOrderService.Placement> placements = new ArrayList<>(positioned.size());
+            for (PendingInsert pending : positioned) {
+                placements.add(pending.placement);
+            }
+            List<Long> keys = transcriptOrderService.allocate(meetingId, placements).keys();
+            for (int i = 0; i < positioned.size(); i++) {
+                inserts.get(positioned.get(i).index).updateSequenceOrder(keys.get(i));
+            }
+        }
+        if (rawKeys) {
+            // 클라이언트가 키를 직접 지정하면 간격이 없을 수 있으므로 나중에 다시 매김
+            transcriptOrderService.scheduleRebalance(meetingId);
+        }
+
+        Map<String, Long> insertedIds = new LinkedHashMap<>();
+        if (!inserts.isEmpty()) {
+            List<Transcript> saved = transcriptBulkWriter.insertAll(inserts);
+            for (int i = 0; i < saved.size(); i++) {
+                String ref = insertRefs.get(i) != null ? insertRefs.get(i) : String.valueOf(i);
+                insertedIds.put(ref, saved.get(i).getId());
+            }
+        }
+
+        searchIndexer.markDirty(meetingId);
+        transcriptTimelineCache.invalidate(meetingId);
+        return new TranscriptPatchResponseDto(operations.size(), insertedIds);
+    }
+
+    // 순서 키를 지정하지 않은 신규 발화. placement 는 DB 에 이미 있는 발화 기준 위치
+    private static final class PendingInsert {
+        private final int index;                    // inserts 내 위치
+        private final String clientRef;
+        private final String afterRef;
+        private TranscriptOrderService.Placement placement;
+
+        private PendingInsert(int index, TranscriptPatchRequestDto.Operation op) {
+            this.index = index;
+            this.clientRef = op.getClientRef();
+            this.afterRef = op.getAfterRef();
+            this.placement = new TranscriptOrderService.Placement(op.getAfterId(), op.getBeforeId());
+        }
+    }
+
+    // afterRef 가 있으면 같은 요청의 그 발화 바로 뒤(같은 구간)에, 없으면 요청 순서대로 붙임
+    private void placeInsert(List<PendingInsert> positioned, PendingInsert pending) {
+        if (pending.afterRef == null) {
+            positioned.add(pending);
+            return;
+        }
+        for (int i = 0; i < positioned.size(); i++) {
+            PendingInsert ref = positioned.get(i);
+            if (pending.afterRef.equals(ref.clientRef)) {
+                pending.placement = ref.placement;
+                positioned.add(i + 1, pending);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("afterRef 는 같은 요청에서 먼저 나온 위치 지정 INSERT 의 clientRef 여야 합니다. afterRef=" + pending.afterRef);
+    }
+
+    private Map<String, String> loadSpeakerIdsByName(Long meetingId) {
+        Map<String, String> speakerIdsByName = new HashMap<>();
+        for (Participant p : participantRepository.findByMeetingId(meetingId)) {
+            speakerIdsByName.put(p.getName(), p.getSpeakerId());
+        }
+        return speakerIdsByName;
+    }
+
+    // speakerId 가 없으면 참석자 이름으로 찾고, 그래도 없으면 이름을 ID로 사용 (updateMeetingResult 와 동일한 규칙)
+    private String resolveSpeakerId(TranscriptPatchRequestDto.Operation op, Map<String, String> speakerIdsByName) {
+        if (op.getSpeakerId() != null) {
+            return op.getSpeakerId();
+        }
+        if (speakerIdsByName != null && speakerIdsByName.containsKey(op.getSpeakerName())) {
+            return speakerIdsByName.get(op.getSpeakerName());
+        }
+        return requireValue(op.getSpeakerName(), "speakerId 또는 speakerName");
+    }
+
+    private Long requireId(TranscriptPatchRequestDto.Operation op) {
+        return requireValue(op.getId(), "id");
+    }
+
+    private <T> T requireValue(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " 값이 필요합니다.");
+        }
+        return value;
+    }
+
+    // Meeting ID로 모든 Transcript 를 NDJSON(한 줄에 JSON 하나)으로 출력
+    // 한 행씩 읽어 바로 쓰고 영속성 컨텍스트에서 떼어내므로, 회의 길이와 무관하게 메모리 사용량이 일정함
+    public long exportTranscripts(Long meetingId, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TranscriptResponseDto.class);
+        long count = 0;
+
+        // 보관된 회의는 압축본을 한 번에 풀어 출력 (블록 압축이라 행 스트리밍보다 DB 읽기량이 훨씬 적음)
+        if (transcriptArchiveService.isArchived(meetingId)) {
+            for (Transcript transcript : transcriptArchiveService.readMerged(meetingId)) {
+                out.write(writer.writeValueAsBytes(new TranscriptResponseDto(transcript)));
+                out.write('\n');
+                if (++count % exportFlushInterval == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+            return count;
+        }
+
+        try (Stream<Transcript> transcripts = transcriptRepository.streamByMeetingId(meetingId)) {
+            for (Transcript transcript : (Iterable<Transcript>) transcripts::iterator) {
+                out.write(writer.writeValueAsBytes(new TranscriptResponseDto(transcript)));
+                out.write('\n');
+                entityManager.detach(transcript);
+
+                if (++count % exportFlushInterval == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return count;
+    }
+
     // 특정 화자의 발화만 조회
     public List<TranscriptResponseDto> getTranscriptsBySpeaker(Long meetingId, String speakerId) {
+        if (transcriptArchiveService.isArchived(meetingId)) {
+            return transcriptArchiveService.readMerged(meetingId).stream()
+                .filter(t -> speakerId.equals(t.getSpeakerId()))
+                .map(TranscriptResponseDto::new)
+                .collect(Collectors.toList());
+        }
         List<Transcript> transcripts = transcriptRepository.findByMeetingIdAndSpeakerId(meetingId, speakerId);
         
         return transcripts.stream()
@@ -90,16 +456,19 @@ public class TranscriptService {
     // Transcript 수정 (텍스트)
     @Transactional
     public TranscriptResponseDto updateTranscriptText(Long transcriptId, String newText) {
+        transcriptArchiveService.materialize(transcriptId);
         Transcript transcript = transcriptRepository.findById(transcriptId)
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.updateText(newText);
+        searchIndexer.markDirty(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
     // Transcript 수정 (화자)
     @Transactional
     public TranscriptResponseDto updateTranscriptSpeaker(Long transcriptId, String newSpeakerId, String newSpeakerName) {
+        transcriptArchiveService.materialize(transcriptId);
         Transcript transcript = transcriptRepository.findById(transcriptId)
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
@@ -110,52 +479,203 @@ public class TranscriptService {
     // Transcript 삭제 (소프트 삭제)
     @Transactional
     public TranscriptResponseDto deleteTranscript(Long transcriptId) {
+        transcriptArchiveService.materialize(transcriptId);
         Transcript transcript = transcriptRepository.findById(transcriptId)
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.delete();
+        searchIndexer.markDirty(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
     // Transcript 복구
     @Transactional
     public TranscriptResponseDto restoreTranscript(Long transcriptId) {
+        transcriptArchiveService.materialize(transcriptId);
         Transcript transcript = transcriptRepository.findById(transcriptId)
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.restore();
+        searchIndexer.markDirty(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
     // Transcript 물리 삭제
     @Transactional
     public void hardDeleteTranscript(Long transcriptId) {
+        transcriptArchiveService.materialize(transcriptId);
         Transcript transcript = transcriptRepository.findById(transcriptId)
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
+        // 오버레이 행만 지우면 보관본의 같은 발화가 다시 보이므로 보관을 해제한 뒤 삭제
+        transcriptArchiveService.unpack(transcript.getMeeting().getId());
         
         transcriptRepository.delete(transcript);
+        searchIndexer.markDirty(transcript.getMeeting().getId());
+        transcriptTimelineCache.invalidate(transcript.getMeeting().getId());
     }
 
     // Meeting의 모든 Transcript 삭제
     @Transactional
     public void deleteTranscriptsByMeetingId(Long meetingId) {
         transcriptRepository.deleteByMeetingId(meetingId);
+        transcriptArchiveService.delete(meetingId);
+        searchIndexer.markDirty(meetingId);
+        transcriptTimelineCache.invalidate(meetingId);
     }
     
-    // 특정 회의의 특정 화자(ID)에 해당하는 모든 발화의 speakerName 변경
+    // 특정 회의의 특정 화자(ID)에 해당하는 모든 발화의 speakerName 변경 (단일 화자용, remapSpeakers 와 동일하게 처리)
     @Transactional
     public void updateSpeakerMapping(Long meetingId, String originalSpeakerId, String newSpeakerName) {
-        // 1. 해당 회의에서 특정 speakerId를 가진 모든 발화 조회
-        List<Transcript> transcripts = transcriptRepository.findByMeetingIdAndSpeakerId(meetingId, originalSpeakerId);
+        remapSpeakers(meetingId, Collections.singletonMap(originalSpeakerId, newSpeakerName));
+    }
 
-        if (transcripts.isEmpty()) {
-            // 로그가 없더라도 에러는 아님 (무시)
-            return;
+    // 여러 화자의 이름을 한 번에 변경 (발화 / 참석자 / 액션아이템 담당자)
+    // 화자마다 UPDATE 한 번씩이므로 발화 수와 무관하게 (화자 수 x 2) + 담당자 변경 건수 정도의 쿼리로 끝남
+    @Transactional
+    public SpeakerRemapResponseDto remapSpeakers(Long meetingId, Map<String, String> rawMappings) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+            .orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
+        Map<String, String> mappings = normalizeMappings(rawMappings);
+
+        Map<String, Participant> participants = new LinkedHashMap<>();
+        for (Participant p : participantRepository.findByMeetingId(meetingId)) {
+            participants.put(p.getSpeakerId(), p);
+        }
+        checkSpeakerNameConflicts(mappings, participants);
+
+        // 보관된 회의는 발화가 행으로 있어야 벌크 UPDATE 가 적용됨
+        transcriptArchiveService.unpack(meetingId);
+
+        List<String> missing = new ArrayList<>();
+        for (String speakerId : mappings.keySet()) {
+            if (!participants.containsKey(speakerId)) {
+                missing.add(speakerId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<String> spoken = transcriptRepository.findExistingSpeakerIds(meetingId, missing);
+            missing.removeAll(spoken);
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("회의에 없는 화자입니다: " + missing);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int transcriptsUpdated = 0;
+        int participantsUpdated = 0;
+        List<Participant> created = new ArrayList<>();
+        Map<String, String> renamed = new LinkedHashMap<>(); // 이전 이름 → 새 이름 (담당자 재배정용)
+
+        for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+            String speakerId = mapping.getKey();
+            String newName = mapping.getValue();
+            transcriptsUpdated += transcriptRepository.updateSpeakerNameBySpeakerId(meetingId, speakerId, newName, now);
+
+            Participant participant = participants.get(speakerId);
+            if (participant == null) {
+                created.add(Participant.builder().meeting(meeting).speakerId(speakerId).name(newName).build());
+            } else if (!participant.getName().equals(newName)) {
+                participantsUpdated += participantRepository.updateNameBySpeakerId(meetingId, speakerId, newName);
+                renamed.put(participant.getName(), newName);
+            }
+        }
+
+        if (!created.isEmpty()) {
+            // 검사 이후 다른 요청이 같은 화자를 먼저 추가한 경우 uq_meeting_speaker 위반
+            try {
+                participantRepository.saveAllAndFlush(created);
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("다른 요청이 같은 화자를 먼저 추가했습니다. 다시 시도해주세요.", e);
+            }
+        }
+
+        int actionItemsReassigned = reassignActionItems(meetingId, renamed, now);
+
+        meetingDetailCache.invalidate(meetingId);
+        return new SpeakerRemapResponseDto(transcriptsUpdated, participantsUpdated, created.size(), actionItemsReassigned);
+    }
+
+    private Map<String, String> normalizeMappings(Map<String, String> rawMappings) {
+        if (rawMappings == null || rawMappings.isEmpty()) {
+            throw new IllegalArgumentException("변경할 화자가 없습니다.");
+        }
+        if (rawMappings.size() > MAX_REMAP_SPEAKERS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 화자는 최대 " + MAX_REMAP_SPEAKERS + "명입니다.");
+        }
+        Map<String, String> mappings = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : rawMappings.entrySet()) {
+            String speakerId = entry.getKey() == null ? "" : entry.getKey().trim();
+            String name = entry.getValue() == null ? "" : entry.getValue().trim();
+            if (speakerId.isEmpty() || name.isEmpty()) {
+                throw new IllegalArgumentException("화자 ID와 이름은 비어 있을 수 없습니다.");
+            }
+            if (name.length() > MAX_SPEAKER_NAME_LENGTH) {
+                throw new IllegalArgumentException("화자 이름은 " + MAX_SPEAKER_NAME_LENGTH + "자 이하로 입력해주세요.");
+            }
+            if (mappings.put(speakerId, name) != null) {
+                throw new IllegalArgumentException("같은 화자가 중복되었습니다: " + speakerId);
+            }
+        }
+        return mappings;
+    }
+
+    // 변경 후 한 회의에서 두 화자가 같은 이름을 가지면 충돌.
+    // 참석자 목록 저장(updateMeetingResult)과 변경분 적용은 이름으로 speakerId 를 찾으므로,
+    // 이름이 겹치면 두 참석자가 같은 speakerId 로 저장되어 uq_meeting_speaker 를 위반하게 됨
+    private void checkSpeakerNameConflicts(Map<String, String> mappings, Map<String, Participant> participants) {
+        Map<String, String> speakerByName = new HashMap<>();
+        for (Participant p : participants.values()) {
+            if (!mappings.containsKey(p.getSpeakerId())) {
+                speakerByName.put(p.getName(), p.getSpeakerId());
+            }
+        }
+        List<String> conflicts = new ArrayList<>();
+        for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+            String other = speakerByName.putIfAbsent(mapping.getValue(), mapping.getKey());
+            if (other != null) {
+                conflicts.add("'" + mapping.getValue() + "' (" + other + ", " + mapping.getKey() + ")");
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException("같은 이름을 가진 화자가 생깁니다: " + String.join(", ", conflicts));
+        }
+    }
+
+    // 이전 이름의 사용자에게 배정된 액션아이템을 새 이름의 사용자에게 재배정 (계정이 없으면 미배정)
+    // 두 화자의 이름을 맞바꾸는 경우에도 섞이지 않도록 대상 ID를 먼저 모은 뒤 새 담당자별로 UPDATE
+    private int reassignActionItems(Long meetingId, Map<String, String> renamed, LocalDateTime now) {
+        if (renamed.isEmpty()) {
+            return 0;
+        }
+        Set<String> names = new HashSet<>(renamed.keySet());
+        names.addAll(renamed.values());
+        Map<String, MeetUser> users = userNameResolver.resolveAll(names);
+
+        Map<Long, MeetUser> newAssigneeByOldUserId = new HashMap<>();
+        for (Map.Entry<String, String> entry : renamed.entrySet()) {
+            MeetUser oldUser = users.get(entry.getKey());
+            MeetUser newUser = users.get(entry.getValue());
+            if (oldUser != null && (newUser == null || !oldUser.getId().equals(newUser.getId()))) {
+                newAssigneeByOldUserId.put(oldUser.getId(), newUser);
+            }
+        }
+        if (newAssigneeByOldUserId.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Long>> itemIdsByNewUserId = new HashMap<>();
+        Map<Long, MeetUser> newUsers = new HashMap<>();
+        for (Object[] row : actionItemRepository.findAssigneeRowsByMeetingId(meetingId, newAssigneeByOldUserId.keySet())) {
+            MeetUser newUser = newAssigneeByOldUserId.get((Long) row[1]);
+            Long key = newUser != null ? newUser.getId() : null;
+            newUsers.put(key, newUser);
+            itemIdsByNewUserId.computeIfAbsent(key, k -> new ArrayList<>()).add((Long) row[0]);
         }
 
-        // 2. 모든 엔티티의 이름 변경 (Dirty Checking으로 자동 Update 쿼리 발생)
-        for (Transcript t : transcripts) {
-            t.updateSpeaker(t.getSpeakerId(), newSpeakerName);
+        int reassigned = 0;
+        for (Map.Entry<Long, List<Long>> entry : itemIdsByNewUserId.entrySet()) {
+            reassigned += actionItemRepository.updateAssignee(entry.getValue(), newUsers.get(entry.getKey()), now);
         }
+        return reassigned;
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.dialog.transcript.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.transcript.repository.TranscriptRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 회의별 발화 타임라인(시작 시각 정렬 배열) 캐시. 오디오 재생 위치 기준 구간 조회의 시작점을 이진 탐색으로 찾습니다.
+ *
+ * 발화는 길이가 제각각이라 "endTime > fromMs" 조건만으로는 인덱스 범위를 좁힐 수 없으므로,
+ * 시작 시각 순으로 누적 최대 종료 시각을 들고 있다가 fromMs 와 겹치는 첫 발화의 시작 시각을 구해
+ * (meeting_id, start_time) 인덱스 범위의 하한으로 사용합니다.
+ * 발화가 바뀌는 곳에서 invalidate(meetingId)를 호출해야 하며, 캐시에 없으면 ID/시각만 읽어 다시 만듭니다.
+ */
+@Component
+public class TranscriptTimelineCache {
+
+	/**
+	 * @param starts  시작 시각 오름차순
+	 * @param maxEnds maxEnds[i] = max(endTime[0..i]) (비감소)
+	 */
+	record Timeline(long[] starts, long[] maxEnds) {
+
+		// [fromMs, toMs) 와 겹치는 발화 중 가장 이른 시작 시각. 겹치는 발화가 없으면 null
+		Long lowerStartBound(long fromMs, long toMs) {
+			int lo = 0;
+			int hi = maxEnds.length;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (maxEnds[mid] > fromMs) {
+					hi = mid;
+				} else {
+					lo = mid + 1;
+				}
+			}
+			if (lo == starts.length || starts[lo] >= toMs) {
+				return null;
+			}
+			return starts[lo];
+		}
+	}
+
+	private final TranscriptRepository transcriptRepository;
+	private final boolean enabled;
+	private final Cache<Long, Timeline> timelines;
+
+	public TranscriptTimelineCache(TranscriptRepository transcriptRepository,
+			@Value("${transcript.timeline.enabled:true}") boolean enabled,
+			@Value("${transcript.timeline.max-meetings:200}") long maxMeetings,
+			@Value("${transcript.timeline.expire-after-access:10m}") Duration expireAfterAccess) {
+		this.transcriptRepository = transcriptRepository;
+		this.enabled = enabled;
+		this.timelines = Caffeine.newBuilder()
+				.maximumSize(maxMeetings)
+				.expireAfterAccess(expireAfterAccess)
+				.build();
+	}
+
+	// 꺼져 있으면 null (호출 측에서 하한 없이 조회)
+	Timeline get(Long meetingId) {
+		if (!enabled) {
+			return null;
+		}
+		return timelines.get(meetingId, this::load);
+	}
+
+	// 발화 추가/수정/삭제 시 호출. 지금 즉시, 그리고 커밋 직후에 한 번 더 비움
+	public void invalidate(Long meetingId) {
+		if (!enabled || meetingId == null) {
+			return;
+		}
+		timelines.invalidate(meetingId);
+		TransactionCallbacks.runAfterCommit(() -> timelines.invalidate(meetingId));
+	}
+
+	private Timeline load(Long meetingId) {
+		// [startTime, endTime], 시작 시각 순
+		List<Object[]> rows = transcriptRepository.findTimelineRows(meetingId);
+		long[] starts = new long[rows.size()];
+		long[] maxEnds = new long[rows.size()];
+		long maxEnd = Long.MIN_VALUE;
+		for (int i = 0; i < rows.size(); i++) {
+			starts[i] = (Long) rows.get(i)[0];
+			maxEnd = Math.max(maxEnd, (Long) rows.get(i)[1]);
+			maxEnds[i] = maxEnd;
+		}
+		return new Timeline(starts, maxEnds);
+	}
+}
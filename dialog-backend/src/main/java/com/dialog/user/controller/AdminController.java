@@ -1,9 +1,16 @@
 package com.dialog.user.controller;
 
+import com.dialog.calendarevent.service.GoogleCalendarResponseCache;
 import com.dialog.exception.UserNotFoundException;
+import com.dialog.global.http.OutboundHttpClients;
 
-import com.dialog.meeting.domain.MeetingCreateResponseDto;
+import com.dialog.meeting.domain.MeetingPageResponse;
+import com.dialog.meeting.domain.MeetingSearchCondition;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meeting.service.MeetingDetailCache;
 import com.dialog.meeting.service.MeetingService;
+import com.dialog.token.service.SocialTokenCache;
+import com.dialog.transcript.service.TranscriptArchiveService;
 import com.dialog.user.domain.AdminResponse;
 
 import com.dialog.user.domain.TodayStatsDto;
@@ -12,6 +19,7 @@ import com.dialog.user.service.AdminService;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,11 +27,14 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +46,11 @@ public class AdminController {
 
 	private final AdminService adminService;
 	private final MeetingService meetingService;
+	private final MeetingDetailCache meetingDetailCache;
+	private final GoogleCalendarResponseCache googleCalendarResponseCache;
+	private final TranscriptArchiveService transcriptArchiveService;
+	private final OutboundHttpClients outboundHttpClients;
+	private final SocialTokenCache socialTokenCache;
 
 	// 관리자만 접근 가능하도록 PreAuthorize 적용 (ROLE_ADMIN 등)
 	@PreAuthorize("hasRole('ADMIN')")
@@ -59,12 +75,26 @@ public class AdminController {
 		}
 	}
 
-	// 전체 회의 조회
+	// 전체 회의 조회 (커서 기반 페이지네이션 + 필터)
+	// GET /api/admin/meetings?size=20&cursor={이전 응답의 nextCursor}&status=&hostUserId=&from=&to=&title=
 	@PreAuthorize("hasRole('ADMIN')")
 	@GetMapping("/meetings")
-	public ResponseEntity<List<MeetingCreateResponseDto>> getAllMeetings() {
-		List<MeetingCreateResponseDto> meetings = meetingService.getAllMeetings();
-		return ResponseEntity.ok(meetings);
+	public ResponseEntity<MeetingPageResponse> getAllMeetings(
+			@RequestParam(name = "cursor", required = false) Long cursor,
+			@RequestParam(name = "size", defaultValue = "20") int size,
+			@RequestParam(name = "status", required = false) Status status,
+			@RequestParam(name = "hostUserId", required = false) Long hostUserId,
+			@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(name = "title", required = false) String title) {
+		MeetingSearchCondition condition = MeetingSearchCondition.builder()
+				.status(status)
+				.hostUserId(hostUserId)
+				.from(from)
+				.to(to)
+				.title(title)
+				.build();
+		return ResponseEntity.ok(meetingService.getMeetingPage(condition, cursor, size));
 	}
 
 	@PreAuthorize("hasRole('ADMIN')")
@@ -75,6 +105,56 @@ public class AdminController {
 		return ResponseEntity.noContent().build();
 	}
 
+	// 종료된 회의 발화를 압축 보관본으로 이동 (보관 모드가 꺼져 있어도 수동 보관 가능)
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/meetings/{meetingId}/transcripts/archive")
+	public ResponseEntity<?> archiveTranscripts(@PathVariable("meetingId") Long meetingId) {
+		try {
+			int archived = transcriptArchiveService.pack(meetingId);
+			return ResponseEntity.ok(Map.of("meetingId", meetingId, "archivedCount", archived));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		} catch (IllegalStateException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+		}
+	}
+
+	// 보관 해제 (발화를 다시 transcript 행으로 복원)
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/meetings/{meetingId}/transcripts/unarchive")
+	public ResponseEntity<Void> unarchiveTranscripts(@PathVariable("meetingId") Long meetingId) {
+		transcriptArchiveService.unpack(meetingId);
+		return ResponseEntity.noContent().build();
+	}
+
+	// 회의 상세 캐시 적중/미스/축출 통계 (캐시 크기 조정용)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/cache/meeting-detail")
+	public ResponseEntity<Map<String, Object>> getMeetingDetailCacheStats() {
+		return ResponseEntity.ok(meetingDetailCache.stats());
+	}
+
+	// Google 캘린더 조회 응답 캐시 적중률/절약 바이트 (GoogleCalendarResponseCache)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/cache/google-calendar")
+	public ResponseEntity<Map<String, Object>> getGoogleCalendarCacheStats() {
+		return ResponseEntity.ok(googleCalendarResponseCache.stats());
+	}
+
+	// 외부 호출 대상별 호출/실패/재시도/거부 수, 회로 상태, 응답 시간 히스토그램 (OutboundHttpClients)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/http-clients")
+	public ResponseEntity<Map<String, Object>> getOutboundHttpStats() {
+		return ResponseEntity.ok(outboundHttpClients.stats());
+	}
+
+	// 소셜 access token 캐시 적중률, single-flight 합류 수, 사전 갱신 성공/실패 (SocialTokenCache)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/cache/social-token")
+	public ResponseEntity<Map<String, Object>> getSocialTokenCacheStats() {
+		return ResponseEntity.ok(socialTokenCache.stats());
+	}
+
 	// 유저 직무, 직급 설정
 	@PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/users/settings/{userId}")
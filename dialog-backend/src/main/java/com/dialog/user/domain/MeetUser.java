@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Builder;
@@ -26,7 +27,10 @@ import lombok.Setter;
 
  
 @Entity
-@Table(name = "user")
+@Table(name = "user", indexes = {
+    // 액션 아이템 담당자 이름 → 사용자 매칭 (UserNameResolver)
+    @Index(name = "idx_user_name", columnList = "name")
+})
 @Getter
 @Setter
 public class MeetUser {
@@ -1,6 +1,8 @@
 package com.dialog.user.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +19,9 @@ public interface MeetUserRepository extends JpaRepository<MeetUser, Long> {
     // name 컬럼을 기반으로 MeetUser 객체를 optional 형태로 조회
     Optional<MeetUser> findByName(String name);
 
+    // 담당자 이름 일괄 조회 (UserNameResolver). 동명이인은 ID 오름차순으로 첫 번째를 사용
+    List<MeetUser> findAllByNameInOrderByIdAsc(Collection<String> names);
+
     // 소셜 로그인 고유 ID 조회
     Optional<MeetUser> findBySnsId(String snsId);
 
@@ -7,9 +7,14 @@ import java.util.List;
 
 import com.dialog.exception.ResourceNotFoundException;
 import com.dialog.exception.UserNotFoundException;
+import com.dialog.global.utill.TransactionCallbacks;
 import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.meeting.service.MeetingDetailCache;
 import com.dialog.participant.repository.ParticipantRepository;
+import com.dialog.search.service.SearchIndexer;
 import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.transcript.repository.TranscriptArchiveRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
 import com.dialog.user.domain.AdminResponse;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.domain.MeetUserDto;
@@ -30,6 +35,11 @@ public class AdminService {
 	private final ParticipantRepository participantRepository;
 	private final MeetingRepository meetingRepository;
 	private final RefreshTokenRepository refreshTokenRepository;
+	private final TranscriptRepository transcriptRepository;
+	private final TranscriptArchiveRepository transcriptArchiveRepository;
+	private final MeetingDetailCache meetingDetailCache;
+	private final UserNameResolver userNameResolver;
+	private final SearchIndexer searchIndexer;
 	
 	@Transactional(readOnly = true)
 	public List<AdminResponse> getAllUsers() {
@@ -44,8 +54,12 @@ public class AdminService {
 
 	    participantRepository.deleteBySpeakerId(user.getEmail()); 
 	    meetingRepository.deleteByHostUser(user); 
+	    // 호스트/담당자로 걸린 회의를 특정하기 어려우므로 전체 비움. 커밋 전에 다른 요청이 삭제 전 상세를 다시 채울 수 있어 커밋 후에 비움
+	    TransactionCallbacks.runAfterCommit(meetingDetailCache::invalidateAll);
+	    searchIndexer.markHostDeleted(userId);
 	    refreshTokenRepository.deleteByUser(user);
 	    meetUserRepository.delete(user);
+	    userNameResolver.evict(user.getName());
 	}
 	
 	@Transactional
@@ -135,7 +149,12 @@ public class AdminService {
 	        throw new ResourceNotFoundException("해당 회의가 존재하지 않습니다. id=" + meetingId);
 	    }
 	  
+    	// 자식 행은 DELETE 한 문장씩으로 먼저 정리 (cascade 삭제 시 행마다 DELETE 발생 방지)
+    	transcriptRepository.deleteByMeetingId(meetingId);
+    	transcriptArchiveRepository.deleteByMeetingId(meetingId);
     	participantRepository.deleteByMeetingId(meetingId); 
     	meetingRepository.deleteById(meetingId);
+    	meetingDetailCache.invalidate(meetingId);
+    	searchIndexer.markDirty(meetingId);
 	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.dialog.user.service;
 
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +27,7 @@ public class SocialRegistrationService {
 
     private final MeetUserRepository meetUserRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserNameResolver userNameResolver;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public MeetUser saveOrUpdateSocialMember(SocialUserInfo socialUserInfo, String provider) {
@@ -43,10 +45,14 @@ public class SocialRegistrationService {
                 MeetUser existingUser = existingUserOpt.get();
                 log.info("기존 회원 발견 - 기존 이름: {}, 기존 이메일: {}", existingUser.getName(), existingUser.getEmail());
 
+                String previousName = existingUser.getName();
                 existingUser.updateSocialInfo(
                     socialUserInfo.getName(),
                     socialUserInfo.getProfileImageUrl()
                 );
+                if (!Objects.equals(previousName, existingUser.getName())) {
+                    userNameResolver.evict(previousName, existingUser.getName()); // 담당자 이름 캐시 무효화
+                }
                 log.info("기존 회원 발견 - 기존 이름: {}, 기존 이메일: {}", existingUser.getName(), existingUser.getEmail());
 
                 return meetUserRepository.save(existingUser);
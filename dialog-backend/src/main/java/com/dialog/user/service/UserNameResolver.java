@@ -0,0 +1,152 @@
+package com.dialog.user.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.global.utill.TransactionCallbacks;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 담당자 이름 목록을 한 번에 MeetUser로 변환하는 서비스.
+ *
+ * 1) 이름 정규화(trim, 빈 값/중복 제거)
+ * 2) 캐시(name → userId)에 있는 이름은 DB 조회 없이 참조(프록시)로 반환
+ * 3) 나머지는 idx_user_name 인덱스를 타는 IN 쿼리 한 번으로 조회
+ *
+ * user.name은 UNIQUE가 아니므로 같은 이름이 여러 명이면 가장 먼저 가입한(ID가 가장 작은) 사용자로 매칭합니다.
+ * 찾지 못한 이름은 캐시하지 않습니다 (이후 가입한 사용자를 바로 찾을 수 있도록).
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserNameResolver {
+
+	private final MeetUserRepository meetUserRepository;
+	private final Cache<String, Long> nameToIdCache;
+
+	public UserNameResolver(MeetUserRepository meetUserRepository,
+			@Value("${user.name-cache.max-size:5000}") long maxSize,
+			@Value("${user.name-cache.expire-after-write:30m}") Duration expireAfterWrite) {
+		this.meetUserRepository = meetUserRepository;
+		this.nameToIdCache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
+	}
+
+	// 이름 목록 → (정규화된 이름 → MeetUser) 맵. 찾지 못한 이름은 맵에 포함되지 않습니다.
+	public Map<String, MeetUser> resolveAll(Collection<String> rawNames) {
+		Map<String, MeetUser> result = new LinkedHashMap<>();
+		resolveIds(rawNames).forEach((name, userId) -> result.put(name, meetUserRepository.getReferenceById(userId)));
+		return result;
+	}
+
+	// 이름 목록 → (정규화된 이름 → userId) 맵. 엔티티가 필요 없는 곳(AI 응답 보강 등)에서 사용
+	public Map<String, Long> resolveIds(Collection<String> rawNames) {
+		Set<String> names = normalizeAll(rawNames);
+		Map<String, Long> resolved = new LinkedHashMap<>();
+		if (names.isEmpty()) {
+			return resolved;
+		}
+
+		// 1. 캐시 히트
+		List<String> misses = new ArrayList<>();
+		for (String name : names) {
+			Long cachedId = nameToIdCache.getIfPresent(name);
+			if (cachedId != null) {
+				resolved.put(name, cachedId);
+			} else {
+				misses.add(name);
+			}
+		}
+
+		// 2. 캐시 미스: IN 쿼리 한 번 (ID 오름차순이므로 같은 이름은 첫 번째만 채택)
+		if (!misses.isEmpty()) {
+			Map<String, Long> found = new LinkedHashMap<>();
+			for (MeetUser user : meetUserRepository.findAllByNameInOrderByIdAsc(misses)) {
+				Long previous = found.putIfAbsent(user.getName(), user.getId());
+				if (previous != null) {
+					log.debug("동명이인 담당자 '{}': userId={} 로 매칭 (userId={} 무시)", user.getName(), previous, user.getId());
+				}
+			}
+			for (String name : misses) {
+				Long userId = match(found, name);
+				if (userId != null) {
+					nameToIdCache.put(name, userId);
+					resolved.put(name, userId);
+				}
+			}
+		}
+
+		// 입력 순서대로 반환
+		Map<String, Long> ordered = new LinkedHashMap<>();
+		for (String name : names) {
+			Long userId = resolved.get(name);
+			if (userId != null) {
+				ordered.put(name, userId);
+			}
+		}
+		return ordered;
+	}
+
+	// 사용자 이름 변경/탈퇴 시 호출. 변경 전/후 이름을 모두 넘깁니다.
+	// 지금 즉시, 그리고 커밋 직후에 한 번 더 비워서 커밋 전 다른 요청이 옛 값을 다시 채우는 경우를 막습니다.
+	public void evict(String... rawNames) {
+		List<String> names = new ArrayList<>(normalizeAll(rawNames == null ? List.of() : Arrays.asList(rawNames)));
+		if (names.isEmpty()) {
+			return;
+		}
+		nameToIdCache.invalidateAll(names);
+		TransactionCallbacks.runAfterCommit(() -> nameToIdCache.invalidateAll(names));
+	}
+
+	public void evictAll() {
+		nameToIdCache.invalidateAll();
+	}
+
+	// MySQL 기본 collation은 대소문자를 구분하지 않으므로 (기존 findByName과 동일하게) 정확히 일치하는 이름이 없으면 대소문자 무시 비교
+	private Long match(Map<String, Long> found, String name) {
+		Long exact = found.get(name);
+		if (exact != null) {
+			return exact;
+		}
+		for (Map.Entry<String, Long> entry : found.entrySet()) {
+			if (entry.getKey().equalsIgnoreCase(name)) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	private static Set<String> normalizeAll(Collection<String> rawNames) {
+		Set<String> names = new LinkedHashSet<>();
+		if (rawNames != null) {
+			for (String raw : rawNames) {
+				if (raw == null) {
+					continue;
+				}
+				String trimmed = raw.trim();
+				if (!trimmed.isEmpty()) {
+					names.add(trimmed);
+				}
+			}
+		}
+		return names;
+	}
+}
@@ -0,0 +1,159 @@
+package com.dialog.calendarevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.dialog.calendarevent.domain.EventDateTimeDTO;
+import com.dialog.calendarevent.domain.GoogleEventRequestDTO;
+import com.dialog.exception.GoogleOAuthException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// 로컬 HTTP 스텁을 Google 배치 엔드포인트로 두고 multipart/mixed 요청/응답 처리 확인
+class GoogleCalendarBatchTest {
+
+	private static final Pattern PART = Pattern.compile("Content-ID: <item-(\\d+)>\\r\\n\\r\\nPOST (\\S+) HTTP/1.1.*?\\r\\n\\r\\n(\\{.*?\\})\\r\\n", Pattern.DOTALL);
+	private static final Pattern SUMMARY = Pattern.compile("\"summary\":\"([^\"]*)\"");
+
+	private HttpServer server;
+	private final List<List<String>> receivedBatches = new CopyOnWriteArrayList<>();
+	private volatile int batchStatus = 200;
+	private volatile boolean dropPartResponses;
+	private GoogleCalendarApiClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/batch/calendar/v3", this::handleBatch);
+		server.start();
+		String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+		client = new GoogleCalendarApiClient(WebClient.create(), base + "/calendar/v3/calendars/{calendarId}/events",
+				base + "/calendar/v3/users/me/calendarList",
+				new GoogleCalendarResponseCache(true, Duration.ofSeconds(30), Duration.ofHours(1), 100),
+				new ObjectMapper(), Duration.ofSeconds(5), Duration.ofSeconds(10), 20, base + "/batch/calendar/v3", 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void splitsIntoBatchesAndReportsEachItem() {
+		List<GoogleCalendarApiClient.BatchItemResult> results = client.createEvents("user@dialog.com", "token",
+				"primary", events("회의록 정리", "fail", "예산안 검토", "발표 준비", "fail"));
+
+		// batch-size 2 → 2 + 2 + 1
+		assertThat(receivedBatches).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(results).hasSize(5);
+		assertThat(results).extracting(GoogleCalendarApiClient.BatchItemResult::isSuccess)
+				.containsExactly(true, false, true, true, false);
+		assertThat(results.get(0).event().getId()).isEqualTo("id-회의록 정리");
+		assertThat(results.get(3).event().getId()).isEqualTo("id-발표 준비");
+		assertThat(results.get(1).status()).isEqualTo(400);
+		assertThat(results.get(1).error()).isEqualTo("Invalid start time.");
+	}
+
+	@Test
+	void failedBatchMarksOnlyItsItems() {
+		batchStatus = 503;
+
+		List<GoogleCalendarApiClient.BatchItemResult> results = client.createEvents("user@dialog.com", "token",
+				"primary", events("a", "b", "c"));
+
+		assertThat(receivedBatches).hasSize(2);
+		assertThat(results).hasSize(3).allSatisfy(result -> {
+			assertThat(result.isSuccess()).isFalse();
+			assertThat(result.unknown()).isFalse();
+			assertThat(result.status()).isZero();
+		});
+	}
+
+	@Test
+	void missingPartResponsesAreUnknownNotFailed() {
+		dropPartResponses = true;
+
+		List<GoogleCalendarApiClient.BatchItemResult> results = client.createEvents("user@dialog.com", "token",
+				"primary", events("a", "b"));
+
+		// 응답에 결과가 없으면 생성됐을 수도 있으므로 실패가 아닌 unknown
+		assertThat(results).hasSize(2).allSatisfy(result -> {
+			assertThat(result.isSuccess()).isFalse();
+			assertThat(result.unknown()).isTrue();
+		});
+	}
+
+	@Test
+	void unauthorizedBatchIsAuthError() {
+		batchStatus = 401;
+
+		assertThatThrownBy(() -> client.createEvents("user@dialog.com", "token", "primary", events("a")))
+				.isInstanceOf(GoogleOAuthException.class);
+	}
+
+	// 파트마다 summary 가 "fail" 이면 400, 아니면 생성된 이벤트. 응답 파트는 요청과 반대 순서로 보냄
+	private void handleBatch(HttpExchange exchange) throws IOException {
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		List<String> summaries = new ArrayList<>();
+		List<String> parts = new ArrayList<>();
+		Matcher part = PART.matcher(body);
+		while (part.find()) {
+			assertThat(part.group(2)).isEqualTo("/calendar/v3/calendars/primary/events");
+			Matcher summary = SUMMARY.matcher(part.group(3));
+			String title = summary.find() ? summary.group(1) : "";
+			summaries.add(title);
+			String response = "fail".equals(title)
+					? "HTTP/1.1 400 Bad Request\r\nContent-Type: application/json\r\n\r\n{\"error\":{\"code\":400,\"message\":\"Invalid start time.\"}}"
+					: "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\n\r\n{\"id\":\"id-" + title + "\",\"summary\":\"" + title + "\"}";
+			if (dropPartResponses) {
+				continue;
+			}
+			parts.add(0, "--resp_b\r\nContent-Type: application/http\r\nContent-ID: <response-item-" + part.group(1)
+					+ ">\r\n\r\n" + response + "\r\n");
+		}
+		receivedBatches.add(summaries);
+		assertThat(exchange.getRequestHeaders().getFirst("Content-Type")).startsWith("multipart/mixed; boundary=");
+		assertThat(exchange.getRequestHeaders().getFirst("Authorization")).isEqualTo("Bearer token");
+
+		byte[] response = batchStatus == 200 ? (String.join("", parts) + "--resp_b--\r\n").getBytes(StandardCharsets.UTF_8)
+				: "{\"error\":{\"message\":\"unavailable\"}}".getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type",
+				batchStatus == 200 ? "multipart/mixed; boundary=resp_b" : "application/json");
+		exchange.sendResponseHeaders(batchStatus, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(response);
+		}
+	}
+
+	private List<GoogleEventRequestDTO> events(String... summaries) {
+		List<GoogleEventRequestDTO> events = new ArrayList<>();
+		for (String summary : summaries) {
+			EventDateTimeDTO date = new EventDateTimeDTO();
+			date.setDate("2026-10-20");
+			GoogleEventRequestDTO event = new GoogleEventRequestDTO();
+			event.setSummary(summary);
+			event.setStart(date);
+			event.setEnd(date);
+			events.add(event);
+		}
+		return events;
+	}
+}
@@ -0,0 +1,212 @@
+package com.dialog.meeting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.RestTemplate;
+
+import com.dialog.actionitem.domain.ActionItem;
+import com.dialog.keyword.domain.Keyword;
+import com.dialog.keyword.domain.KeywordSource;
+import com.dialog.keyword.domain.MeetingResultKeyword;
+import com.dialog.keyword.service.KeywordResolver;
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingCreateResponseDto;
+import com.dialog.meetingresult.domain.ImportanceLevel;
+import com.dialog.meetingresult.domain.MeetingResult;
+import com.dialog.participant.domain.Participant;
+import com.dialog.recording.domain.Recording;
+import com.dialog.search.service.SearchIndexer;
+import com.dialog.support.JpaSliceTestConfig;
+import com.dialog.support.StatementCounter;
+import com.dialog.transcript.service.LiveTranscriptBuffer;
+import com.dialog.transcript.service.TranscriptArchiveService;
+import com.dialog.transcript.service.TranscriptBulkWriter;
+import com.dialog.transcript.service.TranscriptOrderService;
+import com.dialog.transcript.service.TranscriptTimelineCache;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.service.UserNameResolver;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// MeetingService.findById 의 SQL 실행 횟수 고정 (자식 수가 늘어도 쿼리 수가 늘면 N+1 회귀)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfig.class)
+@Import({ MeetingService.class, MeetingDetailLoader.class, MeetingDetailCache.class })
+class MeetingDetailQueryCountTest {
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	// 조회 경로와 무관한 협력 객체
+	@MockitoBean
+	private RestTemplate restTemplate;
+
+	@MockitoBean
+	private KeywordResolver keywordResolver;
+
+	@MockitoBean
+	private TranscriptBulkWriter transcriptBulkWriter;
+
+	@MockitoBean
+	private LiveTranscriptBuffer liveTranscriptBuffer;
+
+	@MockitoBean
+	private UserNameResolver userNameResolver;
+
+	@MockitoBean
+	private SearchIndexer searchIndexer;
+
+	@MockitoBean
+	private TranscriptArchiveService transcriptArchiveService;
+
+	@MockitoBean
+	private TranscriptTimelineCache transcriptTimelineCache;
+
+	@MockitoBean
+	private TranscriptOrderService transcriptOrderService;
+
+	@Autowired
+	private MeetingDetailCache meetingDetailCache;
+
+	private StatementCounter counter;
+	private MeetUser host;
+	private int userSeq;
+
+	@BeforeEach
+	void setUp() {
+		counter = new StatementCounter(entityManagerFactory);
+		meetingDetailCache.invalidateAll(); // 캐시 적중 시 쿼리 0회이므로 매번 로더 경로를 측정
+		host = user("호스트");
+	}
+
+	@Test
+	void findByIdWithResultRunsExactlyThreeStatements() {
+		Long meetingId = meetingWithResult(5, 8, 6);
+		entityManager.flush();
+		entityManager.clear();
+		counter.reset();
+
+		MeetingCreateResponseDto dto = meetingService.findById(meetingId);
+
+		assertThat(counter.statements()).isEqualTo(MeetingDetailLoader.QUERIES_WITH_RESULT);
+		assertThat(dto.getAuthorName()).isEqualTo("호스트");
+		assertThat(dto.getParticipants()).hasSize(5);
+		assertThat(dto.getKeywords()).hasSize(8);
+		assertThat(dto.getActionItems()).hasSize(6)
+				.allSatisfy(item -> assertThat(item.getAssignee()).isNotNull());
+	}
+
+	@Test
+	void statementCountDoesNotGrowWithChildCollections() {
+		Long small = meetingWithResult(1, 1, 1);
+		Long large = meetingWithResult(30, 40, 25);
+		entityManager.flush();
+		entityManager.clear();
+
+		counter.reset();
+		meetingService.findById(small);
+		long smallCount = counter.statements();
+
+		entityManager.clear();
+		counter.reset();
+		meetingService.findById(large);
+		long largeCount = counter.statements();
+
+		assertThat(largeCount).isEqualTo(smallCount).isEqualTo(MeetingDetailLoader.QUERIES_WITH_RESULT);
+	}
+
+	@Test
+	void findByIdWithoutResultRunsSingleStatement() {
+		Meeting meeting = meeting();
+		entityManager.persist(Participant.builder().meeting(meeting).speakerId("Speaker 1").name("참가자").build());
+		entityManager.flush();
+		entityManager.clear();
+		counter.reset();
+
+		MeetingCreateResponseDto dto = meetingService.findById(meeting.getId());
+
+		assertThat(counter.statements()).isEqualTo(MeetingDetailLoader.QUERIES_WITHOUT_RESULT);
+		assertThat(dto.getParticipants()).containsExactly("참가자");
+		assertThat(dto.getActionItems()).isEmpty();
+	}
+
+	@Test
+	void cachedDetailIsServedWithoutStatementsUntilInvalidated() {
+		Long meetingId = meetingWithResult(2, 2, 2);
+		entityManager.flush();
+		entityManager.clear();
+
+		meetingService.findById(meetingId);
+		entityManager.clear();
+		counter.reset();
+
+		meetingService.findById(meetingId);
+		assertThat(counter.statements()).isZero();
+
+		meetingDetailCache.invalidate(meetingId);
+		entityManager.clear();
+		counter.reset();
+
+		meetingService.findById(meetingId);
+		assertThat(counter.statements()).isEqualTo(MeetingDetailLoader.QUERIES_WITH_RESULT);
+	}
+
+	private Long meetingWithResult(int participants, int keywords, int actionItems) {
+		Meeting meeting = meeting();
+		entityManager.persist(Recording.builder().meeting(meeting).audioFileUrl("/audio/" + meeting.getId() + ".wav")
+				.audioFormat("wav").durationSeconds(60).build());
+
+		for (int i = 1; i <= participants; i++) {
+			entityManager.persist(Participant.builder().meeting(meeting).speakerId("Speaker " + i).name("참가자 " + i).build());
+		}
+
+		MeetingResult result = MeetingResult.builder().meeting(meeting).purpose("목적").agenda("안건").summary("요약")
+				.importance(ImportanceLevel.HIGH).importanceReason("사유").build();
+		entityManager.persist(result);
+
+		for (int i = 1; i <= keywords; i++) {
+			Keyword keyword = Keyword.builder().name("키워드-" + meeting.getId() + "-" + i).build();
+			entityManager.persist(keyword);
+			entityManager.persist(MeetingResultKeyword.builder().meetingResult(result).keyword(keyword)
+					.source(KeywordSource.AI).build());
+		}
+
+		for (int i = 1; i <= actionItems; i++) {
+			entityManager.persist(ActionItem.builder().meetingResult(result).assignee(user("담당자 " + i))
+					.task("할 일 " + i).source("AI").build());
+		}
+		return meeting.getId();
+	}
+
+	private Meeting meeting() {
+		Meeting meeting = Meeting.builder().title("주간 회의").scheduledAt(LocalDateTime.now()).hostUser(host).build();
+		entityManager.persist(meeting);
+		return meeting;
+	}
+
+	private MeetUser user(String name) {
+		MeetUser user = MeetUser.builder().email("user" + (++userSeq) + "@dialog.com").password("pw").name(name).build();
+		entityManager.persist(user);
+		return user;
+	}
+}
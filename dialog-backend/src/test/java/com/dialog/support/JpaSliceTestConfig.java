@@ -0,0 +1,13 @@
+package com.dialog.support;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// DialogBackendApplication의 @ComponentScan이 슬라이스 테스트에서도 전체 빈을 올리므로,
+// @DataJpaTest는 이 설정으로 엔티티/리포지토리만 로딩합니다.
+@Configuration
+@EntityScan(basePackages = "com.dialog")
+@EnableJpaRepositories(basePackages = "com.dialog")
+public class JpaSliceTestConfig {
+}
@@ -0,0 +1,42 @@
+package com.dialog.support;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Hibernate Statistics 기반 SQL 실행 횟수 측정기 (hibernate.generate_statistics=true 필요)
+public class StatementCounter {
+
+	private final Statistics statistics;
+
+	public StatementCounter(EntityManagerFactory entityManagerFactory) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		this.statistics.setStatisticsEnabled(true);
+	}
+
+	public void reset() {
+		statistics.clear();
+	}
+
+	// JDBC PreparedStatement 준비 횟수 (배치 INSERT는 배치당 1회)
+	public long statements() {
+		return statistics.getPrepareStatementCount();
+	}
+
+	public long queries() {
+		return statistics.getQueryExecutionCount();
+	}
+
+	public long entityInserts() {
+		return statistics.getEntityInsertCount();
+	}
+
+	public long entityLoads() {
+		return statistics.getEntityLoadCount();
+	}
+
+	public Statistics raw() {
+		return statistics;
+	}
+}
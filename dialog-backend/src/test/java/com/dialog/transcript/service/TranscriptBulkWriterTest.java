@@ -0,0 +1,109 @@
+package com.dialog.transcript.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.support.JpaSliceTestConfig;
+import com.dialog.support.StatementCounter;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.user.domain.MeetUser;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// 회의 종료(finishMeeting) 시 발화 5,000건 저장에 드는 SQL 문 수 측정
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceTestConfig.class)
+@Import(TranscriptBulkWriter.class)
+class TranscriptBulkWriterTest {
+
+	private static final int SEGMENTS = 5_000;
+	private static final int BATCH_SIZE = 100; // application-test.yml의 hibernate.jdbc.batch_size
+	private static final int ID_ALLOCATION_SIZE = 50; // Transcript @SequenceGenerator allocationSize
+
+	@Autowired
+	private TranscriptBulkWriter transcriptBulkWriter;
+
+	@Autowired
+	private TranscriptRepository transcriptRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private StatementCounter counter;
+	private Meeting meeting;
+
+	@BeforeEach
+	void setUp() {
+		counter = new StatementCounter(entityManagerFactory);
+
+		MeetUser host = MeetUser.builder().email("host@dialog.com").password("pw").name("호스트").build();
+		entityManager.persist(host);
+		meeting = Meeting.builder().title("2시간 회의").scheduledAt(LocalDateTime.now()).hostUser(host).build();
+		entityManager.persist(meeting);
+		entityManager.flush();
+	}
+
+	@Test
+	void finishWith5000SegmentsIsSentInJdbcBatches() {
+		counter.reset();
+
+		transcriptBulkWriter.replaceAll(meeting.getId(), segments(SEGMENTS));
+
+		// 삭제 1 + INSERT 배치 (5000 / 100) + 시퀀스 조회 (5000 / 50)
+		long expectedUpperBound = 1 + SEGMENTS / BATCH_SIZE + SEGMENTS / ID_ALLOCATION_SIZE + 5;
+		assertThat(counter.entityInserts()).isEqualTo(SEGMENTS);
+		assertThat(counter.statements()).isLessThanOrEqualTo(expectedUpperBound);
+		assertThat(counter.statements()).isLessThan(SEGMENTS / 10);
+		assertThat(entityManager.contains(meeting)).isTrue();
+		assertThat(transcriptRepository.count()).isEqualTo(SEGMENTS);
+	}
+
+	@Test
+	void refinishDeletesPreviousSegmentsWithSingleStatement() {
+		transcriptBulkWriter.replaceAll(meeting.getId(), segments(SEGMENTS));
+		entityManager.clear();
+		counter.reset();
+
+		transcriptBulkWriter.replaceAll(meeting.getId(), List.of());
+
+		assertThat(counter.statements()).isEqualTo(1);
+		assertThat(counter.entityLoads()).isZero();
+		assertThat(transcriptRepository.existsByMeetingId(meeting.getId())).isFalse();
+	}
+
+	private List<Transcript> segments(int count) {
+		Meeting ref = entityManager.getReference(Meeting.class, meeting.getId());
+		List<Transcript> transcripts = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			transcripts.add(Transcript.builder()
+					.meeting(ref)
+					.speakerId("Speaker " + (i % 4 + 1))
+					.text("발화 " + i)
+					.startTime(i * 1000L)
+					.endTime(i * 1000L + 900)
+					.sequenceOrder((long) i)
+					.build());
+		}
+		return transcripts;
+	}
+}
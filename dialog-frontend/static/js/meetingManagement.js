@@ -54,6 +54,10 @@ function addMeeting() {
   alert('신규 회의 등록!');
 }
 
+// 회의 목록 페이지 상태 (서버가 내려준 커서로 이어서 조회)
+const MEETING_PAGE_SIZE = 20;
+let meetingNextCursor = null;
+
 async function loadAndRenderMeetings() {
     const tableBody = document.querySelector(".meetings-table tbody");
     if (!tableBody) {
@@ -62,31 +66,82 @@ async function loadAndRenderMeetings() {
     }
 
     // 1. 로딩 표시
+    meetingNextCursor = null;
     tableBody.innerHTML = '<tr><td colspan="6" style="text-align:center;">회의 목록을 불러오는 중...</td></tr>';
 
     try {
         // app.js에 정의된 'apiClient'를 사용하여 백엔드 API 호출
-        const response = await apiClient.get('/admin/meetings');
-        const meetings = response.data;
+        const response = await apiClient.get('/admin/meetings', { params: { size: MEETING_PAGE_SIZE } });
+        const page = response.data;
 
         // 2. 데이터가 없는 경우
-        if (!meetings || meetings.length === 0) {
+        if (!page.items || page.items.length === 0) {
             tableBody.innerHTML = '<tr><td colspan="6" style="text-align:center;">등록된 회의가 없습니다.</td></tr>';
+            updateLoadMoreButton(false);
             return;
         }
 
         // 3. 데이터가 있으면 테이블 렌더링
         tableBody.innerHTML = ''; // 로딩 표시 제거 및 초기화
-        meetings.forEach(meeting => {
-            tableBody.appendChild(createMeetingRow(meeting));
-        });
+        appendMeetingPage(tableBody, page);
 
     } catch (error) {
         console.error("회의 목록 로드 실패:", error);
         tableBody.innerHTML = '<tr><td colspan="6" style="text-align:center;">목록을 불러오는 데 실패했습니다.</td></tr>';
+        updateLoadMoreButton(false);
     }
 }
 
+// 다음 페이지 이어서 불러오기
+async function loadMoreMeetings(event) {
+    const tableBody = document.querySelector(".meetings-table tbody");
+    if (!tableBody || meetingNextCursor === null) return;
+
+    const button = event.target;
+    button.disabled = true;
+    button.textContent = '불러오는 중...';
+
+    try {
+        const response = await apiClient.get('/admin/meetings', {
+            params: { size: MEETING_PAGE_SIZE, cursor: meetingNextCursor }
+        });
+        appendMeetingPage(tableBody, response.data);
+    } catch (error) {
+        console.error("회의 목록 추가 로드 실패:", error);
+        alert('목록을 더 불러오지 못했습니다.');
+    } finally {
+        button.disabled = false;
+        button.textContent = '더 보기';
+    }
+}
+
+function appendMeetingPage(tableBody, page) {
+    (page.items || []).forEach(meeting => {
+        tableBody.appendChild(createMeetingRow(meeting));
+    });
+    meetingNextCursor = page.hasNext ? page.nextCursor : null;
+    updateLoadMoreButton(page.hasNext);
+}
+
+// 테이블 아래 '더 보기' 버튼 표시/숨김
+function updateLoadMoreButton(visible) {
+    let button = document.getElementById('loadMoreMeetingsBtn');
+    if (!button) {
+        const scrollArea = document.querySelector('.meeting-table-scroll');
+        if (!scrollArea) return;
+
+        button = document.createElement('button');
+        button.id = 'loadMoreMeetingsBtn';
+        button.className = 'small-action-btn';
+        button.textContent = '더 보기';
+        button.style.display = 'block';
+        button.style.margin = '12px auto';
+        button.addEventListener('click', loadMoreMeetings);
+        scrollArea.appendChild(button);
+    }
+    button.style.display = visible ? 'block' : 'none';
+}
+
 function createMeetingRow(meeting) {
     const tr = document.createElement('tr');
 
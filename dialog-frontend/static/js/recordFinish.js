@@ -12,6 +12,7 @@ let originalSummaryData = {};
 let currentMappingSpeaker = null;
 let currentUserName = null;
 let tempSelectedParticipant = null;
+let savedTranscriptSnapshot = new Map(); // 마지막으로 서버와 일치한 발화 상태 (id → 값), 변경분 계산용
 
 /* ===============================
    Chatbot & Sidebar Fetch
@@ -538,6 +539,7 @@ async function loadMeetingDataFromServer() {
 
         // 복구된 매핑 정보를 전역 변수에 적용
         speakerMappingData = restoredMapping;
+        rememberSavedTranscripts();
         console.log("매핑 정보 복원 완료:", speakerMappingData);
 
         // 액션 아이템 매핑 (서버에서 받은 데이터 -> 프론트엔드 변수)
@@ -891,8 +893,13 @@ async function generateAISummary(userJob) {
             })
         });
 
-        const data = await response.json();
-        if (!response.ok) throw new Error(data.detail || `서버 오류: ${response.status}`);
+        // 서버는 요약 작업을 등록하고 jobId만 즉시 돌려줌 (202)
+        const raw = await response.text();
+        let submitted = {};
+        try { submitted = raw ? JSON.parse(raw) : {}; } catch (e) { submitted = { detail: raw }; }
+        if (!response.ok) throw new Error(submitted.detail || raw || `서버 오류: ${response.status}`);
+
+        const data = await waitForSummaryJob(submitted.jobId);
 
         hideLoadingMessage();
 
@@ -948,6 +955,61 @@ async function generateAISummary(userJob) {
     }
 }
 
+/* 요약 작업 완료 대기 (SSE 우선, 연결 실패 시 폴링으로 전환) */
+function waitForSummaryJob(jobId) {
+    const jobUrl = `http://localhost:8080/api/meetings/summarize/jobs/${jobId}`;
+
+    const finish = (job, resolve, reject) => {
+        if (job.status === 'COMPLETED') resolve(job);
+        else reject(new Error(job.error || 'AI 요약 생성에 실패했습니다.'));
+    };
+
+    const poll = (resolve, reject) => {
+        const tick = async () => {
+            try {
+                const res = await fetch(jobUrl, { credentials: 'include' });
+                if (!res.ok) throw new Error(`요약 작업 조회 실패: ${res.status}`);
+                const job = await res.json();
+                if (job.status === 'COMPLETED' || job.status === 'FAILED') {
+                    finish(job, resolve, reject);
+                } else {
+                    setTimeout(tick, 2000);
+                }
+            } catch (err) {
+                reject(err);
+            }
+        };
+        tick();
+    };
+
+    return new Promise((resolve, reject) => {
+        if (typeof EventSource === 'undefined') {
+            poll(resolve, reject);
+            return;
+        }
+
+        const source = new EventSource(`${jobUrl}/events`, { withCredentials: true });
+        let settled = false;
+
+        source.addEventListener('status', (event) => {
+            const job = JSON.parse(event.data);
+            if (job.status === 'COMPLETED' || job.status === 'FAILED') {
+                settled = true;
+                source.close();
+                finish(job, resolve, reject);
+            }
+        });
+
+        source.onerror = () => {
+            // 스트림이 끊기면(타임아웃, 프록시 등) 폴링으로 이어서 확인
+            if (settled) return;
+            settled = true;
+            source.close();
+            poll(resolve, reject);
+        };
+    });
+}
+
 /* 로딩 상태 표시 (키워드 로딩 추가, 중요도 숨김) */
 function showLoadingState() {
     const placeholderEl = document.getElementById("aiSummaryPlaceholder");
@@ -1105,6 +1167,7 @@ function displayDefaultSummary() {
 
 /* 액션 아이템 렌더링 (박스/리스트 토글 적용) */
 function renderActionItems() {
+    updateAddAllToCalendarButton();
     const placeholder = document.getElementById("actionItemPlaceholder");
     const listContainer = document.getElementById("actionList");
     
@@ -1443,6 +1506,79 @@ async function toggleCalendar(index) {
     renderActionItems();
 }
 
+/* 기한이 있고 아직 캘린더에 없는 액션 아이템 */
+// 등록 여부를 알 수 없는(응답 시간 초과) 항목은 다시 보내면 중복될 수 있어 일괄 추가에서 제외 (개별 추가는 가능)
+function pendingCalendarItems() {
+    return (actionItems || []).filter(item => item.deadline && !item.addedToCalendar && !item.calendarUnknown);
+}
+
+function updateAddAllToCalendarButton() {
+    const addAllBtn = document.getElementById('addAllToCalendarBtn');
+    if (addAllBtn) addAllBtn.disabled = pendingCalendarItems().length === 0;
+}
+
+/* 액션 아이템 전체를 캘린더에 한 번에 추가 (서버가 Google 배치 요청으로 처리, 건별 결과 반환) */
+async function addAllToCalendar() {
+    const items = pendingCalendarItems();
+    if (items.length === 0) {
+        showErrorMessage("캘린더에 추가할 액션 아이템이 없습니다. (기한이 설정된 항목만 추가됩니다)");
+        return;
+    }
+    const addAllBtn = document.getElementById('addAllToCalendarBtn');
+    if (addAllBtn) addAllBtn.disabled = true;
+
+    const bodyData = {
+        calendarId: "primary",
+        events: items.map(item => ({
+            summary: item.title,
+            start: { date: item.deadline },
+            end: { date: item.deadline }
+        }))
+    };
+    try {
+        const response = await fetch('http://localhost:8080/api/calendar/events/bulk', {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            credentials: 'include',
+            body: JSON.stringify(bodyData)
+        });
+        if (!response.ok) throw new Error('캘린더 일괄 추가에 실패했습니다.');
+
+        const results = await response.json();
+        let failed = 0;
+        let unknown = 0;
+        results.forEach(result => {
+            const item = items[result.index];
+            if (!item) return;
+            if (result.success) {
+                // Google 에 생성된 항목은 로컬 저장에 실패했더라도 다시 보내지 않음
+                item.googleEventId = result.googleEventId;
+                item.addedToCalendar = true;
+                if (result.localSaved === false) console.warn("캘린더 로컬 저장 실패:", item.title, result.error);
+            } else if (result.unknown) {
+                unknown++;
+                item.calendarUnknown = true;
+                console.warn("캘린더 추가 결과 알 수 없음:", item.title, result.error);
+            } else {
+                failed++;
+                console.warn("캘린더 추가 실패:", item.title, result.error);
+            }
+        });
+        const added = results.length - failed - unknown;
+        if (failed === 0 && unknown === 0) {
+            showSuccessMessage(`${results.length}개 항목이 캘린더에 추가되었습니다.`);
+        } else if (unknown > 0) {
+            showErrorMessage(`${added}개 추가, ${failed}개 실패, ${unknown}개는 등록 여부를 확인하지 못했습니다. 캘린더에서 확인해주세요.`);
+        } else {
+            showErrorMessage(`${added}개 추가, ${failed}개 실패했습니다.`);
+        }
+    } catch (error) {
+        console.error("캘린더 일괄 추가 실패:", error);
+        showErrorMessage(error.message || "캘린더 일괄 추가에 실패했습니다.");
+    }
+    renderActionItems();
+}
+
 function openActionModal() {
     const modal = document.getElementById("actionModal");
     document.getElementById("actionTitle").value = "";
@@ -2150,10 +2286,19 @@ async function saveMeeting() {
     }
 
     const updateDto = collectUpdateData();
-    console.log("📤 서버로 전송할 데이터:", updateDto);
+
+    // 발화 로그는 전체 목록 대신 바뀐 부분만 별도 API로 전송
+    const operations = buildTranscriptOperations();
+    delete updateDto.transcripts;
+
+    console.log("📤 서버로 전송할 데이터:", updateDto, "발화 변경:", operations.length);
     showLoadingMessage("회의록을 서버에 저장 중...");
 
     try {
+        if (operations.length > 0) {
+            await saveTranscriptOperations(meetingId, operations);
+        }
+
         const response = await fetch(`http://localhost:8080/api/meetings/${meetingId}`, {
             method: 'PATCH',
             headers: { 'Content-Type': 'application/json' },
@@ -2177,6 +2322,112 @@ async function saveMeeting() {
     }
 }
 
+/* 서버에 저장된 발화 상태 기억 (다음 저장 시 변경분 계산 기준) */
+function rememberSavedTranscripts() {
+    savedTranscriptSnapshot = new Map();
+    let rank = 0; // 저장된 발화끼리의 순서 (서버 순서 키는 간격이 있어 직접 비교하지 않음)
+    (meetingData?.transcripts || []).forEach(t => {
+        if (t.id === null || t.id === undefined) return;
+        savedTranscriptSnapshot.set(t.id, {
+            text: t.text || "",
+            speaker: t.speaker,
+            speakerName: t.speakerName,
+            rank: rank++,
+            isDeleted: t.isDeleted || false
+        });
+    });
+}
+
+/* 현재 발화 목록과 마지막 저장 상태를 비교해 변경 연산 목록 생성
+ * 순서는 앞뒤 발화 기준 위치(afterId/beforeId/afterRef)로 보내 서버가 해당 발화의 순서 키만 바꾸게 함 */
+function buildTranscriptOperations() {
+    const operations = [];
+    const sorted = (meetingData.transcripts || []).sort((a, b) => a.startTime - b.startTime);
+    const isSaved = t => t.id !== null && t.id !== undefined && savedTranscriptSnapshot.has(t.id);
+    const nextSavedId = index => {
+        const next = sorted.slice(index + 1).find(isSaved);
+        return next ? next.id : undefined;
+    };
+    let maxKeptRank = -1; // 제자리에 있는 저장 발화 중 가장 큰 rank
+
+    sorted.forEach((t, index) => {
+        const prev = index > 0 ? sorted[index - 1] : null;
+        const speakerId = t.speaker || t.speakerName || "Unknown";
+        const isDeleted = t.isDeleted || false;
+
+        if (t.id === null || t.id === undefined) {
+            t.clientRef = t.clientRef || `new-${Date.now()}-${index}`;
+            operations.push({
+                op: 'INSERT',
+                clientRef: t.clientRef,
+                text: t.text || "",
+                speakerId: speakerId,
+                speakerName: t.speakerName,
+                startTime: t.startTime || 0,
+                endTime: t.endTime || 0,
+                ...positionOf(prev, nextSavedId(index)),
+                isDeleted: isDeleted
+            });
+            return;
+        }
+
+        const saved = savedTranscriptSnapshot.get(t.id);
+        if (!saved) return;
+
+        if ((t.text || "") !== saved.text) {
+            operations.push({ op: 'EDIT_TEXT', id: t.id, text: t.text || "" });
+        }
+        if (speakerId !== saved.speaker || t.speakerName !== saved.speakerName) {
+            operations.push({ op: 'CHANGE_SPEAKER', id: t.id, speakerId: speakerId, speakerName: t.speakerName });
+        }
+        if (saved.rank > maxKeptRank) {
+            maxKeptRank = saved.rank;
+        } else {
+            // 앞선 저장 발화보다 먼저 저장돼 있던 발화만 이동
+            const prevSaved = sorted.slice(0, index).reverse().find(isSaved);
+            operations.push(prevSaved
+                ? { op: 'REORDER', id: t.id, afterId: prevSaved.id }
+                : { op: 'REORDER', id: t.id, beforeId: nextSavedId(index) });
+        }
+        if (isDeleted !== saved.isDeleted) {
+            operations.push({ op: isDeleted ? 'DELETE' : 'RESTORE', id: t.id });
+        }
+    });
+    return operations;
+}
+
+/* 신규 발화 위치: 바로 앞 발화 뒤 (앞 발화도 신규면 같은 요청의 clientRef 기준), 맨 앞이면 다음 저장 발화 앞 */
+function positionOf(prev, nextId) {
+    if (prev && prev.clientRef && (prev.id === null || prev.id === undefined)) {
+        return { afterRef: prev.clientRef };
+    }
+    if (prev && prev.id !== null && prev.id !== undefined) {
+        return { afterId: prev.id };
+    }
+    return nextId !== undefined ? { beforeId: nextId } : {};
+}
+
+/* 발화 변경분 전송 후 신규 발화에 서버 ID 반영 */
+async function saveTranscriptOperations(meetingId, operations) {
+    const response = await fetch(`http://localhost:8080/api/transcripts/meeting/${meetingId}`, {
+        method: 'PATCH',
+        headers: { 'Content-Type': 'application/json' },
+        credentials: 'include',
+        body: JSON.stringify({ operations })
+    });
+    if (!response.ok) throw new Error(await response.text());
+
+    const result = await response.json();
+    const insertedIds = result.insertedIds || {};
+    (meetingData.transcripts || []).forEach(t => {
+        if (t.clientRef && insertedIds[t.clientRef] !== undefined) {
+            t.id = insertedIds[t.clientRef];
+            delete t.clientRef;
+        }
+    });
+    rememberSavedTranscripts();
+}
+
 /* 매핑 완료 상태 체크 및 AI 요약 버튼 활성화 */
 function checkMappingCompletion() {
     if (!meetingData || !meetingData.transcripts) return;
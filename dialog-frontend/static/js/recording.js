@@ -184,6 +184,12 @@ let micStream = null;
 let sentences = [];  // 문장 저장 배열
 let isRecordingComplete = false;
 
+// 실시간 발화 전송 상태 (녹음 중 확정된 문장을 서버로 조금씩 전송)
+let liveIngestionEnabled = false;
+let liveSentCount = 0;          // 서버가 받은 문장 수 (= 다음에 보낼 sequenceOrder)
+let liveSyncPromise = null;     // 전송 중 요청 (중복 전송 방지)
+let liveSyncInterval = null;
+
 // 🆕 녹음 파일 메타데이터 저장
 let recordingMetadata = {
   audioFileUrl: '',
@@ -860,7 +866,11 @@ startBtn.addEventListener('click', async () => {
     // 기존 데이터 초기화
     transcriptContent.innerHTML = '';
     sentences = [];
+    liveSentCount = 0;
     updateTranscriptCount();
+
+    // 서버에 회의 시작 알림 (실패해도 녹음은 계속, 종료 시 일괄 전송으로 대체)
+    startLiveIngestion();
     
     // 녹음 메타데이터 초기화
     recordingMetadata = {
@@ -943,16 +953,20 @@ endBtn.addEventListener('click', () => {
       // 마이크 정리
       stopMicVisualizer();
 
-      // 회의 데이터 준비
-      const transcripts = sentences.map((s, index) => ({
-        speakerId: s.speaker || 'Unknown',
-        speakerName: s.speaker || 'Unknown',
-        speakerLabel: extractSpeakerLabel(s.speaker),
-        text: s.text || '',
-        startTime: s.startTs || 0,
-        endTime: s.endTs || s.startTs || 0,
-        sequenceOrder: index
-      }));
+      // 실시간 전송 중이었다면 남은 문장(마지막 문장 포함)까지 마저 전송
+      clearInterval(liveSyncInterval);
+      if (liveIngestionEnabled) {
+        try {
+          await syncLiveTranscripts(true);
+        } catch (e) {
+          console.warn('남은 발화 실시간 전송 실패, 종료 요청에 포함하여 전송:', e);
+        }
+      }
+
+      // 회의 데이터 준비 (서버가 이미 받은 문장은 제외)
+      const transcripts = sentences
+        .map((s, index) => toTranscriptPayload(s, index))
+        .slice(liveIngestionEnabled ? liveSentCount : 0);
 
       // Recording 엔티티 필드에 맞춘 녹음 데이터 준비
       const audioFileUrl = recordingMetadata.audioFileUrl || 
@@ -1029,6 +1043,81 @@ endBtn.addEventListener('click', () => {
   );
 });
 
+/* ===============================
+   실시간 발화 전송
+=================================*/
+function toTranscriptPayload(s, index) {
+  return {
+    speakerId: s.speaker || 'Unknown',
+    speakerName: s.speaker || 'Unknown',
+    speakerLabel: extractSpeakerLabel(s.speaker),
+    text: s.text || '',
+    startTime: s.startTs || 0,
+    endTime: s.endTs || s.startTs || 0,
+    sequenceOrder: index
+  };
+}
+
+// 회의를 RECORDING 상태로 전환하고 주기적 전송 시작
+async function startLiveIngestion() {
+  const meetingId = localStorage.getItem("currentMeetingId");
+  if (!meetingId) return;
+
+  try {
+    const res = await fetch(`http://localhost:8080/api/meetings/${meetingId}/start`, {
+      method: "POST",
+      credentials: 'include'
+    });
+    if (!res.ok) throw new Error(`회의 시작 실패: ${res.status}`);
+
+    liveIngestionEnabled = true;
+    clearInterval(liveSyncInterval);
+    liveSyncInterval = setInterval(() => {
+      syncLiveTranscripts(false).catch(err => console.warn('실시간 발화 전송 실패 (다음 주기에 재시도):', err));
+    }, 3000);
+  } catch (error) {
+    console.warn('실시간 발화 저장을 사용할 수 없습니다. 종료 시 일괄 저장합니다.', error);
+    liveIngestionEnabled = false;
+  }
+}
+
+// 아직 보내지 않은 문장 전송
+// 마지막 문장은 다음 인식 결과와 병합될 수 있으므로 includeLast 가 아니면 보내지 않음
+async function syncLiveTranscripts(includeLast) {
+  if (liveSyncPromise) {
+    await liveSyncPromise.catch(() => {});
+  }
+
+  const meetingId = localStorage.getItem("currentMeetingId");
+  const upTo = includeLast ? sentences.length : sentences.length - 1;
+  if (!meetingId || liveSentCount >= upTo) return;
+
+  const batch = sentences
+    .slice(liveSentCount, upTo)
+    .map((s, i) => toTranscriptPayload(s, liveSentCount + i));
+
+  liveSyncPromise = (async () => {
+    const res = await fetch(`http://localhost:8080/api/transcripts/meeting/${meetingId}/live`, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      credentials: 'include',
+      body: JSON.stringify(batch)
+    });
+    if (!res.ok) throw new Error(`실시간 발화 전송 실패: ${res.status}`);
+
+    const result = await res.json();
+    // 서버가 받은 가장 큰 순서 다음부터 이어서 전송 (재전송분은 서버에서 무시됨)
+    const acceptedUpTo = (result.acceptedUpTo ?? -1);
+    liveSentCount = Math.max(liveSentCount, acceptedUpTo + 1);
+  })();
+
+  try {
+    await liveSyncPromise;
+  } finally {
+    liveSyncPromise = null;
+  }
+}
+
 // ✅ 발화자 ID에서 숫자 추출하는 헬퍼 함수
 function extractSpeakerLabel(speakerId) {
   if (!speakerId) return 0;